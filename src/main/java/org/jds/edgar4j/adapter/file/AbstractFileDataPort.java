@@ -11,6 +11,8 @@ import org.jds.edgar4j.port.BaseDocumentDataPort;
 import org.jds.edgar4j.storage.file.FileCollection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 public abstract class AbstractFileDataPort<T> implements BaseDocumentDataPort<T> {
@@ -116,6 +118,27 @@ public abstract class AbstractFileDataPort<T> implements BaseDocumentDataPort<T>
         return collection.findAllIndexed(indexName, value);
     }
 
+    protected List<T> findAllInRange(String indexName, Object from, Object to) {
+        return collection.findAllInRange(indexName, from, to);
+    }
+
+    protected Page<T> findPageInRange(
+            String indexName,
+            String sortProperty,
+            Object from,
+            Object to,
+            Predicate<T> filter,
+            Pageable pageable) {
+        return collection.findPageInRange(indexName, sortProperty, from, to, filter, pageable);
+    }
+
+    protected Slice<T> findSliceAfter(String indexName, Object after, Pageable pageable) {
+        // One extra record tells whether another slice follows without counting the rest
+        List<T> window = collection.findAfterInIndex(indexName, after, pageable.getPageSize() + 1);
+        boolean hasNext = window.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? window.subList(0, pageable.getPageSize()) : window, pageable, hasNext);
+    }
+
     protected Page<T> findMatching(Predicate<T> predicate, Pageable pageable) {
         return collection.findAllMatching(predicate, pageable);
     }
@@ -140,6 +163,10 @@ public abstract class AbstractFileDataPort<T> implements BaseDocumentDataPort<T>
         collection.registerIndex(indexName, keyExtractor);
     }
 
+    protected void registerSortedIndex(String indexName, Function<T, ? extends Comparable<?>> keyExtractor) {
+        collection.registerSortedIndex(indexName, keyExtractor);
+    }
+
     protected void registerIgnoreCaseIndex(String indexName, Function<T, String> keyExtractor) {
         collection.registerIgnoreCaseIndex(indexName, keyExtractor);
     }
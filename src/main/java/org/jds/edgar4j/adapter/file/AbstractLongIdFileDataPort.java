@@ -12,7 +12,6 @@ import java.util.stream.StreamSupport;
 
 import org.jds.edgar4j.port.BaseInsiderDataPort;
 import org.jds.edgar4j.storage.file.FileCollection;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -152,14 +151,28 @@ public abstract class AbstractLongIdFileDataPort<T> implements BaseInsiderDataPo
         return collection.findAllIndexed(indexName, value);
     }
 
+    protected List<T> findAllInRange(String indexName, Object from, Object to) {
+        return collection.findAllInRange(indexName, from, to);
+    }
+
+    protected Page<T> findPageInRange(
+            String indexName,
+            String sortProperty,
+            Object from,
+            Object to,
+            Predicate<T> filter,
+            Pageable pageable) {
+        return collection.findPageInRange(indexName, sortProperty, from, to, filter, pageable);
+    }
+
     protected Page<T> findMatching(Predicate<T> predicate, Pageable pageable) {
         return collection.findAllMatching(predicate, pageable);
     }
 
     protected Page<T> page(List<T> source, Pageable pageable, Sort defaultSort) {
         if (pageable == null || pageable.isUnpaged()) {
-            List<T> sorted = defaultSort == null ? source : FilePageSupport.applySort(source, defaultSort);
-            return FilePageSupport.page(sorted, pageable);
+            List<T> sorted = defaultSort == null ? source : collection.sort(source, defaultSort);
+            return collection.page(sorted, pageable);
         }
 
         Sort effectiveSort = pageable.getSort() == null || pageable.getSort().isUnsorted()
@@ -168,7 +181,7 @@ public abstract class AbstractLongIdFileDataPort<T> implements BaseInsiderDataPo
         Pageable effectivePageable = effectiveSort == null
                 ? pageable
                 : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), effectiveSort);
-        return FilePageSupport.page(source, effectivePageable);
+        return collection.page(source, effectivePageable);
     }
 
     protected boolean exists(Predicate<T> predicate) {
@@ -191,6 +204,10 @@ public abstract class AbstractLongIdFileDataPort<T> implements BaseInsiderDataPo
         collection.registerIndex(indexName, keyExtractor);
     }
 
+    protected void registerSortedIndex(String indexName, Function<T, ? extends Comparable<?>> keyExtractor) {
+        collection.registerSortedIndex(indexName, keyExtractor);
+    }
+
     protected void registerIgnoreCaseIndex(String indexName, Function<T, String> keyExtractor) {
         collection.registerIgnoreCaseIndex(indexName, keyExtractor);
     }
@@ -5,7 +5,6 @@ import java.util.Optional;
 
 import org.jds.edgar4j.port.SimpleAccessionedFilingDataPort;
 import org.jds.edgar4j.storage.file.FileCollection;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,6 +14,7 @@ public abstract class AbstractSimpleFilingFileAdapter<T> extends AbstractFileDat
     private static final String INDEX_ACCESSION_NUMBER = "accessionNumber";
     private static final String INDEX_CIK = "cik";
     private static final String INDEX_TRADING_SYMBOL = "tradingSymbol";
+    private static final String INDEX_FILED_DATE = "filedDate";
 
     protected AbstractSimpleFilingFileAdapter(FileCollection<T> collection) {
         super(collection);
@@ -24,6 +24,7 @@ public abstract class AbstractSimpleFilingFileAdapter<T> extends AbstractFileDat
         registerExactIndex(INDEX_ACCESSION_NUMBER, this::getAccessionNumber);
         registerExactIndex(INDEX_CIK, this::getCik);
         registerIgnoreCaseIndex(INDEX_TRADING_SYMBOL, this::getTradingSymbol);
+        registerSortedIndex(INDEX_FILED_DATE, this::getFiledDate);
     }
 
     @Override
@@ -33,20 +34,17 @@ public abstract class AbstractSimpleFilingFileAdapter<T> extends AbstractFileDat
 
     @Override
     public Page<T> findByCik(String cik, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_CIK, cik), pageable);
+        return collection.page(findAllByIndex(INDEX_CIK, cik), pageable);
     }
 
     @Override
     public Page<T> findByTradingSymbol(String tradingSymbol, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_TRADING_SYMBOL, tradingSymbol), pageable);
+        return collection.page(findAllByIndex(INDEX_TRADING_SYMBOL, tradingSymbol), pageable);
     }
 
     @Override
     public Page<T> findByFiledDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> {
-            LocalDate filedDate = getFiledDate(value);
-            return filedDate != null && !filedDate.isBefore(startDate) && !filedDate.isAfter(endDate);
-        }, pageable);
+        return collection.page(findAllInRange(INDEX_FILED_DATE, startDate, endDate), pageable);
     }
 
     @Override
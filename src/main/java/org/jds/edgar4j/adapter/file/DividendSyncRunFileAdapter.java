@@ -0,0 +1,50 @@
+package org.jds.edgar4j.adapter.file;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.jds.edgar4j.model.DividendSyncRun;
+import org.jds.edgar4j.model.DividendSyncRun.RunStatus;
+import org.jds.edgar4j.port.DividendSyncRunDataPort;
+import org.jds.edgar4j.storage.file.FileFormat;
+import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("resource-low")
+public class DividendSyncRunFileAdapter extends AbstractFileDataPort<DividendSyncRun>
+        implements DividendSyncRunDataPort {
+
+    private static final Comparator<DividendSyncRun> NEWEST_FIRST = Comparator.comparing(
+            DividendSyncRun::getStartedAt,
+            Comparator.nullsLast(Comparator.reverseOrder()));
+
+    public DividendSyncRunFileAdapter(FileStorageEngine storageEngine) {
+        super(storageEngine.registerCollection(
+                "dividend_sync_runs",
+                DividendSyncRun.class,
+                FileFormat.JSON,
+                DividendSyncRun::getId,
+                DividendSyncRun::setId));
+    }
+
+    @Override
+    public Optional<DividendSyncRun> findFirstByStatusOrderByStartedAtDesc(RunStatus status) {
+        if (status == null) {
+            return Optional.empty();
+        }
+        return findMatching(value -> value.getStatus() == status).stream()
+                .sorted(NEWEST_FIRST)
+                .findFirst();
+    }
+
+    @Override
+    public List<DividendSyncRun> findTop10ByOrderByStartedAtDesc() {
+        return findAll().stream()
+                .sorted(NEWEST_FIRST)
+                .limit(10)
+                .toList();
+    }
+}
@@ -1,18 +1,29 @@
 package org.jds.edgar4j.adapter.file;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jds.edgar4j.model.Filling;
+import org.jds.edgar4j.port.FilingSearchPort;
 import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.repository.FillingRepository.CikFilingCount;
+import org.jds.edgar4j.search.FilingSearchSupport;
+import org.jds.edgar4j.storage.file.CompositeKey;
 import org.jds.edgar4j.storage.file.FileFormat;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,8 +32,19 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
 
     private static final String INDEX_ACCESSION_NUMBER = "accessionNumber";
     private static final String INDEX_CIK = "cik";
+    private static final String INDEX_FILLING_DATE = "fillingDate";
+    private static final String INDEX_CIK_FILLING_DATE = "cikFillingDate";
+    private static final String PROPERTY_FILLING_DATE = "fillingDate";
+    private static final Sort FILLING_DATE_DESC = Sort.by(Sort.Direction.DESC, PROPERTY_FILLING_DATE);
+
+    private final ObjectProvider<FilingSearchPort> searchPort;
 
     public FillingFileAdapter(FileStorageEngine storageEngine) {
+        this(storageEngine, null);
+    }
+
+    @Autowired
+    public FillingFileAdapter(FileStorageEngine storageEngine, ObjectProvider<FilingSearchPort> searchPort) {
         super(storageEngine.registerCollection(
                 "fillings",
                 Filling.class,
@@ -31,6 +53,60 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
                 Filling::setId));
         registerExactIndex(INDEX_ACCESSION_NUMBER, Filling::getAccessionNumber);
         registerExactIndex(INDEX_CIK, Filling::getCik);
+        registerSortedIndex(INDEX_FILLING_DATE, Filling::getFillingDate);
+        registerSortedIndex(INDEX_CIK_FILLING_DATE, value -> CompositeKey.of(value.getCik(), value.getFillingDate()));
+        this.searchPort = searchPort;
+    }
+
+    @Override
+    public <S extends Filling> S save(S entity) {
+        S saved = super.save(entity);
+        indexForSearch(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public <S extends Filling> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = super.saveAll(entities);
+        indexForSearch(saved);
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        super.deleteById(id);
+        removeFromSearch(id == null ? List.of() : List.of(id));
+    }
+
+    @Override
+    public void delete(Filling entity) {
+        super.delete(entity);
+        if (entity != null) {
+            removeFromSearch(List.of(entity.getId()));
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        super.deleteAllById(ids);
+        removeFromSearch(ids);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Filling> entities) {
+        List<Filling> deleted = new ArrayList<>();
+        entities.forEach(deleted::add);
+        super.deleteAll(deleted);
+        removeFromSearch(deleted.stream().map(Filling::getId).toList());
+    }
+
+    @Override
+    public void deleteAll() {
+        super.deleteAll();
+        FilingSearchPort port = searchPort();
+        if (port != null) {
+            port.rebuildIndex();
+        }
     }
 
     @Override
@@ -38,9 +114,21 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
         return findFirstByIndex(INDEX_ACCESSION_NUMBER, accessionNumber);
     }
 
+    @Override
+    public List<Filling> findByAccessionNumberIn(List<String> accessionNumbers) {
+        if (accessionNumbers == null || accessionNumbers.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Filling> matches = new LinkedHashMap<>();
+        for (String accessionNumber : accessionNumbers) {
+            findAllByIndex(INDEX_ACCESSION_NUMBER, accessionNumber).forEach(value -> matches.putIfAbsent(value.getId(), value));
+        }
+        return List.copyOf(matches.values());
+    }
+
     @Override
     public Page<Filling> findByCik(String cik, Pageable pageable) {
-        return org.jds.edgar4j.storage.file.FilePageSupport.page(findAllByIndex(INDEX_CIK, cik), pageable);
+        return collection.page(findAllByIndex(INDEX_CIK, cik), pageable);
     }
 
     @Override
@@ -73,10 +161,16 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
             Date startDate,
             Date endDate,
             Pageable pageable) {
-        return findMatching(value -> cik != null
-                && cik.equals(value.getCik())
-                && matchesFormType(value, formTypeNumber)
-                && between(value.getFillingDate(), startDate, endDate), pageable);
+        if (cik == null || startDate == null || endDate == null) {
+            return Page.empty(pageable);
+        }
+        return findPageInRange(
+                INDEX_CIK_FILLING_DATE,
+                PROPERTY_FILLING_DATE,
+                CompositeKey.of(cik, startDate),
+                CompositeKey.of(cik, endDate),
+                value -> matchesFormType(value, formTypeNumber),
+                pageable);
     }
 
     @Override
@@ -99,9 +193,16 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
 
     @Override
     public Page<Filling> searchFillings(Date startDate, Date endDate, List<String> formTypes, Pageable pageable) {
-        return findMatching(value -> between(value.getFillingDate(), startDate, endDate)
-                && formTypes != null
-                && formTypes.stream().anyMatch(type -> matchesFormType(value, type)), pageable);
+        if (startDate == null || endDate == null || formTypes == null) {
+            return Page.empty(pageable);
+        }
+        return findPageInRange(
+                INDEX_FILLING_DATE,
+                PROPERTY_FILLING_DATE,
+                startDate,
+                endDate,
+                value -> formTypes.stream().anyMatch(type -> matchesFormType(value, type)),
+                pageable);
     }
 
     @Override
@@ -112,25 +213,22 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
 
     @Override
     public Page<Filling> findAllByOrderByFillingDateDesc(Pageable pageable) {
-        List<Filling> sorted = findAll().stream()
-                .sorted(Comparator.comparing(Filling::getFillingDate, Comparator.nullsLast(Comparator.reverseOrder())))
-                .toList();
-
         if (pageable == null || pageable.isUnpaged()) {
-            return new PageImpl<>(sorted);
+            return new PageImpl<>(findAll(FILLING_DATE_DESC));
         }
 
-        int start = Math.toIntExact(Math.min((long) pageable.getPageNumber() * pageable.getPageSize(), sorted.size()));
-        int end = Math.min(start + pageable.getPageSize(), sorted.size());
-        return new PageImpl<>(sorted.subList(start, end), pageable, sorted.size());
+        return findPageInRange(
+                INDEX_FILLING_DATE,
+                PROPERTY_FILLING_DATE,
+                null,
+                null,
+                null,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), FILLING_DATE_DESC));
     }
 
     @Override
     public List<Filling> findTop10ByOrderByFillingDateDesc() {
-        return findAll().stream()
-                .sorted(Comparator.comparing(Filling::getFillingDate, Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(10)
-                .toList();
+        return findAllByOrderByFillingDateDesc(PageRequest.of(0, 10)).getContent();
     }
 
     @Override
@@ -145,15 +243,77 @@ public class FillingFileAdapter extends AbstractFileDataPort<Filling> implements
                 && (value.isXBRL() || value.isInlineXBRL()), pageable);
     }
 
+    @Override
+    public List<CikFilingCount> countFilingsByCik() {
+        Map<String, Filling> latestByCik = new LinkedHashMap<>();
+        Map<String, Long> counts = new HashMap<>();
+        for (Filling filling : findAll()) {
+            String cik = filling.getCik();
+            if (cik == null) {
+                continue;
+            }
+            counts.merge(cik, 1L, Long::sum);
+            latestByCik.merge(cik, filling, (current, candidate) -> isLater(candidate, current) ? candidate : current);
+        }
+
+        return latestByCik.entrySet().stream()
+                .map(entry -> new CikFilingCountView(entry.getKey(), entry.getValue().getCompany(), counts.get(entry.getKey())))
+                .map(CikFilingCount.class::cast)
+                .toList();
+    }
+
+    private boolean isLater(Filling candidate, Filling current) {
+        return candidate.getFillingDate() != null
+                && (current.getFillingDate() == null || candidate.getFillingDate().after(current.getFillingDate()));
+    }
+
+    private void indexForSearch(List<? extends Filling> filings) {
+        FilingSearchPort port = searchPort();
+        if (port == null) {
+            return;
+        }
+        for (Filling filling : filings) {
+            port.index(FilingSearchSupport.indexDocument(filling));
+        }
+    }
+
+    private void removeFromSearch(Iterable<? extends String> ids) {
+        FilingSearchPort port = searchPort();
+        if (port == null) {
+            return;
+        }
+        for (String id : ids) {
+            if (id != null) {
+                port.removeFromIndex(id);
+            }
+        }
+    }
+
+    private FilingSearchPort searchPort() {
+        return searchPort != null ? searchPort.getIfAvailable() : null;
+    }
+
     private boolean matchesFormType(Filling filling, String formTypeNumber) {
         return filling.getFormType() != null
                 && formTypeNumber != null
                 && formTypeNumber.equalsIgnoreCase(filling.getFormType().getNumber());
     }
 
-    private boolean between(Date value, Date startDate, Date endDate) {
-        return value != null
-                && !value.before(startDate)
-                && !value.after(endDate);
+    private record CikFilingCountView(String id, String company, Long filingCount) implements CikFilingCount {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getCompany() {
+            return company;
+        }
+
+        @Override
+        public Long getFilingCount() {
+            return filingCount;
+        }
     }
 }
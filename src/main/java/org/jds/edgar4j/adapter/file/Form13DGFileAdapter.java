@@ -14,7 +14,6 @@ import org.jds.edgar4j.repository.Form13DGRepository.BeneficialOwnerSummary;
 import org.jds.edgar4j.repository.Form13DGRepository.OwnerPortfolioEntry;
 import org.jds.edgar4j.repository.Form13DGRepository.OwnershipHistoryEntry;
 import org.jds.edgar4j.repository.Form13DGRepository.ScheduleTypeCount;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.jds.edgar4j.storage.file.FileFormat;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.springframework.context.annotation.Profile;
@@ -34,6 +33,8 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
     private static final String INDEX_CUSIP = "cusip";
     private static final String INDEX_FILING_PERSON_CIK = "filingPersonCik";
     private static final String INDEX_AMENDMENT_TYPE = "amendmentType";
+    private static final String INDEX_EVENT_DATE = "eventDate";
+    private static final String INDEX_FILED_DATE = "filedDate";
 
     public Form13DGFileAdapter(FileStorageEngine storageEngine) {
         super(storageEngine.registerCollection(
@@ -49,6 +50,8 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
         registerExactIndex(INDEX_CUSIP, Form13DG::getCusip);
         registerExactIndex(INDEX_FILING_PERSON_CIK, Form13DG::getFilingPersonCik);
         registerIgnoreCaseIndex(INDEX_AMENDMENT_TYPE, Form13DG::getAmendmentType);
+        registerSortedIndex(INDEX_EVENT_DATE, Form13DG::getEventDate);
+        registerSortedIndex(INDEX_FILED_DATE, Form13DG::getFiledDate);
     }
 
     @Override
@@ -58,17 +61,17 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public Page<Form13DG> findByFormType(String formType, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_FORM_TYPE, formType), pageable);
+        return collection.page(findAllByIndex(INDEX_FORM_TYPE, formType), pageable);
     }
 
     @Override
     public Page<Form13DG> findByScheduleType(String scheduleType, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_SCHEDULE_TYPE, scheduleType), pageable);
+        return collection.page(findAllByIndex(INDEX_SCHEDULE_TYPE, scheduleType), pageable);
     }
 
     @Override
     public Page<Form13DG> findByIssuerCik(String issuerCik, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_ISSUER_CIK, issuerCik), pageable);
+        return collection.page(findAllByIndex(INDEX_ISSUER_CIK, issuerCik), pageable);
     }
 
     @Override
@@ -83,7 +86,7 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public Page<Form13DG> findByCusip(String cusip, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_CUSIP, cusip), pageable);
+        return collection.page(findAllByIndex(INDEX_CUSIP, cusip), pageable);
     }
 
     @Override
@@ -93,7 +96,7 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public Page<Form13DG> findByFilingPersonCik(String filingPersonCik, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_FILING_PERSON_CIK, filingPersonCik), pageable);
+        return collection.page(findAllByIndex(INDEX_FILING_PERSON_CIK, filingPersonCik), pageable);
     }
 
     @Override
@@ -103,12 +106,12 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public Page<Form13DG> findByEventDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> between(value.getEventDate(), startDate, endDate), pageable);
+        return collection.page(findAllInRange(INDEX_EVENT_DATE, startDate, endDate), pageable);
     }
 
     @Override
     public Page<Form13DG> findByFiledDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> between(value.getFiledDate(), startDate, endDate), pageable);
+        return collection.page(findAllInRange(INDEX_FILED_DATE, startDate, endDate), pageable);
     }
 
     @Override
@@ -138,12 +141,12 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public Page<Form13DG> findAmendments(Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_AMENDMENT_TYPE, "AMENDMENT"), pageable);
+        return collection.page(findAllByIndex(INDEX_AMENDMENT_TYPE, "AMENDMENT"), pageable);
     }
 
     @Override
     public Page<Form13DG> findInitialFilings(Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_AMENDMENT_TYPE, "INITIAL"), pageable);
+        return collection.page(findAllByIndex(INDEX_AMENDMENT_TYPE, "INITIAL"), pageable);
     }
 
     @Override
@@ -184,7 +187,7 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
 
     @Override
     public List<ScheduleTypeCount> countByScheduleTypeInDateRange(LocalDate startDate, LocalDate endDate) {
-        Map<String, Long> counts = findMatching(value -> between(value.getFiledDate(), startDate, endDate)).stream()
+        Map<String, Long> counts = findAllInRange(INDEX_FILED_DATE, startDate, endDate).stream()
                 .collect(java.util.stream.Collectors.groupingBy(
                         value -> value.getScheduleType() != null ? value.getScheduleType() : "UNKNOWN",
                         LinkedHashMap::new,
@@ -225,10 +228,6 @@ public class Form13DGFileAdapter extends AbstractFileDataPort<Form13DG> implemen
                 .toList();
     }
 
-    private boolean between(LocalDate value, LocalDate startDate, LocalDate endDate) {
-        return value != null && !value.isBefore(startDate) && !value.isAfter(endDate);
-    }
-
     private Map<String, Form13DG> latestByKey(
             List<Form13DG> filings,
             Function<Form13DG, String> keyExtractor,
@@ -13,7 +13,6 @@ import org.jds.edgar4j.port.Form13FDataPort;
 import org.jds.edgar4j.repository.Form13FRepository.FilerSummary;
 import org.jds.edgar4j.repository.Form13FRepository.HoldingSummary;
 import org.jds.edgar4j.repository.Form13FRepository.PortfolioSnapshot;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.jds.edgar4j.storage.file.FileFormat;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.springframework.context.annotation.Profile;
@@ -29,6 +28,7 @@ public class Form13FFileAdapter extends AbstractFileDataPort<Form13F> implements
     private static final String INDEX_CIK = "cik";
     private static final String INDEX_REPORT_PERIOD = "reportPeriod";
     private static final String INDEX_HOLDING_CUSIP = "holdingCusip";
+    private static final String INDEX_REPORT_PERIOD_RANGE = "reportPeriodRange";
 
     public Form13FFileAdapter(FileStorageEngine storageEngine) {
         super(storageEngine.registerCollection(
@@ -40,6 +40,7 @@ public class Form13FFileAdapter extends AbstractFileDataPort<Form13F> implements
         registerExactIndex(INDEX_ACCESSION_NUMBER, Form13F::getAccessionNumber);
         registerExactIndex(INDEX_CIK, Form13F::getCik);
         registerExactIndex(INDEX_REPORT_PERIOD, Form13F::getReportPeriod);
+        registerSortedIndex(INDEX_REPORT_PERIOD_RANGE, Form13F::getReportPeriod);
         registerMultiValueExactIndex(INDEX_HOLDING_CUSIP, filing -> filing.getHoldings() == null
                 ? List.of()
                 : filing.getHoldings().stream()
@@ -55,7 +56,7 @@ public class Form13FFileAdapter extends AbstractFileDataPort<Form13F> implements
 
     @Override
     public Page<Form13F> findByCik(String cik, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_CIK, cik), pageable);
+        return collection.page(findAllByIndex(INDEX_CIK, cik), pageable);
     }
 
     @Override
@@ -65,17 +66,17 @@ public class Form13FFileAdapter extends AbstractFileDataPort<Form13F> implements
 
     @Override
     public Page<Form13F> findByReportPeriod(LocalDate reportPeriod, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_REPORT_PERIOD, reportPeriod), pageable);
+        return collection.page(findAllByIndex(INDEX_REPORT_PERIOD, reportPeriod), pageable);
     }
 
     @Override
     public Page<Form13F> findByReportPeriodBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> between(value.getReportPeriod(), startDate, endDate), pageable);
+        return collection.page(findAllInRange(INDEX_REPORT_PERIOD_RANGE, startDate, endDate), pageable);
     }
 
     @Override
     public Page<Form13F> findByCikAndReportPeriodBetween(String cik, LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_CIK, cik).stream()
+        return collection.page(findAllByIndex(INDEX_CIK, cik).stream()
                 .filter(value -> between(value.getReportPeriod(), startDate, endDate))
                 .toList(), pageable);
     }
@@ -94,7 +95,7 @@ public class Form13FFileAdapter extends AbstractFileDataPort<Form13F> implements
 
     @Override
     public Page<Form13F> findByHoldingCusip(String cusip, Pageable pageable) {
-        return FilePageSupport.page(findAllByIndex(INDEX_HOLDING_CUSIP, cusip), pageable);
+        return collection.page(findAllByIndex(INDEX_HOLDING_CUSIP, cusip), pageable);
     }
 
     @Override
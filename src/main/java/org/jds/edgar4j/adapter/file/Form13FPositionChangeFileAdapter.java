@@ -0,0 +1,50 @@
+package org.jds.edgar4j.adapter.file;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jds.edgar4j.model.Form13FPositionChange;
+import org.jds.edgar4j.port.Form13FPositionChangeDataPort;
+import org.jds.edgar4j.storage.file.FileFormat;
+import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("resource-low")
+public class Form13FPositionChangeFileAdapter extends AbstractFileDataPort<Form13FPositionChange>
+        implements Form13FPositionChangeDataPort {
+
+    private static final String INDEX_CUSIP = "cusip";
+    private static final String INDEX_CIK = "cik";
+
+    public Form13FPositionChangeFileAdapter(FileStorageEngine storageEngine) {
+        super(storageEngine.registerCollection(
+                "form13f_position_changes",
+                Form13FPositionChange.class,
+                FileFormat.JSONL,
+                Form13FPositionChange::getId,
+                Form13FPositionChange::setId));
+        registerExactIndex(INDEX_CUSIP, Form13FPositionChange::getCusip);
+        registerExactIndex(INDEX_CIK, Form13FPositionChange::getCik);
+    }
+
+    @Override
+    public List<Form13FPositionChange> findByCusip(String cusip) {
+        return findAllByIndex(INDEX_CUSIP, cusip);
+    }
+
+    @Override
+    public List<Form13FPositionChange> findByCusipAndReportPeriod(String cusip, LocalDate reportPeriod) {
+        return findAllByIndex(INDEX_CUSIP, cusip).stream()
+                .filter(value -> reportPeriod != null && reportPeriod.equals(value.getReportPeriod()))
+                .toList();
+    }
+
+    @Override
+    public List<Form13FPositionChange> findByCikAndReportPeriod(String cik, LocalDate reportPeriod) {
+        return findAllByIndex(INDEX_CIK, cik).stream()
+                .filter(value -> reportPeriod != null && reportPeriod.equals(value.getReportPeriod()))
+                .toList();
+    }
+}
@@ -2,26 +2,35 @@ package org.jds.edgar4j.adapter.file;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Objects;
 
 import org.jds.edgar4j.model.Form4;
 import org.jds.edgar4j.model.Form4Transaction;
 import org.jds.edgar4j.port.Form4DataPort;
+import org.jds.edgar4j.storage.file.CompositeKey;
 import org.jds.edgar4j.storage.file.FileFormat;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
 @Profile("resource-low")
 public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements Form4DataPort {
 
+    private static final String INDEX_ID = "id";
     private static final String INDEX_ACCESSION_NUMBER = "accessionNumber";
     private static final String INDEX_CIK = "cik";
     private static final String INDEX_TRADING_SYMBOL = "tradingSymbol";
+    private static final String INDEX_TRANSACTION_DATE = "transactionDate";
+    private static final String INDEX_FILED_DATE = "filedDate";
+    private static final String INDEX_SYMBOL_TRANSACTION_DATE = "tradingSymbolTransactionDate";
+    private static final String PROPERTY_TRANSACTION_DATE = "transactionDate";
+    private static final String PROPERTY_FILED_DATE = "filedDate";
 
     public Form4FileAdapter(FileStorageEngine storageEngine) {
         super(storageEngine.registerCollection(
@@ -30,9 +39,15 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
                 FileFormat.JSONL,
                 Form4::getId,
                 Form4::setId));
+        registerSortedIndex(INDEX_ID, Form4::getId);
         registerExactIndex(INDEX_ACCESSION_NUMBER, Form4::getAccessionNumber);
         registerExactIndex(INDEX_CIK, Form4::getCik);
         registerIgnoreCaseIndex(INDEX_TRADING_SYMBOL, Form4::getTradingSymbol);
+        registerSortedIndex(INDEX_TRANSACTION_DATE, Form4::getTransactionDate);
+        registerSortedIndex(INDEX_FILED_DATE, Form4::getFiledDate);
+        registerSortedIndex(INDEX_SYMBOL_TRANSACTION_DATE, value -> CompositeKey.of(
+                normalizeSymbol(value.getTradingSymbol()),
+                value.getTransactionDate()));
     }
 
     @Override
@@ -54,12 +69,17 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
 
     @Override
     public Page<Form4> findByTradingSymbol(String tradingSymbol, Pageable pageable) {
-        return org.jds.edgar4j.storage.file.FilePageSupport.page(findAllByIndex(INDEX_TRADING_SYMBOL, tradingSymbol), pageable);
+        return collection.page(findAllByIndex(INDEX_TRADING_SYMBOL, tradingSymbol), pageable);
     }
 
     @Override
     public Page<Form4> findByCik(String cik, Pageable pageable) {
-        return org.jds.edgar4j.storage.file.FilePageSupport.page(findAllByIndex(INDEX_CIK, cik), pageable);
+        return collection.page(findAllByIndex(INDEX_CIK, cik), pageable);
+    }
+
+    @Override
+    public Slice<Form4> findByIdGreaterThan(String id, Pageable pageable) {
+        return findSliceAfter(INDEX_ID, id, pageable);
     }
 
     @Override
@@ -69,12 +89,12 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
 
     @Override
     public Page<Form4> findByTransactionDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> between(value.getTransactionDate(), startDate, endDate), pageable);
+        return findPageInRange(INDEX_TRANSACTION_DATE, PROPERTY_TRANSACTION_DATE, startDate, endDate, null, pageable);
     }
 
     @Override
     public Page<Form4> findByFiledDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return findMatching(value -> between(value.getFiledDate(), startDate, endDate), pageable);
+        return findPageInRange(INDEX_FILED_DATE, PROPERTY_FILED_DATE, startDate, endDate, null, pageable);
     }
 
     @Override
@@ -83,8 +103,17 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
             LocalDate startDate,
             LocalDate endDate,
             Pageable pageable) {
-        return findMatching(value -> equalsIgnoreCase(value.getTradingSymbol(), tradingSymbol)
-                && between(value.getTransactionDate(), startDate, endDate), pageable);
+        if (tradingSymbol == null) {
+            return Page.empty(pageable);
+        }
+        String symbol = normalizeSymbol(tradingSymbol);
+        return findPageInRange(
+                INDEX_SYMBOL_TRANSACTION_DATE,
+                PROPERTY_TRANSACTION_DATE,
+                CompositeKey.lowerBound(symbol, startDate),
+                CompositeKey.upperBound(symbol, endDate),
+                null,
+                pageable);
     }
 
     @Override
@@ -92,8 +121,14 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
             String tradingSymbol,
             LocalDate startDate,
             LocalDate endDate) {
-        return findMatching(value -> equalsIgnoreCase(value.getTradingSymbol(), tradingSymbol)
-                && between(value.getTransactionDate(), startDate, endDate));
+        if (tradingSymbol == null) {
+            return List.of();
+        }
+        String symbol = normalizeSymbol(tradingSymbol);
+        return findAllInRange(
+                INDEX_SYMBOL_TRANSACTION_DATE,
+                CompositeKey.lowerBound(symbol, startDate),
+                CompositeKey.upperBound(symbol, endDate));
     }
 
     @Override
@@ -111,8 +146,8 @@ public class Form4FileAdapter extends AbstractFileDataPort<Form4> implements For
         return existsByIndex(INDEX_ACCESSION_NUMBER, accessionNumber);
     }
 
-    private boolean between(LocalDate value, LocalDate startDate, LocalDate endDate) {
-        return value != null && !value.isBefore(startDate) && !value.isAfter(endDate);
+    private static String normalizeSymbol(String tradingSymbol) {
+        return tradingSymbol == null ? null : tradingSymbol.toLowerCase(Locale.ROOT);
     }
 
     private boolean isRecentAcquisition(Form4 form4, LocalDate since) {
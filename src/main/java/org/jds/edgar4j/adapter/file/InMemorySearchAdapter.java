@@ -1,9 +1,13 @@
 package org.jds.edgar4j.adapter.file;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.port.CompanyTickerDataPort;
@@ -13,15 +17,22 @@ import org.jds.edgar4j.port.FilingSearchPort.SearchCriteria;
 import org.jds.edgar4j.port.FilingSearchPort.SearchResult;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.port.TickerDataPort;
+import org.jds.edgar4j.search.CompanySuggestionIndex;
 import org.jds.edgar4j.search.FilingSearchSupport;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.jds.edgar4j.search.InvertedFilingIndex;
+import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -30,17 +41,52 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "edgar4j.search.engine", havingValue = "simple", matchIfMissing = true)
 public class InMemorySearchAdapter implements FilingSearchPort {
 
+    private static final String INDEX_DIRECTORY = "search";
+    private static final String INDEX_FILE = "fillings.idx";
+    private static final String FILLINGS_SORT_TAG = "fillings";
+
     private final FillingDataPort fillingDataPort;
     private final TickerDataPort tickerDataPort;
     private final CompanyTickerDataPort companyTickerDataPort;
+    private final CompanySuggestionIndex suggestionIndex;
+    private final InvertedFilingIndex index = new InvertedFilingIndex();
+    private final Path indexFile;
+    private final Timer sortTimer;
+    private volatile boolean ready;
+
+    public InMemorySearchAdapter(
+            FillingDataPort fillingDataPort,
+            TickerDataPort tickerDataPort,
+            CompanyTickerDataPort companyTickerDataPort) {
+        this(fillingDataPort, tickerDataPort, companyTickerDataPort,
+                new CompanySuggestionIndex(fillingDataPort, companyTickerDataPort), null, null);
+    }
 
+    @Autowired
     public InMemorySearchAdapter(
             @Qualifier("fillingFileAdapter") FillingDataPort fillingDataPort,
             @Qualifier("tickerFileAdapter") TickerDataPort tickerDataPort,
-            @Qualifier("companyTickerFileAdapter") CompanyTickerDataPort companyTickerDataPort) {
+            @Qualifier("companyTickerFileAdapter") CompanyTickerDataPort companyTickerDataPort,
+            CompanySuggestionIndex suggestionIndex,
+            FileStorageEngine storageEngine) {
+        this(fillingDataPort, tickerDataPort, companyTickerDataPort, suggestionIndex,
+                storageEngine.getProperties().resolveBaseDirectory().resolve(INDEX_DIRECTORY).resolve(INDEX_FILE),
+                storageEngine.sortTimer(FILLINGS_SORT_TAG));
+    }
+
+    private InMemorySearchAdapter(
+            FillingDataPort fillingDataPort,
+            TickerDataPort tickerDataPort,
+            CompanyTickerDataPort companyTickerDataPort,
+            CompanySuggestionIndex suggestionIndex,
+            Path indexFile,
+            Timer sortTimer) {
         this.fillingDataPort = fillingDataPort;
         this.tickerDataPort = tickerDataPort;
         this.companyTickerDataPort = companyTickerDataPort;
+        this.suggestionIndex = suggestionIndex;
+        this.indexFile = indexFile;
+        this.sortTimer = sortTimer;
     }
 
     @Override
@@ -50,89 +96,227 @@ public class InMemorySearchAdapter implements FilingSearchPort {
 
     @Override
     public Page<SearchResult> search(SearchCriteria criteria, Pageable pageable) {
+        ensureReady();
+
         List<String> resolvedCiks = FilingSearchSupport.resolveCiks(criteria.symbol(), tickerDataPort, companyTickerDataPort);
         boolean symbolFallsBackToText = FilingSearchSupport.hasText(criteria.symbol()) && resolvedCiks.isEmpty();
+        Set<String> ciks = cikFilter(criteria, resolvedCiks);
+        if (ciks == null) {
+            return pageable == null ? Page.empty() : Page.empty(pageable);
+        }
 
-        List<SearchResult> results = FilingSearchSupport.applyFillingSort(fillingDataPort.findAll(), pageable != null ? pageable.getSort() : null).stream()
-                .filter(filling -> matches(filling, criteria, resolvedCiks, symbolFallsBackToText))
-                .map(filling -> FilingSearchSupport.toSearchResult(filling, effectiveQuery(criteria, symbolFallsBackToText)))
-                .toList();
+        List<String> terms = new ArrayList<>(InvertedFilingIndex.tokenize(criteria.query()));
+        if (symbolFallsBackToText) {
+            terms.addAll(InvertedFilingIndex.tokenize(criteria.symbol()));
+        }
+        InvertedFilingIndex.Query query = new InvertedFilingIndex.Query(
+                terms,
+                formTypeFilter(criteria.formTypes()),
+                ciks,
+                criteria.startDate(),
+                criteria.endDate());
+        String snippetQuery = effectiveQuery(criteria, symbolFallsBackToText);
 
-        return FilingSearchSupport.pageResults(results, pageable);
+        InvertedFilingIndex.Order order = order(pageable != null ? pageable.getSort() : null, !terms.isEmpty());
+        if (order == null) {
+            return sortByFilingProperties(query, snippetQuery, pageable);
+        }
+
+        boolean paged = pageable != null && pageable.isPaged();
+        int offset = paged ? Math.toIntExact(Math.min(pageable.getOffset(), Integer.MAX_VALUE)) : 0;
+        int limit = paged ? pageable.getPageSize() : Integer.MAX_VALUE;
+        InvertedFilingIndex.Hits hits = index.search(query, order, offset, limit);
+        List<SearchResult> content = toResults(hits.hits(), snippetQuery);
+        return paged ? new PageImpl<>(content, pageable, hits.total()) : new PageImpl<>(content);
     }
 
     @Override
     public List<String> suggest(String prefix, int maxResults) {
-        String normalizedPrefix = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
-        Set<String> suggestions = new LinkedHashSet<>();
-
-        List<Filling> filings = FilingSearchSupport.applyFillingSort(
-                fillingDataPort.findAll(),
-                Sort.by(Sort.Direction.DESC, "fillingDate"));
-
-        for (Filling filling : filings) {
-            addSuggestion(suggestions, filling.getCompany(), normalizedPrefix, maxResults);
-            addSuggestion(suggestions, filling.getCik(), normalizedPrefix, maxResults);
-            if (suggestions.size() >= maxResults) {
-                break;
-            }
-        }
-
-        return suggestions.stream().limit(maxResults).toList();
+        return suggestionIndex.suggest(prefix, maxResults);
     }
 
     @Override
     public void index(Indexable document) {
-        log.debug("In-memory filing search does not maintain a separate index for document {}", document.getSearchId());
+        if (document == null) {
+            return;
+        }
+        ensureReady();
+        index.index(document);
     }
 
     @Override
     public void removeFromIndex(String documentId) {
-        log.debug("In-memory filing search does not maintain a separate index for document {}", documentId);
+        ensureReady();
+        index.remove(documentId);
     }
 
     @Override
-    public void rebuildIndex() {
-        log.debug("In-memory filing search scans current file-backed filings directly; no rebuild required");
+    public synchronized void rebuildIndex() {
+        rebuildFromDataPort();
+        ready = true;
+        persistIndex();
+        suggestionIndex.rebuild();
     }
 
-    private boolean matches(Filling filling, SearchCriteria criteria, List<String> resolvedCiks, boolean symbolFallsBackToText) {
-        if (!matchesSymbol(filling, criteria.symbol(), resolvedCiks, symbolFallsBackToText)) {
-            return false;
+    @PreDestroy
+    public void persistIndex() {
+        if (indexFile == null || !index.isDirty()) {
+            return;
+        }
+        try {
+            index.save(indexFile);
+            log.info("Persisted filing search index with {} documents to {}", index.size(), indexFile);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to persist filing search index to {}: {}", indexFile, ex.getMessage());
         }
-        return FilingSearchSupport.matchesFormTypes(filling, criteria.formTypes())
-                && FilingSearchSupport.matchesDateRange(filling, criteria.startDate(), criteria.endDate())
-                && matchesCik(filling, criteria.cik())
-                && FilingSearchSupport.matchesQuery(filling, criteria.query());
     }
 
-    private boolean matchesSymbol(Filling filling, String symbol, List<String> resolvedCiks, boolean symbolFallsBackToText) {
-        if (!FilingSearchSupport.hasText(symbol)) {
-            return true;
+    private void ensureReady() {
+        if (ready) {
+            return;
         }
-        if (!resolvedCiks.isEmpty()) {
-            return resolvedCiks.contains(filling.getCik());
+        synchronized (this) {
+            if (ready) {
+                return;
+            }
+            boolean loaded = indexFile != null && index.load(indexFile);
+            if (!loaded || !matchesDataPort()) {
+                rebuildFromDataPort();
+            }
+            ready = true;
         }
-        return !symbolFallsBackToText || FilingSearchSupport.matchesQuery(filling, symbol);
     }
 
-    private boolean matchesCik(Filling filling, String cik) {
-        return !FilingSearchSupport.hasText(cik) || cik.trim().equals(filling.getCik());
+    /**
+     * Compares the loaded index's content fingerprint with one computed from the stored filings,
+     * so filings rewritten in place while the index was on disk still trigger a rebuild.
+     */
+    private boolean matchesDataPort() {
+        long fingerprint = 0;
+        long count = 0;
+        for (Filling filling : fillingDataPort.findAll()) {
+            fingerprint += InvertedFilingIndex.documentHash(FilingSearchSupport.indexDocument(filling));
+            count++;
+        }
+        boolean matches = count == index.size() && fingerprint == index.fingerprint();
+        if (!matches) {
+            log.info("Persisted filing search index is stale ({} documents indexed, {} stored); rebuilding",
+                    index.size(), count);
+        }
+        return matches;
     }
 
-    private String effectiveQuery(SearchCriteria criteria, boolean symbolFallsBackToText) {
-        if (FilingSearchSupport.hasText(criteria.query())) {
-            return criteria.query();
+    private void rebuildFromDataPort() {
+        long started = System.nanoTime();
+        index.clear();
+        for (Filling filling : fillingDataPort.findAll()) {
+            index.index(FilingSearchSupport.indexDocument(filling));
         }
-        return symbolFallsBackToText ? criteria.symbol() : null;
+        log.info("Built filing search index with {} documents in {} ms",
+                index.size(), (System.nanoTime() - started) / 1_000_000);
     }
 
-    private void addSuggestion(Set<String> suggestions, String candidate, String prefix, int maxResults) {
-        if (!FilingSearchSupport.hasText(candidate) || suggestions.size() >= maxResults) {
-            return;
+    private Page<SearchResult> sortByFilingProperties(InvertedFilingIndex.Query query, String snippetQuery, Pageable pageable) {
+        InvertedFilingIndex.Hits hits = index.search(query, InvertedFilingIndex.Order.RELEVANCE, 0, Integer.MAX_VALUE);
+        Map<String, Double> scores = hits.hits().stream()
+                .collect(Collectors.toMap(InvertedFilingIndex.Hit::id, InvertedFilingIndex.Hit::score));
+        List<SearchResult> results = FilingSearchSupport.applyFillingSort(
+                        fillingDataPort.findAllById(scores.keySet()), pageable.getSort(), sortTimer)
+                .stream()
+                .map(filling -> toResult(filling, snippetQuery, scores.get(filling.getId())))
+                .toList();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(results);
+        }
+        int start = Math.toIntExact(Math.min(pageable.getOffset(), results.size()));
+        int end = Math.min(start + pageable.getPageSize(), results.size());
+        return new PageImpl<>(results.subList(start, end), pageable, results.size());
+    }
+
+    private List<SearchResult> toResults(List<InvertedFilingIndex.Hit> hits, String snippetQuery) {
+        if (hits.isEmpty()) {
+            return List.of();
         }
-        if (prefix.isBlank() || candidate.toLowerCase(Locale.ROOT).startsWith(prefix)) {
-            suggestions.add(candidate);
+        Map<String, Filling> filingsById = fillingDataPort.findAllById(hits.stream().map(InvertedFilingIndex.Hit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Filling::getId, Function.identity(), (left, right) -> left));
+
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (InvertedFilingIndex.Hit hit : hits) {
+            Filling filling = filingsById.get(hit.id());
+            if (filling != null) {
+                results.add(toResult(filling, snippetQuery, hit.score()));
+            }
         }
+        return results;
+    }
+
+    private SearchResult toResult(Filling filling, String snippetQuery, double score) {
+        return new SearchResult(
+                filling.getId(),
+                FilingSearchSupport.type(filling),
+                FilingSearchSupport.title(filling),
+                FilingSearchSupport.snippet(filling, snippetQuery),
+                score,
+                FilingSearchSupport.filingDate(filling.getFillingDate()));
+    }
+
+    /**
+     * Maps the requested sort onto an order the index can produce from doc-values, or {@code null} when the
+     * sort needs filing properties the index does not carry.
+     */
+    private InvertedFilingIndex.Order order(Sort sort, boolean hasTerms) {
+        if (sort == null || sort.isUnsorted()) {
+            return hasTerms ? InvertedFilingIndex.Order.RELEVANCE : InvertedFilingIndex.Order.DATE_DESC;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+
+        Sort.Order order = orders.get(0);
+        return switch (order.getProperty()) {
+            case "fillingDate", "filingDate" -> order.isAscending()
+                    ? InvertedFilingIndex.Order.DATE_ASC
+                    : InvertedFilingIndex.Order.DATE_DESC;
+            case "score" -> order.isAscending()
+                    ? InvertedFilingIndex.Order.SCORE_ASC
+                    : InvertedFilingIndex.Order.RELEVANCE;
+            default -> null;
+        };
+    }
+
+    private Set<String> formTypeFilter(List<String> formTypes) {
+        if (formTypes == null) {
+            return Set.of();
+        }
+        return formTypes.stream()
+                .filter(FilingSearchSupport::hasText)
+                .map(String::trim)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the CIKs a result must carry, an empty set when unrestricted, or {@code null} when the symbol and
+     * explicit CIK filters cannot both match.
+     */
+    private Set<String> cikFilter(SearchCriteria criteria, List<String> resolvedCiks) {
+        Set<String> ciks = new LinkedHashSet<>(resolvedCiks);
+        if (FilingSearchSupport.hasText(criteria.cik())) {
+            String cik = criteria.cik().trim();
+            if (!ciks.isEmpty() && !ciks.contains(cik)) {
+                return null;
+            }
+            ciks = Set.of(cik);
+        }
+        return ciks;
+    }
+
+    private String effectiveQuery(SearchCriteria criteria, boolean symbolFallsBackToText) {
+        if (FilingSearchSupport.hasText(criteria.query())) {
+            return criteria.query();
+        }
+        return symbolFallsBackToText ? criteria.symbol() : null;
     }
 }
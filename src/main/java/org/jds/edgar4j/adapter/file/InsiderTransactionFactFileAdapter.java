@@ -0,0 +1,99 @@
+package org.jds.edgar4j.adapter.file;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jds.edgar4j.model.InsiderTransactionFact;
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
+import org.jds.edgar4j.storage.file.CompositeKey;
+import org.jds.edgar4j.storage.file.FileFormat;
+import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("resource-low")
+public class InsiderTransactionFactFileAdapter extends AbstractFileDataPort<InsiderTransactionFact>
+        implements InsiderTransactionFactDataPort {
+
+    private static final String INDEX_ACCESSION_NUMBER = "accessionNumber";
+    private static final String INDEX_SIDE_TRANSACTION_DATE = "sideTransactionDate";
+    private static final String INDEX_TICKER_SIDE_TRANSACTION_DATE = "tickerSideTransactionDate";
+    private static final String PROPERTY_TRANSACTION_DATE = "transactionDate";
+
+    public InsiderTransactionFactFileAdapter(FileStorageEngine storageEngine) {
+        super(storageEngine.registerCollection(
+                "insider_transaction_facts",
+                InsiderTransactionFact.class,
+                FileFormat.JSONL,
+                InsiderTransactionFact::getId,
+                InsiderTransactionFact::setId));
+        registerExactIndex(INDEX_ACCESSION_NUMBER, InsiderTransactionFact::getAccessionNumber);
+        registerSortedIndex(INDEX_SIDE_TRANSACTION_DATE, value -> CompositeKey.of(
+                value.getSide(),
+                value.getTransactionDate()));
+        registerSortedIndex(INDEX_TICKER_SIDE_TRANSACTION_DATE, value -> CompositeKey.of(
+                value.getTicker(),
+                value.getSide(),
+                value.getTransactionDate()));
+    }
+
+    @Override
+    public List<InsiderTransactionFact> findByAccessionNumber(String accessionNumber) {
+        return findAllByIndex(INDEX_ACCESSION_NUMBER, accessionNumber);
+    }
+
+    @Override
+    public List<InsiderTransactionFact> findBySideAndDateRange(String side, LocalDate startDate, LocalDate endDate) {
+        return findAllInRange(
+                INDEX_SIDE_TRANSACTION_DATE,
+                CompositeKey.lowerBound(side, startDate),
+                CompositeKey.upperBound(side, endDate));
+    }
+
+    @Override
+    public List<InsiderTransactionFact> findByTickerAndSideAndDateRange(
+            String ticker, String side, LocalDate startDate, LocalDate endDate) {
+        return findAllInRange(
+                INDEX_TICKER_SIDE_TRANSACTION_DATE,
+                CompositeKey.lowerBound(ticker, side, startDate),
+                CompositeKey.upperBound(ticker, side, endDate));
+    }
+
+    @Override
+    public Page<InsiderTransactionFact> findBySideAndCodesAndDateRange(
+            String side, Collection<String> transactionCodes, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return findPageInRange(
+                INDEX_SIDE_TRANSACTION_DATE,
+                PROPERTY_TRANSACTION_DATE,
+                CompositeKey.lowerBound(side, startDate),
+                CompositeKey.upperBound(side, endDate),
+                hasCode(transactionCodes),
+                pageable);
+    }
+
+    @Override
+    public Page<InsiderTransactionFact> findByTickerAndSideAndCodesAndDateRange(
+            String ticker,
+            String side,
+            Collection<String> transactionCodes,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable) {
+        return findPageInRange(
+                INDEX_TICKER_SIDE_TRANSACTION_DATE,
+                PROPERTY_TRANSACTION_DATE,
+                CompositeKey.lowerBound(ticker, side, startDate),
+                CompositeKey.upperBound(ticker, side, endDate),
+                hasCode(transactionCodes),
+                pageable);
+    }
+
+    private static Predicate<InsiderTransactionFact> hasCode(Collection<String> transactionCodes) {
+        return value -> transactionCodes != null && transactionCodes.contains(value.getTransactionCode());
+    }
+}
@@ -7,11 +7,12 @@ import java.util.Optional;
 
 import org.jds.edgar4j.model.insider.InsiderTransaction;
 import org.jds.edgar4j.port.InsiderTransactionDataPort;
+import org.jds.edgar4j.storage.file.CompositeKey;
 import org.jds.edgar4j.storage.file.FileFormat;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,11 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
     private static final String INDEX_COMPANY_CIK = "companyCik";
     private static final String INDEX_INSIDER_CIK = "insiderCik";
     private static final String INDEX_TRANSACTION_CODE = "transactionCode";
+    private static final String INDEX_TRANSACTION_DATE = "transactionDate";
+    private static final String INDEX_FILING_DATE = "filingDate";
+    private static final String INDEX_COMPANY_CIK_TRANSACTION_DATE = "companyCikTransactionDate";
+    private static final String INDEX_INSIDER_CIK_TRANSACTION_DATE = "insiderCikTransactionDate";
+    private static final String PROPERTY_TRANSACTION_DATE = "transactionDate";
 
     public InsiderTransactionFileAdapter(FileStorageEngine storageEngine) {
         super(
@@ -40,6 +46,12 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
         registerExactIndex(INDEX_COMPANY_CIK, transaction -> companyCik(transaction));
         registerExactIndex(INDEX_INSIDER_CIK, transaction -> insiderCik(transaction));
         registerIgnoreCaseIndex(INDEX_TRANSACTION_CODE, InsiderTransaction::getTransactionCode);
+        registerSortedIndex(INDEX_TRANSACTION_DATE, InsiderTransaction::getTransactionDate);
+        registerSortedIndex(INDEX_FILING_DATE, InsiderTransaction::getFilingDate);
+        registerSortedIndex(INDEX_COMPANY_CIK_TRANSACTION_DATE,
+                transaction -> CompositeKey.of(companyCik(transaction), transaction.getTransactionDate()));
+        registerSortedIndex(INDEX_INSIDER_CIK_TRANSACTION_DATE,
+                transaction -> CompositeKey.of(insiderCik(transaction), transaction.getTransactionDate()));
     }
 
     @Override
@@ -59,8 +71,13 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
 
     @Override
     public List<InsiderTransaction> findByCompanyCikAndTransactionDateBetween(String cik, LocalDate startDate, LocalDate endDate) {
-        return findMatching(transaction -> cik.equals(companyCik(transaction))
-                && isBetween(transaction.getTransactionDate(), startDate, endDate));
+        if (cik == null) {
+            return List.of();
+        }
+        return findAllInRange(
+                INDEX_COMPANY_CIK_TRANSACTION_DATE,
+                CompositeKey.lowerBound(cik, startDate),
+                CompositeKey.upperBound(cik, endDate));
     }
 
     @Override
@@ -75,18 +92,23 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
 
     @Override
     public List<InsiderTransaction> findByInsiderCikAndTransactionDateBetween(String cik, LocalDate startDate, LocalDate endDate) {
-        return findMatching(transaction -> cik.equals(insiderCik(transaction))
-                && isBetween(transaction.getTransactionDate(), startDate, endDate));
+        if (cik == null) {
+            return List.of();
+        }
+        return findAllInRange(
+                INDEX_INSIDER_CIK_TRANSACTION_DATE,
+                CompositeKey.lowerBound(cik, startDate),
+                CompositeKey.upperBound(cik, endDate));
     }
 
     @Override
     public List<InsiderTransaction> findByTransactionDateBetween(LocalDate startDate, LocalDate endDate) {
-        return findMatching(transaction -> isBetween(transaction.getTransactionDate(), startDate, endDate));
+        return findAllInRange(INDEX_TRANSACTION_DATE, startDate, endDate);
     }
 
     @Override
     public List<InsiderTransaction> findByFilingDateBetween(LocalDate startDate, LocalDate endDate) {
-        return findMatching(transaction -> isBetween(transaction.getFilingDate(), startDate, endDate));
+        return findAllInRange(INDEX_FILING_DATE, startDate, endDate);
     }
 
     @Override
@@ -108,10 +130,11 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
 
     @Override
     public List<InsiderTransaction> findRecentTransactions(LocalDate since) {
-        return FilePageSupport.applySort(
-                findMatching(transaction -> transaction.getTransactionDate() != null
-                        && since != null
-                        && transaction.getTransactionDate().isAfter(since)),
+        if (since == null) {
+            return List.of();
+        }
+        return collection.sort(
+                collection.findAllInRange(INDEX_TRANSACTION_DATE, since, false, null, false),
                 Sort.by(Sort.Direction.DESC, "transactionDate"));
     }
 
@@ -169,10 +192,21 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
 
     @Override
     public List<InsiderTransaction> findLatestTransactionsByCompany(String cik, Pageable pageable) {
-        return page(
-                findByCompanyCik(cik),
-                pageable,
-                Sort.by(Sort.Direction.DESC, "transactionDate"))
+        Sort latestFirst = Sort.by(Sort.Direction.DESC, PROPERTY_TRANSACTION_DATE);
+        if (cik == null || pageable == null || pageable.isUnpaged()) {
+            return page(findByCompanyCik(cik), pageable, latestFirst).getContent();
+        }
+
+        Pageable effectivePageable = pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), latestFirst)
+                : pageable;
+        return findPageInRange(
+                INDEX_COMPANY_CIK_TRANSACTION_DATE,
+                PROPERTY_TRANSACTION_DATE,
+                CompositeKey.lowerBound(cik, null),
+                CompositeKey.upperBound(cik, null),
+                null,
+                effectivePageable)
                 .getContent();
     }
 
@@ -181,12 +215,6 @@ public class InsiderTransactionFileAdapter extends AbstractLongIdFileDataPort<In
         return findMatching(transaction -> containsIgnoreCase(transaction.getSecurityTitle(), securityTitle));
     }
 
-    private boolean isBetween(LocalDate value, LocalDate startDate, LocalDate endDate) {
-        return value != null
-                && (startDate == null || !value.isBefore(startDate))
-                && (endDate == null || !value.isAfter(endDate));
-    }
-
     private String companyCik(InsiderTransaction transaction) {
         return transaction.getCompany() != null ? transaction.getCompany().getCik() : null;
     }
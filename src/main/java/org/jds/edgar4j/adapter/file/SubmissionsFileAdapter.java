@@ -1,6 +1,8 @@
 package org.jds.edgar4j.adapter.file;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jds.edgar4j.model.Submissions;
@@ -35,6 +37,18 @@ public class SubmissionsFileAdapter extends AbstractFileDataPort<Submissions> im
         return findFirstByIndex(INDEX_CIK, cik);
     }
 
+    @Override
+    public List<Submissions> findByCikIn(List<String> ciks) {
+        if (ciks == null || ciks.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Submissions> matches = new LinkedHashMap<>();
+        for (String cik : ciks) {
+            findAllByIndex(INDEX_CIK, cik).forEach(value -> matches.putIfAbsent(value.getId(), value));
+        }
+        return List.copyOf(matches.values());
+    }
+
     @Override
     public Page<Submissions> searchByCompanyNameOrCik(String searchTerm, Pageable pageable) {
         return findMatching(value ->
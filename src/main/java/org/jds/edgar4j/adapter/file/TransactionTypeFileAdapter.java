@@ -6,7 +6,6 @@ import java.util.Optional;
 import org.jds.edgar4j.model.insider.TransactionType;
 import org.jds.edgar4j.port.TransactionTypeDataPort;
 import org.jds.edgar4j.storage.file.FileFormat;
-import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Sort;
@@ -38,7 +37,7 @@ public class TransactionTypeFileAdapter extends AbstractLongIdFileDataPort<Trans
 
     @Override
     public List<TransactionType> findByIsActiveTrueOrderBySortOrder() {
-        return FilePageSupport.applySort(
+        return collection.sort(
                 findMatching(transactionType -> isTrue(transactionType.getIsActive())),
                 Sort.by(Sort.Direction.ASC, "sortOrder"));
     }
@@ -0,0 +1,17 @@
+package org.jds.edgar4j.adapter.mongo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+import org.jds.edgar4j.port.DividendSyncRunDataPort;
+import org.jds.edgar4j.repository.DividendSyncRunRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("resource-high")
+@RequiredArgsConstructor
+public class DividendSyncRunMongoAdapter implements DividendSyncRunDataPort {
+
+    @Delegate(types = DividendSyncRunDataPort.class)
+    private final DividendSyncRunRepository repository;
+}
@@ -0,0 +1,18 @@
+package org.jds.edgar4j.adapter.mongo;
+
+import org.jds.edgar4j.port.Form13FPositionChangeDataPort;
+import org.jds.edgar4j.repository.Form13FPositionChangeRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+
+@Component
+@Profile("resource-high")
+@RequiredArgsConstructor
+public class Form13FPositionChangeMongoAdapter implements Form13FPositionChangeDataPort {
+
+    @Delegate(types = Form13FPositionChangeDataPort.class)
+    private final Form13FPositionChangeRepository repository;
+}
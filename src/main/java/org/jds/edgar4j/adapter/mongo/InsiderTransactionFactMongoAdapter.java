@@ -0,0 +1,18 @@
+package org.jds.edgar4j.adapter.mongo;
+
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
+import org.jds.edgar4j.repository.InsiderTransactionFactRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+
+@Component
+@Profile("resource-high")
+@RequiredArgsConstructor
+public class InsiderTransactionFactMongoAdapter implements InsiderTransactionFactDataPort {
+
+    @Delegate(types = InsiderTransactionFactDataPort.class)
+    private final InsiderTransactionFactRepository repository;
+}
@@ -1,10 +1,7 @@
 package org.jds.edgar4j.adapter.mongo;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.jds.edgar4j.model.Filling;
@@ -14,6 +11,7 @@ import org.jds.edgar4j.port.FilingSearchPort.Indexable;
 import org.jds.edgar4j.port.FilingSearchPort.SearchCriteria;
 import org.jds.edgar4j.port.FilingSearchPort.SearchResult;
 import org.jds.edgar4j.port.TickerDataPort;
+import org.jds.edgar4j.search.CompanySuggestionIndex;
 import org.jds.edgar4j.search.FilingSearchSupport;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
@@ -37,14 +35,17 @@ public class MongoTextSearchAdapter implements FilingSearchPort {
     private final MongoTemplate mongoTemplate;
     private final TickerDataPort tickerDataPort;
     private final CompanyTickerDataPort companyTickerDataPort;
+    private final CompanySuggestionIndex suggestionIndex;
 
     public MongoTextSearchAdapter(
             MongoTemplate mongoTemplate,
             TickerDataPort tickerDataPort,
-            CompanyTickerDataPort companyTickerDataPort) {
+            CompanyTickerDataPort companyTickerDataPort,
+            CompanySuggestionIndex suggestionIndex) {
         this.mongoTemplate = mongoTemplate;
         this.tickerDataPort = tickerDataPort;
         this.companyTickerDataPort = companyTickerDataPort;
+        this.suggestionIndex = suggestionIndex;
     }
 
     @Override
@@ -70,25 +71,7 @@ public class MongoTextSearchAdapter implements FilingSearchPort {
 
     @Override
     public List<String> suggest(String prefix, int maxResults) {
-        String normalizedPrefix = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
-        Query query = new Query().limit(Math.max(maxResults * 3, 10));
-        if (!normalizedPrefix.isBlank()) {
-            Pattern pattern = Pattern.compile("^" + Pattern.quote(prefix.trim()), Pattern.CASE_INSENSITIVE);
-            query.addCriteria(new Criteria().orOperator(
-                    Criteria.where("company").regex(pattern),
-                    Criteria.where("cik").regex(pattern)));
-        }
-        query.with(Sort.by(Sort.Direction.DESC, "fillingDate"));
-
-        Set<String> suggestions = new LinkedHashSet<>();
-        for (Filling filling : mongoTemplate.find(query, Filling.class)) {
-            addSuggestion(suggestions, filling.getCompany(), normalizedPrefix, maxResults);
-            addSuggestion(suggestions, filling.getCik(), normalizedPrefix, maxResults);
-            if (suggestions.size() >= maxResults) {
-                break;
-            }
-        }
-        return suggestions.stream().limit(maxResults).toList();
+        return suggestionIndex.suggest(prefix, maxResults);
     }
 
     @Override
@@ -103,7 +86,8 @@ public class MongoTextSearchAdapter implements FilingSearchPort {
 
     @Override
     public void rebuildIndex() {
-        log.debug("Mongo-backed filing search uses persisted filings directly; no rebuild required");
+        log.debug("Mongo-backed filing search uses persisted filings directly; rebuilding suggestions only");
+        suggestionIndex.rebuild();
     }
 
     private Query buildQuery(SearchCriteria criteria, Pageable pageable, boolean includePaging) {
@@ -203,14 +187,4 @@ public class MongoTextSearchAdapter implements FilingSearchPort {
         }
         return null;
     }
-
-    private void addSuggestion(Set<String> suggestions, String candidate, String prefix, int maxResults) {
-        if (!FilingSearchSupport.hasText(candidate) || suggestions.size() >= maxResults) {
-            return;
-        }
-        if (prefix.isBlank() || candidate.toLowerCase(Locale.ROOT).startsWith(prefix)) {
-            suggestions.add(candidate);
-        }
-    }
 }
-
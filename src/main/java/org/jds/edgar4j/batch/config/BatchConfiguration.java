@@ -2,6 +2,8 @@ package org.jds.edgar4j.batch.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jds.edgar4j.batch.partition.FilingDatePartitioner;
+import org.jds.edgar4j.batch.partition.PartitionProgressListener;
 import org.jds.edgar4j.batch.processor.Form4DocumentProcessor;
 import org.jds.edgar4j.batch.reader.EdgarFilingReader;
 import org.jds.edgar4j.batch.writer.InsiderTransactionWriter;
@@ -11,6 +13,8 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
 import org.springframework.batch.core.job.parameters.RunIdIncrementer;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.SimpleStepBuilder;
@@ -27,6 +31,11 @@ import java.util.List;
 
 /**
  * Spring Batch configuration for Edgar4J processing
+ * <p>
+ * Both Form 4 jobs run a partitioned manager step: {@link FilingDatePartitioner} splits the
+ * date range into day (or week) partitions, and each partition runs a single-threaded worker
+ * step with its own restartable reader. Up to {@code edgar4j.batch.max-concurrent-steps}
+ * partitions run at once; their SEC requests share the SEC rate limiter at backfill priority.
  * 
  * @author J. Daniel Sobrado
  * @version 1.0
@@ -39,6 +48,7 @@ import java.util.List;
 @SuppressWarnings("removal")
 public class BatchConfiguration {
 
+    private final FilingDatePartitioner filingDatePartitioner;
     private final EdgarFilingReader edgarFilingReader;
     private final Form4DocumentProcessor form4DocumentProcessor;
     private final InsiderTransactionWriter insiderTransactionWriter;
@@ -47,6 +57,7 @@ public class BatchConfiguration {
     private final Edgar4JProperties edgar4JProperties;
     @Qualifier("batchTaskExecutor")
     private final TaskExecutor batchTaskExecutor;
+    private final PartitionProgressListener partitionProgressListener;
     private final ObjectProvider<FileFlushChunkListener> fileFlushChunkListenerProvider;
 
     @Bean
@@ -59,20 +70,12 @@ public class BatchConfiguration {
 
     @Bean
     public Step processForm4Step() {
-        PlatformTransactionManager transactionManager = resolveTransactionManager();
-        SimpleStepBuilder<String, List<InsiderTransaction>> stepBuilder = new StepBuilder("processForm4Step", jobRepository)
-                .<String, List<InsiderTransaction>>chunk(edgar4JProperties.getBatch().getChunkSize(), transactionManager)
-                .reader(edgarFilingReader)
-                .processor(form4DocumentProcessor)
-                .writer(insiderTransactionWriter)
-                .taskExecutor(batchTaskExecutor);
-
-        FileFlushChunkListener chunkListener = fileFlushChunkListenerProvider.getIfAvailable();
-        if (chunkListener != null) {
-            stepBuilder.listener(chunkListener);
-        }
+        return partitionedStep("processForm4Step", processForm4PartitionStep());
+    }
 
-        return stepBuilder.build();
+    @Bean
+    public Step processForm4PartitionStep() {
+        return filingPartitionStep("processForm4PartitionStep");
     }
 
     @Bean
@@ -85,13 +88,32 @@ public class BatchConfiguration {
 
     @Bean
     public Step bulkHistoricalDataStep() {
+        return partitionedStep("bulkHistoricalDataStep", bulkHistoricalDataPartitionStep());
+    }
+
+    @Bean
+    public Step bulkHistoricalDataPartitionStep() {
+        return filingPartitionStep("bulkHistoricalDataPartitionStep");
+    }
+
+    private Step partitionedStep(String name, Step partitionStep) {
+        return new StepBuilder(name, jobRepository)
+                .partitioner(partitionStep.getName(), filingDatePartitioner)
+                .step(partitionStep)
+                .gridSize(Math.max(1, edgar4JProperties.getBatch().getMaxConcurrentSteps()))
+                .taskExecutor(batchTaskExecutor)
+                .build();
+    }
+
+    private Step filingPartitionStep(String name) {
         PlatformTransactionManager transactionManager = resolveTransactionManager();
-        SimpleStepBuilder<String, List<InsiderTransaction>> stepBuilder = new StepBuilder("bulkHistoricalDataStep", jobRepository)
+        SimpleStepBuilder<String, List<InsiderTransaction>> stepBuilder = new StepBuilder(name, jobRepository)
                 .<String, List<InsiderTransaction>>chunk(edgar4JProperties.getBatch().getChunkSize(), transactionManager)
                 .reader(edgarFilingReader)
                 .processor(form4DocumentProcessor)
                 .writer(insiderTransactionWriter)
-                .taskExecutor(batchTaskExecutor);
+                .listener((StepExecutionListener) partitionProgressListener);
+        stepBuilder.listener((ChunkListener<Object, Object>) partitionProgressListener);
 
         FileFlushChunkListener chunkListener = fileFlushChunkListenerProvider.getIfAvailable();
         if (chunkListener != null) {
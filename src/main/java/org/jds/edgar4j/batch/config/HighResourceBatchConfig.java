@@ -10,7 +10,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -32,17 +32,16 @@ public class HighResourceBatchConfig {
         return new DataSourceTransactionManager(dataSource);
     }
 
+    /**
+     * Runs batch partitions on virtual threads, at most {@code max-concurrent-steps} at a time. Submitting a
+     * partition blocks while the limit is reached, so a multi-year range never overflows an executor queue.
+     */
     @Bean(name = "batchTaskExecutor")
-    public ThreadPoolTaskExecutor batchTaskExecutor(Edgar4JProperties properties) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        int concurrency = Math.max(1, properties.getBatch().getMaxConcurrentSteps());
-        executor.setCorePoolSize(concurrency);
-        executor.setMaxPoolSize(concurrency);
-        executor.setQueueCapacity(concurrency * 25);
-        executor.setThreadNamePrefix("Edgar4j-Batch-High-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(120);
-        executor.initialize();
+    public SimpleAsyncTaskExecutor batchTaskExecutor(Edgar4JProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Edgar4j-Batch-High-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, properties.getBatch().getMaxConcurrentSteps()));
+        executor.setTaskTerminationTimeout(120_000L);
         return executor;
     }
 }
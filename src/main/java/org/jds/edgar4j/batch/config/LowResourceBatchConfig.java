@@ -11,8 +11,8 @@ import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration(proxyBeanMethods = false)
@@ -43,17 +43,16 @@ public class LowResourceBatchConfig {
         return new DataSourceTransactionManager(dataSource);
     }
 
+    /**
+     * Runs batch partitions on virtual threads, at most {@code max-concurrent-steps} at a time. Submitting a
+     * partition blocks while the limit is reached, so a multi-year range never overflows an executor queue.
+     */
     @Bean(name = "batchTaskExecutor")
-    public ThreadPoolTaskExecutor batchTaskExecutor(Edgar4JProperties properties) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        int concurrency = Math.max(1, properties.getBatch().getMaxConcurrentSteps());
-        executor.setCorePoolSize(concurrency);
-        executor.setMaxPoolSize(concurrency);
-        executor.setQueueCapacity(concurrency * 10);
-        executor.setThreadNamePrefix("Edgar4j-Batch-Low-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
-        executor.initialize();
+    public SimpleAsyncTaskExecutor batchTaskExecutor(Edgar4JProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Edgar4j-Batch-Low-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, properties.getBatch().getMaxConcurrentSteps()));
+        executor.setTaskTerminationTimeout(60_000L);
         return executor;
     }
 }
@@ -0,0 +1,81 @@
+package org.jds.edgar4j.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits the job's filing date range into partitions of {@code partitionDays} calendar days
+ * (one day by default, seven for weekly partitions).
+ * <p>
+ * Partition names are derived from their first date, so a restarted job maps every partition
+ * back to its previous step execution and only unfinished days are read again. The grid size
+ * is ignored: the date range alone decides how many partitions there are, and the task
+ * executor decides how many run at once.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Slf4j
+@Component
+@StepScope
+public class FilingDatePartitioner implements Partitioner {
+
+    public static final String PARTITION_START = "partitionStart";
+    public static final String PARTITION_END = "partitionEnd";
+
+    private static final int DEFAULT_PARTITION_DAYS = 1;
+
+    @Value("#{jobParameters['startDate']}")
+    private String startDate;
+
+    @Value("#{jobParameters['endDate']}")
+    private String endDate;
+
+    @Value("#{jobParameters['partitionDays']}")
+    private String partitionDays;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        FilingDateRange range = FilingDateRange.parse(startDate, endDate);
+        int days = resolvePartitionDays();
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (LocalDate from = range.start(); !from.isAfter(range.end()); from = from.plusDays(days)) {
+            LocalDate to = from.plusDays(days - 1L);
+            if (to.isAfter(range.end())) {
+                to = range.end();
+            }
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(PARTITION_START, from.toString());
+            context.putString(PARTITION_END, to.toString());
+            partitions.put("filings-" + from, context);
+        }
+
+        log.info("Partitioned filings from {} to {} into {} partition(s) of {} day(s)",
+                range.start(), range.end(), partitions.size(), days);
+        return partitions;
+    }
+
+    private int resolvePartitionDays() {
+        if (partitionDays == null || partitionDays.isBlank()) {
+            return DEFAULT_PARTITION_DAYS;
+        }
+
+        try {
+            return Math.max(1, Integer.parseInt(partitionDays.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid partitionDays '{}', using {}", partitionDays, DEFAULT_PARTITION_DAYS);
+            return DEFAULT_PARTITION_DAYS;
+        }
+    }
+}
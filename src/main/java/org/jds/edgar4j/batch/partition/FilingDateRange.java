@@ -0,0 +1,44 @@
+package org.jds.edgar4j.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Inclusive filing date range taken from batch parameters.
+ * <p>
+ * Missing or unparseable dates fall back to today and a reversed range is swapped, so a
+ * misconfigured job still reads something sensible instead of failing at startup.
+ *
+ * @param start first filing date, inclusive
+ * @param end   last filing date, inclusive
+ */
+@Slf4j
+public record FilingDateRange(LocalDate start, LocalDate end) {
+
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    public static FilingDateRange parse(String startDate, String endDate) {
+        LocalDate start = parseDate(startDate);
+        LocalDate end = parseDate(endDate);
+        if (start.isAfter(end)) {
+            log.warn("startDate {} is after endDate {}; swapping values", start, end);
+            return new FilingDateRange(end, start);
+        }
+        return new FilingDateRange(start, end);
+    }
+
+    private static LocalDate parseDate(String dateString) {
+        if (dateString == null || dateString.trim().isEmpty()) {
+            return LocalDate.now();
+        }
+
+        try {
+            return LocalDate.parse(dateString.trim(), DateTimeFormatter.ofPattern(DATE_PATTERN));
+        } catch (Exception e) {
+            log.warn("Failed to parse date: {}, using current date", dateString);
+            return LocalDate.now();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.jds.edgar4j.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jds.edgar4j.batch.reader.EdgarFilingReader;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Publishes throughput and ETA of each filing partition.
+ * <p>
+ * After every chunk the partition's items per second and estimated seconds remaining are
+ * written to its step execution context ({@code progress.itemsPerSecond},
+ * {@code progress.etaSeconds}), where they are persisted with the batch metadata alongside the
+ * reader's own position, and a summary is logged when the partition finishes.
+ */
+@Slf4j
+@Component
+@SuppressWarnings("removal")
+public class PartitionProgressListener implements StepExecutionListener, ChunkListener<Object, Object> {
+
+    public static final String ITEMS_PER_SECOND_KEY = "progress.itemsPerSecond";
+    public static final String ETA_SECONDS_KEY = "progress.etaSeconds";
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        double elapsedSeconds = elapsedSeconds(stepExecution);
+        double itemsPerSecond = elapsedSeconds > 0 ? stepExecution.getReadCount() / elapsedSeconds : 0.0;
+        double progress = executionContext.getDouble(EdgarFilingReader.PROGRESS_KEY, 0.0);
+
+        executionContext.putDouble(ITEMS_PER_SECOND_KEY, itemsPerSecond);
+        if (progress > 0.0) {
+            executionContext.putLong(ETA_SECONDS_KEY, Math.round(elapsedSeconds * (1.0 - progress) / progress));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Partition {}: {} read, {} written, {}/s, {}% done",
+                    stepExecution.getStepName(),
+                    stepExecution.getReadCount(),
+                    stepExecution.getWriteCount(),
+                    String.format("%.1f", itemsPerSecond),
+                    Math.round(progress * 100));
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        double elapsedSeconds = elapsedSeconds(stepExecution);
+        log.info("Partition {} {}: {} read, {} written, {} skipped in {} s ({}/s)",
+                stepExecution.getStepName(),
+                stepExecution.getStatus(),
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(),
+                Math.round(elapsedSeconds),
+                String.format("%.1f", elapsedSeconds > 0 ? stepExecution.getReadCount() / elapsedSeconds : 0.0));
+        return stepExecution.getExitStatus();
+    }
+
+    private double elapsedSeconds(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return 0.0;
+        }
+        return Duration.between(startTime, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.jds.edgar4j.exception.Form4DocumentProcessingException;
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.integration.SecForm4DocumentSupport;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.model.insider.InsiderTransaction;
 import org.jds.edgar4j.service.insider.Form4ParserService;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
@@ -41,7 +42,9 @@ public class Form4DocumentProcessor implements ItemProcessor<String, List<Inside
         log.debug("Processing Form 4 document: {}", accessionNumber);
 
         try {
-            String xmlContent = fetchForm4Document(accessionNumber);
+            String xmlContent = SecRateLimiter.callWithPriority(
+                    SecRateLimiter.Priority.BACKFILL,
+                    () -> fetchForm4Document(accessionNumber));
 
             if (xmlContent == null || xmlContent.trim().isEmpty()) {
                 log.warn("No XML content found for accession number: {}", accessionNumber);
@@ -2,23 +2,32 @@ package org.jds.edgar4j.batch.reader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jds.edgar4j.batch.partition.FilingDateRange;
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.integration.SecForm4DocumentSupport;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Spring Batch ItemReader for Edgar Form 4 filings
- * 
+ * <p>
+ * Reads the accession numbers of one date range a day at a time, fetching each daily master
+ * index only when the previous day is exhausted. Inside a partitioned step the range is the
+ * partition's ({@code partitionStart}/{@code partitionEnd}); otherwise it is the job's
+ * {@code startDate}/{@code endDate}. The current day and the position within it are saved in
+ * the step execution context after every chunk, so a restarted step resumes where the last
+ * committed chunk ended. Not thread-safe: each partition gets its own step-scoped instance.
+ *
  * @author J. Daniel Sobrado
  * @version 1.0
  * @since 2025-01-01
@@ -27,132 +36,135 @@ import java.util.List;
 @Component
 @StepScope
 @RequiredArgsConstructor
-public class EdgarFilingReader implements ItemReader<String> {
+public class EdgarFilingReader implements ItemStreamReader<String> {
+    public static final String CURRENT_DATE_KEY = "edgarFilingReader.currentDate";
+    public static final String OFFSET_KEY = "edgarFilingReader.offset";
+    public static final String PROGRESS_KEY = "edgarFilingReader.progress";
+
     private static final String SUPPORTED_FORM_TYPE = "FORM4";
-    private static final String DATE_PATTERN = "yyyy-MM-dd";
 
     private final SecApiClient secApiClient;
 
-    @Value("#{jobParameters['startDate']}")
+    @Value("#{stepExecutionContext['partitionStart'] ?: jobParameters['startDate']}")
     private String startDate;
 
-    @Value("#{jobParameters['endDate']}")
+    @Value("#{stepExecutionContext['partitionEnd'] ?: jobParameters['endDate']}")
     private String endDate;
 
     @Value("#{jobParameters['formType'] ?: 'FORM4'}")
     private String formType;
 
-    private Iterator<String> accessionNumberIterator;
+    private FilingDateRange range;
+    private LocalDate currentDate;
+    private List<String> currentAccessionNumbers = List.of();
+    private int offset;
     private boolean initialized = false;
 
     @Override
-    public String read() throws Exception {
-        if (!initialized) {
-            initialize();
-            initialized = true;
+    public void open(ExecutionContext executionContext) {
+        initializeIfNeeded();
+        if (range == null || !executionContext.containsKey(CURRENT_DATE_KEY)) {
+            return;
         }
 
-        if (accessionNumberIterator != null && accessionNumberIterator.hasNext()) {
-            String accessionNumber = accessionNumberIterator.next();
-            log.debug("Reading accession number: {}", accessionNumber);
-            return accessionNumber;
-        }
+        LocalDate resumeDate = LocalDate.parse(executionContext.getString(CURRENT_DATE_KEY));
+        int resumeOffset = executionContext.getInt(OFFSET_KEY, 0);
+        loadDay(resumeDate);
+        offset = Math.min(resumeOffset, currentAccessionNumbers.size());
+        log.info("Resuming Form 4 reader at {} item {} of {}", resumeDate, offset, currentAccessionNumbers.size());
+    }
 
-        return null; // Indicates end of data
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (currentDate == null) {
+            return;
+        }
+        executionContext.putString(CURRENT_DATE_KEY, currentDate.toString());
+        executionContext.putInt(OFFSET_KEY, offset);
+        executionContext.putDouble(PROGRESS_KEY, progress());
     }
 
-    private void initialize() {
-        try {
-            log.info("Initializing EdgarFilingReader with parameters: startDate={}, endDate={}, formType={}",
-                    startDate, endDate, formType);
-
-            String normalizedFormType = normalizeFormType(formType);
-            if (!SUPPORTED_FORM_TYPE.equals(normalizedFormType)) {
-                log.warn("Unsupported formType '{}' configured. Supported types: {}. No filings will be read.",
-                        formType, SUPPORTED_FORM_TYPE);
-                this.accessionNumberIterator = List.<String>of().iterator();
-                return;
-            }
+    @Override
+    public String read() throws Exception {
+        initializeIfNeeded();
+        if (range == null) {
+            return null;
+        }
 
-            LocalDate start = parseDate(startDate);
-            LocalDate end = parseDate(endDate);
-            LocalDate[] range = normalizeDateRange(start, end);
-            if (range[0] != start || range[1] != end) {
-                log.warn("Date range was adjusted: from {} to {} -> from {} to {}",
-                        start, end, range[0], range[1]);
+        while (offset >= currentAccessionNumbers.size()) {
+            LocalDate nextDate = currentDate == null ? range.start() : currentDate.plusDays(1);
+            if (nextDate.isAfter(range.end())) {
+                return null; // Indicates end of data
             }
+            loadDay(nextDate);
+        }
 
-            List<String> accessionNumbers = fetchAccessionNumbers(range[0], range[1]);
-            this.accessionNumberIterator = accessionNumbers.iterator();
-
-            log.info("Initialized reader with {} accession numbers", accessionNumbers.size());
+        String accessionNumber = currentAccessionNumbers.get(offset++);
+        log.debug("Reading accession number: {}", accessionNumber);
+        return accessionNumber;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to initialize EdgarFilingReader: {}", e.getMessage(), e);
-            this.accessionNumberIterator = new ArrayList<String>().iterator();
+    /**
+     * Fraction of the range already read, counting the current day by the share of its
+     * accession numbers handed out.
+     */
+    double progress() {
+        if (range == null || currentDate == null) {
+            return 0.0;
         }
+        long totalDays = ChronoUnit.DAYS.between(range.start(), range.end()) + 1;
+        long completedDays = ChronoUnit.DAYS.between(range.start(), currentDate);
+        double currentDay = currentAccessionNumbers.isEmpty()
+                ? 1.0
+                : (double) offset / currentAccessionNumbers.size();
+        return Math.min(1.0, (completedDays + currentDay) / totalDays);
     }
 
-    private List<String> fetchAccessionNumbers(LocalDate startDate, LocalDate endDate) {
-        List<String> accessionNumbers = new ArrayList<>();
-
-        try {
-            log.info("Fetching Form 4 accession numbers from {} to {}", startDate, endDate);
-
-            LocalDate currentDate = startDate;
-            while (!currentDate.isAfter(endDate)) {
-                if (!isWeekend(currentDate)) {
-                    try {
-                        secApiClient.fetchDailyMasterIndex(currentDate)
-                                .map(SecForm4DocumentSupport::parseDailyMasterIndex)
-                                .ifPresent(accessionNumbers::addAll);
-                    } catch (Exception e) {
-                        log.debug("Daily master index unavailable for {}: {}", currentDate, e.getMessage());
-                    }
-                }
-                currentDate = currentDate.plusDays(1);
-            }
-
-            log.info("Successfully fetched {} accession numbers for date range", accessionNumbers.size());
-
-        } catch (Exception e) {
-            log.error("Error fetching accession numbers for date range {} to {}: {}",
-                    startDate, endDate, e.getMessage(), e);
+    private void initializeIfNeeded() {
+        if (initialized) {
+            return;
         }
+        initialized = true;
 
-        return accessionNumbers;
-    }
+        log.info("Initializing EdgarFilingReader with parameters: startDate={}, endDate={}, formType={}",
+                startDate, endDate, formType);
 
-    private LocalDate parseDate(String dateString) {
-        if (dateString == null || dateString.trim().isEmpty()) {
-            return LocalDate.now();
+        String normalizedFormType = normalizeFormType(formType);
+        if (!SUPPORTED_FORM_TYPE.equals(normalizedFormType)) {
+            log.warn("Unsupported formType '{}' configured. Supported types: {}. No filings will be read.",
+                    formType, SUPPORTED_FORM_TYPE);
+            return;
         }
 
-        try {
-            return LocalDate.parse(dateString, DateTimeFormatter.ofPattern(DATE_PATTERN));
-        } catch (Exception e) {
-            log.warn("Failed to parse date: {}, using current date", dateString);
-            return LocalDate.now();
-        }
+        range = FilingDateRange.parse(startDate, endDate);
     }
 
-    private LocalDate[] normalizeDateRange(LocalDate startDate, LocalDate endDate) {
-        LocalDate normalizedStart = startDate;
-        LocalDate normalizedEnd = endDate;
-
-        if (normalizedStart != null && normalizedEnd != null && normalizedStart.isAfter(normalizedEnd)) {
-            log.warn("startDate {} is after endDate {}; swapping values", normalizedStart, normalizedEnd);
-            return new LocalDate[] {normalizedEnd, normalizedStart};
-        }
+    private void loadDay(LocalDate date) {
+        List<String> accessionNumbers = isWeekend(date) ? List.of() : fetchAccessionNumbers(date);
+        currentDate = date;
+        offset = 0;
+        currentAccessionNumbers = accessionNumbers;
+    }
 
-        return new LocalDate[] {normalizedStart, normalizedEnd};
+    /**
+     * Accession numbers in the day's master index, or none when the SEC has no index for the day.
+     * Any other failure propagates so the step fails and a restart retries the same day.
+     */
+    private List<String> fetchAccessionNumbers(LocalDate date) {
+        List<String> accessionNumbers = SecRateLimiter.callWithPriority(
+                SecRateLimiter.Priority.BACKFILL,
+                () -> secApiClient.fetchDailyMasterIndex(date)
+                        .map(SecForm4DocumentSupport::parseDailyMasterIndex)
+                        .orElse(List.of()));
+        log.debug("Fetched {} Form 4 accession numbers for {}", accessionNumbers.size(), date);
+        return accessionNumbers;
     }
 
     private String normalizeFormType(String value) {
         if (value == null || value.isBlank()) {
             return SUPPORTED_FORM_TYPE;
         }
-        return value.trim().toUpperCase(java.util.Locale.ROOT);
+        return value.trim().toUpperCase(Locale.ROOT);
     }
 
     private boolean isWeekend(LocalDate date) {
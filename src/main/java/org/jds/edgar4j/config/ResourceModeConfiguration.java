@@ -2,6 +2,7 @@ package org.jds.edgar4j.config;
 
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.jds.edgar4j.storage.file.FileStorageProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,14 +12,19 @@ import org.springframework.context.annotation.Profile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableConfigurationProperties(FileStorageProperties.class)
 public class ResourceModeConfiguration {
 
     @Bean
     @Profile("resource-low")
-    public FileStorageEngine fileStorageEngine(FileStorageProperties properties, ObjectMapper objectMapper) {
-        return new FileStorageEngine(properties, objectMapper);
+    public FileStorageEngine fileStorageEngine(
+            FileStorageProperties properties,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new FileStorageEngine(properties, objectMapper, meterRegistry.getIfAvailable());
     }
 
     @Bean
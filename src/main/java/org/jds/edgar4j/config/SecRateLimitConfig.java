@@ -0,0 +1,35 @@
+package org.jds.edgar4j.config;
+
+import org.jds.edgar4j.integration.ratelimit.LocalTokenBucketStore;
+import org.jds.edgar4j.integration.ratelimit.RedisTokenBucketStore;
+import org.jds.edgar4j.integration.ratelimit.TokenBucketStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class SecRateLimitConfig {
+
+    /**
+     * Shares the SEC budget through Redis when {@code edgar4j.sec.rate-limit-shared} is set, otherwise keeps it per node.
+     */
+    @Bean
+    public TokenBucketStore secTokenBucketStore(
+            @Value("${edgar4j.sec.rate-limit-shared:false}") boolean shared,
+            ObjectProvider<StringRedisTemplate> redisTemplate) {
+        if (shared) {
+            StringRedisTemplate template = redisTemplate.getIfAvailable();
+            if (template != null) {
+                log.info("SEC rate limit budget is shared through Redis");
+                return new RedisTokenBucketStore(template);
+            }
+            log.warn("edgar4j.sec.rate-limit-shared is enabled but no Redis connection is configured; using a local budget");
+        }
+        return new LocalTokenBucketStore();
+    }
+}
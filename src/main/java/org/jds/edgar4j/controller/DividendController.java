@@ -1,6 +1,7 @@
 package org.jds.edgar4j.controller;
 
 import java.util.List;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import org.jds.edgar4j.dto.request.DividendAlertResolutionRequest;
@@ -18,6 +19,7 @@ import org.jds.edgar4j.dto.response.DividendReconciliationResponse;
 import org.jds.edgar4j.dto.response.DividendScreenResponse;
 import org.jds.edgar4j.dto.response.DividendSyncStatusResponse;
 import org.jds.edgar4j.model.DividendAnalysisSnapshot;
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.service.DividendAnalysisService;
 import org.jds.edgar4j.service.DividendQualityService;
 import org.jds.edgar4j.service.DividendReconciliationService;
@@ -83,6 +85,46 @@ public class DividendController {
         return ResponseEntity.ok(ApiResponse.success(dividendAnalysisService.screen(request)));
     }
 
+    @Operation(summary = "Start a dividend sync over the tracked universe",
+               description = "Syncs tracked companies (or the S&P 500 when none are tracked) concurrently in the background. Resumes the latest unfinished run, and returns the active run if one is already executing; either way the existing run keeps its original settings and the response message says the requested ones were not applied. Concurrency is capped by edgar4j.jobs.dividend-sync.max-concurrency.")
+    @PostMapping("/sync/runs")
+    public ResponseEntity<ApiResponse<DividendSyncRun>> startSyncRun(
+            @Parameter(description = "Maximum companies to sync; 0 syncs all.", example = "0")
+            @RequestParam(defaultValue = "0") int maxCompanies,
+            @Parameter(description = "Refresh market data for each company.", example = "false")
+            @RequestParam(defaultValue = "false") boolean refreshMarketData,
+            @Parameter(description = "Companies synced at the same time, capped by the configured maximum.", example = "8")
+            @RequestParam(defaultValue = "8") int concurrency) {
+        log.info("POST /api/dividend/sync/runs maxCompanies={} refreshMarketData={} concurrency={}",
+                maxCompanies, refreshMarketData, concurrency);
+        Instant requestedAt = Instant.now();
+        DividendSyncRun run = dividendSyncService.startTrackedSync(maxCompanies, refreshMarketData, concurrency);
+        if (run != null && run.getStartedAt() != null && run.getStartedAt().isBefore(requestedAt)) {
+            return ResponseEntity.accepted().body(ApiResponse.success(run,
+                    "Continuing existing run " + run.getId() + " with its original settings; requested maxCompanies, "
+                            + "refreshMarketData and concurrency were not applied"));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.success(run));
+    }
+
+    @Operation(summary = "List recent dividend sync runs",
+               description = "Returns the ten most recent tracked-universe sync runs, newest first.")
+    @GetMapping("/sync/runs")
+    public ResponseEntity<ApiResponse<List<DividendSyncRun>>> getRecentSyncRuns() {
+        log.info("GET /api/dividend/sync/runs");
+        return ResponseEntity.ok(ApiResponse.success(dividendSyncService.getRecentSyncRuns()));
+    }
+
+    @Operation(summary = "Get dividend sync run progress",
+               description = "Returns progress counts and per-company timing and failures for one sync run.")
+    @GetMapping("/sync/runs/{runId}")
+    public ResponseEntity<ApiResponse<DividendSyncRun>> getSyncRun(
+            @Parameter(description = "Sync run id")
+            @PathVariable String runId) {
+        log.info("GET /api/dividend/sync/runs/{}", runId);
+        return ResponseEntity.ok(ApiResponse.success(dividendSyncService.getSyncRun(runId)));
+    }
+
     @Operation(summary = "Run a dividend sync for one company",
                description = "Refreshes submissions, optionally refreshes market data, and records sync status for a ticker or SEC CIK.")
     @PostMapping("/{tickerOrCik}/sync")
@@ -10,6 +10,7 @@ import org.jds.edgar4j.repository.Form13FRepository.HoldingSummary;
 import org.jds.edgar4j.repository.Form13FRepository.PortfolioSnapshot;
 import org.jds.edgar4j.service.Form13FService;
 import org.jds.edgar4j.service.Form13FService.HoldingsComparison;
+import org.jds.edgar4j.service.Form13FService.InstitutionalFlow;
 import org.jds.edgar4j.service.Form13FService.InstitutionalOwnershipStats;
 import org.jds.edgar4j.util.PaginationUtils;
 import org.springframework.data.domain.Page;
@@ -223,6 +224,27 @@ public class Form13FController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get net institutional buying and selling of a CUSIP for a quarter.
+     */
+    @GetMapping("/cusip/{cusip}/flows")
+    public ResponseEntity<InstitutionalFlow> getInstitutionalFlow(
+            @PathVariable String cusip,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate period) {
+
+        InstitutionalFlow flow = form13FService.getInstitutionalFlow(cusip.toUpperCase(), period);
+        return ResponseEntity.ok(flow);
+    }
+
+    /**
+     * Get net institutional buying and selling of a CUSIP for every recorded quarter.
+     */
+    @GetMapping("/cusip/{cusip}/flows/history")
+    public ResponseEntity<List<InstitutionalFlow>> getInstitutionalFlowHistory(@PathVariable String cusip) {
+        List<InstitutionalFlow> flows = form13FService.getInstitutionalFlowHistory(cusip.toUpperCase());
+        return ResponseEntity.ok(flows);
+    }
+
     /**
      * Compare holdings between two quarters for a filer.
      */
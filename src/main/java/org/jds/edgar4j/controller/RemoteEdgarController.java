@@ -7,6 +7,7 @@ import org.jds.edgar4j.dto.response.ApiResponse;
 import org.jds.edgar4j.dto.response.RemoteFilingSearchResponse;
 import org.jds.edgar4j.dto.response.RemoteSubmissionResponse;
 import org.jds.edgar4j.dto.response.RemoteTickerResponse;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.service.RemoteEdgarService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -44,7 +45,9 @@ public class RemoteEdgarController {
             @Parameter(description = "Free-text search across ticker, name, and CIK") @RequestParam(required = false) String search,
             @Parameter(description = "Max rows returned (1-500)") @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
         log.info("GET /api/remote-edgar/tickers?source={}&search={}&limit={}", source, search, limit);
-        List<RemoteTickerResponse> tickers = remoteEdgarService.getRemoteTickers(source, search, limit);
+        List<RemoteTickerResponse> tickers = SecRateLimiter.callWithPriority(
+                SecRateLimiter.Priority.INTERACTIVE,
+                () -> remoteEdgarService.getRemoteTickers(source, search, limit));
         return ResponseEntity.ok(ApiResponse.success(tickers));
     }
 
@@ -54,7 +57,9 @@ public class RemoteEdgarController {
             @Parameter(description = "SEC CIK number", example = "0000789019") @PathVariable String cik,
             @Parameter(description = "Max recent filings returned (1-200)") @RequestParam(defaultValue = "50") @Min(1) @Max(200) int filingsLimit) {
         log.info("GET /api/remote-edgar/submissions/{}?filingsLimit={}", cik, filingsLimit);
-        RemoteSubmissionResponse submission = remoteEdgarService.getRemoteSubmission(cik, filingsLimit);
+        RemoteSubmissionResponse submission = SecRateLimiter.callWithPriority(
+                SecRateLimiter.Priority.INTERACTIVE,
+                () -> remoteEdgarService.getRemoteSubmission(cik, filingsLimit));
         return ResponseEntity.ok(ApiResponse.success(submission));
     }
 
@@ -67,7 +72,9 @@ public class RemoteEdgarController {
             @RequestBody @Valid RemoteFilingSearchRequest request) {
         log.info("POST /api/remote-edgar/filings/search: formType={}, dateFrom={}, dateTo={}, limit={}",
                 request.getFormType(), request.getDateFrom(), request.getDateTo(), request.getLimit());
-        RemoteFilingSearchResponse response = remoteEdgarService.searchRemoteFilings(request);
+        RemoteFilingSearchResponse response = SecRateLimiter.callWithPriority(
+                SecRateLimiter.Priority.INTERACTIVE,
+                () -> remoteEdgarService.searchRemoteFilings(request));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
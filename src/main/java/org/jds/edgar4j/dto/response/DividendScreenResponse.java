@@ -1,5 +1,6 @@
 package org.jds.edgar4j.dto.response;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -28,5 +29,11 @@ public class DividendScreenResponse {
         private DividendOverviewResponse.ViabilitySummary viability;
         private Map<String, Double> values;
         private List<String> warnings;
+
+        /**
+         * When the row's metrics were computed; only set for results served from stored snapshots.
+         */
+        private Instant asOf;
+        private Boolean stale;
     }
 }
@@ -0,0 +1,366 @@
+package org.jds.edgar4j.integration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.ZipFile;
+
+import org.jds.edgar4j.exception.SecApiException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams SEC bulk archives straight to disk in constant memory.
+ * <p>
+ * Bytes are copied into {@code <target>.part} through a fixed-size buffer. An interrupted transfer resumes with a
+ * {@code Range} request guarded by {@code If-Range} on the ETag recorded for the partial file, so an archive that
+ * changed upstream is fetched again from the start instead of being spliced. A finished archive is checked against
+ * the advertised length and its ZIP central directory before it replaces {@code target}; its SHA-256 is written to
+ * {@code <target>.sha256} and its ETag kept so the next call can revalidate with {@code If-None-Match}. Before
+ * revalidating, the cached archive is hashed again and compared with the sidecar; one that no longer matches is
+ * discarded and downloaded in full rather than reused on a 304.
+ * <p>
+ * Failed attempts are retried after an exponential backoff; a 429 or 503 response waits for its {@code Retry-After}
+ * instead when the server sends one.
+ */
+@Slf4j
+class BulkArchiveDownloader {
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMinutes(2);
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final long PROGRESS_LOG_INTERVAL = 256L << 20;
+
+    private final HttpClient httpClient;
+    private final SecRateLimiter rateLimiter;
+    private final Supplier<String> userAgent;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> progressByArchive = new ConcurrentHashMap<>();
+
+    BulkArchiveDownloader(
+            HttpClient httpClient,
+            SecRateLimiter rateLimiter,
+            Supplier<String> userAgent,
+            MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.rateLimiter = rateLimiter;
+        this.userAgent = userAgent;
+        this.meterRegistry = meterRegistry;
+    }
+
+    Path download(String url, Path target) {
+        String archive = target.getFileName().toString();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    boolean modified = transfer(url, target, archive);
+                    outcome = modified ? "downloaded" : "not_modified";
+                    return target;
+                } catch (IOException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw new SecApiException("Failed to download SEC bulk archive " + url
+                                + " after " + attempt + " attempts: " + e.getMessage(), e);
+                    }
+                    Duration delay = retryDelay(e, attempt);
+                    log.warn("Bulk download of {} stopped at {} bytes (attempt {}/{}), resuming in {} ms: {}",
+                            url, sizeOf(sibling(target, ".part")), attempt, MAX_ATTEMPTS, delay.toMillis(), e.getMessage());
+                    Thread.sleep(delay.toMillis());
+                }
+            }
+        } catch (IOException e) {
+            throw new SecApiException("Failed to prepare bulk download directory for " + target, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SecApiException("Bulk download interrupted", e);
+        } finally {
+            sample.stop(Timer.builder("edgar4j.sec.bulk.download")
+                    .tag("archive", archive)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs one request. Returns {@code false} when the existing archive is still current.
+     */
+    private boolean transfer(String url, Path target, String archive) throws IOException, InterruptedException {
+        Path partial = sibling(target, ".part");
+        Path partialEtag = sibling(target, ".part.etag");
+        Path targetEtag = sibling(target, ".etag");
+
+        long offset = sizeOf(partial);
+        String resumeEtag = offset > 0 ? readEtag(partialEtag) : null;
+        if (offset > 0 && resumeEtag == null) {
+            offset = 0;
+        }
+        String currentEtag = offset == 0 && Files.exists(target) ? readEtag(targetEtag) : null;
+        if (currentEtag != null && !matchesRecordedDigest(target)) {
+            log.warn("Cached SEC bulk archive {} does not match its recorded SHA-256, downloading it again", target);
+            deleteQuietly(target, targetEtag, sibling(target, ".sha256"));
+            currentEtag = null;
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(RESPONSE_TIMEOUT)
+                .header("User-Agent", userAgent.get())
+                .header("Accept", "application/zip, application/octet-stream, */*")
+                .header("Accept-Encoding", "identity")
+                .GET();
+        if (offset > 0) {
+            request.header("Range", "bytes=" + offset + "-").header("If-Range", resumeEtag);
+        } else if (currentEtag != null) {
+            request.header("If-None-Match", currentEtag);
+        }
+
+        rateLimiter.acquire(SecRateLimiter.hostOf(url), SecRateLimiter.Priority.BACKFILL);
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+        try (InputStream body = response.body()) {
+            if (status == 304) {
+                log.info("SEC bulk archive {} is unchanged (ETag {})", url, currentEtag);
+                return false;
+            }
+            if (status == 416 && offset > 0) {
+                deleteQuietly(partial, partialEtag);
+                throw new IOException("Server rejected resume range at offset " + offset);
+            }
+            if (status == 429 || status == 503) {
+                throw new RetryableStatusException(status, url, retryAfter(response.headers()));
+            }
+            if (status >= 400) {
+                SecApiClient.validateResponse(status, url, new String(body.readNBytes(8192), StandardCharsets.UTF_8));
+            }
+
+            boolean resumed = status == 206;
+            long start = resumed ? offset : 0L;
+            HttpHeaders headers = response.headers();
+            OptionalLong expectedLength = resumed
+                    ? contentRangeTotal(headers)
+                    : headers.firstValueAsLong("Content-Length");
+            String etag = headers.firstValue("ETag").orElse(null);
+            if (etag != null) {
+                Files.writeString(partialEtag, etag);
+            } else {
+                Files.deleteIfExists(partialEtag);
+            }
+            if (resumed) {
+                log.info("Resuming SEC bulk archive {} at {} bytes", url, start);
+            }
+
+            long length = copy(body, partial, start, archive, expectedLength);
+            if (expectedLength.isPresent() && length != expectedLength.getAsLong()) {
+                throw new IOException("Received " + length + " of " + expectedLength.getAsLong() + " bytes");
+            }
+        }
+
+        verifyArchive(partial, partialEtag, url);
+        String sha256 = sha256(partial);
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.writeString(sibling(target, ".sha256"), sha256 + "  " + archive + System.lineSeparator());
+        if (Files.exists(partialEtag)) {
+            Files.move(partialEtag, targetEtag, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(targetEtag);
+        }
+        log.info("Saved SEC bulk archive {} to {} ({} bytes, sha256 {})", url, target, Files.size(target), sha256);
+        return true;
+    }
+
+    private long copy(InputStream body, Path partial, long start, String archive, OptionalLong expectedLength)
+            throws IOException {
+        Counter bytes = Counter.builder("edgar4j.sec.bulk.download.bytes")
+                .tag("archive", archive)
+                .register(meterRegistry);
+        AtomicLong progress = progressByArchive.computeIfAbsent(archive, key -> meterRegistry.gauge(
+                "edgar4j.sec.bulk.download.progress.bytes",
+                List.of(Tag.of("archive", key)),
+                new AtomicLong()));
+
+        StandardOpenOption mode = start > 0 ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+             ReadableByteChannel source = Channels.newChannel(body)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long written = start;
+            long nextLog = start + PROGRESS_LOG_INTERVAL;
+            progress.set(written);
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+                written += read;
+                bytes.increment(read);
+                progress.set(written);
+                if (written >= nextLog) {
+                    log.info("Downloaded {} MB{} of {}", written >> 20,
+                            expectedLength.isPresent() ? " / " + (expectedLength.getAsLong() >> 20) + " MB" : "", archive);
+                    nextLog = written + PROGRESS_LOG_INTERVAL;
+                }
+            }
+            channel.force(false);
+            return written;
+        }
+    }
+
+    private void verifyArchive(Path partial, Path partialEtag, String url) throws IOException {
+        try (ZipFile zipFile = new ZipFile(partial.toFile())) {
+            log.debug("Verified ZIP directory of {} ({} entries)", url, zipFile.size());
+        } catch (IOException e) {
+            deleteQuietly(partial, partialEtag);
+            throw new IOException("Downloaded SEC bulk archive is not a valid ZIP: " + url, e);
+        }
+    }
+
+    /**
+     * Whether {@code target} still hashes to the digest in its {@code .sha256} sidecar; an archive without one
+     * cannot be trusted and is treated as a mismatch.
+     */
+    private boolean matchesRecordedDigest(Path target) throws IOException {
+        Path sidecar = sibling(target, ".sha256");
+        if (!Files.exists(sidecar)) {
+            return false;
+        }
+        String recorded = Files.readString(sidecar).trim();
+        int separator = recorded.indexOf(' ');
+        if (separator >= 0) {
+            recorded = recorded.substring(0, separator);
+        }
+        return !recorded.isEmpty() && recorded.equalsIgnoreCase(sha256(target));
+    }
+
+    static Duration retryDelay(IOException failure, int attempt) {
+        if (failure instanceof RetryableStatusException retryable && retryable.retryAfter != null) {
+            return retryable.retryAfter.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : retryable.retryAfter;
+        }
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    /**
+     * Reads {@code Retry-After} as delay-seconds or an HTTP date; {@code null} when absent or unparseable.
+     */
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.firstValue("Retry-After").map(String::trim).orElse(null);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(
+                        Instant.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private OptionalLong contentRangeTotal(HttpHeaders headers) {
+        return headers.firstValue("Content-Range")
+                .map(value -> value.substring(value.lastIndexOf('/') + 1).trim())
+                .filter(total -> !total.equals("*"))
+                .map(total -> OptionalLong.of(Long.parseLong(total)))
+                .orElse(OptionalLong.empty());
+    }
+
+    private String readEtag(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String value = Files.readString(file).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (input.read(buffer) != -1) {
+                // digest is updated as the stream is read
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path... files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("Could not delete {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static Path sibling(Path target, String suffix) {
+        return target.resolveSibling(target.getFileName() + suffix);
+    }
+
+    /**
+     * A throttling response worth retrying, with the server's requested delay when it gave one.
+     */
+    private static final class RetryableStatusException extends IOException {
+
+        private final Duration retryAfter;
+
+        private RetryableStatusException(int status, String url, Duration retryAfter) {
+            super("SEC returned HTTP " + status + " for " + url);
+            this.retryAfter = retryAfter;
+        }
+    }
+}
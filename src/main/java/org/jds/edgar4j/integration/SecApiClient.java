@@ -7,11 +7,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -32,7 +34,7 @@ public class SecApiClient {
     private static final String CACHE_NAMESPACE = "sec-api";
 
     private final SecApiConfig config;
-    private final SecRateLimiter rateLimiter;
+    private final SecRequestScheduler requestScheduler;
     private final SettingsService settingsService;
     private final DownloadedResourceStore downloadedResourceStore;
 
@@ -41,6 +43,8 @@ public class SecApiClient {
             .followRedirects(HttpClient.Redirect.NORMAL)
             .build();
 
+    private volatile BulkArchiveDownloader bulkArchiveDownloader;
+
     public String fetchSubmissions(String cik) {
         String url = config.getSubmissionUrl(cik);
         return executeRequest(url);
@@ -99,12 +103,18 @@ public class SecApiClient {
         return executeRequestAsync(config.getFrameUrl(taxonomy, tag, unit, period));
     }
 
-    public byte[] fetchBulkSubmissionsArchive() {
-        return executeBinaryRequest(config.getBulkSubmissionsFileUrl());
+    /**
+     * Streams the nightly submissions.zip to {@code target}, resuming a previous partial download when possible.
+     */
+    public Path downloadBulkSubmissionsArchive(Path target) {
+        return bulkArchiveDownloader().download(config.getBulkSubmissionsFileUrl(), target);
     }
 
-    public byte[] fetchBulkCompanyFactsArchive() {
-        return executeBinaryRequest(config.getBulkCompanyFactsFileUrl());
+    /**
+     * Streams the nightly companyfacts.zip to {@code target}, resuming a previous partial download when possible.
+     */
+    public Path downloadBulkCompanyFactsArchive(Path target) {
+        return bulkArchiveDownloader().download(config.getBulkCompanyFactsFileUrl(), target);
     }
 
     public String fetchForm4(String cik, String accessionNumber, String primaryDocument) {
@@ -140,8 +150,16 @@ public class SecApiClient {
     }
 
     public CompletableFuture<String> fetchForm4Async(String cik, String accessionNumber, String primaryDocument) {
+        return fetchForm4Async(cik, accessionNumber, primaryDocument, SecRateLimiter.currentPriority());
+    }
+
+    /**
+     * Fetches a Form 4 document at {@code priority}, for callers that hand the request to another thread.
+     */
+    public CompletableFuture<String> fetchForm4Async(
+            String cik, String accessionNumber, String primaryDocument, SecRateLimiter.Priority priority) {
         String url = config.getForm4Url(cik, accessionNumber, primaryDocument);
-        return executeRequestAsync(url);
+        return executeRequestAsync(url, priority);
     }
 
     /**
@@ -171,39 +189,25 @@ public class SecApiClient {
      * Asynchronously fetches any EDGAR filing document.
      */
     public CompletableFuture<String> fetchFilingAsync(String cik, String accessionNumber, String document) {
+        return fetchFilingAsync(cik, accessionNumber, document, SecRateLimiter.currentPriority());
+    }
+
+    /**
+     * Asynchronously fetches any EDGAR filing document at {@code priority}.
+     */
+    public CompletableFuture<String> fetchFilingAsync(
+            String cik, String accessionNumber, String document, SecRateLimiter.Priority priority) {
         String url = config.getFilingUrl(cik, accessionNumber, document);
-        return executeRequestAsync(url);
+        return executeRequestAsync(url, priority);
     }
 
     private String executeRequest(String url) {
-        try {
-            String cached = downloadedResourceStore.readText(CACHE_NAMESPACE, url, StandardCharsets.UTF_8).orElse(null);
-            if (cached != null) {
-                log.debug("Using cached SEC response for {}", url);
-                return cached;
-            }
-
-            rateLimiter.acquire();
-            log.debug("Fetching URL: {}", url);
-
-            HttpRequest request = buildRequest(url);
-            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-            String body = readBody(response);
-            validateResponse(response.statusCode(), url, body);
-            downloadedResourceStore.writeText(CACHE_NAMESPACE, url, body, StandardCharsets.UTF_8);
-            return body;
-
-        } catch (SecApiException e) {
-            log.warn("SEC request failed for {}: {}", url, e.getMessage());
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new SecApiException("Request interrupted", e);
-        } catch (Exception e) {
-            log.error("Error fetching URL: {}", url, e);
-            throw new SecApiException("Failed to fetch data from SEC API: " + e.getMessage(), e);
+        String cached = downloadedResourceStore.readText(CACHE_NAMESPACE, url, StandardCharsets.UTF_8).orElse(null);
+        if (cached != null) {
+            log.debug("Using cached SEC response for {}", url);
+            return cached;
         }
+        return await(url, requestScheduler.submit(url, SecRateLimiter.currentPriority(), this::fetchAndCache));
     }
 
     private Optional<String> executeRequestOptional(String url) {
@@ -218,31 +222,16 @@ public class SecApiClient {
     }
 
     private CompletableFuture<String> executeRequestAsync(String url) {
+        return executeRequestAsync(url, SecRateLimiter.currentPriority());
+    }
+
+    private CompletableFuture<String> executeRequestAsync(String url, SecRateLimiter.Priority priority) {
         String cached = downloadedResourceStore.readText(CACHE_NAMESPACE, url, StandardCharsets.UTF_8).orElse(null);
         if (cached != null) {
             log.debug("Using cached SEC response for {}", url);
             return CompletableFuture.completedFuture(cached);
         }
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                rateLimiter.acquire();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new SecApiException("Request interrupted", e);
-            }
-            return url;
-        }).thenCompose(u -> {
-            log.debug("Fetching URL async: {}", u);
-            HttpRequest request = buildRequest(u);
-            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-                    .thenApply(response -> {
-                        String body = readBody(response);
-                        validateResponse(response.statusCode(), u, body);
-                        downloadedResourceStore.writeText(CACHE_NAMESPACE, u, body, StandardCharsets.UTF_8);
-                        return body;
-                    });
-        });
+        return requestScheduler.submit(url, priority, this::fetchAndCache);
     }
 
     private boolean shouldContinueDailyIndexFallback(SecApiException exception, boolean hasMoreCandidates) {
@@ -282,57 +271,41 @@ public class SecApiClient {
     }
 
     private String executeRequestNoCache(String url) {
-        try {
-            rateLimiter.acquire();
-            log.debug("Fetching URL (no cache): {}", url);
-
-            HttpRequest request = buildRequest(url);
-            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        return await(url, requestScheduler.submit(url, SecRateLimiter.currentPriority(), this::fetch));
+    }
 
-            String body = readBody(response);
-            validateResponse(response.statusCode(), url, body);
+    private CompletableFuture<String> fetchAndCache(String url) {
+        return fetch(url).thenApply(body -> {
+            downloadedResourceStore.writeText(CACHE_NAMESPACE, url, body, StandardCharsets.UTF_8);
             return body;
-        } catch (SecApiException e) {
-            log.warn("SEC request failed for {}: {}", url, e.getMessage());
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new SecApiException("Request interrupted", e);
-        } catch (Exception e) {
-            log.error("Error fetching URL (no cache): {}", url, e);
-            throw new SecApiException("Failed to fetch from SEC API: " + e.getMessage(), e);
-        }
+        });
     }
 
-    private byte[] executeBinaryRequest(String url) {
-        try {
-            byte[] cached = downloadedResourceStore.readBytes(CACHE_NAMESPACE, url).orElse(null);
-            if (cached != null) {
-                log.debug("Using cached SEC binary response for {}", url);
-                return cached;
-            }
-
-            rateLimiter.acquire();
-            log.debug("Fetching binary URL: {}", url);
-
-            HttpRequest request = buildBinaryRequest(url);
-            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    private CompletableFuture<String> fetch(String url) {
+        log.debug("Fetching URL: {}", url);
+        return httpClient.sendAsync(buildRequest(url), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    String body = readBody(response);
+                    validateResponse(response.statusCode(), url, body);
+                    return body;
+                });
+    }
 
-            byte[] body = readBodyBytes(response);
-            validateResponse(response.statusCode(), url, response.statusCode() >= 400
-                    ? new String(body, StandardCharsets.UTF_8)
-                    : "");
-            downloadedResourceStore.writeBytes(CACHE_NAMESPACE, url, body);
-            return body;
-        } catch (SecApiException e) {
-            log.warn("SEC binary request failed for {}: {}", url, e.getMessage());
-            throw e;
+    private String await(String url, CompletableFuture<String> response) {
+        try {
+            return response.get();
         } catch (InterruptedException e) {
+            response.cancel(false);
             Thread.currentThread().interrupt();
             throw new SecApiException("Request interrupted", e);
-        } catch (Exception e) {
-            log.error("Error fetching binary URL: {}", url, e);
-            throw new SecApiException("Failed to fetch binary data from SEC API: " + e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SecApiException secApiException) {
+                log.warn("SEC request failed for {}: {}", url, cause.getMessage());
+                throw secApiException;
+            }
+            log.error("Error fetching URL: {}", url, cause);
+            throw new SecApiException("Failed to fetch data from SEC API: " + cause.getMessage(), cause);
         }
     }
 
@@ -349,20 +322,24 @@ public class SecApiClient {
                 .build();
     }
 
-    private HttpRequest buildBinaryRequest(String url) {
-        String userAgent = settingsService.getUserAgent();
-
-        return HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(TIMEOUT)
-                .header("User-Agent", userAgent)
-                .header("Accept", "application/zip, application/octet-stream, */*")
-                .header("Accept-Encoding", "gzip, deflate")
-                .GET()
-                .build();
+    private BulkArchiveDownloader bulkArchiveDownloader() {
+        BulkArchiveDownloader downloader = bulkArchiveDownloader;
+        if (downloader == null) {
+            synchronized (this) {
+                if (bulkArchiveDownloader == null) {
+                    bulkArchiveDownloader = new BulkArchiveDownloader(
+                            httpClient,
+                            requestScheduler.getRateLimiter(),
+                            settingsService::getUserAgent,
+                            requestScheduler.getMeterRegistry());
+                }
+                downloader = bulkArchiveDownloader;
+            }
+        }
+        return downloader;
     }
 
-    private void validateResponse(int statusCode, String url, String body) {
+    static void validateResponse(int statusCode, String url, String body) {
         if (statusCode == 404) {
             throw new SecApiException("Resource not found: " + url);
         }
@@ -1,77 +1,416 @@
 package org.jds.edgar4j.integration;
 
-import java.util.concurrent.Semaphore;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+import org.jds.edgar4j.integration.ratelimit.LocalTokenBucketStore;
+import org.jds.edgar4j.integration.ratelimit.TokenBucketStore;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Token-bucket limiter for every request edgar4j sends to SEC hosts.
+ * <p>
+ * All SEC hosts draw from one bucket refilled at {@code edgar4j.sec.rate-limit-per-second} and holding up to
+ * {@code edgar4j.sec.rate-limit-burst} tokens, unless {@code edgar4j.sec.rate-limit-hosts} gives a host its own
+ * budget ({@code host=rate[/burst],...}). The burst defaults to one token, so no one-second window admits more
+ * requests than the rate. Waiters never hold a lock while they wait: each host has a queue ordered by
+ * {@link Priority}, drained whenever a token is due, so user requests and realtime polling are served before queued
+ * backfill and backfill is additionally capped at {@code edgar4j.sec.rate-limit-backfill-share} of the host budget.
+ * One thread drains a queue at a time and calls the store outside the queue lock; a token taken for a waiter that
+ * was cancelled meanwhile is refunded.
+ * Bucket state lives in a {@link TokenBucketStore}; with {@code edgar4j.sec.rate-limit-shared=true} that store is
+ * Redis and the budget is shared by every node.
+ */
 @Slf4j
 @Component
 public class SecRateLimiter {
 
-    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Scheduling class of a request. Lower ordinals are served first.
+     */
+    public enum Priority {
+        INTERACTIVE,
+        REALTIME,
+        NORMAL,
+        BACKFILL
+    }
+
+    static final String DEFAULT_HOST = "www.sec.gov";
+    static final double DEFAULT_BACKFILL_SHARE = 0.6;
+
+    private static final String SHARED_BUCKET = "sec";
+    private static final long STORE_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = new ThreadLocal<>();
+    private static final Executor COMPLETION_EXECUTOR = ForkJoinPool.commonPool();
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edgar4j-sec-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    private final Semaphore semaphore = new Semaphore(1, true);
-    private final long minimumIntervalNanos;
-    private volatile long nextPermitNanos;
+    private final TokenBucketStore store;
+    private final LocalTokenBucketStore backfillCaps = new LocalTokenBucketStore();
+    private final Budget defaultBudget;
+    private final Map<String, Budget> hostBudgets;
+    private final double backfillShare;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
 
-    public SecRateLimiter(@Value("${edgar4j.sec.rate-limit-per-second:10}") int maxRequestsPerSecond) {
-        int safeRate = Math.max(1, maxRequestsPerSecond);
-        this.minimumIntervalNanos = Math.max(
-                1L,
-                (NANOS_PER_SECOND + safeRate - 1L) / safeRate);
-        this.nextPermitNanos = System.nanoTime();
+    public SecRateLimiter(int maxRequestsPerSecond) {
+        this(maxRequestsPerSecond, 0, DEFAULT_BACKFILL_SHARE, "", new LocalTokenBucketStore());
     }
 
-    public void acquire() throws InterruptedException {
-        semaphore.acquire();
+    @Autowired
+    public SecRateLimiter(
+            @Value("${edgar4j.sec.rate-limit-per-second:10}") int maxRequestsPerSecond,
+            @Value("${edgar4j.sec.rate-limit-burst:0}") int burst,
+            @Value("${edgar4j.sec.rate-limit-backfill-share:0.6}") double backfillShare,
+            @Value("${edgar4j.sec.rate-limit-hosts:}") String hostBudgets,
+            TokenBucketStore store) {
+        this.store = store;
+        this.defaultBudget = Budget.of(SHARED_BUCKET, maxRequestsPerSecond, burst);
+        this.hostBudgets = parseHostBudgets(hostBudgets);
+        this.backfillShare = backfillShare > 0.0 && backfillShare <= 1.0 ? backfillShare : DEFAULT_BACKFILL_SHARE;
+    }
+
+    /**
+     * Runs {@code action} with {@code priority} as the default for requests issued from the current thread.
+     */
+    public static <T> T callWithPriority(Priority priority, Supplier<T> action) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
         try {
-            waitForPermit(Long.MAX_VALUE);
+            return action.get();
         } finally {
-            semaphore.release();
+            if (previous == null) {
+                CURRENT_PRIORITY.remove();
+            } else {
+                CURRENT_PRIORITY.set(previous);
+            }
         }
     }
 
-    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
-        long timeoutNanos = Math.max(0L, unit.toNanos(timeout));
-        long startedAt = System.nanoTime();
-        if (!semaphore.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
-            return false;
+    public static void runWithPriority(Priority priority, Runnable action) {
+        callWithPriority(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static Priority currentPriority() {
+        Priority priority = CURRENT_PRIORITY.get();
+        return priority != null ? priority : Priority.NORMAL;
+    }
+
+    public static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : DEFAULT_HOST;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_HOST;
+        }
+    }
+
+    /**
+     * Returns a future completed once a request to {@code host} may be sent. Cancelling the future gives up the place
+     * in the queue.
+     */
+    public CompletableFuture<Void> acquireAsync(String host, Priority priority) {
+        Budget budget = budgetFor(host);
+        Lane lane = lanes.computeIfAbsent(budget.bucket(), bucket -> new Lane(budget));
+        Waiter waiter = new Waiter(priority != null ? priority : Priority.NORMAL, sequence.incrementAndGet());
+        synchronized (lane) {
+            lane.waiters.add(waiter);
         }
+        drain(lane).forEach(ready -> grant(lane, ready));
+        return waiter.future;
+    }
+
+    public CompletableFuture<Void> acquireAsync() {
+        return acquireAsync(DEFAULT_HOST, currentPriority());
+    }
+
+    public void acquire(String host, Priority priority) throws InterruptedException {
+        CompletableFuture<Void> permit = acquireAsync(host, priority);
         try {
-            long elapsed = Math.max(0L, System.nanoTime() - startedAt);
-            long remaining = Math.max(0L, timeoutNanos - elapsed);
-            return waitForPermit(remaining);
-        } finally {
-            semaphore.release();
+            permit.get();
+        } catch (InterruptedException e) {
+            permit.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("SEC rate limiter failed", e.getCause());
         }
     }
 
-    public int getAvailablePermits() {
-        return System.nanoTime() >= nextPermitNanos ? 1 : 0;
+    public void acquire() throws InterruptedException {
+        acquire(DEFAULT_HOST, currentPriority());
     }
 
-    private boolean waitForPermit(long maximumWaitNanos) throws InterruptedException {
-        long now = System.nanoTime();
-        long waitNanos = Math.max(0L, nextPermitNanos - now);
-        if (waitNanos > maximumWaitNanos) {
+    public boolean tryAcquire(String host, Priority priority, long timeout, TimeUnit unit) throws InterruptedException {
+        CompletableFuture<Void> permit = acquireAsync(host, priority);
+        try {
+            permit.get(Math.max(0L, timeout), unit);
+            return true;
+        } catch (TimeoutException e) {
+            return !permit.cancel(false);
+        } catch (InterruptedException e) {
+            permit.cancel(false);
+            throw e;
+        } catch (ExecutionException | CancellationException e) {
             return false;
         }
-        if (waitNanos > 0L) {
-            log.debug("SEC request rate limited for {} ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
-            TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(DEFAULT_HOST, currentPriority(), timeout, unit);
+    }
+
+    /**
+     * Gives back a permit that was granted but not used, so the next queued request can take it.
+     */
+    public void release(String host, Priority priority) {
+        Budget budget = budgetFor(host);
+        Lane lane = lanes.computeIfAbsent(budget.bucket(), bucket -> new Lane(budget));
+        refund(budget, priority != null ? priority : Priority.NORMAL);
+        drain(lane).forEach(ready -> grant(lane, ready));
+    }
+
+    public int getAvailablePermits() {
+        return store.available(defaultBudget.bucket(), defaultBudget.permitsPerSecond(), defaultBudget.burst());
+    }
+
+    /**
+     * Hands out tokens to the head of the queue until the bucket runs dry, then schedules the next attempt for when
+     * the store says a token will be due. Only one thread drains a lane at a time; a caller arriving meanwhile asks
+     * the active drainer for another pass instead of waiting on the store, which may be a Redis round trip. If the
+     * store fails, the waiters already handed a token are still returned, the lane is released and another pass is
+     * scheduled shortly for the rest.
+     */
+    private List<Waiter> drain(Lane lane) {
+        synchronized (lane) {
+            if (lane.draining) {
+                lane.drainRequested = true;
+                return List.of();
+            }
+            lane.draining = true;
+        }
+
+        List<Waiter> ready = new ArrayList<>();
+        try {
+            drainReady(lane, ready);
+        } catch (RuntimeException e) {
+            log.warn("SEC rate limiter token store failed for {}, retrying in {} ms: {}",
+                    lane.budget.bucket(), TimeUnit.NANOSECONDS.toMillis(STORE_RETRY_NANOS), e.getMessage());
+            synchronized (lane) {
+                lane.draining = false;
+                lane.drainRequested = false;
+                if (liveHead(lane) != null) {
+                    scheduleDrain(lane, STORE_RETRY_NANOS);
+                }
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * The drain loop proper: moves waiters that were handed a token into {@code ready} and releases the lane once the
+     * queue is empty or the bucket is dry.
+     */
+    private void drainReady(Lane lane, List<Waiter> ready) {
+        long waitNanos = 0L;
+        while (true) {
+            Waiter head;
+            synchronized (lane) {
+                head = liveHead(lane);
+                if (head == null || waitNanos > 0L) {
+                    if (lane.drainRequested) {
+                        lane.drainRequested = false;
+                        waitNanos = 0L;
+                        continue;
+                    }
+                    lane.draining = false;
+                    if (head != null) {
+                        scheduleDrain(lane, waitNanos);
+                    }
+                    return;
+                }
+            }
+
+            waitNanos = take(lane.budget, head.priority);
+            if (waitNanos == 0L) {
+                synchronized (lane) {
+                    if (!head.future.isDone() && lane.waiters.remove(head)) {
+                        ready.add(head);
+                        continue;
+                    }
+                }
+                refund(lane.budget, head.priority);
+            }
+        }
+    }
+
+    private static Waiter liveHead(Lane lane) {
+        Waiter head = lane.waiters.peek();
+        while (head != null && head.future.isDone()) {
+            lane.waiters.poll();
+            head = lane.waiters.peek();
+        }
+        return head;
+    }
+
+    /**
+     * Takes one token for a waiter of {@code priority}, returning the nanoseconds to wait when none is available.
+     */
+    private long take(Budget budget, Priority priority) {
+        boolean backfill = priority == Priority.BACKFILL;
+        if (backfill) {
+            long waitNanos = backfillCaps.tryTake(budget.bucket(), budget.permitsPerSecond() * backfillShare, backfillBurst(budget));
+            if (waitNanos > 0L) {
+                return waitNanos;
+            }
+        }
+        long waitNanos = store.tryTake(budget.bucket(), budget.permitsPerSecond(), budget.burst());
+        if (waitNanos > 0L && backfill) {
+            backfillCaps.refund(budget.bucket(), backfillBurst(budget));
+        }
+        return waitNanos;
+    }
+
+    private void refund(Budget budget, Priority priority) {
+        store.refund(budget.bucket(), budget.permitsPerSecond(), budget.burst());
+        if (priority == Priority.BACKFILL) {
+            backfillCaps.refund(budget.bucket(), backfillBurst(budget));
+        }
+    }
+
+    /**
+     * Completes a waiter that was handed a token. If it was cancelled in the meantime the token goes back to the
+     * bucket and the queue is drained again so the next waiter can use it.
+     */
+    private void grant(Lane lane, Waiter waiter) {
+        if (waiter.future.complete(null)) {
+            return;
         }
-        nextPermitNanos = saturatingAdd(System.nanoTime(), minimumIntervalNanos);
-        return true;
+        refund(lane.budget, waiter.priority);
+        drain(lane).forEach(ready -> grant(lane, ready));
     }
 
-    private static long saturatingAdd(long left, long right) {
-        if (right > 0 && left > Long.MAX_VALUE - right) {
-            return Long.MAX_VALUE;
+    private void scheduleDrain(Lane lane, long waitNanos) {
+        long dueAt = System.nanoTime() + waitNanos;
+        if (lane.drainDueAt != 0L && lane.drainDueAt - dueAt <= 0L) {
+            return;
+        }
+        lane.drainDueAt = dueAt;
+        if (log.isDebugEnabled()) {
+            log.debug("SEC requests to {} rate limited for {} ms ({} queued)",
+                    lane.budget.bucket(), TimeUnit.NANOSECONDS.toMillis(waitNanos), lane.waiters.size());
+        }
+        SCHEDULER.schedule(() -> {
+            synchronized (lane) {
+                if (lane.drainDueAt == dueAt) {
+                    lane.drainDueAt = 0L;
+                }
+            }
+            drain(lane).forEach(waiter -> COMPLETION_EXECUTOR.execute(() -> grant(lane, waiter)));
+        }, waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private int backfillBurst(Budget budget) {
+        return Math.max(1, (int) Math.floor(budget.burst() * backfillShare));
+    }
+
+    private Budget budgetFor(String host) {
+        if (host != null && !hostBudgets.isEmpty()) {
+            Budget budget = hostBudgets.get(host.toLowerCase(Locale.ROOT));
+            if (budget != null) {
+                return budget;
+            }
+        }
+        return defaultBudget;
+    }
+
+    private static Map<String, Budget> parseHostBudgets(String value) {
+        Map<String, Budget> budgets = new ConcurrentHashMap<>();
+        if (value == null || value.isBlank()) {
+            return budgets;
+        }
+        for (String entry : value.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            String host = trimmed.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+            String[] limits = trimmed.substring(separator + 1).trim().split("/");
+            try {
+                int rate = Integer.parseInt(limits[0].trim());
+                int burst = limits.length > 1 ? Integer.parseInt(limits[1].trim()) : 0;
+                budgets.put(host, Budget.of(host, rate, burst));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid SEC host rate limit '{}'", trimmed);
+            }
+        }
+        return budgets;
+    }
+
+    /**
+     * Refill rate and capacity of one bucket. An unset burst defaults to a single token: a bucket holding {@code b}
+     * tokens admits up to {@code b + rate - 1} requests in any one-second window, so only {@code b = 1} keeps every
+     * window within the rate.
+     */
+    private record Budget(String bucket, double permitsPerSecond, int burst) {
+
+        static Budget of(String bucket, int permitsPerSecond, int burst) {
+            int safeRate = Math.max(1, permitsPerSecond);
+            int safeBurst = burst > 0 ? burst : 1;
+            return new Budget(bucket, safeRate, safeBurst);
+        }
+    }
+
+    private static final class Lane {
+
+        private final Budget budget;
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+                Comparator.comparing((Waiter waiter) -> waiter.priority).thenComparingLong(waiter -> waiter.sequence));
+        private long drainDueAt;
+        private boolean draining;
+        private boolean drainRequested;
+
+        private Lane(Budget budget) {
+            this.budget = budget;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Priority priority;
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Waiter(Priority priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
         }
-        return left + right;
     }
 }
@@ -0,0 +1,184 @@
+package org.jds.edgar4j.integration;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jds.edgar4j.integration.SecRateLimiter.Priority;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single entry point for SEC fetches.
+ * <p>
+ * Concurrent requests for the same URL share one fetch: later callers join the fetch already in flight instead of
+ * spending another rate-limit token. The fetch waits for a {@link SecRateLimiter} permit at the priority of its caller,
+ * and a higher-priority caller joining a fetch that is still queued requests a second permit at its own priority, so
+ * whichever permit is granted first starts the fetch. The other is cancelled while still queued, or returned to the
+ * limiter with {@link SecRateLimiter#release} when it was granted too late to be used.
+ * <p>
+ * Meters: {@code edgar4j.sec.requests} (tags priority, result=fetched|coalesced), {@code edgar4j.sec.requests.queued}
+ * (fetches waiting for a permit, by priority), {@code edgar4j.sec.requests.wait} (time from submission to permit) and
+ * {@code edgar4j.sec.requests.inflight}.
+ */
+@Slf4j
+@Component
+public class SecRequestScheduler {
+
+    private final SecRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<Priority, AtomicInteger> queued = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> fetched = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> coalesced = new EnumMap<>(Priority.class);
+
+    public SecRequestScheduler(SecRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            AtomicInteger depth = new AtomicInteger();
+            queued.put(priority, depth);
+            Gauge.builder("edgar4j.sec.requests.queued", depth, AtomicInteger::get)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("edgar4j.sec.requests.wait")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            fetched.put(priority, Counter.builder("edgar4j.sec.requests")
+                    .tag("priority", tag)
+                    .tag("result", "fetched")
+                    .register(meterRegistry));
+            coalesced.put(priority, Counter.builder("edgar4j.sec.requests")
+                    .tag("priority", tag)
+                    .tag("result", "coalesced")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("edgar4j.sec.requests.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    public SecRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Fetches {@code url} with {@code fetcher} once a permit is granted, or joins the fetch of {@code url} already in
+     * flight. Cancelling the returned future only detaches the caller; the shared fetch carries on for the others.
+     */
+    public CompletableFuture<String> submit(String url, Priority priority, Function<String, CompletableFuture<String>> fetcher) {
+        Priority effective = priority != null ? priority : Priority.NORMAL;
+        Flight created = new Flight(url, fetcher);
+        Flight existing = inFlight.putIfAbsent(url, created);
+        if (existing != null) {
+            coalesced.get(effective).increment();
+            log.debug("Joining in-flight SEC request for {}", url);
+            existing.promote(effective);
+            return existing.result.copy();
+        }
+
+        fetched.get(effective).increment();
+        created.requestPermit(effective);
+        return created.result.copy();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private final class Flight {
+
+        private final String url;
+        private final String host;
+        private final Function<String, CompletableFuture<String>> fetcher;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final long submittedAt = System.nanoTime();
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+        private final AtomicReference<Priority> priority = new AtomicReference<>();
+        private final List<CompletableFuture<Void>> permits = new CopyOnWriteArrayList<>();
+
+        private Flight(String url, Function<String, CompletableFuture<String>> fetcher) {
+            this.url = url;
+            this.host = SecRateLimiter.hostOf(url);
+            this.fetcher = fetcher;
+        }
+
+        private void promote(Priority requested) {
+            Priority current = priority.get();
+            while (!dispatched.get() && current != null && requested.compareTo(current) < 0) {
+                if (priority.compareAndSet(current, requested)) {
+                    log.debug("Promoting queued SEC request for {} from {} to {}", url, current, requested);
+                    requestPermit(requested);
+                    return;
+                }
+                current = priority.get();
+            }
+        }
+
+        private void requestPermit(Priority requested) {
+            priority.compareAndSet(null, requested);
+            AtomicInteger depth = queued.get(requested);
+            depth.incrementAndGet();
+            CompletableFuture<Void> permit = rateLimiter.acquireAsync(host, requested);
+            permits.add(permit);
+            if (dispatched.get()) {
+                permit.cancel(false);
+            }
+            permit.whenComplete((ignored, error) -> {
+                depth.decrementAndGet();
+                if (error == null && !dispatch(requested)) {
+                    rateLimiter.release(host, requested);
+                }
+            });
+        }
+
+        /**
+         * Starts the fetch with the permit granted to {@code grantedTo}; false if another permit already started it.
+         */
+        private boolean dispatch(Priority grantedTo) {
+            if (!dispatched.compareAndSet(false, true)) {
+                return false;
+            }
+            permits.forEach(permit -> permit.cancel(false));
+            waitTimers.get(grantedTo).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+            CompletableFuture<String> fetch;
+            try {
+                fetch = fetcher.apply(url);
+            } catch (RuntimeException e) {
+                fetch = CompletableFuture.failedFuture(e);
+            }
+            fetch.whenComplete((body, error) -> {
+                inFlight.remove(url, this);
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+                } else {
+                    result.complete(body);
+                }
+            });
+            return true;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jds.edgar4j.integration;
 
+import java.io.InputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -33,7 +34,8 @@ public class SecResponseParser {
 
     private final ObjectMapper objectMapper;
 
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd"));
 
     public SecSubmissionResponse parseSubmissionResponse(String json) {
         try {
@@ -44,6 +46,26 @@ public class SecResponseParser {
         }
     }
 
+    public SecSubmissionResponse parseSubmissionResponse(InputStream json) {
+        try {
+            return objectMapper.readValue(json, SecSubmissionResponse.class);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse SEC submission response", e);
+        }
+    }
+
+    /**
+     * Parses an overflow page ({@code CIK##########-submissions-###.json}), which holds the same columns as
+     * {@code filings.recent} at its root.
+     */
+    public SecSubmissionResponse.Recent parseSubmissionFilesPage(InputStream json) {
+        try {
+            return objectMapper.readValue(json, SecSubmissionResponse.Recent.class);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse SEC submission files page", e);
+        }
+    }
+
     public SecCompanyFactsResponse parseCompanyFactsResponse(String json) {
         try {
             return objectMapper.readValue(json, SecCompanyFactsResponse.class);
@@ -53,6 +75,14 @@ public class SecResponseParser {
         }
     }
 
+    public SecCompanyFactsResponse parseCompanyFactsResponse(InputStream json) {
+        try {
+            return objectMapper.readValue(json, SecCompanyFactsResponse.class);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse SEC company facts response", e);
+        }
+    }
+
     public SecCompanyConceptResponse parseCompanyConceptResponse(String json) {
         try {
             return objectMapper.readValue(json, SecCompanyConceptResponse.class);
@@ -95,8 +125,12 @@ public class SecResponseParser {
     }
 
     public List<Filling> toFillings(SecSubmissionResponse response) {
+        SecSubmissionResponse.Recent recent = response.getFilings() == null ? null : response.getFilings().getRecent();
+        return toFillings(recent, response.getCik(), response.getName());
+    }
+
+    public List<Filling> toFillings(SecSubmissionResponse.Recent recent, String cik, String company) {
         List<Filling> fillings = new ArrayList<>();
-        SecSubmissionResponse.Recent recent = response.getFilings().getRecent();
 
         if (recent == null || recent.getAccessionNumber() == null) {
             return fillings;
@@ -106,8 +140,8 @@ public class SecResponseParser {
         for (int i = 0; i < count; i++) {
             try {
                 Filling filling = Filling.builder()
-                        .cik(response.getCik())
-                        .company(response.getName())
+                        .cik(cik)
+                        .company(company)
                         .accessionNumber(getOrNull(recent.getAccessionNumber(), i))
                         .formType(FormType.builder()
                                 .number(getOrNull(recent.getForm(), i))
@@ -281,7 +315,7 @@ public class SecResponseParser {
             return null;
         }
         try {
-            return DATE_FORMAT.parse(dateStr);
+            return DATE_FORMAT.get().parse(dateStr);
         } catch (ParseException e) {
             log.warn("Failed to parse date: {}", dateStr);
             return null;
@@ -0,0 +1,91 @@
+package org.jds.edgar4j.integration.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token buckets, used when the budget is not shared with other nodes.
+ */
+public class LocalTokenBucketStore implements TokenBucketStore {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public LocalTokenBucketStore() {
+        this(System::nanoTime);
+    }
+
+    public LocalTokenBucketStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryTake(String bucket, double permitsPerSecond, int burst) {
+        return bucket(bucket, burst).tryTake(nanoClock.getAsLong(), permitsPerSecond, burst);
+    }
+
+    @Override
+    public int available(String bucket, double permitsPerSecond, int burst) {
+        return bucket(bucket, burst).available(nanoClock.getAsLong(), permitsPerSecond, burst);
+    }
+
+    @Override
+    public void refund(String bucket, double permitsPerSecond, int burst) {
+        refund(bucket, burst);
+    }
+
+    /**
+     * Returns a token taken by {@link #tryTake} that ended up unused.
+     */
+    public void refund(String bucket, int burst) {
+        Bucket state = buckets.get(bucket);
+        if (state != null) {
+            state.refund(burst);
+        }
+    }
+
+    private Bucket bucket(String name, int burst) {
+        return buckets.computeIfAbsent(name, key -> new Bucket(burst, nanoClock.getAsLong()));
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(int burst, long now) {
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryTake(long now, double permitsPerSecond, int burst) {
+            refill(now, permitsPerSecond, burst);
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            return Math.max(1L, (long) Math.ceil((1.0 - tokens) * NANOS_PER_SECOND / permitsPerSecond));
+        }
+
+        synchronized int available(long now, double permitsPerSecond, int burst) {
+            refill(now, permitsPerSecond, burst);
+            return (int) tokens;
+        }
+
+        synchronized void refund(int burst) {
+            tokens = Math.min(burst, tokens + 1.0);
+        }
+
+        private void refill(long now, double permitsPerSecond, int burst) {
+            long elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + elapsed * permitsPerSecond / NANOS_PER_SECOND);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.jds.edgar4j.integration.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token buckets kept in Redis so that every node shares one SEC budget.
+ * <p>
+ * Refill and take happen in a single Lua script against the Redis server clock, so nodes with skewed clocks still
+ * agree on the bucket state. The script's third argument selects the operation: {@code 1} takes a token, {@code 0}
+ * reads the whole tokens available and {@code -1} refunds one. When Redis is unreachable the store falls back to a node-local bucket until the next
+ * call succeeds.
+ */
+@Slf4j
+public class RedisTokenBucketStore implements TokenBucketStore {
+
+    static final String KEY_PREFIX = "edgar4j:sec-rate-limit:";
+
+    private static final String TAKE = "1";
+    private static final String PEEK = "0";
+    private static final String REFUND = "-1";
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local mode = ARGV[3]
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+                tokens = burst
+                ts = now
+            end
+            if now > ts then
+                tokens = math.min(burst, tokens + (now - ts) * rate / 1000000)
+                ts = now
+            end
+            local result
+            if mode == '0' then
+                result = math.floor(tokens)
+            elseif mode == '-1' then
+                tokens = math.min(burst, tokens + 1)
+                result = 0
+            elseif tokens >= 1 then
+                tokens = tokens - 1
+                result = 0
+            else
+                result = math.max(1, math.ceil((1 - tokens) * 1000000 / rate))
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+            return result
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenBucketStore fallback;
+    private volatile boolean degraded;
+
+    public RedisTokenBucketStore(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, new LocalTokenBucketStore());
+    }
+
+    RedisTokenBucketStore(StringRedisTemplate redisTemplate, TokenBucketStore fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public long tryTake(String bucket, double permitsPerSecond, int burst) {
+        Long waitMicros = execute(bucket, permitsPerSecond, burst, TAKE);
+        if (waitMicros == null) {
+            return fallback.tryTake(bucket, permitsPerSecond, burst);
+        }
+        return TimeUnit.MICROSECONDS.toNanos(waitMicros);
+    }
+
+    @Override
+    public int available(String bucket, double permitsPerSecond, int burst) {
+        Long tokens = execute(bucket, permitsPerSecond, burst, PEEK);
+        if (tokens == null) {
+            return fallback.available(bucket, permitsPerSecond, burst);
+        }
+        return tokens.intValue();
+    }
+
+    @Override
+    public void refund(String bucket, double permitsPerSecond, int burst) {
+        if (execute(bucket, permitsPerSecond, burst, REFUND) == null) {
+            fallback.refund(bucket, permitsPerSecond, burst);
+        }
+    }
+
+    private Long execute(String bucket, double permitsPerSecond, int burst, String mode) {
+        try {
+            Long result = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(KEY_PREFIX + bucket),
+                    Double.toString(permitsPerSecond),
+                    Integer.toString(burst),
+                    mode);
+            if (degraded) {
+                degraded = false;
+                log.info("Shared SEC rate limit budget is reachable again");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (!degraded) {
+                degraded = true;
+                log.warn("Shared SEC rate limit budget unavailable, using the local budget: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+}
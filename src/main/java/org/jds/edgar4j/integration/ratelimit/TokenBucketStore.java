@@ -0,0 +1,27 @@
+package org.jds.edgar4j.integration.ratelimit;
+
+/**
+ * Holds token-bucket state for SEC request budgets.
+ * <p>
+ * The local implementation keeps buckets in process memory; the Redis implementation keeps them in one shared
+ * keyspace so every edgar4j node draws from the same budget.
+ */
+public interface TokenBucketStore {
+
+    /**
+     * Takes one token from {@code bucket}, refilled at {@code permitsPerSecond} up to {@code burst} tokens.
+     *
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until one will be available
+     */
+    long tryTake(String bucket, double permitsPerSecond, int burst);
+
+    /**
+     * Returns the whole tokens currently available in {@code bucket} without taking any.
+     */
+    int available(String bucket, double permitsPerSecond, int burst);
+
+    /**
+     * Returns a token taken by {@link #tryTake} that ended up unused, without exceeding {@code burst}.
+     */
+    void refund(String bucket, double permitsPerSecond, int burst);
+}
@@ -3,6 +3,7 @@ package org.jds.edgar4j.job;
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.service.DividendSyncService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,17 +19,20 @@ public class DividendSyncJob {
     private final boolean enabled;
     private final int maxCompanies;
     private final boolean refreshMarketData;
+    private final int concurrency;
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
     public DividendSyncJob(
             DividendSyncService dividendSyncService,
             @Value("${edgar4j.jobs.dividend-sync.enabled:true}") boolean enabled,
             @Value("${edgar4j.jobs.dividend-sync.max-companies:25}") int maxCompanies,
-            @Value("${edgar4j.jobs.dividend-sync.refresh-market-data:false}") boolean refreshMarketData) {
+            @Value("${edgar4j.jobs.dividend-sync.refresh-market-data:false}") boolean refreshMarketData,
+            @Value("${edgar4j.jobs.dividend-sync.concurrency:8}") int concurrency) {
         this.dividendSyncService = dividendSyncService;
         this.enabled = enabled;
         this.maxCompanies = maxCompanies;
         this.refreshMarketData = refreshMarketData;
+        this.concurrency = concurrency;
     }
 
     @Scheduled(cron = "${edgar4j.jobs.dividend-sync.cron:0 15 6 * * *}")
@@ -45,10 +49,15 @@ public class DividendSyncJob {
 
         try {
             long startTime = System.currentTimeMillis();
-            log.info("Starting dividend sync job at {} for up to {} tracked companies",
-                    LocalDateTime.now(), maxCompanies);
-            dividendSyncService.syncTrackedCompanies(maxCompanies, refreshMarketData);
-            log.info("Dividend sync job completed in {} ms", System.currentTimeMillis() - startTime);
+            log.info("Starting dividend sync job at {} for up to {} tracked companies, {} at a time",
+                    LocalDateTime.now(), maxCompanies, concurrency);
+            DividendSyncRun run = dividendSyncService.runTrackedSync(maxCompanies, refreshMarketData, concurrency);
+            log.info("Dividend sync job completed in {} ms: run {} synced {} of {} companies ({} failed)",
+                    System.currentTimeMillis() - startTime,
+                    run != null ? run.getId() : null,
+                    run != null ? run.getSucceededCompanies() : 0,
+                    run != null ? run.getTotalCompanies() : 0,
+                    run != null ? run.getFailedCompanies() : 0);
         } catch (Exception e) {
             log.error("Error during dividend sync job", e);
         } finally {
@@ -1,5 +1,6 @@
 package org.jds.edgar4j.job;
 
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.model.Company;
 import org.jds.edgar4j.port.CompanyDataPort;
 import org.jds.edgar4j.service.DownloadSubmissionsService;
@@ -52,6 +53,10 @@ public class FilingSyncJob {
      */
     @Scheduled(cron = "${edgar4j.jobs.filing-sync.cron:0 0 */4 * * *}")
     public void syncFilings() {
+        SecRateLimiter.runWithPriority(SecRateLimiter.Priority.BACKFILL, this::syncFilingsAtBackfillPriority);
+    }
+
+    private void syncFilingsAtBackfillPriority() {
         if (!enabled) {
             log.debug("Filing sync job is disabled");
             return;
@@ -1,25 +1,35 @@
 package org.jds.edgar4j.job;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.jds.edgar4j.integration.SecAccessDiagnostics;
 import org.jds.edgar4j.integration.SecApiClient;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.integration.model.EftsSearchResponse;
 import org.jds.edgar4j.model.AppSettings;
 import org.jds.edgar4j.model.Filling;
@@ -33,6 +43,7 @@ import org.jds.edgar4j.model.Form6K;
 import org.jds.edgar4j.model.Form8K;
 import org.jds.edgar4j.port.AppSettingsDataPort;
 import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.properties.StorageProperties;
 import org.jds.edgar4j.service.DownloadSubmissionsService;
 import org.jds.edgar4j.service.Form13DGService;
 import org.jds.edgar4j.service.Form13FService;
@@ -50,6 +61,9 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -61,6 +75,11 @@ public class RealtimeFilingSyncJob {
     private static final int DEFAULT_LOOKBACK_HOURS = 1;
     private static final int DEFAULT_MAX_PAGES = 10;
     private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_HITS_IN_FLIGHT = 64;
+    private static final int RESOLVE_CONCURRENCY = 16;
+    private static final int DOWNLOAD_CONCURRENCY = 32;
+    private static final int PERSIST_CONCURRENCY = 4;
+    private static final int MAX_CATCH_UP_DAYS = 7;
 
     private final SecApiClient secApiClient;
     private final DownloadSubmissionsService downloadSubmissionsService;
@@ -75,6 +94,7 @@ public class RealtimeFilingSyncJob {
     private final Form13FService form13FService;
     private final Form20FService form20FService;
     private final ObjectMapper objectMapper;
+    private final Path syncStateDirectory;
     private final boolean enabledFallback;
     private final String formsFallback;
     private final int lookbackHoursFallback;
@@ -86,6 +106,11 @@ public class RealtimeFilingSyncJob {
     private final AtomicInteger lastSyncNewCount = new AtomicInteger(0);
     private final AtomicInteger lastSyncTotalScanned = new AtomicInteger(0);
     private final AtomicReference<Instant> secBlockCooldownUntil = new AtomicReference<>();
+    private final Stage pageStage;
+    private final Stage resolveStage;
+    private final Stage downloadStage;
+    private final Stage persistStage;
+    private RealtimeSyncState syncState;
 
     @Autowired
     public RealtimeFilingSyncJob(
@@ -102,6 +127,8 @@ public class RealtimeFilingSyncJob {
             Form13FService form13FService,
             Form20FService form20FService,
             ObjectMapper objectMapper,
+            StorageProperties storageProperties,
+            MeterRegistry meterRegistry,
             @Value("${edgar4j.jobs.realtime-filing-sync.enabled:true}") boolean enabledFallback,
             @Value("${edgar4j.jobs.realtime-filing-sync.forms:4}") String formsFallback,
             @Value("${edgar4j.jobs.realtime-filing-sync.lookback-hours:1}") int lookbackHoursFallback,
@@ -121,6 +148,11 @@ public class RealtimeFilingSyncJob {
         this.form13FService = form13FService;
         this.form20FService = form20FService;
         this.objectMapper = objectMapper;
+        this.syncStateDirectory = Path.of(storageProperties.getRealtimeSyncStatePath());
+        this.pageStage = new Stage("page", 1, meterRegistry);
+        this.resolveStage = new Stage("resolve", RESOLVE_CONCURRENCY, meterRegistry);
+        this.downloadStage = new Stage("download", DOWNLOAD_CONCURRENCY, meterRegistry);
+        this.persistStage = new Stage("persist", PERSIST_CONCURRENCY, meterRegistry);
         this.enabledFallback = enabledFallback;
         this.formsFallback = formsFallback;
         this.lookbackHoursFallback = lookbackHoursFallback;
@@ -131,6 +163,10 @@ public class RealtimeFilingSyncJob {
 
     @Scheduled(cron = "${edgar4j.jobs.realtime-filing-sync.cron:0 */15 * * * *}")
     public void syncRecentFilings() {
+        SecRateLimiter.runWithPriority(SecRateLimiter.Priority.REALTIME, this::syncRecentFilingsAtRealtimePriority);
+    }
+
+    private void syncRecentFilingsAtRealtimePriority() {
         SyncConfig config = resolveSyncConfig();
         if (!config.enabled()) {
             log.debug("Realtime filing sync is disabled");
@@ -148,69 +184,93 @@ public class RealtimeFilingSyncJob {
             return;
         }
 
+        RealtimeSyncState state = syncState();
         try {
             long startTime = System.currentTimeMillis();
             LocalDateTime syncStartedAt = currentDateTime();
             LocalDate endDate = syncStartedAt.toLocalDate();
-            LocalDate startDate = syncStartedAt.minusHours(config.lookbackHours()).toLocalDate();
+            LocalDate startDate = resolveStartDate(state, config, syncStartedAt);
 
             log.info(
-                    "Starting realtime filing sync at {} with forms={}, lookback={}h, maxPages={}, pageSize={}",
+                    "Starting realtime filing sync at {} with forms={}, from={}, lookback={}h, maxPages={}, pageSize={}",
                     syncStartedAt,
                     config.forms(),
+                    startDate,
                     config.lookbackHours(),
                     config.maxPages(),
                     config.pageSize());
 
-            int newFilings = 0;
             int totalScanned = 0;
+            int alreadyProcessed = 0;
             Set<String> seenAccessions = new LinkedHashSet<>();
-            Set<String> refreshedSubmissionCiks = new LinkedHashSet<>();
-            Map<String, FilingDirectory> filingDirectoryCache = new ConcurrentHashMap<>();
-            Set<String> unhandledFormTypes = new LinkedHashSet<>();
-
-            for (int page = 0; page < config.maxPages(); page++) {
-                List<EftsSearchResponse.Hit> hits = fetchPage(config, startDate, endDate, page);
-                if (hits.isEmpty()) {
-                    break;
-                }
-
-                totalScanned += hits.size();
-                for (EftsSearchResponse.Hit hit : hits) {
-                    String accessionNumber = extractAccessionNumber(hit);
-                    if (accessionNumber == null || !seenAccessions.add(accessionNumber)) {
-                        continue;
+            SyncRun run = new SyncRun(state);
+
+            try (ExecutorService pipeline = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("edgar4j-realtime-sync-", 0).factory())) {
+                for (int page = 0; page < config.maxPages() && !run.isAborted(); page++) {
+                    int offset = page;
+                    List<EftsSearchResponse.Hit> hits = pageStage.call(() -> fetchPage(config, startDate, endDate, offset));
+                    if (hits.isEmpty()) {
+                        break;
                     }
 
-                    String cik = extractCik(hit.getSource());
-                    if (cik == null) {
-                        log.debug("Skipping EFTS hit without a resolvable CIK: {}", hit.getId());
-                        continue;
-                    }
+                    totalScanned += hits.size();
+                    boolean pageHasNewFilings = false;
+                    boolean pageBehindCursor = true;
+                    for (EftsSearchResponse.Hit hit : hits) {
+                        if (pageBehindCursor) {
+                            pageBehindCursor = isBehindCursor(state, hit);
+                        }
+                        String accessionNumber = extractAccessionNumber(hit);
+                        if (accessionNumber == null || !seenAccessions.add(accessionNumber)) {
+                            continue;
+                        }
+                        if (state.isProcessed(accessionNumber)) {
+                            alreadyProcessed++;
+                            continue;
+                        }
 
-                    try {
-                        ResolvedFiling filing = resolveFiling(
-                                accessionNumber,
-                                cik,
-                                hit.getSource(),
-                                refreshedSubmissionCiks,
-                                filingDirectoryCache);
-                        if (filing != null && routeFiling(filing, unhandledFormTypes)) {
-                            newFilings++;
+                        String cik = extractCik(hit.getSource());
+                        if (cik == null) {
+                            log.debug("Skipping EFTS hit without a resolvable CIK: {}", hit.getId());
+                            continue;
                         }
-                    } catch (Exception e) {
-                        if (isSecAutomationBlock(e)) {
-                            throw e;
+
+                        pageHasNewFilings = true;
+                        run.pipelineSlots.acquire();
+                        if (run.isAborted()) {
+                            run.pipelineSlots.release();
+                            break;
                         }
-                        log.debug("Failed to process filing {}: {}", accessionNumber, e.getMessage());
+                        EftsSearchResponse.Source source = hit.getSource();
+                        pipeline.execute(() -> {
+                            try {
+                                SecRateLimiter.runWithPriority(
+                                        SecRateLimiter.Priority.REALTIME,
+                                        () -> processHit(run, accessionNumber, cik, source));
+                            } finally {
+                                run.pipelineSlots.release();
+                            }
+                        });
                     }
-                }
 
-                if (hits.size() < config.pageSize()) {
-                    break;
+                    if (hits.size() < config.pageSize()) {
+                        break;
+                    }
+                    // EFTS has no sort parameter and interleaves forms, so a page of known filings alone does not
+                    // mean the rest are known too; stop once every filing on the page is also dated before the
+                    // cursor of its own form type.
+                    if (!pageHasNewFilings && pageBehindCursor) {
+                        log.debug("Stopping realtime filing sync after page {}: every filing on it was already processed "
+                                + "and filed before its form's cursor", page);
+                        break;
+                    }
                 }
             }
+            run.rethrowAbort();
+            state.markRunCompleted(syncStartedAt);
 
+            Set<String> unhandledFormTypes = run.unhandledFormTypes;
             if (!unhandledFormTypes.isEmpty()) {
                 log.warn(
                         "Realtime filing sync skipped {} unsupported form type(s): {}",
@@ -218,12 +278,17 @@ public class RealtimeFilingSyncJob {
                         unhandledFormTypes);
             }
 
+            int newFilings = run.newFilings.get();
             lastSyncNewCount.set(newFilings);
             lastSyncTotalScanned.set(totalScanned);
-            log.info("Realtime filing sync completed: {} new of {} scanned in {} ms",
+            log.info("Realtime filing sync completed: {} new of {} scanned ({} already processed) in {} ms",
                     newFilings,
                     totalScanned,
+                    alreadyProcessed,
                     System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Realtime filing sync interrupted");
         } catch (Exception e) {
             if (isSecAutomationBlock(e)) {
                 Instant blockedUntil = activateSecBlockCooldown();
@@ -235,6 +300,7 @@ public class RealtimeFilingSyncJob {
             }
             log.error("Error during realtime filing sync", e);
         } finally {
+            state.save();
             isRunning.set(false);
         }
     }
@@ -256,6 +322,66 @@ public class RealtimeFilingSyncJob {
         return lastSyncTotalScanned.get();
     }
 
+    /**
+     * Runs one EFTS hit through resolve, download and persist. An SEC automation block stops the whole run; any other
+     * failure only skips the hit, leaving it to be retried by the next run. Hits that were saved, were already stored
+     * or have no route are marked processed so later runs skip them without touching the data ports.
+     */
+    private void processHit(SyncRun run, String accessionNumber, String cik, EftsSearchResponse.Source source) {
+        if (run.isAborted()) {
+            return;
+        }
+        try {
+            ResolvedFiling filing = resolveStage.call(() -> resolveFiling(
+                    accessionNumber,
+                    cik,
+                    source,
+                    run.submissionRefreshes,
+                    run.filingDirectoryCache));
+            if (filing == null || run.isAborted()) {
+                return;
+            }
+            RouteOutcome outcome = routeFiling(filing, run.unhandledFormTypes);
+            if (outcome == RouteOutcome.SAVED) {
+                run.newFilings.incrementAndGet();
+            }
+            if (outcome != RouteOutcome.NOT_SAVED) {
+                run.state.markProcessed(accessionNumber, filing.formType(), parseFileDate(source));
+            }
+        } catch (Exception e) {
+            if (isSecAutomationBlock(e)) {
+                run.abort(e);
+                return;
+            }
+            log.debug("Failed to process filing {}: {}", accessionNumber, e.getMessage());
+        }
+    }
+
+    private RealtimeSyncState syncState() {
+        if (syncState == null) {
+            syncState = RealtimeSyncState.load(syncStateDirectory);
+        }
+        return syncState;
+    }
+
+    /**
+     * Starts the EFTS window at the lookback, or earlier on the day the last completed run started when that was longer
+     * ago, so filings accepted while the job was down are still picked up. State saved before completed runs were
+     * recorded falls back to the newest cursor of the configured forms. Catch-up is bounded by
+     * {@link #MAX_CATCH_UP_DAYS}; paging ends early once a page holds only processed filings dated before the cursor of
+     * their form type.
+     */
+    private LocalDate resolveStartDate(RealtimeSyncState state, SyncConfig config, LocalDateTime syncStartedAt) {
+        LocalDate lookbackStart = syncStartedAt.minusHours(config.lookbackHours()).toLocalDate();
+        LocalDate earliest = syncStartedAt.toLocalDate().minusDays(MAX_CATCH_UP_DAYS);
+        return state.lastCompletedRunAt()
+                .map(LocalDateTime::toLocalDate)
+                .or(() -> state.newestCursorDate(splitForms(config.forms())))
+                .filter(cursorDate -> cursorDate.isBefore(lookbackStart))
+                .map(cursorDate -> cursorDate.isBefore(earliest) ? earliest : cursorDate)
+                .orElse(lookbackStart);
+    }
+
     private SyncConfig resolveSyncConfig() {
         AppSettings settings = appSettingsRepository.findById(DEFAULT_SETTINGS_ID).orElse(null);
         boolean enabled = settings != null && settings.getRealtimeSyncEnabled() != null
@@ -294,11 +420,10 @@ public class RealtimeFilingSyncJob {
             String accessionNumber,
             String cik,
             EftsSearchResponse.Source source,
-            Set<String> refreshedSubmissionCiks,
+            Map<String, CompletableFuture<Void>> submissionRefreshes,
             Map<String, FilingDirectory> filingDirectoryCache) {
         Filling filling = fillingRepository.findByAccessionNumber(accessionNumber).orElse(null);
-        if (filling == null && refreshedSubmissionCiks.add(cik)) {
-            refreshCompanySubmissions(cik);
+        if (filling == null && refreshCompanySubmissionsOnce(cik, submissionRefreshes)) {
             filling = fillingRepository.findByAccessionNumber(accessionNumber).orElse(null);
         }
 
@@ -330,6 +455,25 @@ public class RealtimeFilingSyncJob {
         return new ResolvedFiling(cik, accessionNumber, formType, primaryDocument, infoTableDocument);
     }
 
+    /**
+     * Refreshes a company's submissions at most once per run. Hits for the same CIK that arrive while the refresh is
+     * running wait for it and then look the filing up again, as they would have when hits were processed in order.
+     */
+    private boolean refreshCompanySubmissionsOnce(String cik, Map<String, CompletableFuture<Void>> submissionRefreshes) {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> existing = submissionRefreshes.putIfAbsent(cik, refresh);
+        if (existing != null) {
+            existing.join();
+            return true;
+        }
+        try {
+            refreshCompanySubmissions(cik);
+        } finally {
+            refresh.complete(null);
+        }
+        return true;
+    }
+
     private void refreshCompanySubmissions(String cik) {
         try {
             downloadSubmissionsService.downloadSubmissions(cik);
@@ -343,33 +487,41 @@ public class RealtimeFilingSyncJob {
             String accessionNumber,
             Map<String, FilingDirectory> filingDirectoryCache) {
         String cacheKey = cik + ":" + accessionNumber;
-        return filingDirectoryCache.computeIfAbsent(cacheKey, key -> {
-            try {
-                String indexJson = secApiClient.fetchFiling(cik, accessionNumber, "index.json");
-                JsonNode items = objectMapper.readTree(indexJson).path("directory").path("item");
-                if (!items.isArray()) {
-                    return FilingDirectory.EMPTY;
-                }
+        FilingDirectory cached = filingDirectoryCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        FilingDirectory directory = fetchFilingDirectory(cik, accessionNumber);
+        filingDirectoryCache.put(cacheKey, directory);
+        return directory;
+    }
 
-                List<String> names = new ArrayList<>();
-                for (JsonNode item : items) {
-                    String name = normalizeDocumentName(item.path("name").asText(null));
-                    if (name != null && !name.equalsIgnoreCase("index.json")) {
-                        names.add(name);
-                    }
-                }
+    private FilingDirectory fetchFilingDirectory(String cik, String accessionNumber) {
+        try {
+            String indexJson = secApiClient.fetchFiling(cik, accessionNumber, "index.json");
+            JsonNode items = objectMapper.readTree(indexJson).path("directory").path("item");
+            if (!items.isArray()) {
+                return FilingDirectory.EMPTY;
+            }
 
-                return names.isEmpty() ? FilingDirectory.EMPTY : new FilingDirectory(names);
-            } catch (Exception e) {
-                if (isSecAutomationBlock(e)) {
-                    throw e instanceof RuntimeException runtimeException
-                            ? runtimeException
-                            : new IllegalStateException(e);
+            List<String> names = new ArrayList<>();
+            for (JsonNode item : items) {
+                String name = normalizeDocumentName(item.path("name").asText(null));
+                if (name != null && !name.equalsIgnoreCase("index.json")) {
+                    names.add(name);
                 }
-                log.debug("Failed to load filing directory for {}: {}", accessionNumber, e.getMessage());
-                return FilingDirectory.EMPTY;
             }
-        });
+
+            return names.isEmpty() ? FilingDirectory.EMPTY : new FilingDirectory(names);
+        } catch (Exception e) {
+            if (isSecAutomationBlock(e)) {
+                throw e instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException(e);
+            }
+            log.debug("Failed to load filing directory for {}: {}", accessionNumber, e.getMessage());
+            return FilingDirectory.EMPTY;
+        }
     }
 
     private boolean requiresDirectoryLookup(String formType, Filling filling) {
@@ -424,7 +576,7 @@ public class RealtimeFilingSyncJob {
         return isXmlDocument(normalizedPrimary) ? normalizedPrimary : null;
     }
 
-    private boolean routeFiling(ResolvedFiling filing, Set<String> unhandledFormTypes) {
+    private RouteOutcome routeFiling(ResolvedFiling filing, Set<String> unhandledFormTypes) {
         String formType = filing.formType();
 
         if (isForm3(formType)) {
@@ -520,24 +672,52 @@ public class RealtimeFilingSyncJob {
             log.warn("Realtime filing sync does not route form type {} (accession={}, cik={})", formType,
                     filing.accessionNumber(), filing.cik());
         }
-        return false;
+        return RouteOutcome.UNROUTED;
     }
 
-    private <T> boolean persistIfNew(
+    private <T> RouteOutcome persistIfNew(
             String accessionNumber,
             Predicate<String> existsCheck,
-            java.util.function.Supplier<CompletableFuture<T>> downloadAction,
+            Supplier<CompletableFuture<T>> downloadAction,
             Function<T, T> saveAction) {
         if (existsCheck.test(accessionNumber)) {
-            return false;
+            return RouteOutcome.ALREADY_STORED;
         }
 
-        T parsed = downloadAction.get().join();
+        T parsed = downloadStage.call(() -> downloadAction.get().join());
         if (parsed == null) {
+            return RouteOutcome.NOT_SAVED;
+        }
+
+        return persistStage.call(() -> saveAction.apply(parsed)) != null
+                ? RouteOutcome.SAVED
+                : RouteOutcome.NOT_SAVED;
+    }
+
+    /**
+     * Whether {@code hit} was filed before the cursor of its form type; hits of a form without a cursor never are.
+     */
+    private boolean isBehindCursor(RealtimeSyncState state, EftsSearchResponse.Hit hit) {
+        EftsSearchResponse.Source source = hit != null ? hit.getSource() : null;
+        LocalDate fileDate = parseFileDate(source);
+        if (fileDate == null) {
             return false;
         }
+        return state.cursorDate(normalizeFormType(source.getFormType()))
+                .map(fileDate::isBefore)
+                .orElse(false);
+    }
 
-        return saveAction.apply(parsed) != null;
+    private LocalDate parseFileDate(EftsSearchResponse.Source source) {
+        String fileDate = source != null ? source.getFileDate() : null;
+        if (fileDate == null || fileDate.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(fileDate.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     private String extractAccessionNumber(EftsSearchResponse.Hit hit) {
@@ -622,14 +802,19 @@ public class RealtimeFilingSyncJob {
         }
     }
 
+    private static List<String> splitForms(String forms) {
+        return java.util.Arrays.stream(forms.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
     private String normalizeForms(String forms) {
         if (forms == null || forms.isBlank()) {
             return DEFAULT_FORMS;
         }
 
-        String normalized = java.util.Arrays.stream(forms.split(","))
-                .map(String::trim)
-                .filter(value -> !value.isEmpty())
+        String normalized = splitForms(forms).stream()
                 .map(value -> value.replaceAll("\\s+", " ").toUpperCase(Locale.ROOT))
                 .distinct()
                 .reduce((left, right) -> left + "," + right)
@@ -786,6 +971,13 @@ public class RealtimeFilingSyncJob {
         return null;
     }
 
+    private enum RouteOutcome {
+        SAVED,
+        ALREADY_STORED,
+        UNROUTED,
+        NOT_SAVED
+    }
+
     private record SyncConfig(boolean enabled, String forms, int lookbackHours, int maxPages, int pageSize) {
     }
 
@@ -804,4 +996,70 @@ public class RealtimeFilingSyncJob {
             return fileNames == null || fileNames.isEmpty();
         }
     }
+
+    /**
+     * State shared by the pipeline tasks of one sync run.
+     */
+    private static final class SyncRun {
+
+        private final Semaphore pipelineSlots = new Semaphore(MAX_HITS_IN_FLIGHT);
+        private final AtomicInteger newFilings = new AtomicInteger();
+        private final Map<String, CompletableFuture<Void>> submissionRefreshes = new ConcurrentHashMap<>();
+        private final Map<String, FilingDirectory> filingDirectoryCache = new ConcurrentHashMap<>();
+        private final Set<String> unhandledFormTypes = Collections.synchronizedSet(new LinkedHashSet<>());
+        private final AtomicReference<Exception> abortCause = new AtomicReference<>();
+        private final RealtimeSyncState state;
+
+        private SyncRun(RealtimeSyncState state) {
+            this.state = state;
+        }
+
+        private boolean isAborted() {
+            return abortCause.get() != null;
+        }
+
+        private void abort(Exception cause) {
+            abortCause.compareAndSet(null, cause);
+        }
+
+        private void rethrowAbort() throws Exception {
+            Exception cause = abortCause.get();
+            if (cause != null) {
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * One pipeline stage: caps how many hits run it at once and times each call as
+     * {@code edgar4j.realtime.sync.stage}.
+     */
+    private static final class Stage {
+
+        private final Semaphore slots;
+        private final Timer timer;
+
+        private Stage(String name, int concurrency, MeterRegistry meterRegistry) {
+            this.slots = new Semaphore(concurrency);
+            this.timer = Timer.builder("edgar4j.realtime.sync.stage")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+        }
+
+        private <T> T call(Supplier<T> work) {
+            try {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Realtime filing sync interrupted");
+            }
+            long started = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                slots.release();
+            }
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package org.jds.edgar4j.job;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * What the realtime filing sync has already finished with, kept on disk between runs: a high-water mark per form type
+ * (latest EFTS file date and the accession seen on it), the start time of the last run that completed, and a
+ * {@link SeenAccessionFilter} of every accession that reached a final outcome. Pipeline tasks mark accessions concurrently; loading and saving happen on the job thread.
+ */
+@Slf4j
+final class RealtimeSyncState {
+
+    static final String FILE_NAME = "realtime-sync.state";
+
+    private static final int MAGIC = 0x45345253;
+    private static final int FORMAT_VERSION = 2;
+    private static final long NO_COMPLETED_RUN = Long.MIN_VALUE;
+
+    private final Path file;
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+    private final SeenAccessionFilter processed = new SeenAccessionFilter();
+    private volatile LocalDateTime lastCompletedRunAt;
+    private volatile boolean dirty;
+
+    private RealtimeSyncState(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the state saved in {@code directory}. A missing, unreadable or incompatible file yields an empty state, so
+     * the next run simply falls back to the configured lookback window.
+     */
+    static RealtimeSyncState load(Path directory) {
+        RealtimeSyncState state = new RealtimeSyncState(directory.resolve(FILE_NAME));
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(state.file)))) {
+            int version = input.readInt() == MAGIC ? input.readInt() : -1;
+            if (version != 1 && version != FORMAT_VERSION) {
+                log.info("Ignoring realtime sync state {} written by an incompatible version", state.file);
+                return state;
+            }
+            Map<String, Cursor> loadedCursors = new ConcurrentHashMap<>();
+            int cursorCount = input.readInt();
+            for (int i = 0; i < cursorCount; i++) {
+                String formType = input.readUTF();
+                LocalDate fileDate = LocalDate.ofEpochDay(input.readLong());
+                String accessionNumber = input.readUTF();
+                loadedCursors.put(formType, new Cursor(fileDate, accessionNumber));
+            }
+            // Version 1 predates the completed-run time; catch-up then falls back to the newest cursor
+            long completedRunAt = version >= 2 ? input.readLong() : NO_COMPLETED_RUN;
+            if (!state.processed.readFrom(input)) {
+                log.info("Ignoring realtime sync state {} written with a different filter size", state.file);
+                return state;
+            }
+            state.cursors.putAll(loadedCursors);
+            state.lastCompletedRunAt = completedRunAt != NO_COMPLETED_RUN
+                    ? LocalDateTime.ofEpochSecond(completedRunAt, 0, ZoneOffset.UTC)
+                    : null;
+        } catch (NoSuchFileException e) {
+            return state;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable realtime sync state {}: {}", state.file, e.getMessage());
+        }
+        return state;
+    }
+
+    boolean isProcessed(String accessionNumber) {
+        return processed.mightContain(accessionNumber);
+    }
+
+    /**
+     * Records that {@code accessionNumber} needs no further work and advances the cursor of its form type.
+     */
+    void markProcessed(String accessionNumber, String formType, LocalDate fileDate) {
+        processed.add(accessionNumber);
+        if (formType != null && fileDate != null) {
+            cursors.merge(formType, new Cursor(fileDate, accessionNumber),
+                    (existing, candidate) -> candidate.fileDate().isAfter(existing.fileDate()) ? candidate : existing);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Records that a run started at {@code startedAt} finished without being aborted.
+     */
+    void markRunCompleted(LocalDateTime startedAt) {
+        lastCompletedRunAt = startedAt;
+        dirty = true;
+    }
+
+    /**
+     * Start time of the last run that completed, or empty when none has been recorded.
+     */
+    Optional<LocalDateTime> lastCompletedRunAt() {
+        return Optional.ofNullable(lastCompletedRunAt);
+    }
+
+    /**
+     * High-water mark of {@code formType}, or empty when it has not been synced yet.
+     */
+    Optional<LocalDate> cursorDate(String formType) {
+        return Optional.ofNullable(formType != null ? cursors.get(formType) : null).map(Cursor::fileDate);
+    }
+
+    /**
+     * Newest high-water mark among {@code formTypes}, or empty when none of them has been synced yet.
+     */
+    Optional<LocalDate> newestCursorDate(Collection<String> formTypes) {
+        return formTypes.stream()
+                .map(cursors::get)
+                .filter(Objects::nonNull)
+                .map(Cursor::fileDate)
+                .max(LocalDate::compareTo);
+    }
+
+    /**
+     * Writes the state if anything was marked since the last save, replacing the previous copy atomically.
+     */
+    void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                Map<String, Cursor> snapshot = Map.copyOf(cursors);
+                output.writeInt(snapshot.size());
+                for (Map.Entry<String, Cursor> entry : snapshot.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeLong(entry.getValue().fileDate().toEpochDay());
+                    output.writeUTF(entry.getValue().accessionNumber());
+                }
+                LocalDateTime completedRunAt = lastCompletedRunAt;
+                output.writeLong(completedRunAt != null
+                        ? completedRunAt.toEpochSecond(ZoneOffset.UTC)
+                        : NO_COMPLETED_RUN);
+                processed.writeTo(output);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Failed to save realtime sync state {}: {}", file, e.getMessage());
+        }
+    }
+
+    record Cursor(LocalDate fileDate, String accessionNumber) {
+    }
+}
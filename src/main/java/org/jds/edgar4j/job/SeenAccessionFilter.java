@@ -0,0 +1,139 @@
+package org.jds.edgar4j.job;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Bloom filter over accession numbers the realtime sync has already finished with.
+ * <p>
+ * A negative answer is exact; a positive one is wrong with probability {@link #FALSE_POSITIVE_RATE} once a
+ * generation is full. The filter keeps two generations of {@link #GENERATION_CAPACITY} accessions each: when the
+ * current one fills up it becomes the previous one and the oldest generation is dropped, so the filter stays the same
+ * size however long the job runs. Only filings older than the last two generations are ever forgotten, and those are
+ * long out of the realtime window.
+ */
+final class SeenAccessionFilter {
+
+    static final int GENERATION_CAPACITY = 250_000;
+    static final double FALSE_POSITIVE_RATE = 1.0e-6;
+
+    private static final int FORMAT_VERSION = 1;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int capacity;
+    private final int bitCount;
+    private final int hashCount;
+    private long[] current;
+    private long[] previous;
+    private int currentCount;
+
+    SeenAccessionFilter() {
+        this(GENERATION_CAPACITY, FALSE_POSITIVE_RATE);
+    }
+
+    SeenAccessionFilter(int capacity, double falsePositiveRate) {
+        this.capacity = Math.max(1, capacity);
+        double bitsPerEntry = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = (long) Math.ceil(this.capacity * bitsPerEntry);
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64L, (bits + 63L) & ~63L));
+        this.hashCount = Math.max(1, (int) Math.round(bitsPerEntry * Math.log(2)));
+        this.current = new long[bitCount >>> 6];
+        this.previous = new long[bitCount >>> 6];
+    }
+
+    synchronized boolean mightContain(String accessionNumber) {
+        long hash = hash(accessionNumber);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    synchronized void add(String accessionNumber) {
+        long hash = hash(accessionNumber);
+        if (contains(current, hash)) {
+            return;
+        }
+        if (currentCount >= capacity) {
+            long[] recycled = previous;
+            Arrays.fill(recycled, 0L);
+            previous = current;
+            current = recycled;
+            currentCount = 0;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            current[bit >>> 6] |= 1L << bit;
+        }
+        currentCount++;
+    }
+
+    synchronized void writeTo(DataOutputStream output) throws IOException {
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(capacity);
+        output.writeInt(bitCount);
+        output.writeInt(hashCount);
+        output.writeInt(currentCount);
+        for (long word : current) {
+            output.writeLong(word);
+        }
+        for (long word : previous) {
+            output.writeLong(word);
+        }
+    }
+
+    /**
+     * Replaces the filter contents with a copy written by {@link #writeTo}. Returns {@code false}, leaving the filter
+     * unchanged, when the copy was written with a different format or sizing.
+     */
+    synchronized boolean readFrom(DataInputStream input) throws IOException {
+        if (input.readInt() != FORMAT_VERSION
+                || input.readInt() != capacity
+                || input.readInt() != bitCount
+                || input.readInt() != hashCount) {
+            return false;
+        }
+        int count = input.readInt();
+        long[] loadedCurrent = new long[current.length];
+        long[] loadedPrevious = new long[previous.length];
+        for (int i = 0; i < loadedCurrent.length; i++) {
+            loadedCurrent[i] = input.readLong();
+        }
+        for (int i = 0; i < loadedPrevious.length; i++) {
+            loadedPrevious[i] = input.readLong();
+        }
+        current = loadedCurrent;
+        previous = loadedPrevious;
+        currentCount = count;
+        return true;
+    }
+
+    private boolean contains(long[] bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a followed by the SplitMix64 finalizer, so the two 32-bit halves used for double hashing are independent
+     * enough even for accession numbers that differ only in their last digits.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
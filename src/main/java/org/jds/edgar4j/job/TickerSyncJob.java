@@ -1,5 +1,6 @@
 package org.jds.edgar4j.job;
 
+import org.jds.edgar4j.search.CompanySuggestionIndex;
 import org.jds.edgar4j.service.DownloadTickersService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,13 +21,15 @@ public class TickerSyncJob {
     private static final Logger log = LoggerFactory.getLogger(TickerSyncJob.class);
 
     private final DownloadTickersService downloadTickersService;
+    private final CompanySuggestionIndex companySuggestionIndex;
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
     @Value("${edgar4j.jobs.ticker-sync.enabled:true}")
     private boolean enabled;
 
-    public TickerSyncJob(DownloadTickersService downloadTickersService) {
+    public TickerSyncJob(DownloadTickersService downloadTickersService, CompanySuggestionIndex companySuggestionIndex) {
         this.downloadTickersService = downloadTickersService;
+        this.companySuggestionIndex = companySuggestionIndex;
     }
 
     /**
@@ -54,6 +57,9 @@ public class TickerSyncJob {
             downloadTickersService.downloadTickersExchanges();
             downloadTickersService.downloadTickersMFs();
 
+            // Rebuild type-ahead suggestions with the new ticker list and current filing counts
+            companySuggestionIndex.rebuild();
+
             long duration = System.currentTimeMillis() - startTime;
             log.info("Ticker sync job completed in {} ms", duration);
 
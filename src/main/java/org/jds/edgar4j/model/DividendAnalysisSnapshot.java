@@ -1,6 +1,7 @@
 package org.jds.edgar4j.model;
 
 import java.time.Instant;
+import java.util.Map;
 
 import org.jds.edgar4j.dto.response.DividendAlertsResponse;
 import org.jds.edgar4j.dto.response.DividendEventsResponse;
@@ -43,6 +44,13 @@ public class DividendAnalysisSnapshot {
     private DividendAlertsResponse alerts;
     private DividendEventsResponse events;
 
+    /**
+     * Every dividend screen metric of the overview, keyed by metric id; rows without it are left out
+     * of snapshot-backed screens.
+     */
+    private Map<String, Double> screenMetrics;
+    private Instant metricsComputedAt;
+
     @Builder.Default
     private SnapshotSource source = SnapshotSource.COMPUTED;
 
@@ -0,0 +1,89 @@
+package org.jds.edgar4j.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * One pass of the dividend sync over the tracked universe. {@code identifiers} is the planned
+ * order and {@code results} holds one entry per company already attempted, so an interrupted run
+ * resumes with the identifiers that have no result yet.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Document(collection = "dividend_sync_runs")
+public class DividendSyncRun {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private RunStatus status;
+
+    private boolean refreshMarketData;
+    private int concurrency;
+
+    @Builder.Default
+    private List<String> identifiers = new ArrayList<>();
+
+    @Builder.Default
+    private List<CompanyResult> results = new ArrayList<>();
+
+    private int totalCompanies;
+    private int completedCompanies;
+    private int succeededCompanies;
+    private int failedCompanies;
+
+    @Builder.Default
+    private int resumeCount = 0;
+
+    private String errorMessage;
+
+    @Indexed
+    private Instant startedAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+
+    public enum RunStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class CompanyResult {
+        private String identifier;
+        private String cik;
+        private String ticker;
+        private Outcome outcome;
+        private String errorMessage;
+        private Instant startedAt;
+        private long durationMillis;
+    }
+}
@@ -0,0 +1,81 @@
+package org.jds.edgar4j.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change in one filer's position in one security between two consecutive 13F report periods.
+ * Computed when the later filing is saved, by diffing it against the filer's previous report.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "form13f_position_changes")
+@CompoundIndexes({
+    @CompoundIndex(name = "cusip_period_idx", def = "{'cusip': 1, 'reportPeriod': -1}"),
+    @CompoundIndex(name = "cik_period_idx", def = "{'cik': 1, 'reportPeriod': -1}")
+})
+public class Form13FPositionChange {
+
+    @Id
+    private String id;
+
+    /**
+     * {@code cik|reportPeriod|cusip}; one change per filer, period and security.
+     */
+    @Indexed(unique = true)
+    private String changeKey;
+
+    private String cik;
+    private String filerName;
+    private String cusip;
+    private String issuerName;
+
+    private LocalDate reportPeriod;
+    private String accessionNumber;
+    private LocalDate previousReportPeriod;
+    private String previousAccessionNumber;
+
+    private ChangeType changeType;
+    private Long sharesBefore;
+    private Long sharesAfter;
+    private Long valueBefore;
+    private Long valueAfter;
+
+    private Instant computedAt;
+
+    public enum ChangeType {
+        NEW,
+        CLOSED,
+        INCREASED,
+        DECREASED
+    }
+
+    public static String changeKey(String cik, LocalDate reportPeriod, String cusip) {
+        return cik + "|" + reportPeriod + "|" + cusip;
+    }
+
+    public long shareChange() {
+        return nullToZero(sharesAfter) - nullToZero(sharesBefore);
+    }
+
+    public long valueChange() {
+        return nullToZero(valueAfter) - nullToZero(valueBefore);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
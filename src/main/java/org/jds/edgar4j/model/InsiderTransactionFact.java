@@ -0,0 +1,73 @@
+package org.jds.edgar4j.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One Form 4 transaction, denormalized with its filing's issuer and reporting owner so insider
+ * activity screens can range-scan transactions without expanding Form 4 documents.
+ * Rewritten whenever its Form 4 is saved.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "insider_transaction_facts")
+@CompoundIndexes({
+    @CompoundIndex(name = "side_date_ticker_idx", def = "{'side': 1, 'transactionDate': -1, 'ticker': 1}"),
+    @CompoundIndex(name = "ticker_side_date_idx", def = "{'ticker': 1, 'side': 1, 'transactionDate': -1}")
+})
+public class InsiderTransactionFact {
+
+    @Id
+    private String id;
+
+    /**
+     * {@code accessionNumber#transactionIndex}; a filing without transaction rows has index 0.
+     */
+    @Indexed(unique = true)
+    private String factKey;
+
+    @Indexed
+    private String accessionNumber;
+
+    private int transactionIndex;
+
+    private String ticker;
+    private String companyName;
+    private String cik;
+
+    private String ownerCik;
+    private String insiderName;
+    private String insiderTitle;
+    private String ownerType;
+
+    private LocalDate transactionDate;
+    private String transactionCode;
+
+    /**
+     * BUY or SELL, from the acquired/disposed code.
+     */
+    private String side;
+
+    private Float transactionShares;
+    private Float transactionPrice;
+    private Float transactionValue;
+
+    private Instant updatedAt;
+
+    public static String factKey(String accessionNumber, int transactionIndex) {
+        return accessionNumber + "#" + transactionIndex;
+    }
+}
@@ -0,0 +1,14 @@
+package org.jds.edgar4j.port;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jds.edgar4j.model.DividendSyncRun;
+import org.jds.edgar4j.model.DividendSyncRun.RunStatus;
+
+public interface DividendSyncRunDataPort extends BaseDocumentDataPort<DividendSyncRun> {
+
+    Optional<DividendSyncRun> findFirstByStatusOrderByStartedAtDesc(RunStatus status);
+
+    List<DividendSyncRun> findTop10ByOrderByStartedAtDesc();
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jds.edgar4j.model.Filling;
+import org.jds.edgar4j.repository.FillingRepository.CikFilingCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,6 +13,8 @@ public interface FillingDataPort extends BaseDocumentDataPort<Filling> {
 
     Optional<Filling> findByAccessionNumber(String accessionNumber);
 
+    List<Filling> findByAccessionNumberIn(List<String> accessionNumbers);
+
     Page<Filling> findByCik(String cik, Pageable pageable);
 
     Page<Filling> findByCompany(String company, Pageable pageable);
@@ -46,4 +49,6 @@ public interface FillingDataPort extends BaseDocumentDataPort<Filling> {
     long countByFormTypeNumber(String formTypeNumber);
 
     Page<Filling> findRecentXbrlFilingsByCik(String cik, Pageable pageable);
+
+    List<CikFilingCount> countFilingsByCik();
 }
@@ -0,0 +1,15 @@
+package org.jds.edgar4j.port;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jds.edgar4j.model.Form13FPositionChange;
+
+public interface Form13FPositionChangeDataPort extends BaseDocumentDataPort<Form13FPositionChange> {
+
+    List<Form13FPositionChange> findByCusip(String cusip);
+
+    List<Form13FPositionChange> findByCusipAndReportPeriod(String cusip, LocalDate reportPeriod);
+
+    List<Form13FPositionChange> findByCikAndReportPeriod(String cik, LocalDate reportPeriod);
+}
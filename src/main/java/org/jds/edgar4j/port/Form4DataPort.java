@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.jds.edgar4j.model.Form4;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface Form4DataPort extends BaseDocumentDataPort<Form4> {
 
@@ -18,6 +19,12 @@ public interface Form4DataPort extends BaseDocumentDataPort<Form4> {
 
     Page<Form4> findByCik(String cik, Pageable pageable);
 
+    /**
+     * Keyset page of filings with an id after {@code id}, in id order. Returns a slice so no page
+     * counts the rest of the collection.
+     */
+    Slice<Form4> findByIdGreaterThan(String id, Pageable pageable);
+
     List<Form4> findByRptOwnerNameContainingIgnoreCase(String ownerName);
 
     Page<Form4> findByTransactionDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
@@ -0,0 +1,30 @@
+package org.jds.edgar4j.port;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.jds.edgar4j.model.InsiderTransactionFact;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface InsiderTransactionFactDataPort extends BaseDocumentDataPort<InsiderTransactionFact> {
+
+    List<InsiderTransactionFact> findByAccessionNumber(String accessionNumber);
+
+    List<InsiderTransactionFact> findBySideAndDateRange(String side, LocalDate startDate, LocalDate endDate);
+
+    List<InsiderTransactionFact> findByTickerAndSideAndDateRange(
+            String ticker, String side, LocalDate startDate, LocalDate endDate);
+
+    Page<InsiderTransactionFact> findBySideAndCodesAndDateRange(
+            String side, Collection<String> transactionCodes, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    Page<InsiderTransactionFact> findByTickerAndSideAndCodesAndDateRange(
+            String ticker,
+            String side,
+            Collection<String> transactionCodes,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable);
+}
@@ -11,6 +11,8 @@ public interface SubmissionsDataPort extends BaseDocumentDataPort<Submissions> {
 
     Optional<Submissions> findByCik(String cik);
 
+    List<Submissions> findByCikIn(List<String> ciks);
+
     Page<Submissions> searchByCompanyNameOrCik(String searchTerm, Pageable pageable);
 
     List<Submissions> findByTickersContaining(String ticker);
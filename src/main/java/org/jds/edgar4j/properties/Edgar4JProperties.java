@@ -53,6 +53,10 @@ public class Edgar4JProperties {
         private int chunkSize = 50;
         private int maxConcurrentSteps = 4;
         private boolean flushAfterChunk = false;
+        /** Parser threads for bulk archive imports; 0 uses one per available processor. */
+        private int bulkImportParsers = 0;
+        /** Archive entries written per batch (and per checkpoint) during bulk imports. */
+        private int bulkImportBatchSize = 200;
     }
 
     @Data
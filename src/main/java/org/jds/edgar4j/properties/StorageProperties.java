@@ -1,5 +1,7 @@
 package org.jds.edgar4j.properties;
 
+import java.time.Duration;
+
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -22,5 +24,25 @@ public class StorageProperties {
      * Local directory where downloaded SEC/XBRL resources are cached.
      */
     private String downloadCachePath = "./data/download-cache";
-}
 
+    /**
+     * Local directory where the realtime filing sync keeps its cursor and seen-accession filter.
+     */
+    private String realtimeSyncStatePath = "./data/realtime-sync";
+
+    /**
+     * Local directory where one-time backfills record their progress and completion.
+     */
+    private String backfillStatePath = "./data/backfill-state";
+
+    /**
+     * Upper bound on the total size of parsed XBRL instances kept under {@code <downloadCachePath>/xbrl-parsed};
+     * the least recently used files are removed first. Zero or less disables the bound.
+     */
+    private long parsedXbrlMaxBytes = 2L * 1024 * 1024 * 1024;
+
+    /**
+     * Parsed XBRL instances not read or written for this long are removed. Zero or null disables the bound.
+     */
+    private Duration parsedXbrlMaxAge = Duration.ofDays(90);
+}
@@ -0,0 +1,18 @@
+package org.jds.edgar4j.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jds.edgar4j.model.DividendSyncRun;
+import org.jds.edgar4j.model.DividendSyncRun.RunStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+@Profile("resource-high")
+public interface DividendSyncRunRepository
+    extends MongoRepository<DividendSyncRun, String> {
+
+    Optional<DividendSyncRun> findFirstByStatusOrderByStartedAtDesc(RunStatus status);
+
+    List<DividendSyncRun> findTop10ByOrderByStartedAtDesc();
+}
@@ -7,6 +7,8 @@ import java.util.Optional;
 import org.jds.edgar4j.model.Filling;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.context.annotation.Profile;
@@ -20,6 +22,8 @@ public interface FillingRepository extends MongoRepository<Filling, String> {
 
     Optional<Filling> findByAccessionNumber(String accessionNumber);
 
+    List<Filling> findByAccessionNumberIn(List<String> accessionNumbers);
+
     List<Filling> findByCompany(String company);
 
     Page<Filling> findByCompany(String company, Pageable pageable);
@@ -74,5 +78,24 @@ public interface FillingRepository extends MongoRepository<Filling, String> {
     long countAllFillings();
 
     List<Filling> findTop10ByOrderByFillingDateDesc();
+
+    // Filing counts per CIK with the company name of the latest filing; the $sort spans the whole
+    // collection, so it may spill to disk instead of failing at the 100 MB in-memory limit
+    @Meta(allowDiskUse = true)
+    @Aggregation(pipeline = {
+        "{ $match: { 'cik': { $ne: null } } }",
+        "{ $sort: { 'fillingDate': -1 } }",
+        "{ $group: { _id: '$cik', company: { $first: '$company' }, filingCount: { $sum: 1 } } }"
+    })
+    List<CikFilingCount> countFilingsByCik();
+
+    /**
+     * Projection for per-CIK filing count aggregation.
+     */
+    interface CikFilingCount {
+        String getId();
+        String getCompany();
+        Long getFilingCount();
+    }
 }
 
@@ -0,0 +1,21 @@
+package org.jds.edgar4j.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jds.edgar4j.model.Form13FPositionChange;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Repository for precomputed quarter-over-quarter 13F position changes.
+ */
+@Profile("resource-high")
+public interface Form13FPositionChangeRepository extends MongoRepository<Form13FPositionChange, String> {
+
+    List<Form13FPositionChange> findByCusip(String cusip);
+
+    List<Form13FPositionChange> findByCusipAndReportPeriod(String cusip, LocalDate reportPeriod);
+
+    List<Form13FPositionChange> findByCikAndReportPeriod(String cik, LocalDate reportPeriod);
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.jds.edgar4j.model.Form4;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -33,6 +34,9 @@ public interface Form4Repository extends MongoRepository<Form4, String> {
 
     Page<Form4> findByCik(String cik, Pageable pageable);
 
+    // Keyset paging over the whole collection, for resumable scans; a slice skips the count query
+    Slice<Form4> findByIdGreaterThan(String id, Pageable pageable);
+
     // Find by owner name
     List<Form4> findByRptOwnerName(String ownerName);
 
@@ -0,0 +1,41 @@
+package org.jds.edgar4j.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.jds.edgar4j.model.InsiderTransactionFact;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+/**
+ * Repository for the denormalized Form 4 transaction rows behind insider activity screens.
+ */
+@Profile("resource-high")
+public interface InsiderTransactionFactRepository extends MongoRepository<InsiderTransactionFact, String> {
+
+    List<InsiderTransactionFact> findByAccessionNumber(String accessionNumber);
+
+    @Query("{ 'side': ?0, 'transactionDate': { $gte: ?1, $lte: ?2 } }")
+    List<InsiderTransactionFact> findBySideAndDateRange(String side, LocalDate startDate, LocalDate endDate);
+
+    @Query("{ 'ticker': ?0, 'side': ?1, 'transactionDate': { $gte: ?2, $lte: ?3 } }")
+    List<InsiderTransactionFact> findByTickerAndSideAndDateRange(
+            String ticker, String side, LocalDate startDate, LocalDate endDate);
+
+    @Query("{ 'side': ?0, 'transactionCode': { $in: ?1 }, 'transactionDate': { $gte: ?2, $lte: ?3 } }")
+    Page<InsiderTransactionFact> findBySideAndCodesAndDateRange(
+            String side, Collection<String> transactionCodes, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    @Query("{ 'ticker': ?0, 'side': ?1, 'transactionCode': { $in: ?2 }, 'transactionDate': { $gte: ?3, $lte: ?4 } }")
+    Page<InsiderTransactionFact> findByTickerAndSideAndCodesAndDateRange(
+            String ticker,
+            String side,
+            Collection<String> transactionCodes,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable);
+}
@@ -15,6 +15,8 @@ public interface SubmissionsRepository extends MongoRepository<Submissions, Stri
 
     Optional<Submissions> findByCik(String cik);
 
+    List<Submissions> findByCikIn(List<String> ciks);
+
     Optional<Submissions> findByCompanyName(String companyName);
 
     List<Submissions> findByCompanyNameContainingIgnoreCase(String companyName);
@@ -0,0 +1,120 @@
+package org.jds.edgar4j.search;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jds.edgar4j.model.CompanyTicker;
+import org.jds.edgar4j.port.CompanyTickerDataPort;
+import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.repository.FillingRepository.CikFilingCount;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory type-ahead index over company names, tickers and CIKs, weighted by filing count.
+ * <p>
+ * Filing counts come from one aggregate over the filings store, reloaded on every {@link #rebuild()} together with
+ * the ticker list so weights follow newly saved filings. CIKs from both sources are compared zero-padded to ten
+ * digits. Each rebuild publishes a new immutable {@link PrefixSuggester}, so lookups never block on a rebuild.
+ */
+@Slf4j
+@Component
+public class CompanySuggestionIndex {
+
+    private final FillingDataPort fillingDataPort;
+    private final CompanyTickerDataPort companyTickerDataPort;
+
+    private volatile PrefixSuggester suggester;
+
+    public CompanySuggestionIndex(FillingDataPort fillingDataPort, CompanyTickerDataPort companyTickerDataPort) {
+        this.fillingDataPort = fillingDataPort;
+        this.companyTickerDataPort = companyTickerDataPort;
+    }
+
+    public List<String> suggest(String prefix, int maxResults) {
+        PrefixSuggester current = suggester;
+        if (current == null) {
+            current = rebuildIfMissing();
+        }
+        return current.suggest(prefix, maxResults);
+    }
+
+    /**
+     * Reloads filing counts and tickers.
+     */
+    public synchronized void rebuild() {
+        publish(fillingDataPort.countFilingsByCik());
+    }
+
+    private synchronized PrefixSuggester rebuildIfMissing() {
+        if (suggester == null) {
+            rebuild();
+        }
+        return suggester;
+    }
+
+    private void publish(List<CikFilingCount> filingCounts) {
+        long started = System.nanoTime();
+        PrefixSuggester.Builder builder = PrefixSuggester.builder();
+        Map<String, Long> countsByCik = new LinkedHashMap<>();
+        Map<String, String> companiesByCik = new HashMap<>();
+
+        // Filings may store the CIK with or without padding; merge both spellings under the padded form
+        for (CikFilingCount count : filingCounts) {
+            String cik = normalizeCik(count.getId());
+            if (cik == null) {
+                continue;
+            }
+            long filings = count.getFilingCount() != null ? count.getFilingCount() : 0L;
+            countsByCik.merge(cik, filings, Long::sum);
+            if (FilingSearchSupport.hasText(count.getCompany())) {
+                companiesByCik.putIfAbsent(cik, count.getCompany());
+            }
+        }
+        countsByCik.forEach((cik, filings) -> {
+            builder.add(cik, filings);
+            String company = companiesByCik.get(cik);
+            if (company != null) {
+                builder.add(company, filings);
+            }
+        });
+
+        for (CompanyTicker ticker : companyTickerDataPort.findAll()) {
+            String cik = ticker.getCikPadded();
+            long weight = (cik != null ? countsByCik.getOrDefault(cik, 0L) : 0L) + 1L;
+            if (FilingSearchSupport.hasText(ticker.getTicker())) {
+                builder.add(ticker.getTicker(), weight);
+            }
+            if (FilingSearchSupport.hasText(ticker.getTitle())) {
+                builder.add(ticker.getTitle(), weight);
+            }
+            if (cik != null) {
+                builder.add(cik, weight);
+            }
+        }
+
+        suggester = builder.build();
+        log.info("Published company suggestion index with {} entries in {} ms",
+                suggester.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static String normalizeCik(String cik) {
+        if (cik == null || cik.isBlank()) {
+            return null;
+        }
+
+        String digitsOnly = cik.replaceAll("\\D", "");
+        if (digitsOnly.isBlank()) {
+            return null;
+        }
+
+        try {
+            return String.format("%010d", Long.parseLong(digitsOnly));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.jds.edgar4j.search;
+
+import java.time.LocalDate;
+
+import org.jds.edgar4j.port.FilingSearchPort;
+
+/**
+ * {@link FilingSearchPort.Indexable} view of a filing, carrying the CIK as an extra doc-value so the
+ * embedded index can filter on it without loading the filing.
+ */
+public record FilingIndexDocument(
+        String id,
+        String cik,
+        String formType,
+        LocalDate filingDate,
+        String content) implements FilingSearchPort.Indexable {
+
+    @Override
+    public String getSearchId() {
+        return id;
+    }
+
+    @Override
+    public String getSearchType() {
+        return formType;
+    }
+
+    @Override
+    public String getSearchContent() {
+        return content;
+    }
+
+    @Override
+    public LocalDate getSearchDate() {
+        return filingDate;
+    }
+}
@@ -4,7 +4,6 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -17,48 +16,43 @@ import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.port.CompanyTickerDataPort;
 import org.jds.edgar4j.port.FilingSearchPort;
 import org.jds.edgar4j.port.TickerDataPort;
-import org.springframework.beans.BeanWrapperImpl;
+import org.jds.edgar4j.storage.file.FilePageSupport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import io.micrometer.core.instrument.Timer;
+
 public final class FilingSearchSupport {
 
     private FilingSearchSupport() {
     }
 
-    public static Page<FilingSearchPort.SearchResult> pageResults(List<FilingSearchPort.SearchResult> source, Pageable pageable) {
+    public static Page<FilingSearchPort.SearchResult> pageResults(
+            List<FilingSearchPort.SearchResult> source,
+            Pageable pageable,
+            Timer sortTimer) {
         if (pageable == null || pageable.isUnpaged()) {
             return new PageImpl<>(List.copyOf(source));
         }
 
-        List<FilingSearchPort.SearchResult> sorted = applyResultSort(source, pageable.getSort());
-        int start = Math.toIntExact(Math.min((long) pageable.getPageNumber() * pageable.getPageSize(), sorted.size()));
-        int end = Math.min(start + pageable.getPageSize(), sorted.size());
-        return new PageImpl<>(sorted.subList(start, end), pageable, sorted.size());
+        int start = Math.toIntExact(Math.min(pageable.getOffset(), source.size()));
+        List<FilingSearchPort.SearchResult> content = FilePageSupport.sortedWindow(
+                source,
+                effectiveResultSort(pageable.getSort()),
+                start,
+                pageable.getPageSize(),
+                sortTimer);
+        return new PageImpl<>(content, pageable, source.size());
     }
 
-    public static List<Filling> applyFillingSort(List<Filling> source, Sort sort) {
-        List<Filling> records = new ArrayList<>(source);
+    public static List<Filling> applyFillingSort(List<Filling> source, Sort sort, Timer sortTimer) {
         Sort effectiveSort = sort;
         if (effectiveSort == null || effectiveSort.isUnsorted()) {
             effectiveSort = Sort.by(Sort.Direction.DESC, "fillingDate");
         }
-
-        Comparator<Filling> comparator = null;
-        for (Sort.Order order : effectiveSort) {
-            Comparator<Filling> nextComparator = (left, right) -> compareValues(
-                comparableProperty(left, order.getProperty()),
-                comparableProperty(right, order.getProperty()),
-                order.isDescending());
-            comparator = comparator == null ? nextComparator : comparator.thenComparing(nextComparator);
-        }
-
-        if (comparator != null) {
-            records.sort(comparator);
-        }
-        return records;
+        return FilePageSupport.applySort(source, effectiveSort, sortTimer);
     }
 
     public static List<String> resolveCiks(String symbol, TickerDataPort tickerDataPort, CompanyTickerDataPort companyTickerDataPort) {
@@ -96,6 +90,15 @@ public final class FilingSearchSupport {
                 filingDate(filling.getFillingDate()));
     }
 
+    public static FilingIndexDocument indexDocument(Filling filling) {
+        return new FilingIndexDocument(
+                filling.getId(),
+                filling.getCik(),
+                filling.getFormType() != null ? filling.getFormType().getNumber() : null,
+                filingDate(filling.getFillingDate()),
+                searchableText(filling));
+    }
+
     public static boolean matchesFormTypes(Filling filling, List<String> formTypes) {
         if (formTypes == null || formTypes.isEmpty()) {
             return true;
@@ -229,53 +232,16 @@ public final class FilingSearchSupport {
         return value == null ? null : value.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
     }
 
-    private static List<FilingSearchPort.SearchResult> applyResultSort(List<FilingSearchPort.SearchResult> source, Sort sort) {
-        List<FilingSearchPort.SearchResult> records = new ArrayList<>(source);
-        Sort effectiveSort = sort;
-        if (effectiveSort == null || effectiveSort.isUnsorted()) {
-            effectiveSort = Sort.by(Sort.Direction.DESC, "filingDate");
+    private static Sort effectiveResultSort(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Sort.by(Sort.Direction.DESC, "filingDate");
         }
 
-        Comparator<FilingSearchPort.SearchResult> comparator = null;
-        for (Sort.Order order : effectiveSort) {
-            String property = "fillingDate".equals(order.getProperty()) ? "filingDate" : order.getProperty();
-            Comparator<FilingSearchPort.SearchResult> nextComparator = (left, right) -> compareValues(
-                comparableProperty(left, property),
-                comparableProperty(right, property),
-                order.isDescending());
-            comparator = comparator == null ? nextComparator : comparator.thenComparing(nextComparator);
-        }
-
-        if (comparator != null) {
-            records.sort(comparator);
-        }
-        return records;
-    }
-
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private static Comparable<?> comparableProperty(Object source, String property) {
-        Object value = new BeanWrapperImpl(source).getPropertyValue(property);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Comparable comparable) {
-            return comparable;
-        }
-        return value.toString();
-    }
-
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private static int compareValues(Comparable left, Comparable right, boolean descending) {
-        if (left == null && right == null) {
-            return 0;
-        }
-        if (left == null) {
-            return 1;
-        }
-        if (right == null) {
-            return -1;
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add("fillingDate".equals(order.getProperty()) ? order.withProperty("filingDate") : order);
         }
-        return descending ? right.compareTo(left) : left.compareTo(right);
+        return Sort.by(orders);
     }
 
     private static String lower(String value) {
@@ -0,0 +1,775 @@
+package org.jds.edgar4j.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.jds.edgar4j.port.FilingSearchPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded inverted index over filing search documents.
+ * <p>
+ * Terms map to posting lists of dense document ids with term frequencies, and each document carries
+ * doc-values (filing date, form type, CIK, length) so filters, BM25 scoring and date ordering never
+ * touch the underlying filings. Updates append a new document id and tombstone the previous one;
+ * tombstones are compacted away once they outnumber a quarter of the live documents or before the
+ * index is written to disk.
+ * <p>
+ * Query terms match whole tokens; terms of {@value #MIN_PREFIX_LENGTH} or more characters also match
+ * every token they prefix ("inc" matches "income" and "incorporated"). This replaces the substring
+ * match of the scan-based search, so a term no longer matches inside a token ("corp" does not match
+ * "incorporated").
+ * <p>
+ * Each document also carries a 64-bit content hash; {@link #fingerprint()} is their sum over live
+ * documents, so a persisted index can be checked against its source without re-tokenizing it.
+ */
+@Slf4j
+public class InvertedFilingIndex {
+
+    private static final int MAGIC = 0x45344649;
+    private static final int FORMAT_VERSION = 2;
+    private static final double K1 = 1.2d;
+    private static final double B = 0.75d;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int NO_CODE = -1;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 1024;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public enum Order {
+        RELEVANCE,
+        SCORE_ASC,
+        DATE_DESC,
+        DATE_ASC
+    }
+
+    /**
+     * Query over the index. {@code formTypes} and {@code ciks} are disjunctive filters; empty means no filter.
+     */
+    public record Query(
+            List<String> terms,
+            Set<String> formTypes,
+            Set<String> ciks,
+            LocalDate startDate,
+            LocalDate endDate) {
+    }
+
+    public record Hit(String id, double score) {
+    }
+
+    public record Hits(List<Hit> hits, long total) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<String, Integer> docIdsById = new HashMap<>();
+    private final Dictionary formTypes = new Dictionary();
+    private final Dictionary ciks = new Dictionary();
+    private BitSet deleted = new BitSet();
+    private String[] ids = new String[64];
+    private int[] dates = new int[64];
+    private int[] lengths = new int[64];
+    private int[] formTypeCodes = new int[64];
+    private int[] cikCodes = new int[64];
+    private long[] hashes = new long[64];
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+    private long fingerprint;
+    private boolean dirty;
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Content hash of {@code document} over every field the index stores; equal documents hash equally.
+     */
+    public static long documentHash(FilingSearchPort.Indexable document) {
+        long hash = 0xcbf29ce484222325L;
+        hash = hashField(hash, document.getSearchId());
+        hash = hashField(hash, document instanceof FilingIndexDocument filing ? filing.cik() : null);
+        hash = hashField(hash, document.getSearchType());
+        hash = hashField(hash, document.getSearchDate() != null ? document.getSearchDate().toString() : null);
+        hash = hashField(hash, document.getSearchContent());
+        // Finalize (murmur3 fmix64) so that summing hashes across documents stays well distributed
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long hashField(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * 0x100000001b3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return (hash ^ 0xFE) * 0x100000001b3L;
+    }
+
+    public void index(FilingSearchPort.Indexable document) {
+        if (document == null || document.getSearchId() == null) {
+            return;
+        }
+        long hash = documentHash(document);
+
+        List<String> tokens = tokenize(document.getSearchContent());
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        String cik = document instanceof FilingIndexDocument filing ? filing.cik() : null;
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getSearchId());
+            int docId = appendDocument(
+                    document.getSearchId(),
+                    document.getSearchDate(),
+                    tokens.size(),
+                    formTypes.code(normalize(document.getSearchType())),
+                    ciks.code(cik),
+                    hash);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, ignored -> new PostingList())
+                    .add(docId, frequency));
+            dirty = true;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(id)) {
+                dirty = true;
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docIdsById.clear();
+            formTypes.clear();
+            ciks.clear();
+            deleted = new BitSet();
+            Arrays.fill(ids, 0, docCount, null);
+            docCount = 0;
+            liveCount = 0;
+            totalLength = 0;
+            fingerprint = 0;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum of {@link #documentHash} over the live documents.
+     */
+    public long fingerprint() {
+        lock.readLock().lock();
+        try {
+            return fingerprint;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDirty() {
+        lock.readLock().lock();
+        try {
+            return dirty;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns hits {@code [offset, offset + limit)} in the requested order together with the total match count.
+     * Only the window is kept in memory while scoring, so deep result sets cost a bounded heap.
+     */
+    public Hits search(Query query, Order order, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Candidates candidates = candidates(query.terms());
+            int[] formTypeFilter = codes(formTypes, query.formTypes(), true);
+            int[] cikFilter = codes(ciks, query.ciks(), false);
+            if (formTypeFilter != null && formTypeFilter.length == 0 || cikFilter != null && cikFilter.length == 0) {
+                return new Hits(List.of(), 0);
+            }
+            int startDay = query.startDate() != null ? (int) query.startDate().toEpochDay() : NO_DATE;
+            int endDay = query.endDate() != null ? (int) query.endDate().toEpochDay() : NO_DATE;
+            boolean dateFiltered = startDay != NO_DATE || endDay != NO_DATE;
+
+            int window = (int) Math.min((long) offset + Math.max(limit, 0), Integer.MAX_VALUE);
+            Comparator<ScoredDoc> comparator = comparator(order);
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.max(1, Math.min(window, 1024)), comparator.reversed());
+            long total = 0;
+
+            int size = candidates == null ? docCount : candidates.size;
+            for (int i = 0; i < size; i++) {
+                int docId = candidates == null ? i : candidates.docs[i];
+                if (deleted.get(docId)
+                        || !matchesCode(formTypeCodes[docId], formTypeFilter)
+                        || !matchesCode(cikCodes[docId], cikFilter)
+                        || dateFiltered && !matchesDate(dates[docId], startDay, endDay)) {
+                    continue;
+                }
+                total++;
+                if (window == 0) {
+                    continue;
+                }
+                top.add(new ScoredDoc(docId, candidates == null ? 1.0d : candidates.scores[i]));
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+
+            List<ScoredDoc> ordered = new ArrayList<>(top);
+            ordered.sort(comparator);
+            List<Hit> page = new ArrayList<>();
+            for (int i = offset; i < ordered.size(); i++) {
+                page.add(new Hit(ids[ordered.get(i).docId()], ordered.get(i).score()));
+            }
+            return new Hits(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a compacted copy of the index to {@code file}, replacing any previous copy atomically.
+     */
+    public void save(Path file) {
+        lock.writeLock().lock();
+        try {
+            compact();
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeTo(output);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write search index " + file, ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index contents with {@code file}. Returns {@code false} when the file is missing or was
+     * written by an incompatible format version, leaving the index empty.
+     */
+    public boolean load(Path file) {
+        lock.writeLock().lock();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            clear();
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                log.info("Ignoring search index {} written by an incompatible version", file);
+                return false;
+            }
+            readFrom(input);
+            dirty = false;
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable search index {}: {}", file, ex.getMessage());
+            clear();
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Candidates candidates(List<String> terms) {
+        if (terms == null || terms.isEmpty()) {
+            return null;
+        }
+
+        double averageLength = liveCount == 0 ? 1.0d : Math.max(1.0d, (double) totalLength / liveCount);
+        Candidates result = null;
+        for (String term : terms) {
+            Candidates termCandidates = termCandidates(term, averageLength);
+            result = result == null ? termCandidates : result.intersect(termCandidates);
+            if (result.size == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Candidates termCandidates(String term, double averageLength) {
+        List<PostingList> lists;
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            // Every expansion is kept; wide prefixes fall through to the dense union below,
+            // which is bounded by the document count rather than the number of expansions.
+            NavigableMap<String, PostingList> range = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+            lists = List.copyOf(range.values());
+        } else {
+            PostingList exact = postings.get(term);
+            lists = exact == null ? List.of() : List.of(exact);
+        }
+
+        int total = lists.stream().mapToInt(list -> list.size).sum();
+        if (lists.size() == 1) {
+            PostingList list = lists.get(0);
+            double[] scores = new double[list.size];
+            list.score(idf(list), averageLength, lengths, scores, 0);
+            return new Candidates(Arrays.copyOf(list.docs, list.size), scores, list.size);
+        }
+        if (total > docCount / 16) {
+            return denseUnion(lists, averageLength);
+        }
+
+        int[] docs = new int[total];
+        double[] scores = new double[total];
+        int position = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.docs, 0, docs, position, list.size);
+            list.score(idf(list), averageLength, lengths, scores, position);
+            position += list.size;
+        }
+        long[] order = new long[total];
+        for (int i = 0; i < total; i++) {
+            order[i] = ((long) docs[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int[] mergedDocs = new int[total];
+        double[] mergedScores = new double[total];
+        int count = 0;
+        for (long entry : order) {
+            int source = (int) entry;
+            int docId = (int) (entry >>> 32);
+            if (count > 0 && mergedDocs[count - 1] == docId) {
+                mergedScores[count - 1] += scores[source];
+            } else {
+                mergedDocs[count] = docId;
+                mergedScores[count] = scores[source];
+                count++;
+            }
+        }
+        return new Candidates(mergedDocs, mergedScores, count);
+    }
+
+    private Candidates denseUnion(List<PostingList> lists, double averageLength) {
+        double[] accumulator = new double[docCount];
+        BitSet touched = new BitSet(docCount);
+        for (PostingList list : lists) {
+            double idf = idf(list);
+            for (int i = 0; i < list.size; i++) {
+                int docId = list.docs[i];
+                accumulator[docId] += bm25(idf, list.frequencies[i], lengths[docId], averageLength);
+                touched.set(docId);
+            }
+        }
+
+        int[] docs = new int[touched.cardinality()];
+        double[] scores = new double[docs.length];
+        int count = 0;
+        for (int docId = touched.nextSetBit(0); docId >= 0; docId = touched.nextSetBit(docId + 1)) {
+            docs[count] = docId;
+            scores[count] = accumulator[docId];
+            count++;
+        }
+        return new Candidates(docs, scores, count);
+    }
+
+    private double idf(PostingList list) {
+        int documentFrequency = liveDocumentFrequency(list);
+        return Math.log(1.0d + (liveCount - documentFrequency + 0.5d) / (documentFrequency + 0.5d));
+    }
+
+    /**
+     * Posting count excluding tombstoned documents, which stay in posting lists until compaction.
+     */
+    private int liveDocumentFrequency(PostingList list) {
+        if (docCount == liveCount) {
+            return list.size;
+        }
+        int live = 0;
+        for (int i = 0; i < list.size; i++) {
+            if (!deleted.get(list.docs[i])) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private static double bm25(double idf, int frequency, int length, double averageLength) {
+        double norm = K1 * (1.0d - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1.0d) / (frequency + norm);
+    }
+
+    private Comparator<ScoredDoc> comparator(Order order) {
+        Comparator<ScoredDoc> byDateDesc = Comparator.comparingInt((ScoredDoc doc) -> dates[doc.docId()]).reversed();
+        Comparator<ScoredDoc> byInsertion = Comparator.comparingInt(ScoredDoc::docId);
+        return switch (order) {
+            case RELEVANCE -> Comparator.comparingDouble(ScoredDoc::score).reversed()
+                    .thenComparing(byDateDesc)
+                    .thenComparing(byInsertion);
+            case SCORE_ASC -> Comparator.comparingDouble(ScoredDoc::score)
+                    .thenComparing(byDateDesc)
+                    .thenComparing(byInsertion);
+            case DATE_DESC -> byDateDesc.thenComparing(byInsertion);
+            case DATE_ASC -> Comparator.comparingInt((ScoredDoc doc) -> {
+                        int date = dates[doc.docId()];
+                        return date == NO_DATE ? Integer.MAX_VALUE : date;
+                    })
+                    .thenComparing(byInsertion);
+        };
+    }
+
+    private int[] codes(Dictionary dictionary, Set<String> values, boolean normalize) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream()
+                .map(value -> normalize ? normalize(value) : value)
+                .mapToInt(dictionary::find)
+                .filter(code -> code != NO_CODE)
+                .sorted()
+                .toArray();
+    }
+
+    private boolean matchesCode(int code, int[] filter) {
+        return filter == null || Arrays.binarySearch(filter, code) >= 0;
+    }
+
+    private boolean matchesDate(int date, int startDay, int endDay) {
+        if (date == NO_DATE) {
+            return false;
+        }
+        return (startDay == NO_DATE || date >= startDay) && (endDay == NO_DATE || date <= endDay);
+    }
+
+    private int appendDocument(String id, LocalDate date, int length, int formTypeCode, int cikCode, long hash) {
+        if (docCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            dates = Arrays.copyOf(dates, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            formTypeCodes = Arrays.copyOf(formTypeCodes, capacity);
+            cikCodes = Arrays.copyOf(cikCodes, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        int docId = docCount++;
+        ids[docId] = id;
+        dates[docId] = date != null ? (int) date.toEpochDay() : NO_DATE;
+        lengths[docId] = length;
+        formTypeCodes[docId] = formTypeCode;
+        cikCodes[docId] = cikCode;
+        hashes[docId] = hash;
+        docIdsById.put(id, docId);
+        liveCount++;
+        totalLength += length;
+        fingerprint += hash;
+        return docId;
+    }
+
+    private boolean removeInternal(String id) {
+        Integer docId = id == null ? null : docIdsById.remove(id);
+        if (docId == null) {
+            return false;
+        }
+        deleted.set(docId);
+        liveCount--;
+        totalLength -= lengths[docId];
+        fingerprint -= hashes[docId];
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = docCount - liveCount;
+        if (tombstones >= MIN_TOMBSTONES_FOR_COMPACTION && tombstones > liveCount / 4) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        if (docCount == liveCount) {
+            return;
+        }
+
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = NO_CODE;
+                continue;
+            }
+            remap[docId] = next;
+            ids[next] = ids[docId];
+            dates[next] = dates[docId];
+            lengths[next] = lengths[docId];
+            formTypeCodes[next] = formTypeCodes[docId];
+            cikCodes[next] = cikCodes[docId];
+            hashes[next] = hashes[docId];
+            docIdsById.put(ids[next], next);
+            next++;
+        }
+        Arrays.fill(ids, next, docCount, null);
+        docCount = next;
+        deleted = new BitSet();
+        postings.values().removeIf(list -> list.remap(remap) == 0);
+    }
+
+    private void writeTo(DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        formTypes.writeTo(output);
+        ciks.writeTo(output);
+        writeVarInt(output, docCount);
+        for (int docId = 0; docId < docCount; docId++) {
+            output.writeUTF(ids[docId]);
+            output.writeInt(dates[docId]);
+            writeVarInt(output, lengths[docId]);
+            writeVarInt(output, formTypeCodes[docId] + 1);
+            writeVarInt(output, cikCodes[docId] + 1);
+            output.writeLong(hashes[docId]);
+        }
+        writeVarInt(output, postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            output.writeUTF(entry.getKey());
+            entry.getValue().writeTo(output);
+        }
+    }
+
+    private void readFrom(DataInputStream input) throws IOException {
+        formTypes.readFrom(input);
+        ciks.readFrom(input);
+        int documents = readVarInt(input);
+        for (int i = 0; i < documents; i++) {
+            String id = input.readUTF();
+            int date = input.readInt();
+            int length = readVarInt(input);
+            int formTypeCode = readVarInt(input) - 1;
+            int cikCode = readVarInt(input) - 1;
+            long hash = input.readLong();
+            appendDocument(id, date == NO_DATE ? null : LocalDate.ofEpochDay(date), length, formTypeCode, cikCode, hash);
+        }
+        int terms = readVarInt(input);
+        for (int i = 0; i < terms; i++) {
+            String term = input.readUTF();
+            postings.put(term, PostingList.readFrom(input));
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void writeVarInt(OutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    private static int readVarInt(InputStream input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = input.read();
+            if (b < 0) {
+                throw new IOException("Unexpected end of search index");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in search index");
+    }
+
+    private record ScoredDoc(int docId, double score) {
+    }
+
+    private static final class Candidates {
+        private final int[] docs;
+        private final double[] scores;
+        private final int size;
+
+        private Candidates(int[] docs, double[] scores, int size) {
+            this.docs = docs;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        private Candidates intersect(Candidates other) {
+            int[] mergedDocs = new int[Math.min(size, other.size)];
+            double[] mergedScores = new double[mergedDocs.length];
+            int count = 0;
+            int left = 0;
+            int right = 0;
+            while (left < size && right < other.size) {
+                int cmp = Integer.compare(docs[left], other.docs[right]);
+                if (cmp < 0) {
+                    left++;
+                } else if (cmp > 0) {
+                    right++;
+                } else {
+                    mergedDocs[count] = docs[left];
+                    mergedScores[count] = scores[left] + other.scores[right];
+                    count++;
+                    left++;
+                    right++;
+                }
+            }
+            return new Candidates(mergedDocs, mergedScores, count);
+        }
+    }
+
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int docId, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private void score(double idf, double averageLength, int[] lengths, double[] target, int offset) {
+            for (int i = 0; i < size; i++) {
+                target[offset + i] = bm25(idf, frequencies[i], lengths[docs[i]], averageLength);
+            }
+        }
+
+        private int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docs[i]];
+                if (docId != NO_CODE) {
+                    docs[next] = docId;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+            return size;
+        }
+
+        private void writeTo(DataOutputStream output) throws IOException {
+            writeVarInt(output, size);
+            int previous = 0;
+            for (int i = 0; i < size; i++) {
+                writeVarInt(output, docs[i] - previous);
+                writeVarInt(output, frequencies[i]);
+                previous = docs[i];
+            }
+        }
+
+        private static PostingList readFrom(DataInputStream input) throws IOException {
+            PostingList list = new PostingList();
+            int size = readVarInt(input);
+            list.docs = new int[Math.max(4, size)];
+            list.frequencies = new int[list.docs.length];
+            int previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += readVarInt(input);
+                list.docs[i] = previous;
+                list.frequencies[i] = readVarInt(input);
+            }
+            list.size = size;
+            return list;
+        }
+    }
+
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private int code(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        private int find(String value) {
+            return value == null ? NO_CODE : codes.getOrDefault(value, NO_CODE);
+        }
+
+        private void clear() {
+            values.clear();
+            codes.clear();
+        }
+
+        private void writeTo(DataOutputStream output) throws IOException {
+            writeVarInt(output, values.size());
+            for (String value : values) {
+                output.writeUTF(value);
+            }
+        }
+
+        private void readFrom(DataInputStream input) throws IOException {
+            int size = readVarInt(input);
+            for (int i = 0; i < size; i++) {
+                code(input.readUTF());
+            }
+        }
+    }
+}
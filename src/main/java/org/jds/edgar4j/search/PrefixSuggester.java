@@ -0,0 +1,195 @@
+package org.jds.edgar4j.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable weighted prefix index for type-ahead suggestions.
+ * <p>
+ * Keys are kept in one sorted array, so every prefix selects a contiguous range of entries: an implicit trie
+ * node without per-node objects. Nodes covering more than {@link #HEAVY_NODE_SIZE} entries carry a precomputed
+ * top list ordered by weight; lighter nodes are ranked on the fly. A lookup is two binary searches plus either a
+ * cached list copy or a rank over at most {@link #HEAVY_NODE_SIZE} entries.
+ */
+public final class PrefixSuggester {
+
+    public static final int CACHED_SUGGESTIONS = 16;
+    private static final int HEAVY_NODE_SIZE = 64;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String[] keys;
+    private final String[] values;
+    private final long[] weights;
+    private final Map<String, int[]> topByPrefix;
+    private final Comparator<Integer> rank;
+
+    private PrefixSuggester(String[] keys, String[] values, long[] weights) {
+        this.keys = keys;
+        this.values = values;
+        this.weights = weights;
+        this.rank = Comparator.<Integer>comparingLong(position -> -this.weights[position])
+                .thenComparingInt(position -> this.keys[position].length())
+                .thenComparingInt(Integer::intValue);
+        this.topByPrefix = new HashMap<>();
+        if (keys.length > 0) {
+            buildNode("", 0, keys.length);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static PrefixSuggester empty() {
+        return builder().build();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public List<String> suggest(String prefix, int maxResults) {
+        if (maxResults <= 0 || keys.length == 0) {
+            return List.of();
+        }
+
+        String normalized = normalize(prefix);
+        int from = lowerBound(normalized);
+        int to = upperBound(normalized, from);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] cached = topByPrefix.get(normalized);
+        if (cached != null && (maxResults <= cached.length || to - from <= cached.length)) {
+            List<String> suggestions = new ArrayList<>(Math.min(maxResults, cached.length));
+            for (int i = 0; i < cached.length && i < maxResults; i++) {
+                suggestions.add(values[cached[i]]);
+            }
+            return suggestions;
+        }
+
+        return top(from, to, maxResults).stream()
+                .map(position -> values[position])
+                .toList();
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private int[] buildNode(String prefix, int from, int to) {
+        List<Integer> candidates = new ArrayList<>();
+        int position = from;
+        if (keys[position].length() == prefix.length()) {
+            candidates.add(position++);
+        }
+
+        int depth = prefix.length();
+        while (position < to) {
+            char next = keys[position].charAt(depth);
+            int end = position + 1;
+            while (end < to && keys[end].charAt(depth) == next) {
+                end++;
+            }
+            if (end - position > HEAVY_NODE_SIZE) {
+                for (int child : buildNode(prefix + next, position, end)) {
+                    candidates.add(child);
+                }
+            } else {
+                for (int child = position; child < end; child++) {
+                    candidates.add(child);
+                }
+            }
+            position = end;
+        }
+
+        candidates.sort(rank);
+        int[] top = candidates.stream()
+                .limit(CACHED_SUGGESTIONS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        topByPrefix.put(prefix, top);
+        return top;
+    }
+
+    private List<Integer> top(int from, int to, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, to - from) + 1, rank.reversed());
+        for (int position = from; position < to; position++) {
+            heap.add(position);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Integer> ordered = new ArrayList<>(heap);
+        ordered.sort(rank);
+        return ordered;
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects display values with weights. Values that normalize to the same key are merged, keeping the
+     * display text of the heaviest one and the highest weight.
+     */
+    public static final class Builder {
+
+        private final Map<String, String> valuesByKey = new HashMap<>();
+        private final Map<String, Long> weightsByKey = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String value, long weight) {
+            String key = normalize(value);
+            if (key.isEmpty()) {
+                return this;
+            }
+            Long existing = weightsByKey.get(key);
+            if (existing == null || weight > existing) {
+                weightsByKey.put(key, weight);
+                valuesByKey.put(key, value.trim());
+            }
+            return this;
+        }
+
+        public PrefixSuggester build() {
+            String[] keys = valuesByKey.keySet().toArray(String[]::new);
+            Arrays.sort(keys);
+            String[] values = new String[keys.length];
+            long[] weights = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = valuesByKey.get(keys[i]);
+                weights[i] = weightsByKey.get(keys[i]);
+            }
+            return new PrefixSuggester(keys, values, weights);
+        }
+    }
+}
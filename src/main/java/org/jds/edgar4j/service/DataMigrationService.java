@@ -63,4 +63,11 @@ public interface DataMigrationService {
             String checksum,
             Instant exportedAt) {
     }
+
+    /**
+     * Published after an import wrote to {@code collection} directly through its data port, whether or
+     * not the import succeeded, so caches built over that collection can be dropped.
+     */
+    record CollectionImportedEvent(String collection) {
+    }
 }
@@ -3,6 +3,7 @@ package org.jds.edgar4j.service;
 import java.util.List;
 
 import org.jds.edgar4j.dto.response.DividendSyncStatusResponse;
+import org.jds.edgar4j.model.DividendSyncRun;
 
 public interface DividendSyncService {
 
@@ -15,4 +16,20 @@ public interface DividendSyncService {
     DividendSyncStatusResponse untrackCompany(String tickerOrCik);
 
     List<DividendSyncStatusResponse> syncTrackedCompanies(int maxCompanies, boolean refreshMarketData);
+
+    /**
+     * Syncs the tracked universe with up to {@code concurrency} companies in flight, recording progress
+     * in a {@link DividendSyncRun}. Resumes the latest unfinished run instead of starting a new one, and
+     * returns the active run unchanged if one is already executing in this process.
+     */
+    DividendSyncRun runTrackedSync(int maxCompanies, boolean refreshMarketData, int concurrency);
+
+    /**
+     * Same as {@link #runTrackedSync} but returns as soon as the run record exists.
+     */
+    DividendSyncRun startTrackedSync(int maxCompanies, boolean refreshMarketData, int concurrency);
+
+    DividendSyncRun getSyncRun(String runId);
+
+    List<DividendSyncRun> getRecentSyncRuns();
 }
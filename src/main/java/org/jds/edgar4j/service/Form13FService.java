@@ -126,6 +126,14 @@ public interface Form13FService {
      */
     void deleteById(String id);
 
+    /**
+     * Records the position changes of every stored filer and period once, for filings saved before
+     * changes were recorded on save.
+     *
+     * @return the number of filer periods recomputed, or 0 when the backfill has already completed
+     */
+    long backfillPositionChanges();
+
     /**
      * Gets top filers by total portfolio value for a quarter.
      */
@@ -161,6 +169,17 @@ public interface Form13FService {
      */
     HoldingsComparison compareHoldings(String cik, LocalDate period1, LocalDate period2);
 
+    /**
+     * Net institutional buying and selling of a security in one quarter, from the position
+     * changes recorded when each filer's report was saved.
+     */
+    InstitutionalFlow getInstitutionalFlow(String cusip, LocalDate reportPeriod);
+
+    /**
+     * Net institutional buying and selling of a security for every recorded quarter, latest first.
+     */
+    List<InstitutionalFlow> getInstitutionalFlowHistory(String cusip);
+
     /**
      * Institutional ownership statistics for a security.
      */
@@ -205,4 +224,21 @@ public interface Form13FService {
         Long valuePeriod2,
         Double percentChange
     ) {}
+
+    /**
+     * Quarter-over-quarter institutional flows for a security.
+     */
+    record InstitutionalFlow(
+        String cusip,
+        String issuerName,
+        LocalDate reportPeriod,
+        int newPositions,
+        int closedPositions,
+        int increasedPositions,
+        int decreasedPositions,
+        long sharesBought,
+        long sharesSold,
+        long netShareChange,
+        long netValueChange
+    ) {}
 }
@@ -0,0 +1,291 @@
+package org.jds.edgar4j.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jds.edgar4j.model.Form4;
+import org.jds.edgar4j.model.Form4Transaction;
+import org.jds.edgar4j.model.InsiderTransactionFact;
+import org.jds.edgar4j.port.Form4DataPort;
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
+import org.jds.edgar4j.storage.BackfillProgressStore;
+import org.jds.edgar4j.util.TickerNormalizer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps {@link InsiderTransactionFact} rows in step with stored Form 4 filings. Indexing failures
+ * are logged rather than thrown so a fact-table problem never fails the Form 4 write itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InsiderTransactionFactIndexer {
+
+    public static final String SIDE_BUY = "BUY";
+    public static final String SIDE_SELL = "SELL";
+
+    private static final int BACKFILL_PAGE_SIZE = 500;
+    private static final String FACT_BACKFILL = "insider-transaction-facts";
+
+    private final InsiderTransactionFactDataPort factRepository;
+    private final Form4DataPort form4Repository;
+    private final BackfillProgressStore backfillProgressStore;
+
+    /**
+     * Replaces the facts of each filing with its current transactions.
+     */
+    public void index(List<Form4> filings) {
+        if (filings == null || filings.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (Form4 form4 : filings) {
+            if (form4 == null || form4.getAccessionNumber() == null) {
+                continue;
+            }
+            upsert(form4.getAccessionNumber(), toFacts(form4, now));
+        }
+    }
+
+    public void remove(Form4 form4) {
+        if (form4 == null || form4.getAccessionNumber() == null) {
+            return;
+        }
+        try {
+            replace(form4.getAccessionNumber(), List.of());
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove insider transaction facts for {}", form4.getAccessionNumber(), e);
+        }
+    }
+
+    /**
+     * Builds facts for every stored Form 4 once, e.g. on the first start after upgrading or after a
+     * migration that only carried the Form 4 collection. Filings are read in id order and the last id
+     * of each finished page is recorded, so a restart resumes after it. Facts are upserted per filing,
+     * so filings indexed by a concurrent save or by an interrupted run are not duplicated.
+     *
+     * @return the number of facts written
+     */
+    public long backfill() {
+        if (backfillProgressStore.isComplete(FACT_BACKFILL)) {
+            return 0;
+        }
+        String cursor = backfillProgressStore.read(FACT_BACKFILL).orElse(null);
+        if (cursor != null) {
+            log.info("Resuming insider transaction fact backfill after Form 4 {}", cursor);
+        }
+
+        long started = System.nanoTime();
+        long filings = 0;
+        long facts = 0;
+        long failed = 0;
+        Instant now = Instant.now();
+        Pageable pageable = PageRequest.of(0, BACKFILL_PAGE_SIZE, Sort.by("id"));
+        while (true) {
+            Slice<Form4> page = cursor == null
+                    ? form4Repository.findAll(pageable)
+                    : form4Repository.findByIdGreaterThan(cursor, pageable);
+            if (!page.hasContent()) {
+                break;
+            }
+            for (Form4 form4 : page.getContent()) {
+                if (form4 == null || form4.getAccessionNumber() == null) {
+                    continue;
+                }
+                List<InsiderTransactionFact> filingFacts = toFacts(form4, now);
+                if (upsert(form4.getAccessionNumber(), filingFacts)) {
+                    facts += filingFacts.size();
+                } else {
+                    failed++;
+                }
+            }
+            filings += page.getNumberOfElements();
+            cursor = page.getContent().getLast().getId();
+            backfillProgressStore.write(FACT_BACKFILL, cursor);
+            if (!page.hasNext()) {
+                break;
+            }
+        }
+        backfillProgressStore.markComplete(FACT_BACKFILL);
+
+        log.info("Backfilled {} insider transaction facts from {} Form 4 filings ({} failed) in {} ms",
+                facts, filings, failed, (System.nanoTime() - started) / 1_000_000);
+        return facts;
+    }
+
+    /**
+     * Expands a Form 4 into one fact per transaction row that has a ticker, a date and an
+     * acquired/disposed side. A filing without transaction rows falls back to its summary fields.
+     */
+    public static List<InsiderTransactionFact> toFacts(Form4 form4, Instant updatedAt) {
+        String ticker = TickerNormalizer.normalize(form4.getTradingSymbol());
+        if (ticker == null) {
+            return List.of();
+        }
+
+        List<InsiderTransactionFact> facts = new ArrayList<>();
+        List<Form4Transaction> transactions = form4.getTransactions();
+        if (transactions == null || transactions.isEmpty()) {
+            addFact(facts, form4, null, 0, ticker, updatedAt);
+            return facts;
+        }
+        for (int i = 0; i < transactions.size(); i++) {
+            if (transactions.get(i) != null) {
+                addFact(facts, form4, transactions.get(i), i, ticker, updatedAt);
+            }
+        }
+        return facts;
+    }
+
+    /**
+     * Replaces the facts of one filing, retrying once when a concurrent writer inserted one of the same
+     * fact keys first: the retry finds that row and reuses its id. Failures are logged, not thrown.
+     */
+    private boolean upsert(String accessionNumber, List<InsiderTransactionFact> facts) {
+        try {
+            replace(accessionNumber, facts);
+            return true;
+        } catch (RuntimeException first) {
+            log.debug("Retrying insider transaction facts for {}: {}", accessionNumber, first.getMessage());
+        }
+        try {
+            replace(accessionNumber, facts);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to index insider transaction facts for {}", accessionNumber, e);
+            return false;
+        }
+    }
+
+    private void replace(String accessionNumber, List<InsiderTransactionFact> facts) {
+        Map<String, InsiderTransactionFact> existing = new HashMap<>();
+        for (InsiderTransactionFact fact : factRepository.findByAccessionNumber(accessionNumber)) {
+            existing.put(fact.getFactKey(), fact);
+        }
+        for (InsiderTransactionFact fact : facts) {
+            InsiderTransactionFact previous = existing.remove(fact.getFactKey());
+            if (previous != null) {
+                fact.setId(previous.getId());
+            }
+        }
+        if (!existing.isEmpty()) {
+            factRepository.deleteAll(existing.values());
+        }
+        if (!facts.isEmpty()) {
+            factRepository.saveAll(facts);
+        }
+    }
+
+    private static void addFact(
+            List<InsiderTransactionFact> facts,
+            Form4 form4,
+            Form4Transaction transaction,
+            int transactionIndex,
+            String ticker,
+            Instant updatedAt) {
+        String acquiredDisposedCode = transaction != null
+                ? transaction.getAcquiredDisposedCode()
+                : form4.getAcquiredDisposedCode();
+        String side = resolveSide(acquiredDisposedCode);
+        LocalDate transactionDate = transaction != null && transaction.getTransactionDate() != null
+                ? transaction.getTransactionDate()
+                : form4.getTransactionDate();
+        if (side == null || transactionDate == null) {
+            return;
+        }
+
+        Float transactionShares = transaction != null && transaction.getTransactionShares() != null
+                ? transaction.getTransactionShares()
+                : form4.getTransactionShares();
+        Float transactionPrice = transaction != null && transaction.getTransactionPricePerShare() != null
+                ? transaction.getTransactionPricePerShare()
+                : form4.getTransactionPricePerShare();
+        String transactionCode = transaction != null && blankToNull(transaction.getTransactionCode()) != null
+                ? transaction.getTransactionCode().trim().toUpperCase(Locale.ROOT)
+                : SIDE_BUY.equals(side) ? "P" : "S";
+
+        facts.add(InsiderTransactionFact.builder()
+                .factKey(InsiderTransactionFact.factKey(form4.getAccessionNumber(), transactionIndex))
+                .accessionNumber(form4.getAccessionNumber())
+                .transactionIndex(transactionIndex)
+                .ticker(ticker)
+                .companyName(blankToNull(form4.getIssuerName()))
+                .cik(blankToNull(form4.getCik()))
+                .ownerCik(blankToNull(form4.getRptOwnerCik()))
+                .insiderName(blankToNull(form4.getRptOwnerName()))
+                .insiderTitle(blankToNull(form4.getOfficerTitle()))
+                .ownerType(resolveOwnerType(form4))
+                .transactionDate(transactionDate)
+                .transactionCode(transactionCode)
+                .side(side)
+                .transactionShares(transactionShares)
+                .transactionPrice(transactionPrice)
+                .transactionValue(resolveTransactionValue(form4, transaction, transactionShares, transactionPrice))
+                .updatedAt(updatedAt)
+                .build());
+    }
+
+    private static Float resolveTransactionValue(
+            Form4 form4,
+            Form4Transaction transaction,
+            Float transactionShares,
+            Float transactionPrice) {
+        Float reported = transaction != null ? transaction.getTransactionValue() : form4.getTransactionValue();
+        if (reported != null && reported > 0f) {
+            return reported;
+        }
+        if (transactionShares == null || transactionPrice == null) {
+            return null;
+        }
+        return transactionShares * transactionPrice;
+    }
+
+    private static String resolveSide(String acquiredDisposedCode) {
+        if ("A".equalsIgnoreCase(acquiredDisposedCode)) {
+            return SIDE_BUY;
+        }
+        if ("D".equalsIgnoreCase(acquiredDisposedCode)) {
+            return SIDE_SELL;
+        }
+        return null;
+    }
+
+    private static String resolveOwnerType(Form4 form4) {
+        if (blankToNull(form4.getOwnerType()) != null) {
+            return form4.getOwnerType();
+        }
+        if (form4.isDirector()) {
+            return "Director";
+        }
+        if (form4.isOfficer()) {
+            return "Officer";
+        }
+        if (form4.isTenPercentOwner()) {
+            return "10% Owner";
+        }
+        if (form4.isOther()) {
+            return "Other";
+        }
+        return "Unknown";
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
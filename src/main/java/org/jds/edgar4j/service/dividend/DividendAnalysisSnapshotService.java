@@ -1,6 +1,8 @@
 package org.jds.edgar4j.service.dividend;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -11,18 +13,54 @@ import org.jds.edgar4j.dto.response.DividendOverviewResponse;
 import org.jds.edgar4j.model.DividendAnalysisSnapshot;
 import org.jds.edgar4j.port.DividendAnalysisSnapshotDataPort;
 import org.jds.edgar4j.exception.ResourceNotFoundException;
+import org.jds.edgar4j.storage.DividendMetricsColumnStore;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DividendAnalysisSnapshotService {
 
+    private static final int METRICS_LOAD_PAGE_SIZE = 500;
+
     private final DividendAnalysisSnapshotDataPort snapshotDataPort;
+    private final DividendMetricsColumnStore metricsStore = new DividendMetricsColumnStore();
+    private volatile boolean metricsLoaded;
+
+    /**
+     * Saves {@code overview} together with its screen metric values, making the company visible to
+     * snapshot-backed screens.
+     */
+    public DividendAnalysisSnapshot saveOverview(DividendOverviewResponse overview, Map<String, Double> screenMetrics) {
+        DividendAnalysisSnapshot saved = upsert(overview.getCompany(), snapshot -> {
+            snapshot.setOverview(overview);
+            if (screenMetrics != null) {
+                snapshot.setScreenMetrics(new LinkedHashMap<>(screenMetrics));
+                snapshot.setMetricsComputedAt(snapshot.getLastComputedAt());
+            }
+        }, null, false);
+        if (saved != null) {
+            metricsStore.upsert(saved);
+        }
+        return saved;
+    }
 
-    public DividendAnalysisSnapshot saveOverview(DividendOverviewResponse overview) {
-        return upsert(overview.getCompany(), snapshot -> snapshot.setOverview(overview), null, false);
+    /**
+     * Screens the stored metric rows, or returns empty when no snapshot carries screen metrics yet.
+     */
+    public Optional<DividendMetricsColumnStore.Result> screenMetrics(DividendMetricsColumnStore.Query query) {
+        DividendMetricsColumnStore store = metrics();
+        if (store.size() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(store.screen(query));
     }
 
     public DividendAnalysisSnapshot getSnapshot(String tickerOrCik) {
@@ -112,6 +150,28 @@ public class DividendAnalysisSnapshotService {
         return snapshotDataPort.save(snapshot);
     }
 
+    private DividendMetricsColumnStore metrics() {
+        if (metricsLoaded) {
+            return metricsStore;
+        }
+        synchronized (metricsStore) {
+            if (!metricsLoaded) {
+                long started = System.nanoTime();
+                Pageable pageable = PageRequest.of(0, METRICS_LOAD_PAGE_SIZE, Sort.by("id"));
+                Page<DividendAnalysisSnapshot> page;
+                do {
+                    page = snapshotDataPort.findAll(pageable);
+                    page.forEach(metricsStore::upsert);
+                    pageable = page.nextPageable();
+                } while (page.hasNext());
+                metricsLoaded = true;
+                log.info("Loaded {} dividend metric rows into the screening store in {} ms",
+                        metricsStore.size(), (System.nanoTime() - started) / 1_000_000);
+            }
+        }
+        return metricsStore;
+    }
+
     private Optional<DividendAnalysisSnapshot> findByCik(String cik) {
         Optional<DividendAnalysisSnapshot> snapshot = snapshotDataPort.findByCik(cik);
         return snapshot != null ? snapshot : Optional.empty();
@@ -1,6 +1,11 @@
 package org.jds.edgar4j.service.dividend;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -11,6 +16,7 @@ import java.util.Set;
 import org.jds.edgar4j.dto.request.DividendScreenRequest;
 import org.jds.edgar4j.dto.response.DividendOverviewResponse;
 import org.jds.edgar4j.dto.response.DividendScreenResponse;
+import org.jds.edgar4j.storage.DividendMetricsColumnStore;
 
 import org.springframework.stereotype.Service;
 
@@ -22,6 +28,11 @@ public class DividendScreeningService {
 
     public static final int DEFAULT_SCREEN_CANDIDATES = 100;
 
+    /**
+     * Snapshot rows computed longer ago than this are flagged stale in screen results.
+     */
+    public static final Duration SNAPSHOT_STALE_AFTER = Duration.ofDays(7);
+
     public record ScreeningCandidate(
             DividendOverviewResponse.CompanySummary companySummary,
             List<DividendOverviewResponse.Alert> alerts,
@@ -60,30 +71,23 @@ public class DividendScreeningService {
             String sort,
             String direction,
             Set<String> supportedMetrics) {
-        String normalizedSort = sort != null ? sort.toLowerCase(Locale.ROOT) : "score";
-        boolean descending = direction == null || !"asc".equalsIgnoreCase(direction);
+        String normalizedSort = resolveSortKey(sort, supportedMetrics);
+        boolean descending = isDescending(direction);
 
-        if ("name".equals(normalizedSort)) {
+        if (DividendMetricsColumnStore.SORT_NAME.equals(normalizedSort)) {
             return (left, right) -> compareNullableStrings(
                     firstNonBlank(left.getCompany().getName(), left.getCompany().getTicker(), left.getCompany().getCik()),
                     firstNonBlank(right.getCompany().getName(), right.getCompany().getTicker(), right.getCompany().getCik()),
                     descending);
         }
 
-        if ("ticker".equals(normalizedSort)) {
+        if (DividendMetricsColumnStore.SORT_TICKER.equals(normalizedSort)) {
             return (left, right) -> compareNullableStrings(
                     left.getCompany().getTicker(),
                     right.getCompany().getTicker(),
                     descending);
         }
 
-        if (!supportedMetrics.contains(normalizedSort)) {
-            String supported = String.join(", ", supportedMetrics);
-            throw new IllegalArgumentException(
-                    "Unsupported dividend screen sort field: " + sort
-                            + ". Supported fields: " + supported + ", name, ticker");
-        }
-
         return (left, right) -> compareNullableDoubles(
                 left.getValues().get(normalizedSort),
                 right.getValues().get(normalizedSort),
@@ -128,12 +132,7 @@ public class DividendScreeningService {
                 continue;
             }
 
-            String normalizedMetric = metric.toLowerCase(Locale.ROOT);
-            if (!supportedMetrics.contains(normalizedMetric)) {
-                throw new IllegalArgumentException(
-                        "Unsupported dividend screen metric: " + metric
-                                + ". Supported metrics: " + String.join(", ", supportedMetrics));
-            }
+            String normalizedMetric = requireSupportedMetric(metric, supportedMetrics);
 
             Double actualValue = candidate.comparisonMetrics() != null
                     ? candidate.comparisonMetrics().get(normalizedMetric)
@@ -158,6 +157,115 @@ public class DividendScreeningService {
         return true;
     }
 
+    /**
+     * Translates a screen request into a query over the snapshot metrics table, applying the same
+     * validation and percent-bound normalization as the live screen. A search term only applies when
+     * no identifiers are given.
+     */
+    public DividendMetricsColumnStore.Query buildSnapshotQuery(
+            DividendScreenRequest request,
+            List<String> identifiers,
+            Set<String> supportedMetrics,
+            Map<String, String> metricFormatHints) {
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, request.getSize());
+        DividendScreenRequest.DividendScreenFilters filters = request.getFilters();
+
+        Set<DividendOverviewResponse.DividendRating> ratings =
+                EnumSet.noneOf(DividendOverviewResponse.DividendRating.class);
+        Set<String> sectors = new HashSet<>();
+        List<DividendMetricsColumnStore.MetricBound> bounds = new ArrayList<>();
+        if (filters != null) {
+            if (filters.getViabilityRatings() != null) {
+                filters.getViabilityRatings().stream().filter(Objects::nonNull).forEach(ratings::add);
+            }
+            if (filters.getSectors() != null) {
+                filters.getSectors().stream().map(this::blankToNull).filter(Objects::nonNull).forEach(sectors::add);
+            }
+            if (filters.getMetrics() != null) {
+                for (Map.Entry<String, DividendScreenRequest.MetricRange> entry : filters.getMetrics().entrySet()) {
+                    String metric = blankToNull(entry.getKey());
+                    if (metric == null) {
+                        continue;
+                    }
+                    String normalizedMetric = requireSupportedMetric(metric, supportedMetrics);
+                    bounds.add(new DividendMetricsColumnStore.MetricBound(
+                            normalizedMetric,
+                            normalizeScreenBound(normalizedMetric,
+                                    entry.getValue() != null ? entry.getValue().getMin() : null, metricFormatHints),
+                            normalizeScreenBound(normalizedMetric,
+                                    entry.getValue() != null ? entry.getValue().getMax() : null, metricFormatHints)));
+                }
+            }
+        }
+
+        boolean explicit = identifiers != null && !identifiers.isEmpty();
+        return new DividendMetricsColumnStore.Query(
+                explicit ? identifiers : List.of(),
+                explicit ? null : blankToNull(request.getSearchTerm()),
+                ratings,
+                sectors,
+                bounds,
+                resolveSortKey(request.getSort(), supportedMetrics),
+                isDescending(request.getDirection()),
+                page * size,
+                size);
+    }
+
+    public DividendScreenResponse.ScreenResult buildScreenResult(
+            DividendMetricsColumnStore.Row row,
+            List<String> requestedMetrics,
+            Instant now) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (requestedMetrics != null) {
+            for (String metric : requestedMetrics) {
+                values.put(metric, row.values().get(metric));
+            }
+        }
+
+        return DividendScreenResponse.ScreenResult.builder()
+                .company(row.company())
+                .viability(DividendOverviewResponse.ViabilitySummary.builder()
+                        .rating(row.rating())
+                        .activeAlerts(row.activeAlerts())
+                        .score(row.score())
+                        .build())
+                .values(values)
+                .warnings(row.warnings())
+                .asOf(row.computedAt())
+                .stale(row.computedAt() == null || row.computedAt().isBefore(now.minus(SNAPSHOT_STALE_AFTER)))
+                .build();
+    }
+
+    private String resolveSortKey(String sort, Set<String> supportedMetrics) {
+        String normalizedSort = blankToNull(sort) != null ? sort.trim().toLowerCase(Locale.ROOT) : "score";
+        if (DividendMetricsColumnStore.SORT_NAME.equals(normalizedSort)
+                || DividendMetricsColumnStore.SORT_TICKER.equals(normalizedSort)) {
+            return normalizedSort;
+        }
+        if (!supportedMetrics.contains(normalizedSort)) {
+            String supported = String.join(", ", supportedMetrics);
+            throw new IllegalArgumentException(
+                    "Unsupported dividend screen sort field: " + sort
+                            + ". Supported fields: " + supported + ", name, ticker");
+        }
+        return normalizedSort;
+    }
+
+    private boolean isDescending(String direction) {
+        return direction == null || !"asc".equalsIgnoreCase(direction);
+    }
+
+    private String requireSupportedMetric(String metric, Set<String> supportedMetrics) {
+        String normalizedMetric = metric.toLowerCase(Locale.ROOT);
+        if (!supportedMetrics.contains(normalizedMetric)) {
+            throw new IllegalArgumentException(
+                    "Unsupported dividend screen metric: " + metric
+                            + ". Supported metrics: " + String.join(", ", supportedMetrics));
+        }
+        return normalizedMetric;
+    }
+
     private Double normalizeScreenBound(String metric, Double rawValue, Map<String, String> metricFormatHints) {
         if (rawValue == null) {
             return null;
@@ -26,17 +26,20 @@ import org.jds.edgar4j.model.CompanyMarketData;
 import org.jds.edgar4j.model.CompanyTicker;
 import org.jds.edgar4j.model.DividendAnalysisSnapshot;
 import org.jds.edgar4j.model.DividendAlertResolution;
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.model.DividendSyncState;
 import org.jds.edgar4j.model.DownloadJob;
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.model.Form13DG;
 import org.jds.edgar4j.model.Form13F;
+import org.jds.edgar4j.model.Form13FPositionChange;
 import org.jds.edgar4j.model.Form20F;
 import org.jds.edgar4j.model.Form3;
 import org.jds.edgar4j.model.Form4;
 import org.jds.edgar4j.model.Form5;
 import org.jds.edgar4j.model.Form6K;
 import org.jds.edgar4j.model.Form8K;
+import org.jds.edgar4j.model.InsiderTransactionFact;
 import org.jds.edgar4j.model.SearchHistory;
 import org.jds.edgar4j.model.Sp500Constituent;
 import org.jds.edgar4j.model.Submissions;
@@ -52,10 +55,12 @@ import org.jds.edgar4j.port.CompanyTickerDataPort;
 import org.jds.edgar4j.port.DownloadJobDataPort;
 import org.jds.edgar4j.port.DividendAnalysisSnapshotDataPort;
 import org.jds.edgar4j.port.DividendAlertResolutionDataPort;
+import org.jds.edgar4j.port.DividendSyncRunDataPort;
 import org.jds.edgar4j.port.DividendSyncStateDataPort;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.port.Form13DGDataPort;
 import org.jds.edgar4j.port.Form13FDataPort;
+import org.jds.edgar4j.port.Form13FPositionChangeDataPort;
 import org.jds.edgar4j.port.Form20FDataPort;
 import org.jds.edgar4j.port.Form3DataPort;
 import org.jds.edgar4j.port.Form4DataPort;
@@ -66,6 +71,7 @@ import org.jds.edgar4j.port.InsiderCompanyDataPort;
 import org.jds.edgar4j.port.InsiderCompanyRelationshipDataPort;
 import org.jds.edgar4j.port.InsiderDataPort;
 import org.jds.edgar4j.port.InsiderTransactionDataPort;
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
 import org.jds.edgar4j.port.SearchHistoryDataPort;
 import org.jds.edgar4j.port.Sp500ConstituentDataPort;
 import org.jds.edgar4j.port.SubmissionsDataPort;
@@ -73,6 +79,7 @@ import org.jds.edgar4j.port.TickerDataPort;
 import org.jds.edgar4j.port.TransactionTypeDataPort;
 import org.jds.edgar4j.service.DataMigrationService;
 import org.jds.edgar4j.storage.file.FileFormat;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.ListCrudRepository;
@@ -99,6 +106,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     private static final Set<String> REQUIRED_COLLECTIONS = Set.of("form4", "companies", "tickers");
 
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     private final ResourceModeInfo resourceModeInfo;
     private final AppSettingsDataPort appSettingsDataPort;
     private final CompanyDataPort companyDataPort;
@@ -108,6 +116,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     private final DividendAnalysisSnapshotDataPort dividendAnalysisSnapshotDataPort;
     private final DividendAlertResolutionDataPort dividendAlertResolutionDataPort;
     private final DividendSyncStateDataPort dividendSyncStateDataPort;
+    private final DividendSyncRunDataPort dividendSyncRunDataPort;
     private final FillingDataPort fillingDataPort;
     private final Form3DataPort form3DataPort;
     private final Form4DataPort form4DataPort;
@@ -116,6 +125,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     private final Form8KDataPort form8KDataPort;
     private final Form13DGDataPort form13DGDataPort;
     private final Form13FDataPort form13FDataPort;
+    private final Form13FPositionChangeDataPort form13FPositionChangeDataPort;
     private final Form20FDataPort form20FDataPort;
     private final SearchHistoryDataPort searchHistoryDataPort;
     private final Sp500ConstituentDataPort sp500ConstituentDataPort;
@@ -125,6 +135,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     private final InsiderCompanyRelationshipDataPort insiderCompanyRelationshipDataPort;
     private final InsiderDataPort insiderDataPort;
     private final InsiderTransactionDataPort insiderTransactionDataPort;
+    private final InsiderTransactionFactDataPort insiderTransactionFactDataPort;
     private final TransactionTypeDataPort transactionTypeDataPort;
 
     private final Map<String, CollectionHandler<?>> collectionHandlers = new LinkedHashMap<>();
@@ -148,6 +159,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         registerJsonl("dividend_analysis_snapshots", FileFormat.JSONL, DividendAnalysisSnapshot.class, dividendAnalysisSnapshotDataPort);
         registerJsonl("dividend_alert_resolutions", FileFormat.JSONL, DividendAlertResolution.class, dividendAlertResolutionDataPort);
         registerJsonl("dividend_sync_states", FileFormat.JSONL, DividendSyncState.class, dividendSyncStateDataPort);
+        registerJsonl("dividend_sync_runs", FileFormat.JSONL, DividendSyncRun.class, dividendSyncRunDataPort);
         registerJsonl("fillings", FileFormat.JSONL, Filling.class, fillingDataPort);
         registerJsonl("form3", FileFormat.JSONL, Form3.class, form3DataPort);
         registerJsonl("form4", FileFormat.JSONL, Form4.class, form4DataPort);
@@ -156,6 +168,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         registerJsonl("form8k", FileFormat.JSONL, Form8K.class, form8KDataPort);
         registerJsonl("form13dg", FileFormat.JSONL, Form13DG.class, form13DGDataPort);
         registerJsonl("form13f", FileFormat.JSONL, Form13F.class, form13FDataPort);
+        registerJsonl("form13f_position_changes", FileFormat.JSONL, Form13FPositionChange.class, form13FPositionChangeDataPort);
         registerJsonl("form20f", FileFormat.JSONL, Form20F.class, form20FDataPort);
         registerJsonl("search_history", FileFormat.JSONL, SearchHistory.class, searchHistoryDataPort);
         registerJsonl("sp500_constituents", FileFormat.JSONL, Sp500Constituent.class, sp500ConstituentDataPort);
@@ -165,6 +178,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         registerJsonl("insider_company_relationships", FileFormat.JSONL, InsiderCompanyRelationship.class, insiderCompanyRelationshipDataPort);
         registerJsonl("insiders", FileFormat.JSONL, Insider.class, insiderDataPort);
         registerJsonl("insider_transactions", FileFormat.JSONL, InsiderTransaction.class, insiderTransactionDataPort);
+        registerJsonl("insider_transaction_facts", FileFormat.JSONL, InsiderTransactionFact.class, insiderTransactionFactDataPort);
         registerCsv("transaction_types", TransactionType.class, transactionTypeDataPort);
     }
 
@@ -353,7 +367,12 @@ public class DataMigrationServiceImpl implements DataMigrationService {
             Path importRoot,
             CollectionManifestEntry manifestEntry) throws IOException {
         Path inputFile = importRoot.resolve(manifestEntry.file());
-        long recordCount = handler.importRecords(inputFile, migrationObjectMapper);
+        long recordCount;
+        try {
+            recordCount = handler.importRecords(inputFile, migrationObjectMapper);
+        } finally {
+            eventPublisher.publishEvent(new CollectionImportedEvent(handler.name));
+        }
         return new CollectionReport(
                 handler.name,
                 manifestEntry.file(),
@@ -1,5 +1,6 @@
 package org.jds.edgar4j.service.impl;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -34,6 +35,7 @@ import org.jds.edgar4j.service.dividend.DividendScreeningService;
 import org.jds.edgar4j.service.impl.DividendFilingAnalysisService.AnalyzedFilingData;
 import org.jds.edgar4j.service.impl.DividendFilingAnalysisService.DividendFactPoint;
 import org.jds.edgar4j.service.impl.DividendHistoryAnalysisService.HistoryRowData;
+import org.jds.edgar4j.storage.DividendMetricsColumnStore;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -72,7 +74,9 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
     public DividendOverviewResponse getOverview(String tickerOrCik) {
         DividendAnalysisContext context = analyze(tickerOrCik, true);
         DividendOverviewResponse overview = buildOverview(context);
-        dividendAnalysisSnapshotService.saveOverview(overview);
+        dividendAnalysisSnapshotService.saveOverview(
+                overview,
+                dividendPeerAnalysisService.toScreeningCandidate(context).comparisonMetrics());
         return overview;
     }
 
@@ -260,6 +264,61 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
     @Override
     public DividendScreenResponse screen(DividendScreenRequest request) {
         DividendScreenRequest normalizedRequest = request != null ? request : DividendScreenRequest.builder().build();
+        return screenSnapshots(normalizedRequest).orElseGet(() -> screenLive(normalizedRequest));
+    }
+
+    /**
+     * Screens every company with a stored metrics row instead of analyzing candidates one by one.
+     * Empty until a sync or overview request has stored at least one row. Requested identifiers
+     * without a stored row are analyzed live and merged into the stored matches.
+     */
+    private Optional<DividendScreenResponse> screenSnapshots(DividendScreenRequest request) {
+        List<String> identifiers = dividendCompanyContextService.normalizeIdentifiers(request.getTickersOrCiks());
+        DividendMetricsColumnStore.Query query = dividendScreeningService.buildSnapshotQuery(
+                request,
+                identifiers,
+                dividendMetricCatalogService.metricIds(),
+                dividendMetricCatalogService.metricFormatHints());
+        if (!identifiers.isEmpty()) {
+            // An explicit list is small: take every stored match so live results can be merged before paging
+            query = new DividendMetricsColumnStore.Query(query.identifiers(), query.searchTerm(), query.ratings(),
+                    query.sectors(), query.bounds(), query.sortKey(), query.descending(), 0, identifiers.size());
+        }
+        Optional<DividendMetricsColumnStore.Result> screened = dividendAnalysisSnapshotService.screenMetrics(query);
+        if (screened.isEmpty()) {
+            return Optional.empty();
+        }
+
+        DividendMetricsColumnStore.Result result = screened.get();
+        List<String> requestedMetrics = dividendMetricCatalogService.resolveScreenMetrics(request);
+        Instant now = Instant.now();
+        List<DividendScreenResponse.ScreenResult> rows = result.rows().stream()
+                .map(row -> dividendScreeningService.buildScreenResult(row, requestedMetrics, now))
+                .toList();
+
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, request.getSize());
+        if (identifiers.isEmpty()) {
+            return Optional.of(DividendScreenResponse.builder()
+                    .metrics(dividendMetricCatalogService.metricDefinitions(requestedMetrics))
+                    .results(PaginatedResponse.of(rows, page, size, result.matched()))
+                    .candidatesEvaluated(result.evaluated())
+                    .warnings(List.of())
+                    .build());
+        }
+
+        List<String> warnings = new ArrayList<>();
+        List<DividendScreenResponse.ScreenResult> results = new ArrayList<>(rows);
+        results.addAll(screenLiveCandidates(result.unmatchedIdentifiers(), request, requestedMetrics, warnings));
+        return Optional.of(DividendScreenResponse.builder()
+                .metrics(dividendMetricCatalogService.metricDefinitions(requestedMetrics))
+                .results(sortAndPage(results, request, page, size))
+                .candidatesEvaluated(result.evaluated() + result.unmatchedIdentifiers().size())
+                .warnings(warnings.stream().distinct().toList())
+                .build());
+    }
+
+    private DividendScreenResponse screenLive(DividendScreenRequest normalizedRequest) {
         int page = Math.max(0, normalizedRequest.getPage());
         int size = Math.max(1, normalizedRequest.getSize());
         int candidateLimit = Math.max(1, Math.min(
@@ -272,6 +331,28 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
         }
 
         List<String> requestedMetrics = dividendMetricCatalogService.resolveScreenMetrics(normalizedRequest);
+        List<DividendScreenResponse.ScreenResult> results =
+                screenLiveCandidates(identifiers, normalizedRequest, requestedMetrics, warnings);
+
+        List<DividendMetricDefinitionResponse> metricDefinitions =
+                dividendMetricCatalogService.metricDefinitions(requestedMetrics);
+
+        return DividendScreenResponse.builder()
+                .metrics(metricDefinitions)
+                .results(sortAndPage(results, normalizedRequest, page, size))
+                .candidatesEvaluated(identifiers.size())
+                .warnings(warnings.stream().distinct().toList())
+                .build();
+    }
+
+    /**
+     * Analyzes each identifier and keeps the ones that pass the request's filters; failures become warnings.
+     */
+    private List<DividendScreenResponse.ScreenResult> screenLiveCandidates(
+            List<String> identifiers,
+            DividendScreenRequest request,
+            List<String> requestedMetrics,
+            List<String> warnings) {
         Map<String, String> metricFormatHints = dividendMetricCatalogService.metricFormatHints();
         List<DividendScreenResponse.ScreenResult> results = new ArrayList<>();
 
@@ -282,7 +363,7 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
                         dividendPeerAnalysisService.toScreeningCandidate(context);
                 if (dividendScreeningService.matchesScreenFilters(
                         screeningCandidate,
-                        normalizedRequest.getFilters(),
+                        request.getFilters(),
                         dividendMetricCatalogService.metricIds(),
                         metricFormatHints)) {
                     results.add(dividendPeerAnalysisService.buildScreenResult(context, requestedMetrics));
@@ -291,10 +372,17 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
                 warnings.add("Could not analyze " + identifier + ": " + e.getMessage());
             }
         }
+        return results;
+    }
 
+    private PaginatedResponse<DividendScreenResponse.ScreenResult> sortAndPage(
+            List<DividendScreenResponse.ScreenResult> results,
+            DividendScreenRequest request,
+            int page,
+            int size) {
         Comparator<DividendScreenResponse.ScreenResult> comparator = dividendScreeningService.buildScreenComparator(
-                dividendCompanyContextService.blankToNull(normalizedRequest.getSort()),
-                normalizedRequest.getDirection(),
+                dividendCompanyContextService.blankToNull(request.getSort()),
+                request.getDirection(),
                 dividendMetricCatalogService.metricIds());
         List<DividendScreenResponse.ScreenResult> sortedResults = results.stream()
                 .sorted(comparator)
@@ -302,21 +390,11 @@ public class DividendAnalysisServiceImpl implements DividendAnalysisService {
 
         int fromIndex = Math.min(page * size, sortedResults.size());
         int toIndex = Math.min(fromIndex + size, sortedResults.size());
-        PaginatedResponse<DividendScreenResponse.ScreenResult> paginated = PaginatedResponse.of(
+        return PaginatedResponse.of(
                 sortedResults.subList(fromIndex, toIndex),
                 page,
                 size,
                 sortedResults.size());
-
-        List<DividendMetricDefinitionResponse> metricDefinitions =
-                dividendMetricCatalogService.metricDefinitions(requestedMetrics);
-
-        return DividendScreenResponse.builder()
-                .metrics(metricDefinitions)
-                .results(paginated)
-                .candidatesEvaluated(identifiers.size())
-                .warnings(warnings.stream().distinct().toList())
-                .build();
     }
 
     private DividendAnalysisContext analyze(String tickerOrCik, boolean applyAlertResolutions) {
@@ -12,14 +12,23 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.jds.edgar4j.dto.response.CompanyResponse;
 import org.jds.edgar4j.dto.response.DividendOverviewResponse;
 import org.jds.edgar4j.dto.response.DividendSyncStatusResponse;
 import org.jds.edgar4j.exception.ResourceNotFoundException;
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.model.DividendSyncState;
 import org.jds.edgar4j.model.Filling;
+import org.jds.edgar4j.port.DividendSyncRunDataPort;
 import org.jds.edgar4j.port.DividendSyncStateDataPort;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.service.CompanyMarketDataService;
@@ -29,6 +38,7 @@ import org.jds.edgar4j.service.DividendSyncService;
 import org.jds.edgar4j.service.DownloadSubmissionsService;
 import org.jds.edgar4j.service.Sp500Service;
 import org.jds.edgar4j.service.xbrl.CompanyFactsIngestionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -43,6 +53,10 @@ public class DividendSyncServiceImpl implements DividendSyncService {
 
     private static final int RECENT_FILING_LIMIT = 25;
     private static final Set<String> CURRENT_REPORT_FORMS = Set.of("8-K", "8-K/A");
+    private static final int DEFAULT_SYNC_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_SYNC_CONCURRENCY = 16;
+    private static final int MARKET_DATA_CONCURRENCY = 2;
+    private static final int RUN_PROGRESS_SAVE_EVERY = 10;
 
     private final CompanyService companyService;
     private final DownloadSubmissionsService downloadSubmissionsService;
@@ -52,6 +66,18 @@ public class DividendSyncServiceImpl implements DividendSyncService {
     private final DividendAnalysisService dividendAnalysisService;
     private final Sp500Service sp500Service;
     private final CompanyFactsIngestionService companyFactsIngestionService;
+    private final DividendSyncRunDataPort dividendSyncRunRepository;
+
+    /**
+     * Quote providers enforce their own request windows; this only keeps concurrent company syncs from
+     * queuing more quote calls than a provider window can absorb. SEC calls are paced by the SEC rate
+     * limiter and need no permit here.
+     */
+    private final Semaphore marketDataPermits = new Semaphore(MARKET_DATA_CONCURRENCY);
+    private final AtomicReference<DividendSyncRun> activeRun = new AtomicReference<>();
+
+    @Value("${edgar4j.jobs.dividend-sync.max-concurrency:" + DEFAULT_MAX_SYNC_CONCURRENCY + "}")
+    private int maxSyncConcurrency;
 
     @Override
     public DividendSyncStatusResponse syncCompany(String tickerOrCik, boolean refreshMarketData) {
@@ -92,7 +118,12 @@ public class DividendSyncServiceImpl implements DividendSyncService {
             state.setFactsVersion(factsChanged ? state.getFactsVersion() + 1 : state.getFactsVersion());
 
             if (refreshMarketData && ticker != null) {
-                companyMarketDataService.fetchAndSaveQuote(ticker);
+                marketDataPermits.acquireUninterruptibly();
+                try {
+                    companyMarketDataService.fetchAndSaveQuote(ticker);
+                } finally {
+                    marketDataPermits.release();
+                }
                 state.setLastMarketDataSync(now);
                 refreshedMarketData = true;
             } else if (refreshMarketData) {
@@ -230,14 +261,61 @@ public class DividendSyncServiceImpl implements DividendSyncService {
 
     @Override
     public List<DividendSyncStatusResponse> syncTrackedCompanies(int maxCompanies, boolean refreshMarketData) {
-        Set<String> identifiers = resolveTrackedSyncIdentifiers();
-        return identifiers.stream()
+        return syncConcurrently(planTrackedSync(maxCompanies), refreshMarketData, DEFAULT_SYNC_CONCURRENCY, sync -> {
+        }).stream()
+                .map(CompanySync::response)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public DividendSyncRun runTrackedSync(int maxCompanies, boolean refreshMarketData, int concurrency) {
+        Optional<DividendSyncRun> claimed = claimRun(maxCompanies, refreshMarketData, concurrency);
+        if (claimed.isEmpty()) {
+            log.info("Dividend sync run already in progress, not starting another");
+            return activeRunSnapshot();
+        }
+        DividendSyncRun run = claimed.get();
+        executeRun(run);
+        synchronized (run) {
+            return copyOf(run);
+        }
+    }
+
+    @Override
+    public DividendSyncRun startTrackedSync(int maxCompanies, boolean refreshMarketData, int concurrency) {
+        Optional<DividendSyncRun> claimed = claimRun(maxCompanies, refreshMarketData, concurrency);
+        if (claimed.isEmpty()) {
+            log.info("Dividend sync run already in progress; requested maxCompanies={} refreshMarketData={} "
+                    + "concurrency={} not applied", maxCompanies, refreshMarketData, concurrency);
+            return activeRunSnapshot();
+        }
+        DividendSyncRun run = claimed.get();
+        DividendSyncRun snapshot;
+        synchronized (run) {
+            snapshot = copyOf(run);
+        }
+        Thread.ofVirtual().name("edgar4j-dividend-sync-run").start(() -> executeRun(run));
+        return snapshot;
+    }
+
+    @Override
+    public DividendSyncRun getSyncRun(String runId) {
+        return dividendSyncRunRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dividend sync run", "id", runId));
+    }
+
+    @Override
+    public List<DividendSyncRun> getRecentSyncRuns() {
+        return dividendSyncRunRepository.findTop10ByOrderByStartedAtDesc();
+    }
+
+    private List<String> planTrackedSync(int maxCompanies) {
+        return resolveTrackedSyncIdentifiers().stream()
                 .filter(Objects::nonNull)
                 .filter(identifier -> !identifier.isBlank())
                 .sorted(String.CASE_INSENSITIVE_ORDER)
                 .limit(maxCompanies > 0 ? maxCompanies : Long.MAX_VALUE)
-                .map(identifier -> syncTrackedCompanySafely(identifier, refreshMarketData))
-                .flatMap(Optional::stream)
                 .toList();
     }
 
@@ -248,7 +326,7 @@ public class DividendSyncServiceImpl implements DividendSyncService {
                         Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
                 .map(state -> firstNonBlank(state.getTicker(), state.getCik()))
                 .filter(Objects::nonNull)
-                .collect(java.util.stream.Collectors.toCollection(LinkedHashSet::new));
+                .collect(Collectors.toCollection(LinkedHashSet::new));
         if (!trackedIdentifiers.isEmpty()) {
             return trackedIdentifiers;
         }
@@ -256,17 +334,208 @@ public class DividendSyncServiceImpl implements DividendSyncService {
         return new LinkedHashSet<>(sp500Service.getAllTickers());
     }
 
-    private Optional<DividendSyncStatusResponse> syncTrackedCompanySafely(
-            String tickerOrCik,
-            boolean refreshMarketData) {
+    /**
+     * Claims the run this process will execute: the most recent unfinished run if one was left behind,
+     * otherwise a new one. Empty while another run is executing.
+     */
+    private synchronized Optional<DividendSyncRun> claimRun(int maxCompanies, boolean refreshMarketData, int concurrency) {
+        if (activeRun.get() != null) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        DividendSyncRun run = dividendSyncRunRepository
+                .findFirstByStatusOrderByStartedAtDesc(DividendSyncRun.RunStatus.RUNNING)
+                .map(this::copyOf)
+                .orElse(null);
+        if (run != null) {
+            run.setResumeCount(run.getResumeCount() + 1);
+            run.setConcurrency(clampConcurrency(run.getConcurrency()));
+            log.info("Resuming dividend sync run {} at {} of {} companies with its original settings "
+                            + "(refreshMarketData={}, concurrency={}); requested maxCompanies={} refreshMarketData={} "
+                            + "concurrency={} not applied",
+                    run.getId(), run.getResults().size(), run.getTotalCompanies(),
+                    run.isRefreshMarketData(), run.getConcurrency(),
+                    maxCompanies, refreshMarketData, concurrency);
+        } else {
+            List<String> identifiers = planTrackedSync(maxCompanies);
+            run = DividendSyncRun.builder()
+                    .status(DividendSyncRun.RunStatus.RUNNING)
+                    .refreshMarketData(refreshMarketData)
+                    .concurrency(clampConcurrency(concurrency))
+                    .identifiers(new ArrayList<>(identifiers))
+                    .totalCompanies(identifiers.size())
+                    .startedAt(now)
+                    .build();
+        }
+        run.setUpdatedAt(now);
+        run.setId(dividendSyncRunRepository.save(copyOf(run)).getId());
+        activeRun.set(run);
+        return Optional.of(run);
+    }
+
+    /**
+     * Bounds a requested concurrency to {@code edgar4j.jobs.dividend-sync.max-concurrency}.
+     */
+    private int clampConcurrency(int concurrency) {
+        int max = maxSyncConcurrency > 0 ? maxSyncConcurrency : DEFAULT_MAX_SYNC_CONCURRENCY;
+        return Math.max(1, Math.min(concurrency, max));
+    }
+
+    private void executeRun(DividendSyncRun run) {
+        Set<String> attempted = run.getResults().stream()
+                .map(DividendSyncRun.CompanyResult::getIdentifier)
+                .collect(Collectors.toSet());
+        List<String> remaining = run.getIdentifiers().stream()
+                .filter(identifier -> !attempted.contains(identifier))
+                .toList();
+        long started = System.nanoTime();
+        log.info("Dividend sync run {} syncing {} of {} companies, {} at a time",
+                run.getId(), remaining.size(), run.getTotalCompanies(), run.getConcurrency());
+
+        DividendSyncRun.RunStatus status = DividendSyncRun.RunStatus.COMPLETED;
+        String errorMessage = null;
         try {
-            return Optional.of(syncCompany(tickerOrCik, refreshMarketData));
+            syncConcurrently(remaining, run.isRefreshMarketData(), run.getConcurrency(),
+                    sync -> recordResult(run, sync));
+        } catch (RuntimeException e) {
+            log.error("Dividend sync run {} failed", run.getId(), e);
+            status = DividendSyncRun.RunStatus.FAILED;
+            errorMessage = e.getMessage();
+        } finally {
+            synchronized (run) {
+                Instant now = Instant.now();
+                run.setStatus(status);
+                run.setErrorMessage(errorMessage);
+                run.setUpdatedAt(now);
+                run.setCompletedAt(now);
+                saveRun(run);
+            }
+            activeRun.set(null);
+        }
+        log.info("Dividend sync run {} finished: {} succeeded, {} failed in {} ms",
+                run.getId(), run.getSucceededCompanies(), run.getFailedCompanies(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Syncs {@code identifiers} on virtual threads, at most {@code concurrency} at a time, and returns
+     * the outcomes in identifier order. {@code onCompleted} runs on the worker thread as each company
+     * finishes.
+     */
+    private List<CompanySync> syncConcurrently(
+            List<String> identifiers,
+            boolean refreshMarketData,
+            int concurrency,
+            Consumer<CompanySync> onCompleted) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<Future<CompanySync>> futures = new ArrayList<>(identifiers.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String identifier : identifiers) {
+                permits.acquireUninterruptibly();
+                futures.add(executor.submit(() -> {
+                    try {
+                        CompanySync sync = syncTrackedCompanySafely(identifier, refreshMarketData);
+                        onCompleted.accept(sync);
+                        return sync;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        return futures.stream().map(Future::resultNow).toList();
+    }
+
+    private CompanySync syncTrackedCompanySafely(String tickerOrCik, boolean refreshMarketData) {
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        try {
+            DividendSyncStatusResponse response = syncCompany(tickerOrCik, refreshMarketData);
+            String error = response.getStatus() == DividendSyncState.SyncStatus.ERROR
+                    ? firstNonBlank(response.getErrorMessage(), "Dividend sync failed")
+                    : null;
+            return new CompanySync(tickerOrCik, startedAt, elapsedMillis(started), response, error);
         } catch (RuntimeException e) {
             log.warn("Skipping dividend sync for tracked company {}: {}", tickerOrCik, e.getMessage());
-            return Optional.empty();
+            return new CompanySync(tickerOrCik, startedAt, elapsedMillis(started), null,
+                    firstNonBlank(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+
+    private void recordResult(DividendSyncRun run, CompanySync sync) {
+        DividendOverviewResponse.CompanySummary company = sync.response() != null ? sync.response().getCompany() : null;
+        synchronized (run) {
+            run.getResults().add(DividendSyncRun.CompanyResult.builder()
+                    .identifier(sync.identifier())
+                    .cik(company != null ? company.getCik() : null)
+                    .ticker(company != null ? company.getTicker() : null)
+                    .outcome(sync.error() == null
+                            ? DividendSyncRun.Outcome.SUCCEEDED
+                            : DividendSyncRun.Outcome.FAILED)
+                    .errorMessage(sync.error())
+                    .startedAt(sync.startedAt())
+                    .durationMillis(sync.durationMillis())
+                    .build());
+            run.setCompletedCompanies(run.getResults().size());
+            if (sync.error() == null) {
+                run.setSucceededCompanies(run.getSucceededCompanies() + 1);
+            } else {
+                run.setFailedCompanies(run.getFailedCompanies() + 1);
+            }
+            run.setUpdatedAt(Instant.now());
+            if (run.getCompletedCompanies() % RUN_PROGRESS_SAVE_EVERY == 0) {
+                saveRun(run);
+            }
         }
     }
 
+    private void saveRun(DividendSyncRun run) {
+        try {
+            dividendSyncRunRepository.save(copyOf(run));
+        } catch (RuntimeException e) {
+            log.warn("Failed to save progress of dividend sync run {}: {}", run.getId(), e.getMessage());
+        }
+    }
+
+    private DividendSyncRun activeRunSnapshot() {
+        DividendSyncRun run = activeRun.get();
+        if (run == null) {
+            return dividendSyncRunRepository.findTop10ByOrderByStartedAtDesc().stream().findFirst().orElse(null);
+        }
+        synchronized (run) {
+            return copyOf(run);
+        }
+    }
+
+    /**
+     * Stores are handed a copy so a saved or returned run never shares the results list that workers
+     * are still appending to.
+     */
+    private DividendSyncRun copyOf(DividendSyncRun run) {
+        return DividendSyncRun.builder()
+                .id(run.getId())
+                .status(run.getStatus())
+                .refreshMarketData(run.isRefreshMarketData())
+                .concurrency(run.getConcurrency())
+                .identifiers(run.getIdentifiers() != null ? new ArrayList<>(run.getIdentifiers()) : new ArrayList<>())
+                .results(run.getResults() != null ? new ArrayList<>(run.getResults()) : new ArrayList<>())
+                .totalCompanies(run.getTotalCompanies())
+                .completedCompanies(run.getCompletedCompanies())
+                .succeededCompanies(run.getSucceededCompanies())
+                .failedCompanies(run.getFailedCompanies())
+                .resumeCount(run.getResumeCount())
+                .errorMessage(run.getErrorMessage())
+                .startedAt(run.getStartedAt())
+                .updatedAt(run.getUpdatedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+
+    private long elapsedMillis(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
     private CompanyResponse resolveCompany(String tickerOrCik) {
         String identifier = blankToNull(tickerOrCik)
                 .orElseThrow(() -> new IllegalArgumentException("tickerOrCik must not be blank"));
@@ -440,4 +709,12 @@ public class DividendSyncServiceImpl implements DividendSyncService {
         }
         return null;
     }
+
+    private record CompanySync(
+            String identifier,
+            Instant startedAt,
+            long durationMillis,
+            DividendSyncStatusResponse response,
+            String error) {
+    }
 }
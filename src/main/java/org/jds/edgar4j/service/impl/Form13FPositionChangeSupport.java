@@ -0,0 +1,114 @@
+package org.jds.edgar4j.service.impl;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jds.edgar4j.model.Form13FPositionChange;
+import org.jds.edgar4j.model.Form13FPositionChange.ChangeType;
+import org.jds.edgar4j.service.Form13FService.InstitutionalFlow;
+import org.jds.edgar4j.storage.HoldingsColumnStore.Portfolio;
+import org.jds.edgar4j.storage.HoldingsColumnStore.Position;
+
+final class Form13FPositionChangeSupport {
+
+    private Form13FPositionChangeSupport() {
+    }
+
+    /**
+     * Diffs a filer's portfolio against its previous report. Positions held in both periods with
+     * unchanged shares produce no change.
+     */
+    static List<Form13FPositionChange> diff(Portfolio previous, Portfolio current, Instant computedAt) {
+        Map<String, Position> previousByCusip = new HashMap<>();
+        for (Position position : previous.positions()) {
+            previousByCusip.put(position.cusip(), position);
+        }
+
+        List<Form13FPositionChange> changes = new ArrayList<>();
+        for (Position after : current.positions()) {
+            Position before = previousByCusip.remove(after.cusip());
+            if (before == null) {
+                changes.add(change(previous, current, ChangeType.NEW, null, after, computedAt));
+            } else if (after.shares() > before.shares()) {
+                changes.add(change(previous, current, ChangeType.INCREASED, before, after, computedAt));
+            } else if (after.shares() < before.shares()) {
+                changes.add(change(previous, current, ChangeType.DECREASED, before, after, computedAt));
+            }
+        }
+        for (Position before : previous.positions()) {
+            if (previousByCusip.containsKey(before.cusip())) {
+                changes.add(change(previous, current, ChangeType.CLOSED, before, null, computedAt));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Nets the position changes of every filer in one security and period.
+     */
+    static InstitutionalFlow flow(String cusip, LocalDate reportPeriod, List<Form13FPositionChange> changes) {
+        String issuerName = null;
+        int newPositions = 0;
+        int closedPositions = 0;
+        int increasedPositions = 0;
+        int decreasedPositions = 0;
+        long sharesBought = 0;
+        long sharesSold = 0;
+        long netValueChange = 0;
+
+        for (Form13FPositionChange change : changes) {
+            if (issuerName == null) {
+                issuerName = change.getIssuerName();
+            }
+            switch (change.getChangeType()) {
+                case NEW -> newPositions++;
+                case CLOSED -> closedPositions++;
+                case INCREASED -> increasedPositions++;
+                case DECREASED -> decreasedPositions++;
+            }
+            long shareChange = change.shareChange();
+            if (shareChange > 0) {
+                sharesBought += shareChange;
+            } else {
+                sharesSold -= shareChange;
+            }
+            netValueChange += change.valueChange();
+        }
+
+        return new InstitutionalFlow(
+                cusip, issuerName, reportPeriod,
+                newPositions, closedPositions, increasedPositions, decreasedPositions,
+                sharesBought, sharesSold, sharesBought - sharesSold, netValueChange);
+    }
+
+    private static Form13FPositionChange change(
+            Portfolio previous,
+            Portfolio current,
+            ChangeType changeType,
+            Position before,
+            Position after,
+            Instant computedAt) {
+        Position held = after != null ? after : before;
+        return Form13FPositionChange.builder()
+                .changeKey(Form13FPositionChange.changeKey(current.cik(), current.reportPeriod(), held.cusip()))
+                .cik(current.cik())
+                .filerName(current.filerName())
+                .cusip(held.cusip())
+                .issuerName(held.issuerName())
+                .reportPeriod(current.reportPeriod())
+                .accessionNumber(current.accessionNumber())
+                .previousReportPeriod(previous.reportPeriod())
+                .previousAccessionNumber(previous.accessionNumber())
+                .changeType(changeType)
+                .sharesBefore(before != null ? before.shares() : null)
+                .sharesAfter(after != null ? after.shares() : null)
+                .valueBefore(before != null ? before.value() : null)
+                .valueAfter(after != null ? after.value() : null)
+                .computedAt(computedAt)
+                .build();
+    }
+}
@@ -1,23 +1,35 @@
 package org.jds.edgar4j.service.impl;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.jds.edgar4j.integration.Form13FParser;
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.model.Form13F;
 import org.jds.edgar4j.model.Form13FHolding;
+import org.jds.edgar4j.model.Form13FPositionChange;
 import org.jds.edgar4j.port.Form13FDataPort;
-import org.jds.edgar4j.repository.Form13FRepository;
+import org.jds.edgar4j.port.Form13FPositionChangeDataPort;
 import org.jds.edgar4j.repository.Form13FRepository.FilerSummary;
 import org.jds.edgar4j.repository.Form13FRepository.HoldingSummary;
 import org.jds.edgar4j.repository.Form13FRepository.PortfolioSnapshot;
+import org.jds.edgar4j.service.DataMigrationService.CollectionImportedEvent;
 import org.jds.edgar4j.service.Form13FService;
+import org.jds.edgar4j.storage.BackfillProgressStore;
+import org.jds.edgar4j.storage.HoldingsColumnStore;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,9 +47,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class Form13FServiceImpl implements Form13FService {
 
+    private static final int TOP_HOLDER_LIMIT = 10;
+    private static final int HOLDINGS_LOAD_PAGE_SIZE = 500;
+    private static final String FORM13F_COLLECTION = "form13f";
+    private static final String POSITION_CHANGE_BACKFILL = "form13f-position-changes";
+
     private final Form13FDataPort form13FRepository;
     private final Form13FParser form13FParser;
     private final SecApiClient secApiClient;
+    private final Form13FPositionChangeDataPort positionChangeRepository;
+    private final BackfillProgressStore backfillProgressStore;
+    private final HoldingsColumnStore holdingsStore = new HoldingsColumnStore();
+    private final Object holdingsLock = new Object();
+    private final Object positionChangeLock = new Object();
+    private volatile boolean holdingsLoaded;
 
     @Override
     public CompletableFuture<String> downloadForm13F(String cik, String accessionNumber, String infoTableDocument) {
@@ -105,7 +128,12 @@ public class Form13FServiceImpl implements Form13FService {
                 form13F.getAccessionNumber(), form13F.getFilerName());
         form13FRepository.findByAccessionNumber(form13F.getAccessionNumber())
                 .ifPresent(existing -> form13F.setId(existing.getId()));
-        return form13FRepository.save(form13F);
+        Form13F saved = form13FRepository.save(form13F);
+        if (saved != null) {
+            updateHoldings(store -> store.index(saved));
+            recordPositionChanges(List.of(saved));
+        }
+        return saved;
     }
 
     @Override
@@ -119,7 +147,10 @@ public class Form13FServiceImpl implements Form13FService {
                 Form13F::getAccessionNumber,
                 form13FRepository::findByAccessionNumber,
                 (current, existing) -> current.setId(existing.getId()));
-        return form13FRepository.saveAll(form13FList);
+        List<Form13F> saved = form13FRepository.saveAll(form13FList);
+        updateHoldings(store -> saved.forEach(store::index));
+        recordPositionChanges(saved);
+        return saved;
     }
 
     @Override
@@ -193,7 +224,37 @@ public class Form13FServiceImpl implements Form13FService {
     @Override
     public void deleteById(String id) {
         log.info("Deleting Form 13F: {}", id);
+        Optional<Form13F> existing = form13FRepository.findById(id);
         form13FRepository.deleteById(id);
+        updateHoldings(store -> store.remove(id));
+        existing.ifPresent(filing -> recordPositionChanges(List.of(filing)));
+    }
+
+    @Override
+    public long backfillPositionChanges() {
+        if (backfillProgressStore.isComplete(POSITION_CHANGE_BACKFILL)) {
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        long filerPeriods = 0;
+        HoldingsColumnStore store = holdings();
+        Instant computedAt = Instant.now();
+        Map<String, List<LocalDate>> periodsByFiler = store.reportPeriodsByFiler();
+        for (Map.Entry<String, List<LocalDate>> filer : periodsByFiler.entrySet()) {
+            // The first period has no baseline, so it never has changes to record
+            for (LocalDate reportPeriod : filer.getValue().subList(1, filer.getValue().size())) {
+                synchronized (positionChangeLock) {
+                    refreshPositionChanges(store, new FilerPeriod(filer.getKey(), reportPeriod), computedAt);
+                }
+                filerPeriods++;
+            }
+        }
+        backfillProgressStore.markComplete(POSITION_CHANGE_BACKFILL);
+
+        log.info("Backfilled 13F position changes for {} periods of {} filers in {} ms",
+                filerPeriods, periodsByFiler.size(), (System.nanoTime() - started) / 1_000_000);
+        return filerPeriods;
     }
 
     @Override
@@ -203,7 +264,15 @@ public class Form13FServiceImpl implements Form13FService {
 
     @Override
     public List<HoldingSummary> getTopHoldings(LocalDate reportPeriod, int limit) {
-        return form13FRepository.getTopHoldingsByPeriod(reportPeriod, limit);
+        return holdings().topHoldings(reportPeriod, limit).stream()
+                .map(total -> new HoldingSummaryView(
+                        total.cusip(),
+                        total.issuerName(),
+                        total.totalShares(),
+                        total.totalValue(),
+                        total.holderCount()))
+                .map(HoldingSummary.class::cast)
+                .toList();
     }
 
     @Override
@@ -230,46 +299,14 @@ public class Form13FServiceImpl implements Form13FService {
     public InstitutionalOwnershipStats getInstitutionalOwnership(String cusip, LocalDate reportPeriod) {
         log.debug("Getting institutional ownership for CUSIP: {} period: {}", cusip, reportPeriod);
 
-        List<Form13F> filings = form13FRepository.findByHoldingCusip(cusip);
-
-        // Filter by report period
-        List<Form13F> periodFilings = filings.stream()
-                .filter(f -> reportPeriod.equals(f.getReportPeriod()))
+        HoldingsColumnStore.Ownership ownership = holdings().ownership(cusip, reportPeriod, TOP_HOLDER_LIMIT);
+        List<TopHolder> topHolders = ownership.topHolders().stream()
+                .map(position -> new TopHolder(position.cik(), position.filerName(), position.shares(), position.value()))
                 .toList();
 
-        if (periodFilings.isEmpty()) {
-            return new InstitutionalOwnershipStats(cusip, null, reportPeriod, 0, 0L, 0L, List.of());
-        }
-
-        String issuerName = null;
-        long totalShares = 0;
-        long totalValue = 0;
-        List<TopHolder> topHolders = new ArrayList<>();
-
-        for (Form13F filing : periodFilings) {
-            for (Form13FHolding holding : filing.getHoldings()) {
-                if (cusip.equals(holding.getCusip())) {
-                    if (issuerName == null) {
-                        issuerName = holding.getNameOfIssuer();
-                    }
-                    long shares = holding.getSharesOrPrincipalAmount() != null ? holding.getSharesOrPrincipalAmount() : 0L;
-                    long value = holding.getValue() != null ? holding.getValue() : 0L;
-                    totalShares += shares;
-                    totalValue += value;
-                    topHolders.add(new TopHolder(filing.getCik(), filing.getFilerName(), shares, value));
-                }
-            }
-        }
-
-        // Sort and limit top holders
-        topHolders.sort((a, b) -> Long.compare(b.value(), a.value()));
-        if (topHolders.size() > 10) {
-            topHolders = topHolders.subList(0, 10);
-        }
-
         return new InstitutionalOwnershipStats(
-                cusip, issuerName, reportPeriod,
-                periodFilings.size(), totalShares, totalValue, topHolders
+                cusip, ownership.issuerName(), reportPeriod,
+                ownership.holderCount(), ownership.totalShares(), ownership.totalValue(), topHolders
         );
     }
 
@@ -277,29 +314,18 @@ public class Form13FServiceImpl implements Form13FService {
     public HoldingsComparison compareHoldings(String cik, LocalDate period1, LocalDate period2) {
         log.debug("Comparing holdings for CIK: {} between {} and {}", cik, period1, period2);
 
-        List<Form13F> filings1 = form13FRepository.findByCikAndReportPeriodBetweenList(cik, period1, period1);
-        List<Form13F> filings2 = form13FRepository.findByCikAndReportPeriodBetweenList(cik, period2, period2);
+        HoldingsColumnStore store = holdings();
+        Optional<HoldingsColumnStore.Portfolio> portfolio1 = store.portfolio(cik, period1);
+        Optional<HoldingsColumnStore.Portfolio> portfolio2 = store.portfolio(cik, period2);
 
-        if (filings1.isEmpty() || filings2.isEmpty()) {
+        if (portfolio1.isEmpty() || portfolio2.isEmpty()) {
             return new HoldingsComparison(cik, null, period1, period2,
                     List.of(), List.of(), List.of(), List.of(), 0L);
         }
 
-        Form13F filing1 = filings1.get(0);
-        Form13F filing2 = filings2.get(0);
-
-        Map<String, Form13FHolding> holdings1Map = new HashMap<>();
-        Map<String, Form13FHolding> holdings2Map = new HashMap<>();
-
-        if (filing1.getHoldings() != null) {
-            for (Form13FHolding h : filing1.getHoldings()) {
-                holdings1Map.put(h.getCusip(), h);
-            }
-        }
-        if (filing2.getHoldings() != null) {
-            for (Form13FHolding h : filing2.getHoldings()) {
-                holdings2Map.put(h.getCusip(), h);
-            }
+        Map<String, HoldingsColumnStore.Position> holdings1Map = new HashMap<>();
+        for (HoldingsColumnStore.Position position : portfolio1.get().positions()) {
+            holdings1Map.put(position.cusip(), position);
         }
 
         List<HoldingChange> newPositions = new ArrayList<>();
@@ -309,55 +335,66 @@ public class Form13FServiceImpl implements Form13FService {
         long totalValueChange = 0;
 
         // Find new and increased positions
-        for (Map.Entry<String, Form13FHolding> entry : holdings2Map.entrySet()) {
-            String cusip = entry.getKey();
-            Form13FHolding h2 = entry.getValue();
-            Form13FHolding h1 = holdings1Map.get(cusip);
+        Set<String> heldInPeriod2 = new HashSet<>();
+        for (HoldingsColumnStore.Position h2 : portfolio2.get().positions()) {
+            String cusip = h2.cusip();
+            heldInPeriod2.add(cusip);
+            HoldingsColumnStore.Position h1 = holdings1Map.get(cusip);
 
             if (h1 == null) {
-                // New position
-                newPositions.add(createHoldingChange(cusip, h2.getNameOfIssuer(), null, h2));
-                totalValueChange += h2.getValue() != null ? h2.getValue() : 0;
+                newPositions.add(createHoldingChange(cusip, h2.issuerName(), null, h2));
+                totalValueChange += h2.value();
             } else {
-                // Existing position - check for change
-                long shares1 = h1.getSharesOrPrincipalAmount() != null ? h1.getSharesOrPrincipalAmount() : 0;
-                long shares2 = h2.getSharesOrPrincipalAmount() != null ? h2.getSharesOrPrincipalAmount() : 0;
-                long value1 = h1.getValue() != null ? h1.getValue() : 0;
-                long value2 = h2.getValue() != null ? h2.getValue() : 0;
-
-                if (shares2 > shares1) {
-                    increasedPositions.add(createHoldingChange(cusip, h2.getNameOfIssuer(), h1, h2));
-                } else if (shares2 < shares1) {
-                    decreasedPositions.add(createHoldingChange(cusip, h2.getNameOfIssuer(), h1, h2));
+                if (h2.shares() > h1.shares()) {
+                    increasedPositions.add(createHoldingChange(cusip, h2.issuerName(), h1, h2));
+                } else if (h2.shares() < h1.shares()) {
+                    decreasedPositions.add(createHoldingChange(cusip, h2.issuerName(), h1, h2));
                 }
-                totalValueChange += (value2 - value1);
+                totalValueChange += (h2.value() - h1.value());
             }
         }
 
         // Find closed positions
-        for (Map.Entry<String, Form13FHolding> entry : holdings1Map.entrySet()) {
-            String cusip = entry.getKey();
-            if (!holdings2Map.containsKey(cusip)) {
-                Form13FHolding h1 = entry.getValue();
-                closedPositions.add(createHoldingChange(cusip, h1.getNameOfIssuer(), h1, null));
-                totalValueChange -= h1.getValue() != null ? h1.getValue() : 0;
+        for (HoldingsColumnStore.Position h1 : portfolio1.get().positions()) {
+            if (!heldInPeriod2.contains(h1.cusip())) {
+                closedPositions.add(createHoldingChange(h1.cusip(), h1.issuerName(), h1, null));
+                totalValueChange -= h1.value();
             }
         }
 
         return new HoldingsComparison(
-                cik, filing2.getFilerName(), period1, period2,
+                cik, portfolio2.get().filerName(), period1, period2,
                 newPositions, closedPositions, increasedPositions, decreasedPositions,
                 totalValueChange
         );
     }
 
+    @Override
+    public InstitutionalFlow getInstitutionalFlow(String cusip, LocalDate reportPeriod) {
+        return Form13FPositionChangeSupport.flow(
+                cusip, reportPeriod, positionChangeRepository.findByCusipAndReportPeriod(cusip, reportPeriod));
+    }
+
+    @Override
+    public List<InstitutionalFlow> getInstitutionalFlowHistory(String cusip) {
+        Map<LocalDate, List<Form13FPositionChange>> changesByPeriod = new TreeMap<>(Comparator.reverseOrder());
+        for (Form13FPositionChange change : positionChangeRepository.findByCusip(cusip)) {
+            if (change.getReportPeriod() != null) {
+                changesByPeriod.computeIfAbsent(change.getReportPeriod(), ignored -> new ArrayList<>()).add(change);
+            }
+        }
+        return changesByPeriod.entrySet().stream()
+                .map(entry -> Form13FPositionChangeSupport.flow(cusip, entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
     private HoldingChange createHoldingChange(String cusip, String issuerName,
-            Form13FHolding h1, Form13FHolding h2) {
+            HoldingsColumnStore.Position h1, HoldingsColumnStore.Position h2) {
 
-        Long shares1 = h1 != null ? h1.getSharesOrPrincipalAmount() : null;
-        Long shares2 = h2 != null ? h2.getSharesOrPrincipalAmount() : null;
-        Long value1 = h1 != null ? h1.getValue() : null;
-        Long value2 = h2 != null ? h2.getValue() : null;
+        Long shares1 = h1 != null ? h1.shares() : null;
+        Long shares2 = h2 != null ? h2.shares() : null;
+        Long value1 = h1 != null ? h1.value() : null;
+        Long value2 = h2 != null ? h2.value() : null;
 
         Double percentChange = null;
         if (shares1 != null && shares1 > 0 && shares2 != null) {
@@ -366,4 +403,147 @@ public class Form13FServiceImpl implements Form13FService {
 
         return new HoldingChange(cusip, issuerName, shares1, shares2, value1, value2, percentChange);
     }
+
+    /**
+     * Recomputes the stored position changes of each saved or deleted filing's filer and period, and
+     * of the filer's following period, whose baseline may have been the affected report.
+     */
+    private void recordPositionChanges(List<Form13F> filings) {
+        Set<FilerPeriod> affected = new LinkedHashSet<>();
+        HoldingsColumnStore store = holdings();
+        for (Form13F filing : filings) {
+            if (filing == null || filing.getCik() == null || filing.getReportPeriod() == null) {
+                continue;
+            }
+            affected.add(new FilerPeriod(filing.getCik(), filing.getReportPeriod()));
+            store.portfolioAfter(filing.getCik(), filing.getReportPeriod())
+                    .ifPresent(next -> affected.add(new FilerPeriod(filing.getCik(), next.reportPeriod())));
+        }
+
+        Instant computedAt = Instant.now();
+        for (FilerPeriod filerPeriod : affected) {
+            try {
+                synchronized (positionChangeLock) {
+                    refreshPositionChanges(store, filerPeriod, computedAt);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to record 13F position changes for CIK {} period {}: {}",
+                        filerPeriod.cik(), filerPeriod.reportPeriod(), e.getMessage());
+            }
+        }
+    }
+
+    private void refreshPositionChanges(HoldingsColumnStore store, FilerPeriod filerPeriod, Instant computedAt) {
+        String cik = filerPeriod.cik();
+        LocalDate reportPeriod = filerPeriod.reportPeriod();
+        List<Form13FPositionChange> changes = store.portfolio(cik, reportPeriod)
+                .flatMap(current -> store.portfolioBefore(cik, reportPeriod)
+                        .map(previous -> Form13FPositionChangeSupport.diff(previous, current, computedAt)))
+                .orElse(List.of());
+
+        Map<String, String> staleIds = new HashMap<>();
+        for (Form13FPositionChange existing : positionChangeRepository.findByCikAndReportPeriod(cik, reportPeriod)) {
+            staleIds.put(existing.getChangeKey(), existing.getId());
+        }
+        for (Form13FPositionChange change : changes) {
+            change.setId(staleIds.remove(change.getChangeKey()));
+        }
+
+        if (!staleIds.isEmpty()) {
+            positionChangeRepository.deleteAllById(staleIds.values());
+        }
+        if (!changes.isEmpty()) {
+            positionChangeRepository.saveAll(changes);
+        }
+        log.debug("Recorded {} 13F position changes for CIK {} period {}", changes.size(), cik, reportPeriod);
+    }
+
+    /**
+     * Returns the holdings store, loading every stored filing into it on first use. Saves and deletes
+     * made through this service keep it current afterwards; imports that write to the data port
+     * directly drop it through {@link #onCollectionImported}, and the next call reloads it.
+     */
+    private HoldingsColumnStore holdings() {
+        if (holdingsLoaded) {
+            return holdingsStore;
+        }
+        synchronized (holdingsLock) {
+            if (!holdingsLoaded) {
+                long started = System.nanoTime();
+                Pageable pageable = PageRequest.of(0, HOLDINGS_LOAD_PAGE_SIZE, Sort.by("id"));
+                Page<Form13F> page;
+                do {
+                    page = form13FRepository.findAll(pageable);
+                    page.forEach(holdingsStore::index);
+                    pageable = page.nextPageable();
+                } while (page.hasNext());
+                holdingsLoaded = true;
+                log.info("Loaded {} Form 13F filings ({} positions) into the holdings store in {} ms",
+                        holdingsStore.filingCount(), holdingsStore.positionCount(),
+                        (System.nanoTime() - started) / 1_000_000);
+            }
+        }
+        return holdingsStore;
+    }
+
+    /**
+     * Applies a save or delete to the store under the load lock, so it cannot interleave with a full
+     * load and be overwritten by an older copy of the filing. Before the first load there is nothing
+     * to update: the load reads the change from the data port.
+     */
+    private void updateHoldings(Consumer<HoldingsColumnStore> update) {
+        synchronized (holdingsLock) {
+            if (holdingsLoaded) {
+                update.accept(holdingsStore);
+            }
+        }
+    }
+
+    @EventListener
+    void onCollectionImported(CollectionImportedEvent event) {
+        if (!FORM13F_COLLECTION.equals(event.collection())) {
+            return;
+        }
+        synchronized (holdingsLock) {
+            holdingsLoaded = false;
+            holdingsStore.clear();
+        }
+        log.info("Dropped the Form 13F holdings store after an import; it reloads on next use");
+    }
+
+    private record FilerPeriod(String cik, LocalDate reportPeriod) {
+    }
+
+    private record HoldingSummaryView(
+            String id,
+            String issuerName,
+            Long totalShares,
+            Long totalValue,
+            Integer filerCount) implements HoldingSummary {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getIssuerName() {
+            return issuerName;
+        }
+
+        @Override
+        public Long getTotalShares() {
+            return totalShares;
+        }
+
+        @Override
+        public Long getTotalValue() {
+            return totalValue;
+        }
+
+        @Override
+        public Integer getFilerCount() {
+            return filerCount;
+        }
+    }
 }
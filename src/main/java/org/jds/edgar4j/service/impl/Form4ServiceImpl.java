@@ -1,12 +1,5 @@
 package org.jds.edgar4j.service.impl;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -19,22 +12,20 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.InflaterInputStream;
 
 import org.jds.edgar4j.exception.SecApiException;
 import org.jds.edgar4j.integration.Form4Parser;
 import org.jds.edgar4j.integration.SecAccessDiagnostics;
 import org.jds.edgar4j.integration.SecApiClient;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.model.Form4;
-import org.jds.edgar4j.storage.DownloadedResourceStore;
 import org.jds.edgar4j.model.Ticker;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.port.Form4DataPort;
 import org.jds.edgar4j.port.TickerDataPort;
 import org.jds.edgar4j.service.Form4Service;
-import org.jds.edgar4j.service.SettingsService;
+import org.jds.edgar4j.service.InsiderTransactionFactIndexer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -57,51 +48,32 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class Form4ServiceImpl implements Form4Service {
 
-    private static final String CACHE_NAMESPACE = "sec-filings";
-
     private final Form4DataPort form4Repository;
     private final Form4Parser form4Parser;
-    private final SettingsService settingsService;
     private final SecApiClient secApiClient;
     private final TickerDataPort tickerRepository;
     private final FillingDataPort fillingRepository;
-    private final DownloadedResourceStore downloadedResourceStore;
-    private final HttpClient httpClient;
+    private final InsiderTransactionFactIndexer insiderTransactionFactIndexer;
 
     @Value("${edgar4j.urls.edgarDataArchivesUrl}")
     private String edgarDataArchivesUrl;
 
+    /**
+     * Downloads through {@link SecApiClient} so the request is rate limited and scheduled like every other SEC fetch.
+     * The caller's priority is captured here and passed on explicitly, since the download completes on another thread.
+     */
     @Override
     public CompletableFuture<String> downloadForm4(String cik, String accessionNumber, String primaryDocument) {
         String formUrl = buildFormUrl(cik, accessionNumber, primaryDocument);
-        String cached = downloadedResourceStore.readText(CACHE_NAMESPACE, formUrl, StandardCharsets.UTF_8)
-                .orElse(null);
-        if (cached != null) {
-            log.debug("Using cached Form 4 for {}", accessionNumber);
-            return CompletableFuture.completedFuture(cached);
-        }
-
         log.debug("Downloading Form 4 from: {}", formUrl);
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(formUrl))
-                .header("User-Agent", settingsService.getUserAgent())
-                .header("Accept", "application/xml, text/xml, */*")
-                .header("Accept-Encoding", "gzip, deflate")
-                .GET()
-                .build();
-
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-                .thenApply(response -> {
-                    String body = readResponseBody(response);
-                    validateDownloadResponse(formUrl, response.statusCode(), body);
-                    if (body != null && !body.isBlank()) {
-                        downloadedResourceStore.writeText(
-                                CACHE_NAMESPACE,
-                                formUrl,
-                                body,
-                                StandardCharsets.UTF_8);
-                    }
+        return secApiClient.fetchForm4Async(
+                        cik,
+                        accessionNumber,
+                        normalizePrimaryDocument(primaryDocument),
+                        SecRateLimiter.currentPriority())
+                .thenApply(body -> {
+                    validateDownloadResponse(formUrl, body);
                     return body;
                 })
                 .whenComplete((body, error) -> {
@@ -179,6 +151,7 @@ public class Form4ServiceImpl implements Form4Service {
                     saved.getAccessionNumber(),
                     saved.getTradingSymbol(),
                     saved.getRptOwnerName());
+            insiderTransactionFactIndexer.index(List.of(saved));
             return saved;
         } catch (Exception e) {
             log.error("Failed to save Form 4: {}", form4.getAccessionNumber(), e);
@@ -217,6 +190,7 @@ public class Form4ServiceImpl implements Form4Service {
         try {
             List<Form4> saved = form4Repository.saveAll(form4List);
             log.info("Saved {} Form 4 filings", saved.size());
+            insiderTransactionFactIndexer.index(saved);
             return saved;
         } catch (Exception e) {
             log.error("Failed to save Form 4 batch", e);
@@ -317,7 +291,9 @@ public class Form4ServiceImpl implements Form4Service {
 
     @Override
     public void deleteById(String id) {
+        Optional<Form4> existing = form4Repository.findById(id);
         form4Repository.deleteById(id);
+        existing.ifPresent(insiderTransactionFactIndexer::remove);
         log.info("Deleted Form 4: {}", id);
     }
 
@@ -525,14 +501,17 @@ public class Form4ServiceImpl implements Form4Service {
     private String buildFormUrl(String cik, String accessionNumber, String primaryDocument) {
         String cleanAccession = accessionNumber.replace("-", "");
         String normalizedCik = cik == null ? "" : cik.replaceFirst("^0+(?!$)", "");
-        String normalizedPrimaryDocument = primaryDocument != null && primaryDocument.contains("/")
-                ? primaryDocument.substring(primaryDocument.lastIndexOf('/') + 1)
-                : primaryDocument;
         return String.format("%s/%s/%s/%s",
                 edgarDataArchivesUrl,
                 normalizedCik,
                 cleanAccession,
-                normalizedPrimaryDocument);
+                normalizePrimaryDocument(primaryDocument));
+    }
+
+    private static String normalizePrimaryDocument(String primaryDocument) {
+        return primaryDocument != null && primaryDocument.contains("/")
+                ? primaryDocument.substring(primaryDocument.lastIndexOf('/') + 1)
+                : primaryDocument;
     }
 
     /**
@@ -756,43 +735,17 @@ public class Form4ServiceImpl implements Form4Service {
         return form4List;
     }
 
-    private void validateDownloadResponse(String formUrl, int statusCode, String body) {
+    private void validateDownloadResponse(String formUrl, String body) {
         if (SecAccessDiagnostics.isUndeclaredAutomationBlock(body)) {
             throw new SecApiException(SecAccessDiagnostics.buildUndeclaredAutomationBlockMessage(
                     formUrl,
                     SecAccessDiagnostics.extractReferenceId(body)));
         }
-        if (statusCode == 404) {
-            throw new SecApiException("Form 4 resource not found: " + formUrl);
-        }
-        if (statusCode >= 400) {
-            throw new SecApiException("SEC Form 4 download failed with HTTP " + statusCode + " for URL: " + formUrl);
-        }
         if (body == null || body.isBlank()) {
             throw new SecApiException("SEC Form 4 response was empty for URL: " + formUrl);
         }
     }
 
-    private String readResponseBody(HttpResponse<InputStream> response) {
-        String encoding = response.headers().firstValue("Content-Encoding").orElse("");
-        try (InputStream rawStream = response.body();
-             InputStream decodedStream = wrapStream(rawStream, encoding)) {
-            return new String(decodedStream.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException exception) {
-            throw new SecApiException("Failed to read SEC Form 4 response body", exception);
-        }
-    }
-
-    private InputStream wrapStream(InputStream inputStream, String encoding) throws IOException {
-        if ("gzip".equalsIgnoreCase(encoding)) {
-            return new GZIPInputStream(inputStream);
-        }
-        if ("deflate".equalsIgnoreCase(encoding)) {
-            return new InflaterInputStream(inputStream);
-        }
-        return inputStream;
-    }
-
     private Throwable unwrap(Throwable throwable) {
         Throwable current = throwable;
         while (current instanceof CompletionException && current.getCause() != null) {
@@ -26,15 +26,19 @@ import org.jds.edgar4j.dto.response.InsiderActivityResponse;
 import org.jds.edgar4j.dto.response.PaginatedResponse;
 import org.jds.edgar4j.model.CompanyMarketData;
 import org.jds.edgar4j.model.Form4;
-import org.jds.edgar4j.model.Form4Transaction;
+import org.jds.edgar4j.model.InsiderTransactionFact;
 import org.jds.edgar4j.model.MarketCapSource;
 import org.jds.edgar4j.port.Form4DataPort;
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
 import org.jds.edgar4j.service.CompanyMarketDataService;
 import org.jds.edgar4j.service.InsiderActivityService;
 import org.jds.edgar4j.service.Sp500Service;
 import org.jds.edgar4j.util.TickerNormalizer;
 import org.jds.edgar4j.util.UsMarketCalendar;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -55,6 +59,7 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
     private static final String SIDE_SELL = "SELL";
 
     private final Form4DataPort form4Repository;
+    private final InsiderTransactionFactDataPort factRepository;
     private final CompanyMarketDataService companyMarketDataService;
     private final Sp500Service sp500Service;
     private final ObjectMapper objectMapper;
@@ -63,19 +68,22 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
     @Autowired
     public InsiderActivityServiceImpl(
             Form4DataPort form4Repository,
+            InsiderTransactionFactDataPort factRepository,
             CompanyMarketDataService companyMarketDataService,
             Sp500Service sp500Service,
             ObjectMapper objectMapper) {
-        this(form4Repository, companyMarketDataService, sp500Service, objectMapper, Clock.systemDefaultZone());
+        this(form4Repository, factRepository, companyMarketDataService, sp500Service, objectMapper, Clock.systemDefaultZone());
     }
 
     InsiderActivityServiceImpl(
             Form4DataPort form4Repository,
+            InsiderTransactionFactDataPort factRepository,
             CompanyMarketDataService companyMarketDataService,
             Sp500Service sp500Service,
             ObjectMapper objectMapper,
             Clock clock) {
         this.form4Repository = form4Repository;
+        this.factRepository = factRepository;
         this.companyMarketDataService = companyMarketDataService;
         this.sp500Service = sp500Service;
         this.objectMapper = objectMapper;
@@ -84,24 +92,12 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
 
     @Override
     public PaginatedResponse<InsiderActivityResponse> screen(InsiderActivityScreenRequest request) {
-        ResolvedRequest resolved = resolve(request, false);
-        List<InsiderActivityResponse> responses = new ArrayList<>(buildResponses(resolved));
-        responses.sort(getComparator(resolved.sortBy(), resolved.sortDir(), resolved.view()));
-
-        int start = Math.min(resolved.page() * resolved.size(), responses.size());
-        int end = Math.min(start + resolved.size(), responses.size());
-
-        return PaginatedResponse.of(responses.subList(start, end), resolved.page(), resolved.size(), responses.size());
+        return findPage(resolve(request, false));
     }
 
     @Override
     public byte[] export(InsiderActivityScreenRequest request, String format) {
-        ResolvedRequest resolved = resolve(request, true);
-        List<InsiderActivityResponse> responses = new ArrayList<>(buildResponses(resolved));
-        responses.sort(getComparator(resolved.sortBy(), resolved.sortDir(), resolved.view()));
-        List<InsiderActivityResponse> limited = responses.size() > EXPORT_LIMIT
-                ? responses.subList(0, EXPORT_LIMIT)
-                : responses;
+        List<InsiderActivityResponse> limited = findPage(resolve(request, true)).getContent();
 
         if ("JSON".equalsIgnoreCase(format)) {
             try {
@@ -159,60 +155,141 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
         return form == null || form.isBlank() ? "4" : form.trim();
     }
 
-    private List<InsiderActivityResponse> buildResponses(ResolvedRequest request) {
-        List<Candidate> candidates = form4Repository.findRecentTransactions(request.dateFrom()).stream()
-                .filter(Objects::nonNull)
-                .flatMap(form4 -> toCandidates(form4, request))
-                .filter(candidate -> candidate.transactionDate() != null
-                        && !candidate.transactionDate().isBefore(request.dateFrom())
-                        && !candidate.transactionDate().isAfter(request.dateTo()))
-                .filter(candidate -> request.side().equals(candidate.side()))
-                .filter(candidate -> request.transactionCodes().isEmpty()
-                        || request.transactionCodes().contains(candidate.transactionCode()))
-                .filter(candidate -> request.symbol() == null || request.symbol().equals(candidate.ticker()))
-                .filter(candidate -> request.insiderTitle() == null
-                        || containsIgnoreCase(candidate.insiderTitle(), request.insiderTitle()))
-                .filter(candidate -> request.minPrice() == null
-                        || candidate.transactionPrice() != null && candidate.transactionPrice() >= request.minPrice())
-                .filter(candidate -> request.minShares() == null
-                        || candidate.transactionShares() != null && candidate.transactionShares() >= request.minShares())
-                .filter(candidate -> request.view().equals(VIEW_AGGREGATE)
-                        || request.minTotalAmount() == null
-                        || candidate.transactionValue() != null && candidate.transactionValue() >= request.minTotalAmount())
-                .toList();
+    private PaginatedResponse<InsiderActivityResponse> findPage(ResolvedRequest request) {
+        if (request.dateTo().isBefore(request.dateFrom())) {
+            return PaginatedResponse.of(List.of(), request.page(), request.size(), 0);
+        }
 
         Set<String> sp500Tickers = loadSp500Tickers();
         Map<String, Optional<CompanyMarketData>> marketDataCache = new HashMap<>();
 
-        if (VIEW_AGGREGATE.equals(request.view())) {
-            return buildAggregateResponses(candidates, request, sp500Tickers, marketDataCache);
+        Sort pushdownSort = pushdownSort(request);
+        if (pushdownSort != null) {
+            Page<InsiderTransactionFact> facts = findFactPage(
+                    request,
+                    PageRequest.of(request.page(), request.size(), pushdownSort));
+            List<InsiderActivityResponse> content = facts.getContent().stream()
+                    .map(fact -> toTransactionRow(fact, sp500Tickers))
+                    .map(row -> applyMarketData(row, marketDataCache))
+                    .toList();
+            return PaginatedResponse.of(content, request.page(), request.size(), facts.getTotalElements());
+        }
+
+        List<InsiderTransactionFact> facts = findFacts(request);
+        List<Row> rows = VIEW_AGGREGATE.equals(request.view())
+                ? buildAggregateRows(facts, request, sp500Tickers)
+                : facts.stream().map(fact -> toTransactionRow(fact, sp500Tickers)).toList();
+
+        // Market data is only looked up for the rows on the page unless the sort depends on it.
+        Comparator<InsiderActivityResponse> comparator = getComparator(request.sortBy(), request.sortDir(), request.view());
+        if (!requiresMarketData(request.sortBy())) {
+            List<InsiderActivityResponse> content = rows.stream()
+                    .sorted(Comparator.comparing(Row::response, comparator))
+                    .skip((long) request.page() * request.size())
+                    .limit(request.size())
+                    .map(row -> applyMarketData(row, marketDataCache))
+                    .toList();
+            return PaginatedResponse.of(content, request.page(), request.size(), rows.size());
         }
 
-        return candidates.stream()
-                .map(candidate -> enrichTransaction(candidate, sp500Tickers, marketDataCache))
+        List<InsiderActivityResponse> responses = rows.stream()
+                .map(row -> applyMarketData(row, marketDataCache))
+                .sorted(comparator)
+                .toList();
+        int start = Math.min(request.page() * request.size(), responses.size());
+        int end = Math.min(start + request.size(), responses.size());
+        return PaginatedResponse.of(responses.subList(start, end), request.page(), request.size(), responses.size());
+    }
+
+    /**
+     * Reads one page of transactions straight from the fact table, sorted and limited by the store.
+     */
+    private Page<InsiderTransactionFact> findFactPage(ResolvedRequest request, Pageable pageable) {
+        if (request.symbol() == null) {
+            return factRepository.findBySideAndCodesAndDateRange(
+                    request.side(), request.transactionCodes(), request.dateFrom(), request.dateTo(), pageable);
+        }
+        return factRepository.findByTickerAndSideAndCodesAndDateRange(
+                request.symbol(),
+                request.side(),
+                request.transactionCodes(),
+                request.dateFrom(),
+                request.dateTo(),
+                pageable);
+    }
+
+    private List<InsiderTransactionFact> findFacts(ResolvedRequest request) {
+        List<InsiderTransactionFact> facts = request.symbol() == null
+                ? factRepository.findBySideAndDateRange(request.side(), request.dateFrom(), request.dateTo())
+                : factRepository.findByTickerAndSideAndDateRange(
+                        request.symbol(), request.side(), request.dateFrom(), request.dateTo());
+
+        return facts.stream()
+                .filter(fact -> request.transactionCodes().isEmpty()
+                        || request.transactionCodes().contains(fact.getTransactionCode()))
+                .filter(fact -> request.insiderTitle() == null
+                        || containsIgnoreCase(fact.getInsiderTitle(), request.insiderTitle()))
+                .filter(fact -> request.minPrice() == null
+                        || fact.getTransactionPrice() != null && fact.getTransactionPrice() >= request.minPrice())
+                .filter(fact -> request.minShares() == null
+                        || fact.getTransactionShares() != null && fact.getTransactionShares() >= request.minShares())
+                .filter(fact -> request.view().equals(VIEW_AGGREGATE)
+                        || request.minTotalAmount() == null
+                        || fact.getTransactionValue() != null && fact.getTransactionValue() >= request.minTotalAmount())
                 .toList();
     }
 
-    private List<InsiderActivityResponse> buildAggregateResponses(
-            List<Candidate> candidates,
+    /**
+     * Returns the store-side sort for a transaction screen the fact table can page directly, or
+     * {@code null} when filters or the requested order need the in-memory path. Ascending sorts on
+     * nullable columns stay in memory because Mongo orders nulls first there.
+     */
+    private Sort pushdownSort(ResolvedRequest request) {
+        if (!VIEW_TRANSACTION.equals(request.view())
+                || request.transactionCodes().isEmpty()
+                || request.insiderTitle() != null
+                || request.minPrice() != null
+                || request.minShares() != null
+                || request.minTotalAmount() != null) {
+            return null;
+        }
+
+        boolean descending = !"asc".equalsIgnoreCase(request.sortDir());
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort latestFirst = Sort.by(Sort.Direction.DESC, "transactionDate").and(Sort.by("ticker"));
+        return switch (request.sortBy() == null ? "" : request.sortBy()) {
+            case "transactionDate" -> Sort.by(direction, "transactionDate").and(Sort.by("ticker"));
+            case "ticker" -> Sort.by(direction, "ticker").and(Sort.by(Sort.Direction.DESC, "transactionDate"));
+            case "insiderCount", "transactionCount" -> latestFirst;
+            case "marketCap", "percentChange" -> null;
+            case "totalShares" -> descending ? Sort.by(Sort.Direction.DESC, "transactionShares").and(latestFirst) : null;
+            default -> descending ? Sort.by(Sort.Direction.DESC, "transactionValue").and(latestFirst) : null;
+        };
+    }
+
+    private boolean requiresMarketData(String sortBy) {
+        return "marketCap".equals(sortBy) || "percentChange".equals(sortBy);
+    }
+
+    private List<Row> buildAggregateRows(
+            List<InsiderTransactionFact> facts,
             ResolvedRequest request,
-            Set<String> sp500Tickers,
-            Map<String, Optional<CompanyMarketData>> marketDataCache) {
-        Map<String, List<Candidate>> groups = candidates.stream()
+            Set<String> sp500Tickers) {
+        Map<String, List<InsiderTransactionFact>> groups = facts.stream()
                 .collect(Collectors.groupingBy(
-                        candidate -> candidate.ticker() + "|" + blankToEmpty(candidate.cik()),
+                        fact -> fact.getTicker() + "|" + blankToEmpty(fact.getCik()),
                         LinkedHashMap::new,
                         Collectors.toList()));
 
-        List<InsiderActivityResponse> responses = new ArrayList<>();
-        for (List<Candidate> group : groups.values()) {
+        List<Row> rows = new ArrayList<>();
+        for (List<InsiderTransactionFact> group : groups.values()) {
             float totalValue = (float) group.stream()
-                    .map(Candidate::transactionValue)
+                    .map(InsiderTransactionFact::getTransactionValue)
                     .filter(Objects::nonNull)
                     .mapToDouble(Float::doubleValue)
                     .sum();
             float totalShares = (float) group.stream()
-                    .map(Candidate::transactionShares)
+                    .map(InsiderTransactionFact::getTransactionShares)
                     .filter(Objects::nonNull)
                     .mapToDouble(Float::doubleValue)
                     .sum();
@@ -231,133 +308,73 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
                 continue;
             }
 
-            Candidate latest = group.stream()
-                    .max(Comparator.comparing(Candidate::transactionDate))
+            InsiderTransactionFact latest = group.stream()
+                    .max(Comparator.comparing(InsiderTransactionFact::getTransactionDate))
                     .orElseThrow();
-            Optional<CompanyMarketData> marketData = marketDataCache.computeIfAbsent(
-                    latest.ticker(),
-                    companyMarketDataService::getStoredMarketData);
-            Double currentPrice = marketData.map(CompanyMarketData::getCurrentPrice).orElse(null);
 
-            responses.add(InsiderActivityResponse.builder()
+            rows.add(new Row(InsiderActivityResponse.builder()
                     .view(VIEW_AGGREGATE)
                     .side(request.side())
-                    .ticker(latest.ticker())
-                    .companyName(latest.companyName())
-                    .cik(latest.cik())
-                    .latestTransactionDate(latest.transactionDate())
+                    .ticker(latest.getTicker())
+                    .companyName(latest.getCompanyName())
+                    .cik(latest.getCik())
+                    .latestTransactionDate(latest.getTransactionDate())
                     .insiderCount(distinctInsiders.size())
                     .transactionCount(group.size())
                     .totalShares(totalShares)
                     .averagePrice(totalShares > 0f && totalValue > 0f ? totalValue / totalShares : null)
                     .totalValue(totalValue)
-                    .currentPrice(currentPrice)
-                    .percentChange(calculatePercentChange(currentPrice, latest.transactionPrice()))
-                    .marketCap(marketData.map(CompanyMarketData::getMarketCap).orElse(null))
-                    .marketCapSource(marketData.map(this::resolveMarketCapSource).orElse(null))
-                    .sp500(sp500Tickers.contains(latest.ticker()))
+                    .sp500(sp500Tickers.contains(latest.getTicker()))
                     .transactionCodes(group.stream()
-                            .map(Candidate::transactionCode)
+                            .map(InsiderTransactionFact::getTransactionCode)
                             .filter(Objects::nonNull)
                             .collect(Collectors.toCollection(LinkedHashSet::new)))
-                    .build());
+                    .build(),
+                    latest.getTransactionPrice()));
         }
 
-        return responses;
+        return rows;
     }
 
-    private InsiderActivityResponse enrichTransaction(
-            Candidate candidate,
-            Set<String> sp500Tickers,
-            Map<String, Optional<CompanyMarketData>> marketDataCache) {
-        Optional<CompanyMarketData> marketData = marketDataCache.computeIfAbsent(
-                candidate.ticker(),
-                companyMarketDataService::getStoredMarketData);
-        Double currentPrice = marketData.map(CompanyMarketData::getCurrentPrice).orElse(null);
-
-        return InsiderActivityResponse.builder()
+    private Row toTransactionRow(InsiderTransactionFact fact, Set<String> sp500Tickers) {
+        return new Row(InsiderActivityResponse.builder()
                 .view(VIEW_TRANSACTION)
-                .side(candidate.side())
-                .ticker(candidate.ticker())
-                .companyName(candidate.companyName())
-                .cik(candidate.cik())
-                .latestTransactionDate(candidate.transactionDate())
-                .transactionDate(candidate.transactionDate())
-                .insiderName(candidate.insiderName())
-                .insiderTitle(candidate.insiderTitle())
-                .ownerType(candidate.ownerType())
+                .side(fact.getSide())
+                .ticker(fact.getTicker())
+                .companyName(fact.getCompanyName())
+                .cik(fact.getCik())
+                .latestTransactionDate(fact.getTransactionDate())
+                .transactionDate(fact.getTransactionDate())
+                .insiderName(fact.getInsiderName())
+                .insiderTitle(fact.getInsiderTitle())
+                .ownerType(fact.getOwnerType())
                 .insiderCount(1)
                 .transactionCount(1)
-                .transactionShares(candidate.transactionShares())
-                .transactionPrice(candidate.transactionPrice())
-                .transactionValue(candidate.transactionValue())
-                .totalShares(candidate.transactionShares())
-                .totalValue(candidate.transactionValue())
-                .currentPrice(currentPrice)
-                .percentChange(calculatePercentChange(currentPrice, candidate.transactionPrice()))
-                .marketCap(marketData.map(CompanyMarketData::getMarketCap).orElse(null))
-                .marketCapSource(marketData.map(this::resolveMarketCapSource).orElse(null))
-                .sp500(sp500Tickers.contains(candidate.ticker()))
-                .accessionNumber(candidate.accessionNumber())
-                .transactionCode(candidate.transactionCode())
-                .transactionCodes(candidate.transactionCode() == null ? Set.of() : Set.of(candidate.transactionCode()))
-                .build();
-    }
-
-    private Stream<Candidate> toCandidates(Form4 form4, ResolvedRequest request) {
-        String ticker = TickerNormalizer.normalize(form4.getTradingSymbol());
-        if (ticker == null) {
-            return Stream.empty();
-        }
-
-        if (form4.getTransactions() == null || form4.getTransactions().isEmpty()) {
-            return toCandidate(form4, null, ticker, request).stream();
-        }
-
-        return form4.getTransactions().stream()
-                .filter(Objects::nonNull)
-                .flatMap(transaction -> toCandidate(form4, transaction, ticker, request).stream());
-    }
-
-    private Optional<Candidate> toCandidate(Form4 form4, Form4Transaction transaction, String ticker, ResolvedRequest request) {
-        String acquiredDisposedCode = transaction != null
-                ? transaction.getAcquiredDisposedCode()
-                : form4.getAcquiredDisposedCode();
-        String side = resolveSide(acquiredDisposedCode);
-        if (side == null) {
-            return Optional.empty();
-        }
+                .transactionShares(fact.getTransactionShares())
+                .transactionPrice(fact.getTransactionPrice())
+                .transactionValue(fact.getTransactionValue())
+                .totalShares(fact.getTransactionShares())
+                .totalValue(fact.getTransactionValue())
+                .sp500(sp500Tickers.contains(fact.getTicker()))
+                .accessionNumber(fact.getAccessionNumber())
+                .transactionCode(fact.getTransactionCode())
+                .transactionCodes(fact.getTransactionCode() == null ? Set.of() : Set.of(fact.getTransactionCode()))
+                .build(),
+                fact.getTransactionPrice());
+    }
+
+    private InsiderActivityResponse applyMarketData(Row row, Map<String, Optional<CompanyMarketData>> marketDataCache) {
+        InsiderActivityResponse response = row.response();
+        Optional<CompanyMarketData> marketData = marketDataCache.computeIfAbsent(
+                response.getTicker(),
+                companyMarketDataService::getStoredMarketData);
+        Double currentPrice = marketData.map(CompanyMarketData::getCurrentPrice).orElse(null);
 
-        LocalDate transactionDate = transaction != null && transaction.getTransactionDate() != null
-                ? transaction.getTransactionDate()
-                : form4.getTransactionDate();
-        Float transactionShares = transaction != null && transaction.getTransactionShares() != null
-                ? transaction.getTransactionShares()
-                : form4.getTransactionShares();
-        Float transactionPrice = transaction != null && transaction.getTransactionPricePerShare() != null
-                ? transaction.getTransactionPricePerShare()
-                : form4.getTransactionPricePerShare();
-        Float transactionValue = resolveTransactionValue(form4, transaction, transactionShares, transactionPrice);
-
-        String transactionCode = transaction != null && blankToNull(transaction.getTransactionCode()) != null
-                ? transaction.getTransactionCode().trim().toUpperCase(Locale.ROOT)
-                : SIDE_BUY.equals(side) ? "P" : "S";
-
-        return Optional.of(new Candidate(
-                ticker,
-                blankToNull(form4.getIssuerName()),
-                blankToNull(form4.getCik()),
-                blankToNull(form4.getRptOwnerCik()),
-                blankToNull(form4.getRptOwnerName()),
-                blankToNull(form4.getOfficerTitle()),
-                resolveOwnerType(form4),
-                transactionDate,
-                transactionShares,
-                transactionPrice,
-                transactionValue,
-                transactionCode,
-                side,
-                form4.getAccessionNumber()));
+        response.setCurrentPrice(currentPrice);
+        response.setPercentChange(calculatePercentChange(currentPrice, row.referencePrice()));
+        response.setMarketCap(marketData.map(CompanyMarketData::getMarketCap).orElse(null));
+        response.setMarketCapSource(marketData.map(this::resolveMarketCapSource).orElse(null));
+        return response;
     }
 
     private ResolvedRequest resolve(InsiderActivityScreenRequest request, boolean export) {
@@ -412,31 +429,6 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
                 .thenComparing(InsiderActivityResponse::getTicker, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
     }
 
-    private Float resolveTransactionValue(
-            Form4 form4,
-            Form4Transaction transaction,
-            Float transactionShares,
-            Float transactionPrice) {
-        if (transaction != null) {
-            if (transaction.getTransactionValue() != null && transaction.getTransactionValue() > 0f) {
-                return transaction.getTransactionValue();
-            }
-            return deriveTransactionValue(transactionShares, transactionPrice);
-        }
-
-        if (form4.getTransactionValue() != null && form4.getTransactionValue() > 0f) {
-            return form4.getTransactionValue();
-        }
-        return deriveTransactionValue(transactionShares, transactionPrice);
-    }
-
-    private Float deriveTransactionValue(Float transactionShares, Float transactionPrice) {
-        if (transactionShares == null || transactionPrice == null) {
-            return null;
-        }
-        return transactionShares * transactionPrice;
-    }
-
     private Comparator<String> stringComparator(boolean descending) {
         return Comparator.nullsLast(descending
                 ? String.CASE_INSENSITIVE_ORDER.reversed()
@@ -518,40 +510,11 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
                 .collect(Collectors.toSet());
     }
 
-    private String distinctInsiderKey(Candidate candidate) {
-        if (candidate.ownerCik() != null) {
-            return "CIK:" + candidate.ownerCik();
-        }
-        return candidate.insiderName() == null ? null : "NAME:" + candidate.insiderName().toUpperCase(Locale.ROOT);
-    }
-
-    private String resolveSide(String acquiredDisposedCode) {
-        if ("A".equalsIgnoreCase(acquiredDisposedCode)) {
-            return SIDE_BUY;
-        }
-        if ("D".equalsIgnoreCase(acquiredDisposedCode)) {
-            return SIDE_SELL;
+    private String distinctInsiderKey(InsiderTransactionFact fact) {
+        if (fact.getOwnerCik() != null) {
+            return "CIK:" + fact.getOwnerCik();
         }
-        return null;
-    }
-
-    private String resolveOwnerType(Form4 form4) {
-        if (blankToNull(form4.getOwnerType()) != null) {
-            return form4.getOwnerType();
-        }
-        if (form4.isDirector()) {
-            return "Director";
-        }
-        if (form4.isOfficer()) {
-            return "Officer";
-        }
-        if (form4.isTenPercentOwner()) {
-            return "10% Owner";
-        }
-        if (form4.isOther()) {
-            return "Other";
-        }
-        return "Unknown";
+        return fact.getInsiderName() == null ? null : "NAME:" + fact.getInsiderName().toUpperCase(Locale.ROOT);
     }
 
     private MarketCapSource resolveMarketCapSource(CompanyMarketData marketData) {
@@ -697,20 +660,10 @@ public class InsiderActivityServiceImpl implements InsiderActivityService {
             int size) {
     }
 
-    private record Candidate(
-            String ticker,
-            String companyName,
-            String cik,
-            String ownerCik,
-            String insiderName,
-            String insiderTitle,
-            String ownerType,
-            LocalDate transactionDate,
-            Float transactionShares,
-            Float transactionPrice,
-            Float transactionValue,
-            String transactionCode,
-            String side,
-            String accessionNumber) {
+    /**
+     * A response with the reference price its percent change is measured against, kept until market
+     * data is applied.
+     */
+    private record Row(InsiderActivityResponse response, Float referencePrice) {
     }
 }
@@ -0,0 +1,366 @@
+package org.jds.edgar4j.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jds.edgar4j.integration.SecResponseParser;
+import org.jds.edgar4j.integration.model.SecSubmissionResponse;
+import org.jds.edgar4j.model.Filling;
+import org.jds.edgar4j.model.Submissions;
+import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.port.SubmissionsDataPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports the SEC nightly submissions.zip.
+ * <p>
+ * Entries are opened through {@link ZipFile} random access and parsed on a bounded pool straight from the entry
+ * stream, with at most four entries per parser in flight. Parsed entries are consumed in archive order and written
+ * in batches: one {@code findByCikIn} and one {@code findByAccessionNumberIn} per batch align ids with stored
+ * documents before the {@code saveAll} calls. After every batch the position of the next entry is written to
+ * {@code <archive>.import} together with a fingerprint of the archive, so rerunning over the same archive continues
+ * after the last committed batch while a new archive starts from the beginning. The checkpoint is deleted once the
+ * whole archive has been imported, so importing the same archive again rewrites it.
+ * <p>
+ * Entries are processed grouped by CIK with the main {@code CIK##########.json} ahead of its
+ * {@code -submissions-NNN.json} overflow pages. Overflow pages carry no company name; their filings take it from the
+ * main entry, looked up in the current batch or in the stored submissions.
+ */
+@Slf4j
+final class SubmissionsArchiveImporter {
+
+    private static final Pattern FILES_PAGE = Pattern.compile("(?i)(?:.*/)?CIK(\\d{10})-submissions-\\d+\\.json");
+    private static final Pattern ENTRY_CIK = Pattern.compile("(?i)(?:.*/)?CIK(\\d{10})[^/]*\\.json");
+    private static final String CHECKPOINT_VERSION = "v2:";
+    private static final int IN_FLIGHT_PER_PARSER = 4;
+    private static final int MAX_FILINGS_PER_BATCH = 10_000;
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+    private static final int PROGRESS_LOG_INTERVAL = 50_000;
+
+    private final SecResponseParser responseParser;
+    private final SubmissionsDataPort submissionsDataPort;
+    private final FillingDataPort fillingDataPort;
+    private final int parsers;
+    private final int batchSize;
+
+    SubmissionsArchiveImporter(
+            SecResponseParser responseParser,
+            SubmissionsDataPort submissionsDataPort,
+            FillingDataPort fillingDataPort,
+            int parsers,
+            int batchSize) {
+        this.responseParser = responseParser;
+        this.submissionsDataPort = submissionsDataPort;
+        this.fillingDataPort = fillingDataPort;
+        this.parsers = parsers > 0 ? parsers : Runtime.getRuntime().availableProcessors();
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Imports the archive and returns the number of entries written by this run.
+     */
+    long importArchive(Path archive) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        Path checkpointFile = sibling(archive, ".import");
+        String fingerprint = CHECKPOINT_VERSION + fingerprint(archive);
+
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<? extends ZipEntry> entries = zipFile.stream()
+                    .filter(this::isSubmissionJsonEntry)
+                    .sorted(Comparator.comparing(SubmissionsArchiveImporter::entryCik)
+                            .thenComparing(entry -> FILES_PAGE.matcher(entry.getName()).matches())
+                            .thenComparing(ZipEntry::getName))
+                    .toList();
+            int start = Math.min(readCheckpoint(checkpointFile, fingerprint), entries.size());
+            if (start > 0) {
+                log.info("Resuming import of {} at entry {} of {}", archive, start, entries.size());
+            }
+
+            ExecutorService parserPool = Executors.newFixedThreadPool(parsers, parserThreadFactory());
+            try {
+                Deque<Future<ParsedEntry>> inFlight = new ArrayDeque<>();
+                int window = parsers * IN_FLIGHT_PER_PARSER;
+                int nextToSubmit = start;
+                List<ParsedEntry> batch = new ArrayList<>(batchSize);
+                int batchFilings = 0;
+                long written = 0;
+                long failed = 0;
+                long nextProgressLog = PROGRESS_LOG_INTERVAL;
+
+                for (int index = start; index < entries.size(); index++) {
+                    while (nextToSubmit < entries.size() && inFlight.size() < window) {
+                        ZipEntry entry = entries.get(nextToSubmit++);
+                        inFlight.add(parserPool.submit(() -> parse(zipFile, entry)));
+                    }
+
+                    ParsedEntry parsed = await(inFlight.poll());
+                    if (parsed.failed()) {
+                        failed++;
+                    }
+                    batch.add(parsed);
+                    batchFilings += parsed.fillings().size();
+
+                    if (batch.size() >= batchSize || batchFilings >= MAX_FILINGS_PER_BATCH) {
+                        writeBatch(batch);
+                        writeCheckpoint(checkpointFile, fingerprint, index + 1);
+                        written += batch.size();
+                        batch.clear();
+                        batchFilings = 0;
+                        if (written >= nextProgressLog) {
+                            log.info("Imported {} of {} submission entries from {}", index + 1, entries.size(), archive);
+                            nextProgressLog = written + PROGRESS_LOG_INTERVAL;
+                        }
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    written += batch.size();
+                }
+                Files.deleteIfExists(checkpointFile);
+
+                log.info("Imported {} SEC submission entries from {} in {} ms ({} failed to parse, skipped {} non-JSON entries)",
+                        written - failed,
+                        archive,
+                        (System.nanoTime() - started) / 1_000_000,
+                        failed,
+                        zipFile.size() - entries.size());
+                return written - failed;
+            } finally {
+                parserPool.shutdownNow();
+            }
+        }
+    }
+
+    private ParsedEntry parse(ZipFile zipFile, ZipEntry entry) {
+        String name = entry.getName();
+        try (InputStream input = zipFile.getInputStream(entry)) {
+            Matcher filesPage = FILES_PAGE.matcher(name);
+            if (filesPage.matches()) {
+                String cik = String.valueOf(Long.parseLong(filesPage.group(1)));
+                SecSubmissionResponse.Recent page = responseParser.parseSubmissionFilesPage(input);
+                return new ParsedEntry(name, null, responseParser.toFillings(page, cik, null), false);
+            }
+            SecSubmissionResponse response = responseParser.parseSubmissionResponse(input);
+            return new ParsedEntry(name, responseParser.toSubmissions(response), responseParser.toFillings(response), false);
+        } catch (Exception e) {
+            log.warn("Skipping bulk submission entry {}: {}", name, e.getMessage());
+            return new ParsedEntry(name, null, List.of(), true);
+        }
+    }
+
+    private void writeBatch(List<ParsedEntry> batch) {
+        List<Submissions> submissions = new ArrayList<>();
+        Map<String, Filling> fillingsByAccession = new LinkedHashMap<>();
+        for (ParsedEntry entry : batch) {
+            if (entry.submissions() != null) {
+                submissions.add(entry.submissions());
+            }
+            for (Filling filling : entry.fillings()) {
+                String accessionNumber = filling.getAccessionNumber();
+                if (accessionNumber != null && !accessionNumber.isBlank()) {
+                    fillingsByAccession.putIfAbsent(accessionNumber, filling);
+                }
+            }
+        }
+
+        if (!submissions.isEmpty()) {
+            Map<String, Submissions> submissionsByCik = new LinkedHashMap<>();
+            for (Submissions value : submissions) {
+                if (value.getCik() != null) {
+                    submissionsByCik.put(value.getCik(), value);
+                }
+            }
+            alignIds(submissionsByCik, submissionsDataPort::findByCikIn, Submissions::getCik,
+                    (incoming, existing) -> incoming.setId(existing.getId()));
+            submissionsDataPort.saveAll(submissions);
+        }
+
+        if (!fillingsByAccession.isEmpty()) {
+            fillMissingCompanies(submissions, fillingsByAccession.values());
+            alignIds(fillingsByAccession, fillingDataPort::findByAccessionNumberIn, Filling::getAccessionNumber,
+                    (incoming, existing) -> incoming.setId(existing.getId()));
+            fillingDataPort.saveAll(List.copyOf(fillingsByAccession.values()));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Wrote bulk submission batch ending at {} ({} submissions, {} filings)",
+                    batch.get(batch.size() - 1).name(), submissions.size(), fillingsByAccession.size());
+        }
+    }
+
+    /**
+     * Copies the company name from the main submissions entry onto filings parsed from overflow pages.
+     */
+    private void fillMissingCompanies(List<Submissions> submissions, Collection<Filling> fillings) {
+        Map<String, String> companiesByCik = new HashMap<>();
+        for (Submissions value : submissions) {
+            putCompany(companiesByCik, value);
+        }
+
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (Filling filling : fillings) {
+            String cik = cikKey(filling.getCik());
+            if (filling.getCompany() == null && cik != null && !companiesByCik.containsKey(cik)) {
+                unresolved.add(cik);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            // Stored CIKs may be padded or not; ask for both spellings
+            List<String> lookup = new ArrayList<>();
+            for (String cik : unresolved) {
+                lookup.add(cik);
+                lookup.add(String.format("%010d", Long.parseLong(cik)));
+            }
+            for (int from = 0; from < lookup.size(); from += LOOKUP_CHUNK_SIZE) {
+                for (Submissions stored : submissionsDataPort.findByCikIn(
+                        lookup.subList(from, Math.min(lookup.size(), from + LOOKUP_CHUNK_SIZE)))) {
+                    putCompany(companiesByCik, stored);
+                }
+            }
+        }
+
+        for (Filling filling : fillings) {
+            if (filling.getCompany() == null) {
+                String cik = cikKey(filling.getCik());
+                if (cik != null) {
+                    filling.setCompany(companiesByCik.get(cik));
+                }
+            }
+        }
+    }
+
+    private static void putCompany(Map<String, String> companiesByCik, Submissions submissions) {
+        String cik = cikKey(submissions.getCik());
+        String company = submissions.getCompanyName() != null ? submissions.getCompanyName() : submissions.getName();
+        if (cik != null && company != null) {
+            companiesByCik.putIfAbsent(cik, company);
+        }
+    }
+
+    private static String cikKey(String cik) {
+        if (cik == null || cik.isBlank()) {
+            return null;
+        }
+        try {
+            return String.valueOf(Long.parseLong(cik.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String entryCik(ZipEntry entry) {
+        Matcher matcher = ENTRY_CIK.matcher(entry.getName());
+        return matcher.matches() ? matcher.group(1) : entry.getName();
+    }
+
+    private <T> void alignIds(
+            Map<String, T> incomingByKey,
+            Function<List<String>, List<T>> lookup,
+            Function<T, String> keyGetter,
+            BiConsumer<T, T> mergeExisting) {
+        List<String> keys = List.copyOf(incomingByKey.keySet());
+        for (int from = 0; from < keys.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + LOOKUP_CHUNK_SIZE));
+            for (T existing : lookup.apply(chunk)) {
+                T incoming = incomingByKey.get(keyGetter.apply(existing));
+                if (incoming != null) {
+                    mergeExisting.accept(incoming, existing);
+                }
+            }
+        }
+    }
+
+    private boolean isSubmissionJsonEntry(ZipEntry entry) {
+        return !entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".json");
+    }
+
+    private ParsedEntry await(Future<ParsedEntry> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk submission parser failed", e.getCause());
+        }
+    }
+
+    /**
+     * Uses the SHA-256 recorded by the bulk downloader when present, otherwise size and modification time.
+     */
+    private static String fingerprint(Path archive) throws IOException {
+        Path digest = sibling(archive, ".sha256");
+        if (Files.exists(digest)) {
+            String value = Files.readString(digest, StandardCharsets.UTF_8).trim();
+            int separator = value.indexOf(' ');
+            if (!value.isEmpty()) {
+                return "sha256:" + (separator > 0 ? value.substring(0, separator) : value);
+            }
+        }
+        return "size:" + Files.size(archive) + ":" + Files.getLastModifiedTime(archive).toMillis();
+    }
+
+    private static int readCheckpoint(Path checkpointFile, String fingerprint) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        List<String> lines = Files.readAllLines(checkpointFile, StandardCharsets.UTF_8);
+        if (lines.size() < 2 || !lines.get(0).equals(fingerprint)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(lines.get(1).trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void writeCheckpoint(Path checkpointFile, String fingerprint, int nextEntry) throws IOException {
+        Path temporary = sibling(checkpointFile, ".tmp");
+        Files.writeString(temporary, fingerprint + "\n" + nextEntry + "\n", StandardCharsets.UTF_8);
+        Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path sibling(Path path, String suffix) {
+        return path.resolveSibling(path.getFileName() + suffix);
+    }
+
+    private static ThreadFactory parserThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "edgar4j-submissions-parser-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record ParsedEntry(String name, Submissions submissions, List<Filling> fillings, boolean failed) {
+    }
+}
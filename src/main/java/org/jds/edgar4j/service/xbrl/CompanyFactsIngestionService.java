@@ -1,19 +1,35 @@
 package org.jds.edgar4j.service.xbrl;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.integration.SecResponseParser;
@@ -24,11 +40,15 @@ import org.jds.edgar4j.xbrl.standardization.ConceptStandardizer;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompanyFactsIngestionService {
 
+    private static final int ARCHIVE_WRITE_BATCH_SIZE = 20_000;
+
     private final SecApiClient secApiClient;
     private final SecResponseParser secResponseParser;
     private final ConceptStandardizer conceptStandardizer;
@@ -105,6 +125,144 @@ public class CompanyFactsIngestionService {
         return new IngestionResult(normalizedCik, inserted, updated, skipped);
     }
 
+    /**
+     * Loads every company in a companyfacts.zip bulk archive.
+     * <p>
+     * Entries are parsed and flattened on {@code parallelism} threads (one per processor when not positive). Each
+     * company is diffed against its stored facts with a single {@code findByCik}: new facts count as inserted,
+     * stored facts whose content changed as updated, and identical ones as skipped. Current-best flags are
+     * recomputed over the merged set in memory, so only new, changed or re-flagged facts are written, in batches of
+     * {@value #ARCHIVE_WRITE_BATCH_SIZE}.
+     */
+    public BulkIngestionResult ingestArchive(Path archive, int parallelism) {
+        long started = System.nanoTime();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<? extends ZipEntry> entries = zipFile.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .filter(entry -> entry.getName().toLowerCase(Locale.ROOT).endsWith(".json"))
+                    .toList();
+
+            List<IngestionResult> results = new ArrayList<>();
+            Map<String, String> failures = new LinkedHashMap<>();
+            List<NormalizedXbrlFact> pendingWrites = new ArrayList<>();
+            ExecutorService workers = Executors.newFixedThreadPool(threads, archiveWorkerThreadFactory());
+            try {
+                Deque<Future<ArchiveCompany>> inFlight = new ArrayDeque<>();
+                int nextToSubmit = 0;
+                for (int index = 0; index < entries.size(); index++) {
+                    while (nextToSubmit < entries.size() && inFlight.size() < threads * 2) {
+                        ZipEntry entry = entries.get(nextToSubmit++);
+                        inFlight.add(workers.submit(() -> prepareArchiveCompany(zipFile, entry)));
+                    }
+
+                    ArchiveCompany company = inFlight.poll().get();
+                    if (company.failure() != null) {
+                        failures.put(company.key(), company.failure());
+                        continue;
+                    }
+                    results.add(company.result());
+                    pendingWrites.addAll(company.writes());
+                    if (pendingWrites.size() >= ARCHIVE_WRITE_BATCH_SIZE) {
+                        factDataPort.saveAll(pendingWrites);
+                        pendingWrites = new ArrayList<>();
+                    }
+                }
+                if (!pendingWrites.isEmpty()) {
+                    factDataPort.saveAll(pendingWrites);
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+
+            log.info("Ingested companyfacts archive {}: {} companies, {} failed in {} ms",
+                    archive, results.size(), failures.size(), (System.nanoTime() - started) / 1_000_000);
+            return new BulkIngestionResult(
+                    entries.size(),
+                    results.size() + failures.size(),
+                    results.size(),
+                    failures.size(),
+                    List.copyOf(results),
+                    Map.copyOf(failures));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while ingesting companyfacts archive " + archive, e);
+        } catch (IOException | ExecutionException e) {
+            throw new IllegalStateException("Failed to ingest companyfacts archive " + archive, e);
+        }
+    }
+
+    private ArchiveCompany prepareArchiveCompany(ZipFile zipFile, ZipEntry entry) {
+        String key = entry.getName();
+        try (InputStream input = zipFile.getInputStream(entry)) {
+            SecCompanyFactsResponse response = secResponseParser.parseCompanyFactsResponse(input);
+            String cik = normalizeCik(response.getCik() != null ? response.getCik() : entry.getName());
+            key = cik;
+
+            Map<String, NormalizedXbrlFact> merged = new LinkedHashMap<>();
+            Set<String> currentBestBefore = new HashSet<>();
+            for (NormalizedXbrlFact stored : factDataPort.findByCik(cik)) {
+                merged.put(stored.getId(), stored);
+                if (stored.isCurrentBest()) {
+                    currentBestBefore.add(stored.getId());
+                }
+            }
+
+            Set<String> modified = new HashSet<>();
+            int inserted = 0;
+            int updated = 0;
+            int skipped = 0;
+            for (NormalizedXbrlFact fact : flatten(cik, response)) {
+                NormalizedXbrlFact stored = merged.get(fact.getId());
+                if (stored == null) {
+                    inserted++;
+                } else if (sameContent(stored, fact)) {
+                    skipped++;
+                    continue;
+                } else {
+                    fact.setCreatedAt(stored.getCreatedAt());
+                    updated++;
+                }
+                merged.put(fact.getId(), fact);
+                modified.add(fact.getId());
+            }
+
+            markCurrentBest(merged.values());
+            List<NormalizedXbrlFact> writes = merged.values().stream()
+                    .filter(fact -> modified.contains(fact.getId())
+                            || fact.isCurrentBest() != currentBestBefore.contains(fact.getId()))
+                    .toList();
+            return new ArchiveCompany(key, new IngestionResult(cik, inserted, updated, skipped), writes, null);
+        } catch (Exception e) {
+            log.warn("Skipping companyfacts entry {}: {}", key, e.getMessage());
+            return new ArchiveCompany(key, null, List.of(), e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    private static ThreadFactory archiveWorkerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "edgar4j-companyfacts-ingest-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private boolean sameContent(NormalizedXbrlFact stored, NormalizedXbrlFact incoming) {
+        // Values compare numerically so that 1.0 and 1.00 are the same; two missing values match too
+        boolean sameValue = stored.getValue() == null || incoming.getValue() == null
+                ? Objects.equals(stored.getValue(), incoming.getValue())
+                : stored.getValue().compareTo(incoming.getValue()) == 0;
+        return sameValue
+                && Objects.equals(stored.getStandardConcept(), incoming.getStandardConcept())
+                && Objects.equals(stored.getForm(), incoming.getForm())
+                && Objects.equals(stored.getFiscalYear(), incoming.getFiscalYear())
+                && Objects.equals(stored.getFiscalPeriod(), incoming.getFiscalPeriod())
+                && Objects.equals(stored.getFiledDate(), incoming.getFiledDate())
+                && Objects.equals(stored.getFrame(), incoming.getFrame());
+    }
+
     private List<NormalizedXbrlFact> flatten(String cik, SecCompanyFactsResponse response) {
         if (response == null || response.getFacts() == null) {
             return List.of();
@@ -289,16 +447,20 @@ public class CompanyFactsIngestionService {
 
     private void recomputeCurrentBest(String cik) {
         List<NormalizedXbrlFact> allFacts = factDataPort.findByCik(cik);
+        markCurrentBest(allFacts);
+        factDataPort.saveAll(allFacts);
+    }
+
+    private void markCurrentBest(Collection<NormalizedXbrlFact> facts) {
         Map<CurrentBestKey, NormalizedXbrlFact> bestFacts = new LinkedHashMap<>();
 
-        for (NormalizedXbrlFact fact : allFacts) {
+        for (NormalizedXbrlFact fact : facts) {
             fact.setCurrentBest(false);
             CurrentBestKey key = CurrentBestKey.from(fact);
             bestFacts.merge(key, fact, this::chooseBetterFact);
         }
 
         bestFacts.values().forEach(fact -> fact.setCurrentBest(true));
-        factDataPort.saveAll(allFacts);
     }
 
     private NormalizedXbrlFact chooseBetterFact(NormalizedXbrlFact candidate, NormalizedXbrlFact current) {
@@ -361,6 +523,13 @@ public class CompanyFactsIngestionService {
     public record IngestionResult(String cik, int inserted, int updated, int skipped) {
     }
 
+    private record ArchiveCompany(
+            String key,
+            IngestionResult result,
+            List<NormalizedXbrlFact> writes,
+            String failure) {
+    }
+
     public record BulkIngestionResult(
             int requested,
             int processed,
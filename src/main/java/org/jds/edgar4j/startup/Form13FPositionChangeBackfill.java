@@ -0,0 +1,32 @@
+package org.jds.edgar4j.startup;
+
+import org.jds.edgar4j.service.Form13FService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records 13F position changes for filings stored before changes were recorded on save. Runs once in
+ * the background; a run cut short by a restart starts over, since recomputing a period is idempotent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Form13FPositionChangeBackfill implements ApplicationRunner {
+
+    private final Form13FService form13FService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofVirtual().name("edgar4j-13f-position-change-backfill").start(() -> {
+            try {
+                form13FService.backfillPositionChanges();
+            } catch (RuntimeException e) {
+                log.warn("13F position change backfill failed", e);
+            }
+        });
+    }
+}
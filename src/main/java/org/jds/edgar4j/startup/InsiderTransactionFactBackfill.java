@@ -0,0 +1,32 @@
+package org.jds.edgar4j.startup;
+
+import org.jds.edgar4j.service.InsiderTransactionFactIndexer;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Populates the insider transaction fact table from the stored Form 4 filings in the background until
+ * the backfill has completed once, so upgrades don't block startup on a full Form 4 scan.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InsiderTransactionFactBackfill implements ApplicationRunner {
+
+    private final InsiderTransactionFactIndexer insiderTransactionFactIndexer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofVirtual().name("edgar4j-insider-fact-backfill").start(() -> {
+            try {
+                insiderTransactionFactIndexer.backfill();
+            } catch (RuntimeException e) {
+                log.warn("Insider transaction fact backfill failed", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package org.jds.edgar4j.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.jds.edgar4j.properties.StorageProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Progress of one-time backfills, one small file per backfill: a resume cursor while it runs and
+ * {@link #COMPLETE} once it has finished. Writes replace the file atomically, so a crash leaves the
+ * last recorded progress.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackfillProgressStore {
+
+    public static final String COMPLETE = "complete";
+
+    private final StorageProperties storageProperties;
+
+    /**
+     * Returns the progress last recorded for {@code backfill}, or empty when it has never run.
+     */
+    public Optional<String> read(String backfill) {
+        Path file = resolvePath(backfill);
+        try {
+            String progress = Files.readString(file, StandardCharsets.UTF_8).trim();
+            return progress.isEmpty() ? Optional.empty() : Optional.of(progress);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable backfill progress {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void write(String backfill, String progress) {
+        Path file = resolvePath(backfill);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, progress, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to record backfill progress in " + file, e);
+        }
+    }
+
+    public boolean isComplete(String backfill) {
+        return read(backfill).filter(COMPLETE::equals).isPresent();
+    }
+
+    public void markComplete(String backfill) {
+        write(backfill, COMPLETE);
+    }
+
+    private Path resolvePath(String backfill) {
+        return Path.of(storageProperties.getBackfillStatePath()).resolve(backfill + ".progress");
+    }
+}
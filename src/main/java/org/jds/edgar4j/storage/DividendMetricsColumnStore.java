@@ -0,0 +1,508 @@
+package org.jds.edgar4j.storage;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jds.edgar4j.dto.response.DividendOverviewResponse;
+import org.jds.edgar4j.model.DividendAnalysisSnapshot;
+
+/**
+ * Columnar in-memory table of per-company dividend screen metrics, one row per snapshot.
+ * <p>
+ * Each metric is a {@code double} column with {@code NaN} standing in for a missing value, and the
+ * viability rating, score and alert count are primitive columns alongside. Screens narrow a bitset of
+ * live rows filter by filter, so ranges over thousands of companies touch only the columns they name,
+ * and only the requested page is materialized back into objects. Replacing a company overwrites its
+ * row in place; removed rows are reused by the next insert.
+ */
+public class DividendMetricsColumnStore {
+
+    public static final String SORT_NAME = "name";
+    public static final String SORT_TICKER = "ticker";
+
+    private static final int INITIAL_ROWS = 256;
+    private static final byte NO_RATING = -1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Inclusive bounds on one metric; a {@code null} bound is open. Rows without a value never match.
+     */
+    public record MetricBound(String metric, Double min, Double max) {
+    }
+
+    /**
+     * A screen over the table. Empty collections and a {@code null} search term don't filter;
+     * {@code sortKey} is a metric id, {@link #SORT_NAME} or {@link #SORT_TICKER}.
+     */
+    public record Query(
+            List<String> identifiers,
+            String searchTerm,
+            Set<DividendOverviewResponse.DividendRating> ratings,
+            Set<String> sectors,
+            List<MetricBound> bounds,
+            String sortKey,
+            boolean descending,
+            int offset,
+            int limit) {
+    }
+
+    public record Row(
+            DividendOverviewResponse.CompanySummary company,
+            DividendOverviewResponse.DividendRating rating,
+            int score,
+            int activeAlerts,
+            Map<String, Double> values,
+            List<String> warnings,
+            Instant computedAt) {
+    }
+
+    /**
+     * One page of a screen. {@code unmatchedIdentifiers} lists requested identifiers without a row.
+     */
+    public record Result(
+            int evaluated,
+            int matched,
+            List<Row> rows,
+            List<String> unmatchedIdentifiers) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotsByCik = new HashMap<>();
+    private final Map<String, Integer> slotsByTicker = new HashMap<>();
+    private final Map<String, double[]> metricColumns = new LinkedHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private int capacity = INITIAL_ROWS;
+    private int slotCount;
+    private String[] tickers = new String[INITIAL_ROWS];
+    private String[] sortNames = new String[INITIAL_ROWS];
+    private String[] sectors = new String[INITIAL_ROWS];
+    private String[] searchTexts = new String[INITIAL_ROWS];
+    private DividendOverviewResponse.CompanySummary[] companies =
+            new DividendOverviewResponse.CompanySummary[INITIAL_ROWS];
+    private List<?>[] warnings = new List<?>[INITIAL_ROWS];
+    private byte[] ratings = new byte[INITIAL_ROWS];
+    private int[] scores = new int[INITIAL_ROWS];
+    private int[] activeAlerts = new int[INITIAL_ROWS];
+    private long[] computedAt = new long[INITIAL_ROWS];
+
+    /**
+     * Adds or replaces the row of {@code snapshot}'s company. Snapshots without an overview or screen
+     * metrics only remove the company's previous row.
+     */
+    public void upsert(DividendAnalysisSnapshot snapshot) {
+        String cik = snapshot != null ? normalizeCik(snapshot.getCik()) : null;
+        if (cik == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            DividendOverviewResponse overview = snapshot.getOverview();
+            Map<String, Double> metrics = snapshot.getScreenMetrics();
+            if (overview == null || metrics == null) {
+                removeInternal(cik);
+                return;
+            }
+
+            Integer existing = slotsByCik.get(cik);
+            int slot = existing != null ? existing : allocateSlot();
+            if (tickers[slot] != null) {
+                slotsByTicker.remove(tickers[slot], slot);
+            }
+
+            DividendOverviewResponse.CompanySummary company = overview.getCompany() != null
+                    ? overview.getCompany()
+                    : DividendOverviewResponse.CompanySummary.builder()
+                            .cik(cik)
+                            .ticker(snapshot.getTicker())
+                            .name(snapshot.getCompanyName())
+                            .build();
+            String ticker = normalizeTicker(firstNonBlank(company.getTicker(), snapshot.getTicker()));
+            String name = firstNonBlank(company.getName(), snapshot.getCompanyName());
+            DividendOverviewResponse.ViabilitySummary viability = overview.getViability();
+            Instant metricsComputedAt = snapshot.getMetricsComputedAt() != null
+                    ? snapshot.getMetricsComputedAt()
+                    : snapshot.getLastComputedAt();
+
+            tickers[slot] = ticker;
+            sortNames[slot] = firstNonBlank(name, ticker, cik);
+            sectors[slot] = lowerCase(company.getSector());
+            searchTexts[slot] = lowerCase(String.join(" ",
+                    cik,
+                    ticker != null ? ticker : "",
+                    name != null ? name : ""));
+            companies[slot] = company;
+            warnings[slot] = overview.getWarnings() != null ? List.copyOf(overview.getWarnings()) : List.of();
+            ratings[slot] = viability != null && viability.getRating() != null
+                    ? (byte) viability.getRating().ordinal()
+                    : NO_RATING;
+            scores[slot] = viability != null ? viability.getScore() : 0;
+            activeAlerts[slot] = viability != null ? viability.getActiveAlerts() : 0;
+            computedAt[slot] = metricsComputedAt != null ? metricsComputedAt.toEpochMilli() : NO_TIMESTAMP;
+
+            for (Map.Entry<String, double[]> column : metricColumns.entrySet()) {
+                column.getValue()[slot] = toPrimitive(metrics.get(column.getKey()));
+            }
+            for (Map.Entry<String, Double> metric : metrics.entrySet()) {
+                if (metric.getKey() != null && !metricColumns.containsKey(metric.getKey())) {
+                    column(metric.getKey())[slot] = toPrimitive(metric.getValue());
+                }
+            }
+
+            slotsByCik.put(cik, slot);
+            if (ticker != null) {
+                slotsByTicker.put(ticker, slot);
+            }
+            live.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String cik) {
+        String normalizedCik = normalizeCik(cik);
+        if (normalizedCik == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(normalizedCik);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsByCik.clear();
+            slotsByTicker.clear();
+            metricColumns.clear();
+            freeSlots.clear();
+            live.clear();
+            slotCount = 0;
+            Arrays.fill(tickers, null);
+            Arrays.fill(sortNames, null);
+            Arrays.fill(sectors, null);
+            Arrays.fill(searchTexts, null);
+            Arrays.fill(companies, null);
+            Arrays.fill(warnings, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates {@code query} over every row and returns the requested page. Sorting puts rows
+     * without a value last in either direction and breaks ties by company name; a metric no row has
+     * a value for sorts by name alone.
+     */
+    public Result screen(Query query) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+            int evaluated = matches.cardinality();
+            List<String> unmatchedIdentifiers = new ArrayList<>();
+
+            if (query.identifiers() != null && !query.identifiers().isEmpty()) {
+                BitSet requested = new BitSet();
+                for (String identifier : query.identifiers()) {
+                    Integer slot = resolveSlot(identifier);
+                    if (slot == null) {
+                        unmatchedIdentifiers.add(identifier);
+                    } else {
+                        requested.set(slot);
+                    }
+                }
+                matches.and(requested);
+                evaluated = matches.cardinality();
+            }
+
+            filterRatings(matches, query.ratings());
+            filterSectors(matches, query.sectors());
+            filterSearch(matches, query.searchTerm());
+            if (query.bounds() != null) {
+                for (MetricBound bound : query.bounds()) {
+                    filterBound(matches, bound);
+                }
+            }
+
+            Integer[] order = new Integer[matches.cardinality()];
+            int position = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                order[position++] = slot;
+            }
+            Arrays.sort(order, comparator(query.sortKey(), query.descending()));
+
+            int from = Math.min(Math.max(0, query.offset()), order.length);
+            int to = Math.min(from + Math.max(0, query.limit()), order.length);
+            List<Row> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(toRow(order[i]));
+            }
+            return new Result(evaluated, order.length, rows, unmatchedIdentifiers);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void filterRatings(BitSet matches, Set<DividendOverviewResponse.DividendRating> requestedRatings) {
+        if (requestedRatings == null || requestedRatings.isEmpty()) {
+            return;
+        }
+        boolean[] allowed = new boolean[DividendOverviewResponse.DividendRating.values().length];
+        for (DividendOverviewResponse.DividendRating rating : requestedRatings) {
+            if (rating != null) {
+                allowed[rating.ordinal()] = true;
+            }
+        }
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (ratings[slot] == NO_RATING || !allowed[ratings[slot]]) {
+                matches.clear(slot);
+            }
+        }
+    }
+
+    private void filterSectors(BitSet matches, Set<String> requestedSectors) {
+        if (requestedSectors == null || requestedSectors.isEmpty()) {
+            return;
+        }
+        Set<String> allowed = new HashSet<>();
+        for (String sector : requestedSectors) {
+            String normalized = lowerCase(sector);
+            if (normalized != null) {
+                allowed.add(normalized);
+            }
+        }
+        if (allowed.isEmpty()) {
+            return;
+        }
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (sectors[slot] == null || !allowed.contains(sectors[slot])) {
+                matches.clear(slot);
+            }
+        }
+    }
+
+    private void filterSearch(BitSet matches, String searchTerm) {
+        String fragment = lowerCase(searchTerm);
+        if (fragment == null) {
+            return;
+        }
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (!searchTexts[slot].contains(fragment)) {
+                matches.clear(slot);
+            }
+        }
+    }
+
+    private void filterBound(BitSet matches, MetricBound bound) {
+        if (bound == null || (bound.min() == null && bound.max() == null)) {
+            return;
+        }
+        double[] values = metricColumns.get(bound.metric());
+        if (values == null) {
+            matches.clear();
+            return;
+        }
+        double min = bound.min() != null ? bound.min() : Double.NEGATIVE_INFINITY;
+        double max = bound.max() != null ? bound.max() : Double.POSITIVE_INFINITY;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            double value = values[slot];
+            if (Double.isNaN(value) || value < min || value > max) {
+                matches.clear(slot);
+            }
+        }
+    }
+
+    private Comparator<Integer> comparator(String sortKey, boolean descending) {
+        Comparator<Integer> byName = (left, right) -> compareNullableStrings(sortNames[left], sortNames[right], false);
+        Comparator<Integer> primary;
+        if (SORT_NAME.equals(sortKey)) {
+            primary = (left, right) -> compareNullableStrings(sortNames[left], sortNames[right], descending);
+        } else if (SORT_TICKER.equals(sortKey)) {
+            primary = (left, right) -> compareNullableStrings(tickers[left], tickers[right], descending);
+        } else {
+            double[] values = metricColumns.get(sortKey);
+            if (values == null) {
+                return byName;
+            }
+            primary = (left, right) -> compareNullableDoubles(values[left], values[right], descending);
+        }
+        return primary.thenComparing(byName);
+    }
+
+    private Row toRow(int slot) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Map.Entry<String, double[]> column : metricColumns.entrySet()) {
+            double value = column.getValue()[slot];
+            values.put(column.getKey(), Double.isNaN(value) ? null : value);
+        }
+        @SuppressWarnings("unchecked")
+        List<String> rowWarnings = (List<String>) warnings[slot];
+        return new Row(
+                companies[slot],
+                ratings[slot] == NO_RATING
+                        ? null
+                        : DividendOverviewResponse.DividendRating.values()[ratings[slot]],
+                scores[slot],
+                activeAlerts[slot],
+                values,
+                rowWarnings,
+                computedAt[slot] == NO_TIMESTAMP ? null : Instant.ofEpochMilli(computedAt[slot]));
+    }
+
+    private Integer resolveSlot(String identifier) {
+        if (identifier == null || identifier.isBlank()) {
+            return null;
+        }
+        String trimmed = identifier.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            return slotsByCik.get(normalizeCik(trimmed));
+        }
+        return slotsByTicker.get(normalizeTicker(trimmed));
+    }
+
+    private void removeInternal(String cik) {
+        Integer slot = slotsByCik.remove(cik);
+        if (slot == null) {
+            return;
+        }
+        if (tickers[slot] != null) {
+            slotsByTicker.remove(tickers[slot], slot);
+        }
+        live.clear(slot);
+        tickers[slot] = null;
+        sortNames[slot] = null;
+        sectors[slot] = null;
+        searchTexts[slot] = null;
+        companies[slot] = null;
+        warnings[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private int allocateSlot() {
+        Integer reused = freeSlots.poll();
+        if (reused != null) {
+            return reused;
+        }
+        if (slotCount == capacity) {
+            grow(capacity * 2);
+        }
+        return slotCount++;
+    }
+
+    private void grow(int newCapacity) {
+        tickers = Arrays.copyOf(tickers, newCapacity);
+        sortNames = Arrays.copyOf(sortNames, newCapacity);
+        sectors = Arrays.copyOf(sectors, newCapacity);
+        searchTexts = Arrays.copyOf(searchTexts, newCapacity);
+        companies = Arrays.copyOf(companies, newCapacity);
+        warnings = Arrays.copyOf(warnings, newCapacity);
+        ratings = Arrays.copyOf(ratings, newCapacity);
+        scores = Arrays.copyOf(scores, newCapacity);
+        activeAlerts = Arrays.copyOf(activeAlerts, newCapacity);
+        computedAt = Arrays.copyOf(computedAt, newCapacity);
+        for (Map.Entry<String, double[]> column : metricColumns.entrySet()) {
+            double[] values = Arrays.copyOf(column.getValue(), newCapacity);
+            Arrays.fill(values, capacity, newCapacity, Double.NaN);
+            column.setValue(values);
+        }
+        capacity = newCapacity;
+    }
+
+    private double[] column(String metric) {
+        return metricColumns.computeIfAbsent(metric, ignored -> {
+            double[] values = new double[capacity];
+            Arrays.fill(values, Double.NaN);
+            return values;
+        });
+    }
+
+    private static double toPrimitive(Double value) {
+        return value != null && Double.isFinite(value) ? value : Double.NaN;
+    }
+
+    private static int compareNullableStrings(String left, String right, boolean descending) {
+        if (left == null && right == null) {
+            return 0;
+        }
+        if (left == null) {
+            return 1;
+        }
+        if (right == null) {
+            return -1;
+        }
+        int comparison = String.CASE_INSENSITIVE_ORDER.compare(left, right);
+        return descending ? -comparison : comparison;
+    }
+
+    private static int compareNullableDoubles(double left, double right, boolean descending) {
+        boolean leftMissing = Double.isNaN(left);
+        boolean rightMissing = Double.isNaN(right);
+        if (leftMissing && rightMissing) {
+            return 0;
+        }
+        if (leftMissing) {
+            return 1;
+        }
+        if (rightMissing) {
+            return -1;
+        }
+        int comparison = Double.compare(left, right);
+        return descending ? -comparison : comparison;
+    }
+
+    private static String normalizeCik(String cik) {
+        if (cik == null || cik.isBlank()) {
+            return null;
+        }
+        String digits = cik.replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) {
+            return cik.trim();
+        }
+        return String.format("%010d", Long.parseLong(digits));
+    }
+
+    private static String normalizeTicker(String ticker) {
+        return ticker != null && !ticker.isBlank() ? ticker.trim().toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static String lowerCase(String value) {
+        return value != null && !value.isBlank() ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
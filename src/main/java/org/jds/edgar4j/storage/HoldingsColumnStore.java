@@ -0,0 +1,577 @@
+package org.jds.edgar4j.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jds.edgar4j.model.Form13F;
+import org.jds.edgar4j.model.Form13FHolding;
+
+/**
+ * Columnar in-memory store of 13F holdings, partitioned by report period.
+ * <p>
+ * Each filing's information table is collapsed to one position per CUSIP (lines that differ only in
+ * discretion, voting authority or put/call are summed) and appended to its period's partition as
+ * parallel columns: dictionary-encoded CUSIP, filing slot, shares and value. Every partition keeps
+ * running per-CUSIP totals, so period rankings read the totals directly and the holders of one CUSIP
+ * are found by scanning a single int column. Re-indexing a filing tombstones its previous rows; a
+ * partition is compacted once tombstones outnumber a quarter of its live rows.
+ */
+public class HoldingsColumnStore {
+
+    private static final int NO_CODE = -1;
+    private static final int INITIAL_ROWS = 256;
+    private static final int INITIAL_FILINGS = 16;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 4096;
+
+    /**
+     * One filer's position in one CUSIP for a report period.
+     */
+    public record Position(
+            String filingId,
+            String accessionNumber,
+            String cik,
+            String filerName,
+            String cusip,
+            String issuerName,
+            long shares,
+            long value) {
+    }
+
+    /**
+     * Holders of one CUSIP in a report period, with the largest positions by value first.
+     */
+    public record Ownership(
+            String cusip,
+            String issuerName,
+            int holderCount,
+            long totalShares,
+            long totalValue,
+            List<Position> topHolders) {
+    }
+
+    /**
+     * Period-wide totals of one CUSIP across all filers.
+     */
+    public record CusipTotal(
+            String cusip,
+            String issuerName,
+            long totalShares,
+            long totalValue,
+            int holderCount) {
+    }
+
+    /**
+     * Positions of one filing, in information-table order.
+     */
+    public record Portfolio(
+            LocalDate reportPeriod,
+            String filingId,
+            String accessionNumber,
+            String cik,
+            String filerName,
+            List<Position> positions) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> cusipCodes = new HashMap<>();
+    private final List<String> cusips = new ArrayList<>();
+    private final List<String> issuerNames = new ArrayList<>();
+    private final TreeMap<LocalDate, Partition> partitions = new TreeMap<>();
+    private final Map<String, LocalDate> periodsByFilingId = new HashMap<>();
+
+    /**
+     * Adds {@code filing}, replacing the rows previously indexed under its id. Filings without an id or
+     * report period are only removed.
+     */
+    public void index(Form13F filing) {
+        if (filing == null || filing.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(filing.getId());
+            LocalDate period = filing.getReportPeriod();
+            if (period == null) {
+                return;
+            }
+            Map<Integer, long[]> positions = collapse(filing.getHoldings());
+            partitions.computeIfAbsent(period, Partition::new).append(filing, positions);
+            periodsByFilingId.put(filing.getId(), period);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String filingId) {
+        if (filingId == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(filingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cusipCodes.clear();
+            cusips.clear();
+            issuerNames.clear();
+            partitions.clear();
+            periodsByFilingId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int filingCount() {
+        lock.readLock().lock();
+        try {
+            return periodsByFilingId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long positionCount() {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (Partition partition : partitions.values()) {
+                count += partition.rowCount - partition.deletedRowCount;
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the holders of {@code cusip} in {@code period}, keeping only the {@code topHolders}
+     * largest positions by value.
+     */
+    public Ownership ownership(String cusip, LocalDate period, int topHolders) {
+        lock.readLock().lock();
+        try {
+            Partition partition = period != null ? partitions.get(period) : null;
+            int code = cusip != null ? cusipCodes.getOrDefault(cusip, NO_CODE) : NO_CODE;
+            if (partition == null || code == NO_CODE || partition.holderCount(code) == 0) {
+                return new Ownership(cusip, null, 0, 0L, 0L, List.of());
+            }
+            return new Ownership(
+                    cusip,
+                    issuerNames.get(code),
+                    partition.holderCount(code),
+                    partition.totalShares[code],
+                    partition.totalValues[code],
+                    partition.largestPositions(code, topHolders));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@code limit} CUSIPs with the largest total value held in {@code period}.
+     */
+    public List<CusipTotal> topHoldings(LocalDate period, int limit) {
+        lock.readLock().lock();
+        try {
+            Partition partition = period != null ? partitions.get(period) : null;
+            if (partition == null || limit <= 0) {
+                return List.of();
+            }
+
+            Comparator<Integer> byValue = Comparator.comparingLong(code -> partition.totalValues[code]);
+            PriorityQueue<Integer> top = new PriorityQueue<>(byValue);
+            for (int code = 0; code < partition.holderCounts.length; code++) {
+                if (partition.holderCounts[code] == 0) {
+                    continue;
+                }
+                top.offer(code);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<CusipTotal> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int code = top.poll();
+                result.add(new CusipTotal(
+                        cusips.get(code),
+                        issuerNames.get(code),
+                        partition.totalShares[code],
+                        partition.totalValues[code],
+                        partition.holderCounts[code]));
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the positions {@code cik} reported for {@code period}. When several filings cover the
+     * period, the one with the highest accession number (normally the latest amendment) wins.
+     */
+    public Optional<Portfolio> portfolio(String cik, LocalDate period) {
+        lock.readLock().lock();
+        try {
+            Partition partition = cik != null && period != null ? partitions.get(period) : null;
+            if (partition == null) {
+                return Optional.empty();
+            }
+            int slot = partition.latestFiling(cik);
+            return slot == NO_CODE ? Optional.empty() : Optional.of(partition.portfolio(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the latest portfolio {@code cik} reported for a period before {@code period}.
+     */
+    public Optional<Portfolio> portfolioBefore(String cik, LocalDate period) {
+        lock.readLock().lock();
+        try {
+            return cik != null && period != null
+                    ? firstPortfolio(cik, partitions.headMap(period, false).descendingMap())
+                    : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the earliest portfolio {@code cik} reported for a period after {@code period}.
+     */
+    public Optional<Portfolio> portfolioAfter(String cik, LocalDate period) {
+        lock.readLock().lock();
+        try {
+            return cik != null && period != null
+                    ? firstPortfolio(cik, partitions.tailMap(period, false))
+                    : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every filer's report periods in ascending order, from a snapshot taken under the read lock.
+     */
+    public Map<String, List<LocalDate>> reportPeriodsByFiler() {
+        lock.readLock().lock();
+        try {
+            Map<String, List<LocalDate>> periods = new LinkedHashMap<>();
+            for (Partition partition : partitions.values()) {
+                for (int slot : partition.filingSlots.values()) {
+                    String cik = partition.ciks[slot];
+                    if (cik == null) {
+                        continue;
+                    }
+                    List<LocalDate> filerPeriods = periods.computeIfAbsent(cik, ignored -> new ArrayList<>());
+                    if (filerPeriods.isEmpty() || !filerPeriods.getLast().equals(partition.period)) {
+                        filerPeriods.add(partition.period);
+                    }
+                }
+            }
+            return periods;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<Portfolio> firstPortfolio(String cik, Map<LocalDate, Partition> candidates) {
+        for (Partition partition : candidates.values()) {
+            int slot = partition.latestFiling(cik);
+            if (slot != NO_CODE) {
+                return Optional.of(partition.portfolio(slot));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void removeInternal(String filingId) {
+        LocalDate period = periodsByFilingId.remove(filingId);
+        if (period == null) {
+            return;
+        }
+        Partition partition = partitions.get(period);
+        partition.remove(filingId);
+        if (partition.filingSlots.isEmpty()) {
+            partitions.remove(period);
+        }
+    }
+
+    private Map<Integer, long[]> collapse(List<Form13FHolding> holdings) {
+        Map<Integer, long[]> positions = new LinkedHashMap<>();
+        if (holdings == null) {
+            return positions;
+        }
+        for (Form13FHolding holding : holdings) {
+            if (holding == null || holding.getCusip() == null) {
+                continue;
+            }
+            long[] position = positions.computeIfAbsent(cusipCode(holding), ignored -> new long[2]);
+            position[0] += holding.getSharesOrPrincipalAmount() != null ? holding.getSharesOrPrincipalAmount() : 0L;
+            position[1] += holding.getValue() != null ? holding.getValue() : 0L;
+        }
+        return positions;
+    }
+
+    private int cusipCode(Form13FHolding holding) {
+        int code = cusipCodes.computeIfAbsent(holding.getCusip(), cusip -> {
+            cusips.add(cusip);
+            issuerNames.add(null);
+            return cusips.size() - 1;
+        });
+        if (issuerNames.get(code) == null && holding.getNameOfIssuer() != null) {
+            issuerNames.set(code, holding.getNameOfIssuer());
+        }
+        return code;
+    }
+
+    private final class Partition {
+        private final LocalDate period;
+        private int[] rowCusips = new int[INITIAL_ROWS];
+        private int[] rowFilings = new int[INITIAL_ROWS];
+        private long[] rowShares = new long[INITIAL_ROWS];
+        private long[] rowValues = new long[INITIAL_ROWS];
+        private BitSet deletedRows = new BitSet();
+        private int rowCount;
+        private int deletedRowCount;
+
+        private String[] filingIds = new String[INITIAL_FILINGS];
+        private String[] accessionNumbers = new String[INITIAL_FILINGS];
+        private String[] ciks = new String[INITIAL_FILINGS];
+        private String[] filerNames = new String[INITIAL_FILINGS];
+        private int[] filingRowStarts = new int[INITIAL_FILINGS];
+        private int[] filingRowEnds = new int[INITIAL_FILINGS];
+        private int filingCount;
+        private final Map<String, Integer> filingSlots = new HashMap<>();
+
+        private long[] totalShares = new long[0];
+        private long[] totalValues = new long[0];
+        private int[] holderCounts = new int[0];
+
+        private Partition(LocalDate period) {
+            this.period = period;
+        }
+
+        private void append(Form13F filing, Map<Integer, long[]> positions) {
+            int slot = addFiling(filing.getId(), filing.getAccessionNumber(), filing.getCik(), filing.getFilerName());
+            ensureRowCapacity(rowCount + positions.size());
+            ensureTotalsCapacity(cusips.size());
+            filingRowStarts[slot] = rowCount;
+            positions.forEach((code, position) -> {
+                rowCusips[rowCount] = code;
+                rowFilings[rowCount] = slot;
+                rowShares[rowCount] = position[0];
+                rowValues[rowCount] = position[1];
+                rowCount++;
+                totalShares[code] += position[0];
+                totalValues[code] += position[1];
+                holderCounts[code]++;
+            });
+            filingRowEnds[slot] = rowCount;
+        }
+
+        private void remove(String filingId) {
+            Integer slot = filingSlots.remove(filingId);
+            if (slot == null) {
+                return;
+            }
+            for (int row = filingRowStarts[slot]; row < filingRowEnds[slot]; row++) {
+                int code = rowCusips[row];
+                totalShares[code] -= rowShares[row];
+                totalValues[code] -= rowValues[row];
+                holderCounts[code]--;
+                deletedRows.set(row);
+                deletedRowCount++;
+            }
+            filingIds[slot] = null;
+            accessionNumbers[slot] = null;
+            ciks[slot] = null;
+            filerNames[slot] = null;
+            if (deletedRowCount >= MIN_TOMBSTONES_FOR_COMPACTION
+                    && deletedRowCount > (rowCount - deletedRowCount) / 4) {
+                compact();
+            }
+        }
+
+        private int holderCount(int code) {
+            return code < holderCounts.length ? holderCounts[code] : 0;
+        }
+
+        private List<Position> largestPositions(int code, int limit) {
+            if (limit <= 0) {
+                return List.of();
+            }
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingLong(row -> rowValues[row]));
+            for (int row = 0; row < rowCount; row++) {
+                if (rowCusips[row] != code || deletedRows.get(row)) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.offer(row);
+                } else if (rowValues[row] > rowValues[top.peek()]) {
+                    top.poll();
+                    top.offer(row);
+                }
+            }
+
+            List<Position> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(position(top.poll()));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private int latestFiling(String cik) {
+            int latest = NO_CODE;
+            for (int slot = 0; slot < filingCount; slot++) {
+                if (filingIds[slot] == null || !cik.equals(ciks[slot])) {
+                    continue;
+                }
+                if (latest == NO_CODE || compareAccession(accessionNumbers[slot], accessionNumbers[latest]) > 0) {
+                    latest = slot;
+                }
+            }
+            return latest;
+        }
+
+        private Portfolio portfolio(int slot) {
+            List<Position> positions = new ArrayList<>(filingRowEnds[slot] - filingRowStarts[slot]);
+            for (int row = filingRowStarts[slot]; row < filingRowEnds[slot]; row++) {
+                positions.add(position(row));
+            }
+            return new Portfolio(
+                    period, filingIds[slot], accessionNumbers[slot], ciks[slot], filerNames[slot], positions);
+        }
+
+        private Position position(int row) {
+            int slot = rowFilings[row];
+            int code = rowCusips[row];
+            return new Position(
+                    filingIds[slot],
+                    accessionNumbers[slot],
+                    ciks[slot],
+                    filerNames[slot],
+                    cusips.get(code),
+                    issuerNames.get(code),
+                    rowShares[row],
+                    rowValues[row]);
+        }
+
+        private int addFiling(String filingId, String accessionNumber, String cik, String filerName) {
+            if (filingCount == filingIds.length) {
+                int capacity = filingIds.length * 2;
+                filingIds = Arrays.copyOf(filingIds, capacity);
+                accessionNumbers = Arrays.copyOf(accessionNumbers, capacity);
+                ciks = Arrays.copyOf(ciks, capacity);
+                filerNames = Arrays.copyOf(filerNames, capacity);
+                filingRowStarts = Arrays.copyOf(filingRowStarts, capacity);
+                filingRowEnds = Arrays.copyOf(filingRowEnds, capacity);
+            }
+            int slot = filingCount++;
+            filingIds[slot] = filingId;
+            accessionNumbers[slot] = accessionNumber;
+            ciks[slot] = cik;
+            filerNames[slot] = filerName;
+            filingSlots.put(filingId, slot);
+            return slot;
+        }
+
+        private void ensureRowCapacity(int required) {
+            if (required <= rowCusips.length) {
+                return;
+            }
+            int capacity = Math.max(required, rowCusips.length * 2);
+            rowCusips = Arrays.copyOf(rowCusips, capacity);
+            rowFilings = Arrays.copyOf(rowFilings, capacity);
+            rowShares = Arrays.copyOf(rowShares, capacity);
+            rowValues = Arrays.copyOf(rowValues, capacity);
+        }
+
+        private void ensureTotalsCapacity(int required) {
+            if (required <= holderCounts.length) {
+                return;
+            }
+            int capacity = Math.max(required, holderCounts.length * 2);
+            totalShares = Arrays.copyOf(totalShares, capacity);
+            totalValues = Arrays.copyOf(totalValues, capacity);
+            holderCounts = Arrays.copyOf(holderCounts, capacity);
+        }
+
+        /**
+         * Drops tombstoned rows and filings, keeping the remaining filings in their original order.
+         */
+        private void compact() {
+            int liveRows = rowCount - deletedRowCount;
+            int[] cusipColumn = new int[Math.max(INITIAL_ROWS, liveRows)];
+            int[] filingColumn = new int[cusipColumn.length];
+            long[] sharesColumn = new long[cusipColumn.length];
+            long[] valuesColumn = new long[cusipColumn.length];
+
+            int row = 0;
+            int liveFilings = 0;
+            filingSlots.clear();
+            for (int slot = 0; slot < filingCount; slot++) {
+                if (filingIds[slot] == null) {
+                    continue;
+                }
+                int start = row;
+                for (int source = filingRowStarts[slot]; source < filingRowEnds[slot]; source++) {
+                    cusipColumn[row] = rowCusips[source];
+                    filingColumn[row] = liveFilings;
+                    sharesColumn[row] = rowShares[source];
+                    valuesColumn[row] = rowValues[source];
+                    row++;
+                }
+                filingIds[liveFilings] = filingIds[slot];
+                accessionNumbers[liveFilings] = accessionNumbers[slot];
+                ciks[liveFilings] = ciks[slot];
+                filerNames[liveFilings] = filerNames[slot];
+                filingRowStarts[liveFilings] = start;
+                filingRowEnds[liveFilings] = row;
+                filingSlots.put(filingIds[liveFilings], liveFilings);
+                liveFilings++;
+            }
+            Arrays.fill(filingIds, liveFilings, filingCount, null);
+            Arrays.fill(accessionNumbers, liveFilings, filingCount, null);
+            Arrays.fill(ciks, liveFilings, filingCount, null);
+            Arrays.fill(filerNames, liveFilings, filingCount, null);
+
+            rowCusips = cusipColumn;
+            rowFilings = filingColumn;
+            rowShares = sharesColumn;
+            rowValues = valuesColumn;
+            rowCount = row;
+            deletedRows = new BitSet();
+            deletedRowCount = 0;
+            filingCount = liveFilings;
+        }
+    }
+
+    private static int compareAccession(String left, String right) {
+        return Comparator.nullsFirst(Comparator.<String>naturalOrder()).compare(left, right);
+    }
+}
@@ -0,0 +1,677 @@
+package org.jds.edgar4j.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.edgar4j.properties.StorageProperties;
+import org.jds.edgar4j.xbrl.model.ParseResult;
+import org.jds.edgar4j.xbrl.model.XbrlContext;
+import org.jds.edgar4j.xbrl.model.XbrlFact;
+import org.jds.edgar4j.xbrl.model.XbrlInstance;
+import org.jds.edgar4j.xbrl.model.XbrlUnit;
+import org.jds.edgar4j.xbrl.parser.XbrlParser;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists parsed XBRL instances in a compact binary form so a filing parsed once is not parsed again
+ * after a restart.
+ * <p>
+ * Each source URL maps to one file under {@code <downloadCachePath>/xbrl-parsed}. The header records the
+ * file format version, {@link XbrlParser#OUTPUT_VERSION} and the SHA-256 of the parsed source; a file whose
+ * versions or source hash do not match is treated as a miss and removed. Every string in the instance
+ * (concept names, namespaces, context and unit ids, values) is written once to a dictionary and referenced
+ * by index, and that includes enum constants, which are stored by name so reordering an enum does not
+ * change what a file decodes to.
+ * <p>
+ * Files are read whole into a heap buffer and decoded before {@link #read} returns. They are not
+ * memory-mapped: decoding is eager anyway, and a live mapping would keep Windows from deleting or
+ * replacing a stale file. Writes go to a unique temporary file that is moved into place. Reads refresh a
+ * file's modification time, and every {@value #PRUNE_EVERY_WRITES} writes the directory is pruned to
+ * {@link StorageProperties#getParsedXbrlMaxAge()} and {@link StorageProperties#getParsedXbrlMaxBytes()},
+ * least recently used files first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParsedXbrlInstanceStore {
+
+    private static final String DIRECTORY = "xbrl-parsed";
+    private static final String EXTENSION = ".xbin";
+    private static final int MAGIC = 0x58425249; // "XBRI"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HASH_BYTES = 32;
+    private static final int NULL_INDEX = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int PRUNE_EVERY_WRITES = 64;
+    private static final Duration ABANDONED_TEMP_AGE = Duration.ofHours(1);
+
+    private final StorageProperties storageProperties;
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /**
+     * SHA-256 of the source bytes, as stored in and compared against the file header.
+     */
+    public byte[] sourceHash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The instance stored for {@code url}, if it was parsed from a source with {@code sourceHash} by the
+     * current parser version. The file is read and decoded in full before this returns.
+     */
+    public Optional<XbrlInstance> read(String url, byte[] sourceHash) {
+        if (url == null || sourceHash == null) {
+            return Optional.empty();
+        }
+        Path path = resolvePath(url);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (!headerMatches(buffer, sourceHash)) {
+                log.debug("Discarding stale parsed XBRL for {}", url);
+                deleteQuietly(path);
+                return Optional.empty();
+            }
+            XbrlInstance instance = new Decoder(buffer).readInstance();
+            touch(path);
+            return Optional.of(instance);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Discarding unreadable parsed XBRL for {}: {}", url, e.getMessage());
+            deleteQuietly(path);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store {@code instance} for {@code url}. Failures are logged; the parse result is still usable.
+     */
+    public void write(String url, byte[] sourceHash, XbrlInstance instance) {
+        if (url == null || sourceHash == null || sourceHash.length != HASH_BYTES || instance == null) {
+            return;
+        }
+        Path path = resolvePath(url);
+        Path temp = null;
+        try {
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(XbrlParser.OUTPUT_VERSION);
+                out.write(sourceHash);
+                new Encoder().writeInstance(instance, out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to store parsed XBRL for {}: {}", url, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+        if (writes.getAndIncrement() % PRUNE_EVERY_WRITES == 0) {
+            prune();
+        }
+    }
+
+    /**
+     * Remove stored instances older than the configured maximum age, then the least recently used ones
+     * until the directory fits the configured maximum size.
+     */
+    public synchronized void prune() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<StoredFile> files = new ArrayList<>();
+        Instant abandonedBefore = Instant.now().minus(ABANDONED_TEMP_AGE);
+        // Matches stored files and the temporary files writes create next to them
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION + "*")) {
+            for (Path file : stream) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    Instant lastModified = attributes.lastModifiedTime().toInstant();
+                    if (!file.getFileName().toString().endsWith(EXTENSION)) {
+                        if (lastModified.isBefore(abandonedBefore)) {
+                            deleteQuietly(file);
+                        }
+                        continue;
+                    }
+                    files.add(new StoredFile(file, attributes.size(), lastModified));
+                } catch (IOException e) {
+                    log.debug("Skipping {} while pruning: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to prune parsed XBRL store {}: {}", directory, e.getMessage());
+            return;
+        }
+
+        files.sort(Comparator.comparing(StoredFile::lastUsed));
+        Duration maxAge = storageProperties.getParsedXbrlMaxAge();
+        Instant cutoff = maxAge != null && maxAge.isPositive() ? Instant.now().minus(maxAge) : Instant.MIN;
+        long maxBytes = storageProperties.getParsedXbrlMaxBytes();
+        long totalBytes = files.stream().mapToLong(StoredFile::size).sum();
+        int removed = 0;
+        for (StoredFile file : files) {
+            boolean expired = file.lastUsed().isBefore(cutoff);
+            boolean overBudget = maxBytes > 0 && totalBytes > maxBytes;
+            if (!expired && !overBudget) {
+                break;
+            }
+            deleteQuietly(file.path());
+            totalBytes -= file.size();
+            removed++;
+        }
+        if (removed > 0) {
+            log.info("Pruned {} parsed XBRL files from {}, {} bytes remain", removed, directory, totalBytes);
+        }
+    }
+
+    /**
+     * Remove every stored instance.
+     */
+    public void clear() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clear parsed XBRL store {}: {}", directory, e.getMessage());
+        }
+    }
+
+    Path resolvePath(String url) {
+        byte[] digest = sourceHash(url.trim().getBytes(StandardCharsets.UTF_8));
+        return directory().resolve(HexFormat.of().formatHex(digest, 0, 16) + EXTENSION);
+    }
+
+    private Path directory() {
+        return Path.of(storageProperties.getDownloadCachePath()).resolve(DIRECTORY);
+    }
+
+    private boolean headerMatches(ByteBuffer buffer, byte[] sourceHash) {
+        if (buffer.remaining() < 12 + HASH_BYTES) {
+            return false;
+        }
+        if (buffer.getInt() != MAGIC
+                || buffer.getInt() != FORMAT_VERSION
+                || buffer.getInt() != XbrlParser.OUTPUT_VERSION) {
+            return false;
+        }
+        byte[] storedHash = new byte[HASH_BYTES];
+        buffer.get(storedHash);
+        return Arrays.equals(storedHash, sourceHash);
+    }
+
+    private void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Failed to touch {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record StoredFile(Path path, long size, Instant lastUsed) {
+    }
+
+    /**
+     * Writes the body as a string dictionary followed by the instance, so the dictionary is complete
+     * before any index into it is read back.
+     */
+    private static final class Encoder {
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        void writeInstance(XbrlInstance instance, OutputStream target) throws IOException {
+            string(instance.getDocumentUri());
+            enumName(instance.getFormat());
+            body.writeLong(instance.getParseTime() != null
+                    ? instance.getParseTime().toEpochSecond(ZoneOffset.UTC)
+                    : NULL_LONG);
+            string(instance.getEntityIdentifier());
+            string(instance.getEntityScheme());
+            stringMap(instance.getNamespaces());
+            stringList(instance.getSchemaRefs());
+            stringList(instance.getLinkbaseRefs());
+
+            Map<String, XbrlContext> contexts = instance.getContexts() != null ? instance.getContexts() : Map.of();
+            body.writeInt(contexts.size());
+            for (XbrlContext context : contexts.values()) {
+                context(context);
+            }
+
+            Map<String, XbrlUnit> units = instance.getUnits() != null ? instance.getUnits() : Map.of();
+            body.writeInt(units.size());
+            for (XbrlUnit unit : units.values()) {
+                unit(unit);
+            }
+
+            List<XbrlFact> facts = instance.getFacts() != null ? instance.getFacts() : List.of();
+            body.writeInt(facts.size());
+            for (XbrlFact fact : facts) {
+                fact(fact);
+            }
+
+            parseResult(instance.getParseResult());
+            body.flush();
+
+            DataOutputStream out = new DataOutputStream(target);
+            out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            bodyBytes.writeTo(out);
+            out.flush();
+        }
+
+        private void context(XbrlContext context) throws IOException {
+            string(context.getId());
+            string(context.getEntityIdentifier());
+            string(context.getEntityScheme());
+            XbrlContext.XbrlPeriod period = context.getPeriod();
+            body.writeBoolean(period != null);
+            if (period != null) {
+                date(period.getInstant());
+                date(period.getStartDate());
+                date(period.getEndDate());
+                body.writeBoolean(period.isForever());
+            }
+            List<XbrlContext.XbrlDimension> dimensions =
+                    context.getDimensions() != null ? context.getDimensions() : List.of();
+            body.writeInt(dimensions.size());
+            for (XbrlContext.XbrlDimension dimension : dimensions) {
+                string(dimension.getAxisNamespace());
+                string(dimension.getAxisLocalName());
+                string(dimension.getMemberNamespace());
+                string(dimension.getMemberLocalName());
+                body.writeBoolean(dimension.isTyped());
+                string(dimension.getTypedValue());
+            }
+        }
+
+        private void unit(XbrlUnit unit) throws IOException {
+            string(unit.getId());
+            enumName(unit.getType());
+            string(unit.getMeasure());
+            string(unit.getMeasureNamespace());
+            string(unit.getMeasureLocalName());
+            nullableStringList(unit.getNumeratorMeasures());
+            nullableStringList(unit.getDenominatorMeasures());
+        }
+
+        private void fact(XbrlFact fact) throws IOException {
+            string(fact.getConceptNamespace());
+            string(fact.getConceptLocalName());
+            string(fact.getConceptPrefix());
+            string(fact.getContextRef());
+            string(fact.getUnitRef());
+            string(fact.getRawValue());
+            decimal(fact.getNumericValue());
+            string(fact.getStringValue());
+            enumName(fact.getFactType());
+            body.writeInt(fact.getDecimals() != null ? fact.getDecimals() : NULL_INT);
+            body.writeInt(fact.getPrecision() != null ? fact.getPrecision() : NULL_INT);
+            decimal(fact.getScale());
+            string(fact.getFormat());
+            string(fact.getSign());
+            body.writeBoolean(fact.isNil());
+            body.writeBoolean(fact.isNested());
+            body.writeInt(fact.getSourceLineNumber());
+            string(fact.getSourceElement());
+            String[] footnoteRefs = fact.getFootnoteRefs() != null ? fact.getFootnoteRefs() : new String[0];
+            body.writeInt(footnoteRefs.length);
+            for (String ref : footnoteRefs) {
+                string(ref);
+            }
+        }
+
+        private void parseResult(ParseResult result) throws IOException {
+            ParseResult value = result != null ? result : new ParseResult();
+            body.writeBoolean(value.isSuccess());
+            body.writeLong(value.getParseTimeMs());
+            body.writeInt(value.getTotalFactsFound());
+            body.writeInt(value.getSuccessfullyParsedFacts());
+            body.writeInt(value.getSkippedFacts());
+            body.writeInt(value.getTotalContextsFound());
+            body.writeInt(value.getTotalUnitsFound());
+            body.writeInt(value.getNestedFactsExtracted());
+            body.writeInt(value.getContinuationFactsResolved());
+            body.writeInt(value.getNamespaceRecoveries());
+            body.writeInt(value.getEncodingRecoveries());
+            body.writeInt(value.getMalformedXmlRecoveries());
+            body.writeInt(value.getWarnings().size());
+            for (ParseResult.ParseWarning warning : value.getWarnings()) {
+                string(warning.getCode());
+                string(warning.getMessage());
+                body.writeInt(warning.getLineNumber());
+            }
+            body.writeInt(value.getErrors().size());
+            for (ParseResult.ParseError error : value.getErrors()) {
+                string(error.getCode());
+                string(error.getMessage());
+                body.writeInt(error.getLineNumber());
+            }
+        }
+
+        private void stringMap(Map<String, String> values) throws IOException {
+            Map<String, String> map = values != null ? values : Map.of();
+            body.writeInt(map.size());
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                string(entry.getKey());
+                string(entry.getValue());
+            }
+        }
+
+        private void stringList(List<String> values) throws IOException {
+            List<String> list = values != null ? values : List.of();
+            body.writeInt(list.size());
+            for (String value : list) {
+                string(value);
+            }
+        }
+
+        private void nullableStringList(List<String> values) throws IOException {
+            if (values == null) {
+                body.writeInt(NULL_INT);
+                return;
+            }
+            stringList(values);
+        }
+
+        private void decimal(BigDecimal value) throws IOException {
+            string(value != null ? value.toString() : null);
+        }
+
+        private void enumName(Enum<?> value) throws IOException {
+            string(value != null ? value.name() : null);
+        }
+
+        private void date(LocalDate value) throws IOException {
+            body.writeLong(value != null ? value.toEpochDay() : NULL_LONG);
+        }
+
+        private void string(String value) throws IOException {
+            if (value == null) {
+                body.writeInt(NULL_INDEX);
+                return;
+            }
+            Integer index = dictionary.get(value);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(value, index);
+            }
+            body.writeInt(index);
+        }
+    }
+
+    private static final class Decoder {
+        private final ByteBuffer buffer;
+        private String[] dictionary;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        XbrlInstance readInstance() {
+            try {
+                readDictionary();
+                XbrlInstance.XbrlInstanceBuilder builder = XbrlInstance.builder()
+                        .documentUri(string())
+                        .format(enumValue(XbrlInstance.XbrlFormat.class));
+                long parseTime = buffer.getLong();
+                builder.parseTime(parseTime != NULL_LONG
+                        ? LocalDateTime.ofEpochSecond(parseTime, 0, ZoneOffset.UTC)
+                        : null);
+                builder.entityIdentifier(string());
+                builder.entityScheme(string());
+                builder.namespaces(stringMap());
+                builder.schemaRefs(stringList());
+                builder.linkbaseRefs(stringList());
+
+                int contextCount = buffer.getInt();
+                Map<String, XbrlContext> contexts = new HashMap<>(Math.max(16, contextCount * 2));
+                for (int i = 0; i < contextCount; i++) {
+                    XbrlContext context = context();
+                    contexts.put(context.getId(), context);
+                }
+                builder.contexts(contexts);
+
+                int unitCount = buffer.getInt();
+                Map<String, XbrlUnit> units = new HashMap<>(Math.max(16, unitCount * 2));
+                for (int i = 0; i < unitCount; i++) {
+                    XbrlUnit unit = unit();
+                    units.put(unit.getId(), unit);
+                }
+                builder.units(units);
+
+                int factCount = buffer.getInt();
+                List<XbrlFact> facts = new ArrayList<>(factCount);
+                for (int i = 0; i < factCount; i++) {
+                    facts.add(fact());
+                }
+                builder.facts(facts);
+                builder.parseResult(parseResult());
+                return builder.build();
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IllegalStateException("Truncated parsed XBRL file", e);
+            }
+        }
+
+        private void readDictionary() {
+            int size = buffer.getInt();
+            dictionary = new String[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private XbrlContext context() {
+            XbrlContext.XbrlContextBuilder builder = XbrlContext.builder()
+                    .id(string())
+                    .entityIdentifier(string())
+                    .entityScheme(string());
+            if (buffer.get() != 0) {
+                builder.period(XbrlContext.XbrlPeriod.builder()
+                        .instant(date())
+                        .startDate(date())
+                        .endDate(date())
+                        .isForever(buffer.get() != 0)
+                        .build());
+            }
+            int dimensionCount = buffer.getInt();
+            List<XbrlContext.XbrlDimension> dimensions = new ArrayList<>(dimensionCount);
+            for (int i = 0; i < dimensionCount; i++) {
+                dimensions.add(XbrlContext.XbrlDimension.builder()
+                        .axisNamespace(string())
+                        .axisLocalName(string())
+                        .memberNamespace(string())
+                        .memberLocalName(string())
+                        .isTyped(buffer.get() != 0)
+                        .typedValue(string())
+                        .build());
+            }
+            return builder.dimensions(dimensions).build();
+        }
+
+        private XbrlUnit unit() {
+            return XbrlUnit.builder()
+                    .id(string())
+                    .type(enumValue(XbrlUnit.UnitType.class))
+                    .measure(string())
+                    .measureNamespace(string())
+                    .measureLocalName(string())
+                    .numeratorMeasures(nullableStringList())
+                    .denominatorMeasures(nullableStringList())
+                    .build();
+        }
+
+        private XbrlFact fact() {
+            XbrlFact.XbrlFactBuilder builder = XbrlFact.builder()
+                    .conceptNamespace(string())
+                    .conceptLocalName(string())
+                    .conceptPrefix(string())
+                    .contextRef(string())
+                    .unitRef(string())
+                    .rawValue(string())
+                    .numericValue(decimal())
+                    .stringValue(string())
+                    .factType(enumValue(XbrlFact.FactType.class))
+                    .decimals(nullableInt(buffer.getInt()))
+                    .precision(nullableInt(buffer.getInt()))
+                    .scale(decimal())
+                    .format(string())
+                    .sign(string())
+                    .isNil(buffer.get() != 0)
+                    .isNested(buffer.get() != 0)
+                    .sourceLineNumber(buffer.getInt())
+                    .sourceElement(string());
+            int footnoteCount = buffer.getInt();
+            String[] footnoteRefs = new String[footnoteCount];
+            for (int i = 0; i < footnoteCount; i++) {
+                footnoteRefs[i] = string();
+            }
+            return builder.footnoteRefs(footnoteRefs).build();
+        }
+
+        private ParseResult parseResult() {
+            ParseResult result = new ParseResult();
+            result.setSuccess(buffer.get() != 0);
+            result.setParseTimeMs(buffer.getLong());
+            result.setTotalFactsFound(buffer.getInt());
+            result.setSuccessfullyParsedFacts(buffer.getInt());
+            result.setSkippedFacts(buffer.getInt());
+            result.setTotalContextsFound(buffer.getInt());
+            result.setTotalUnitsFound(buffer.getInt());
+            result.setNestedFactsExtracted(buffer.getInt());
+            result.setContinuationFactsResolved(buffer.getInt());
+            result.setNamespaceRecoveries(buffer.getInt());
+            result.setEncodingRecoveries(buffer.getInt());
+            result.setMalformedXmlRecoveries(buffer.getInt());
+            int warningCount = buffer.getInt();
+            for (int i = 0; i < warningCount; i++) {
+                result.getWarnings().add(new ParseResult.ParseWarning(string(), string(), buffer.getInt()));
+            }
+            int errorCount = buffer.getInt();
+            for (int i = 0; i < errorCount; i++) {
+                result.getErrors().add(new ParseResult.ParseError(string(), string(), buffer.getInt()));
+            }
+            return result;
+        }
+
+        private Map<String, String> stringMap() {
+            int size = buffer.getInt();
+            Map<String, String> map = new HashMap<>(Math.max(16, size * 2));
+            for (int i = 0; i < size; i++) {
+                map.put(string(), string());
+            }
+            return map;
+        }
+
+        private List<String> stringList() {
+            int size = buffer.getInt();
+            List<String> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(string());
+            }
+            return list;
+        }
+
+        private List<String> nullableStringList() {
+            int size = buffer.getInt();
+            if (size == NULL_INT) {
+                return null;
+            }
+            List<String> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(string());
+            }
+            return list;
+        }
+
+        private BigDecimal decimal() {
+            String value = string();
+            return value != null ? new BigDecimal(value) : null;
+        }
+
+        private LocalDate date() {
+            long epochDay = buffer.getLong();
+            return epochDay != NULL_LONG ? LocalDate.ofEpochDay(epochDay) : null;
+        }
+
+        private Integer nullableInt(int value) {
+            return value != NULL_INT ? value : null;
+        }
+
+        private String string() {
+            int index = buffer.getInt();
+            return index == NULL_INDEX ? null : dictionary[index];
+        }
+
+        /**
+         * A constant that no longer exists fails the read, so the file is dropped and the source reparsed.
+         */
+        private <E extends Enum<E>> E enumValue(Class<E> type) {
+            String name = string();
+            return name != null ? Enum.valueOf(type, name) : null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.jds.edgar4j.storage.file;
+
+/**
+ * Secondary index maintained by {@link FileCollection} alongside its primary id map.
+ */
+interface CollectionIndex<T> {
+
+    String name();
+
+    void rebuild(Iterable<T> records);
+
+    void add(T record);
+
+    void update(String id, T record);
+
+    void removeById(String id);
+}
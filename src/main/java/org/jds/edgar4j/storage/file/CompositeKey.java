@@ -0,0 +1,104 @@
+package org.jds.edgar4j.storage.file;
+
+import java.util.Arrays;
+
+/**
+ * Multi-part comparable key for sorted indexes such as CIK + filing date. Parts compare left to
+ * right; {@link #MIN} and {@link #MAX} stand in for an open bound on a trailing part, so
+ * {@code CompositeKey.of(cik, CompositeKey.MIN)} .. {@code CompositeKey.of(cik, CompositeKey.MAX)}
+ * covers every entry for one CIK.
+ */
+public final class CompositeKey implements Comparable<CompositeKey> {
+
+    public static final Object MIN = new Object() {
+        @Override
+        public String toString() {
+            return "MIN";
+        }
+    };
+
+    public static final Object MAX = new Object() {
+        @Override
+        public String toString() {
+            return "MAX";
+        }
+    };
+
+    private final Object[] parts;
+
+    private CompositeKey(Object[] parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Builds an index key, or returns {@code null} (not indexed) when any part is missing.
+     */
+    public static CompositeKey of(Object... parts) {
+        for (Object part : parts) {
+            if (part == null) {
+                return null;
+            }
+        }
+        return new CompositeKey(parts.clone());
+    }
+
+    /**
+     * Builds a range bound where a {@code null} part means "open" on the given side.
+     */
+    public static CompositeKey lowerBound(Object... parts) {
+        return bound(parts, MIN);
+    }
+
+    public static CompositeKey upperBound(Object... parts) {
+        return bound(parts, MAX);
+    }
+
+    private static CompositeKey bound(Object[] parts, Object open) {
+        Object[] boundParts = parts.clone();
+        for (int i = 0; i < boundParts.length; i++) {
+            if (boundParts[i] == null) {
+                boundParts[i] = open;
+            }
+        }
+        return new CompositeKey(boundParts);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int compareTo(CompositeKey other) {
+        int length = Math.min(parts.length, other.parts.length);
+        for (int i = 0; i < length; i++) {
+            Object left = parts[i];
+            Object right = other.parts[i];
+            if (left == right) {
+                continue;
+            }
+            if (left == MIN || right == MAX) {
+                return -1;
+            }
+            if (left == MAX || right == MIN) {
+                return 1;
+            }
+            int result = ((Comparable) left).compareTo(right);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(parts.length, other.parts.length);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CompositeKey key && Arrays.equals(parts, key.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(parts);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(parts);
+    }
+}
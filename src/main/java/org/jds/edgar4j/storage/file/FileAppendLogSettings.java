@@ -0,0 +1,19 @@
+package org.jds.edgar4j.storage.file;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options for collections running in {@link FileWriteMode#APPEND_LOG} mode.
+ *
+ * @param syncEvery number of appended entries grouped into one fsync
+ * @param compactionThreshold log entries after which the log is folded into a new snapshot
+ * @param compactionExecutor executor running background compactions; {@code Runnable::run} compacts inline
+ */
+public record FileAppendLogSettings(int syncEvery, long compactionThreshold, Executor compactionExecutor) {
+
+    public FileAppendLogSettings {
+        syncEvery = Math.max(1, syncEvery);
+        compactionThreshold = Math.max(1, compactionThreshold);
+        compactionExecutor = compactionExecutor == null ? Runnable::run : compactionExecutor;
+    }
+}
@@ -8,6 +8,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -17,21 +19,27 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+
 public class FileCollection<T> {
 
     private final Path filePath;
+    private final String name;
     private final Class<T> type;
     private final ObjectMapper objectMapper;
     private final FileFormat format;
@@ -41,11 +49,22 @@ public class FileCollection<T> {
     private final boolean flushOnWrite;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final JavaType listType;
-    private final Map<String, InMemoryIndex<T>> indexes = new LinkedHashMap<>();
+    private final Map<String, CollectionIndex<T>> indexes = new LinkedHashMap<>();
+    private final FileAppendLogSettings appendLogSettings;
+    private final FileCollectionLog<T> appendLog;
+    private final Timer sortTimer;
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
     private static final String SUPPORTED_SERIALIZATION_FORMATS = "JSON, JSONL";
+    private static final int MIN_TOMBSTONES_BEFORE_COMPACTION = 1_024;
 
-    private List<T> records;
-    private Map<String, T> recordsById;
+    /**
+     * Records in insertion order; deleted slots hold {@code null} until the slot array is compacted.
+     */
+    private ArrayList<T> slots;
+    private Map<String, Integer> slotsById;
+    private int tombstones;
+    private volatile boolean loaded;
 
     public FileCollection(
             Path filePath,
@@ -56,7 +75,35 @@ public class FileCollection<T> {
             BiConsumer<T, String> idSetter,
             boolean indexOnStartup,
             boolean flushOnWrite) {
+        this(filePath, type, objectMapper, format, idGetter, idSetter, indexOnStartup, flushOnWrite, null);
+    }
+
+    public FileCollection(
+            Path filePath,
+            Class<T> type,
+            ObjectMapper objectMapper,
+            FileFormat format,
+            Function<T, String> idGetter,
+            BiConsumer<T, String> idSetter,
+            boolean indexOnStartup,
+            boolean flushOnWrite,
+            FileAppendLogSettings appendLogSettings) {
+        this(filePath, type, objectMapper, format, idGetter, idSetter, indexOnStartup, flushOnWrite, appendLogSettings, null);
+    }
+
+    public FileCollection(
+            Path filePath,
+            Class<T> type,
+            ObjectMapper objectMapper,
+            FileFormat format,
+            Function<T, String> idGetter,
+            BiConsumer<T, String> idSetter,
+            boolean indexOnStartup,
+            boolean flushOnWrite,
+            FileAppendLogSettings appendLogSettings,
+            Timer sortTimer) {
         this.filePath = Objects.requireNonNull(filePath, "filePath is required");
+        this.name = collectionName(filePath);
         this.type = Objects.requireNonNull(type, "type is required");
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
         this.format = Objects.requireNonNull(format, "format is required");
@@ -65,6 +112,11 @@ public class FileCollection<T> {
         this.indexOnStartup = indexOnStartup;
         this.flushOnWrite = flushOnWrite;
         this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+        this.appendLogSettings = appendLogSettings;
+        this.appendLog = appendLogSettings == null
+                ? null
+                : new FileCollectionLog<>(filePath, type, objectMapper, appendLogSettings.syncEvery());
+        this.sortTimer = sortTimer;
 
         ensureSupportedFormat();
     }
@@ -85,6 +137,74 @@ public class FileCollection<T> {
         registerIndex(name, record -> keyExtractor.apply(record), value -> value == null ? null : value.toString().toLowerCase(Locale.ROOT));
     }
 
+    /**
+     * Registers an ordered index for range scans. Records whose key is {@code null} are skipped by
+     * bounded ranges and returned last by fully open page scans.
+     */
+    public void registerSortedIndex(String name, Function<T, ? extends Comparable<?>> keyExtractor) {
+        lock.writeLock().lock();
+        try {
+            indexes.put(name, new SortedIndex<>(name, idGetter, keyExtractor));
+            if (loaded || indexOnStartup) {
+                ensureLoaded();
+                indexes.get(name).rebuild(liveRecords());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pages through a sorted index without materializing or sorting the whole range. Ordering is
+     * pushed down to the index only when the pageable is sorted by {@code sortProperty} alone (the
+     * property the index key orders by within the range); an unsorted pageable or any other sort
+     * materializes the range and pages it through {@link FilePageSupport#page}, so the index order
+     * is never substituted for one the caller did not ask for. Bounds are inclusive and {@code null}
+     * means open.
+     */
+    public Page<T> findPageInRange(
+            String indexName,
+            String sortProperty,
+            Object from,
+            Object to,
+            Predicate<T> filter,
+            Pageable pageable) {
+        Sort.Direction direction = pushdownDirection(sortProperty, pageable);
+        if (direction == null) {
+            List<T> range = findAllInRange(indexName, from, to);
+            return FilePageSupport.page(filter == null ? range : range.stream().filter(filter).toList(), pageable, sortTimer);
+        }
+
+        lock.readLock().lock();
+        try {
+            ensureLoaded();
+            SortedIndex.Slice<T> slice = sortedIndex(indexName).scan(
+                    from,
+                    to,
+                    direction.isDescending(),
+                    filter,
+                    pageable.getOffset(),
+                    pageable.getPageSize());
+            return new PageImpl<>(slice.content(), pageable, slice.total());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset page over a sorted index: up to {@code limit} records keyed strictly after {@code after},
+     * in ascending key order, without visiting the rest of the index.
+     */
+    public List<T> findAfterInIndex(String indexName, Object after, int limit) {
+        lock.readLock().lock();
+        try {
+            ensureLoaded();
+            return sortedIndex(indexName).findAfter(after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     public Optional<T> findIndexedFirst(String indexName, Object value) {
         lock.readLock().lock();
         try {
@@ -106,11 +226,35 @@ public class FileCollection<T> {
     }
 
     public boolean existsIndexed(String indexName, Object value) {
-        return !findAllIndexed(indexName, value).isEmpty();
+        return countIndexed(indexName, value) > 0;
     }
 
     public long countIndexed(String indexName, Object value) {
-        return findAllIndexed(indexName, value).size();
+        lock.readLock().lock();
+        try {
+            ensureLoaded();
+            return index(indexName).count(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns records whose sorted-index key lies within {@code [from, to]}, in ascending key order.
+     * A {@code null} bound leaves that side open.
+     */
+    public List<T> findAllInRange(String indexName, Object from, Object to) {
+        return findAllInRange(indexName, from, true, to, true);
+    }
+
+    public List<T> findAllInRange(String indexName, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        lock.readLock().lock();
+        try {
+            ensureLoaded();
+            return sortedIndex(indexName).findRange(from, fromInclusive, to, toInclusive);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public <S extends T> S save(S record) {
@@ -119,23 +263,14 @@ public class FileCollection<T> {
             ensureLoaded();
             assignIdIfMissing(record);
             String id = idGetter.apply(record);
-
-            int existingIndex = indexOf(id);
-            if (existingIndex >= 0) {
-                records.set(existingIndex, record);
-                recordsById.put(id, record);
-                updateIndexes(id, record);
-            } else {
-                records.add(record);
-                recordsById.put(id, record);
-                addToIndexes(record);
-            }
-
+            upsertInternal(id, record);
+            logUpsert(id, record);
             flushIfNeeded();
-            return record;
         } finally {
             lock.writeLock().unlock();
         }
+        scheduleCompactionIfNeeded();
+        return record;
     }
 
     public <S extends T> List<S> saveAll(Iterable<S> entities) {
@@ -146,30 +281,23 @@ public class FileCollection<T> {
             for (S entity : entities) {
                 assignIdIfMissing(entity);
                 String id = idGetter.apply(entity);
-                int existingIndex = indexOf(id);
-                if (existingIndex >= 0) {
-                    records.set(existingIndex, entity);
-                    recordsById.put(id, entity);
-                    updateIndexes(id, entity);
-                } else {
-                    records.add(entity);
-                    recordsById.put(id, entity);
-                    addToIndexes(entity);
-                }
+                upsertInternal(id, entity);
+                logUpsert(id, entity);
                 saved.add(entity);
             }
             flushIfNeeded();
-            return saved;
         } finally {
             lock.writeLock().unlock();
         }
+        scheduleCompactionIfNeeded();
+        return saved;
     }
 
     public Optional<T> findById(String id) {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return Optional.ofNullable(id == null ? null : recordsById.get(id));
+            return Optional.ofNullable(id == null ? null : recordAt(slotsById.get(id)));
         } finally {
             lock.readLock().unlock();
         }
@@ -179,39 +307,61 @@ public class FileCollection<T> {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return List.copyOf(records);
+            return Collections.unmodifiableList(liveRecords());
         } finally {
             lock.readLock().unlock();
         }
     }
 
     public Page<T> findAll(Pageable pageable) {
-        return FilePageSupport.page(findAll(), pageable);
+        return page(findAll(), pageable);
     }
 
     public List<T> findAll(Sort sort) {
-        return FilePageSupport.applySort(findAll(), sort);
+        return sort(findAll(), sort);
+    }
+
+    /**
+     * Sorts and pages records already read from this collection, timing the sort under this collection.
+     */
+    public Page<T> page(List<T> source, Pageable pageable) {
+        return FilePageSupport.page(source, pageable, sortTimer);
+    }
+
+    public List<T> sort(List<T> source, Sort sort) {
+        return FilePageSupport.applySort(source, sort, sortTimer);
     }
 
     public List<T> findAllMatching(Predicate<T> predicate) {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return records.stream().filter(predicate).toList();
+            List<T> matches = new ArrayList<>();
+            for (T record : slots) {
+                if (record != null && predicate.test(record)) {
+                    matches.add(record);
+                }
+            }
+            return matches;
         } finally {
             lock.readLock().unlock();
         }
     }
 
     public Page<T> findAllMatching(Predicate<T> predicate, Pageable pageable) {
-        return FilePageSupport.page(findAllMatching(predicate), pageable);
+        return page(findAllMatching(predicate), pageable);
     }
 
     public boolean exists(Predicate<T> predicate) {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return records.stream().anyMatch(predicate);
+            for (T record : slots) {
+                if (record != null && predicate.test(record)) {
+                    return true;
+                }
+            }
+            return false;
         } finally {
             lock.readLock().unlock();
         }
@@ -221,7 +371,7 @@ public class FileCollection<T> {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return records.size();
+            return slots.size() - tombstones;
         } finally {
             lock.readLock().unlock();
         }
@@ -231,7 +381,13 @@ public class FileCollection<T> {
         lock.readLock().lock();
         try {
             ensureLoaded();
-            return records.stream().filter(predicate).count();
+            long matches = 0;
+            for (T record : slots) {
+                if (record != null && predicate.test(record)) {
+                    matches++;
+                }
+            }
+            return matches;
         } finally {
             lock.readLock().unlock();
         }
@@ -253,6 +409,7 @@ public class FileCollection<T> {
         } finally {
             lock.writeLock().unlock();
         }
+        scheduleCompactionIfNeeded();
     }
 
     public void deleteAll(Iterable<? extends T> entities) {
@@ -270,6 +427,7 @@ public class FileCollection<T> {
         } finally {
             lock.writeLock().unlock();
         }
+        scheduleCompactionIfNeeded();
     }
 
     public Iterable<T> findAllByIds(Iterable<String> ids) {
@@ -277,26 +435,113 @@ public class FileCollection<T> {
         if (requestedIds.isEmpty()) {
             return List.of();
         }
-        return findAllMatching(record -> requestedIds.contains(idGetter.apply(record)));
+
+        lock.readLock().lock();
+        try {
+            ensureLoaded();
+            List<T> found = new ArrayList<>(requestedIds.size());
+            for (String id : requestedIds) {
+                T record = recordAt(slotsById.get(id));
+                if (record != null) {
+                    found.add(record);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
+    /**
+     * Persists the collection. In append-log mode this is a checkpoint: the log is folded into a fresh snapshot.
+     */
     public void flush() {
+        if (appendLog != null) {
+            compact();
+            return;
+        }
+
         lock.writeLock().lock();
         try {
             ensureLoaded();
-            writeRecords(records);
+            writeRecords(liveRecords());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Folds the append log into a new snapshot. The active log is sealed under the write lock, the
+     * snapshot is written without blocking readers or writers, and only then is the sealed segment dropped.
+     */
+    public void compact() {
+        if (appendLog == null) {
+            flush();
+            return;
+        }
+
+        compactionLock.lock();
+        try {
+            List<T> snapshot;
+            lock.writeLock().lock();
+            try {
+                ensureLoaded();
+                snapshot = liveRecords();
+                appendLog.seal();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            writeRecords(snapshot);
+            appendLog.discardSealed();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void close() {
+        if (appendLog == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            appendLog.close();
         } finally {
             lock.writeLock().unlock();
         }
     }
 
     private void ensureLoaded() {
-        if (records != null) {
+        if (loaded) {
             return;
         }
-        records = readRecords();
-        rebuildPrimaryIndex();
-        buildIndexes();
+        // Readers may trigger the lazy load while holding only the read lock.
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            slots = rebuildPrimaryIndex(readRecords());
+            if (appendLog != null) {
+                replayAppendLog();
+            }
+            buildIndexes();
+            loaded = true;
+        }
+    }
+
+    private void replayAppendLog() {
+        appendLog.replay(this::putSlot, this::clearSlot);
+        compactSlotsIfNeeded();
+
+        if (appendLog.hasSealedSegment()) {
+            // A previous compaction died before dropping its sealed segment; finish it now.
+            appendLog.seal();
+            writeRecords(liveRecords());
+            appendLog.discardSealed();
+        }
     }
 
     private List<T> readRecords() {
@@ -359,9 +604,42 @@ public class FileCollection<T> {
     }
 
     private void flushIfNeeded() {
-        if (flushOnWrite) {
-            writeRecords(records);
+        if (appendLog != null) {
+            appendLog.commit();
+        } else if (flushOnWrite) {
+            writeRecords(liveRecords());
+        }
+    }
+
+    private void logUpsert(String id, T record) {
+        if (appendLog != null) {
+            appendLog.appendUpsert(id, record);
+        }
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (appendLog == null) {
+            return;
         }
+        long entries;
+        lock.readLock().lock();
+        try {
+            // The count is written under the write lock; read it under the lock to see the latest value
+            entries = appendLog.entryCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (entries < appendLogSettings.compactionThreshold() || !compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        appendLogSettings.compactionExecutor().execute(() -> {
+            try {
+                compact();
+            } finally {
+                compactionScheduled.set(false);
+            }
+        });
     }
 
     private void assignIdIfMissing(T record) {
@@ -375,40 +653,111 @@ public class FileCollection<T> {
         lock.writeLock().lock();
         try {
             indexes.put(name, new InMemoryIndex<>(name, idGetter, keyExtractor, keyNormalizer));
-            if (records != null || indexOnStartup) {
+            if (loaded || indexOnStartup) {
                 ensureLoaded();
-                index(name).rebuild(records);
+                indexes.get(name).rebuild(liveRecords());
             }
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    private void rebuildPrimaryIndex() {
-        recordsById = new LinkedHashMap<>();
-        for (T record : records) {
+    private ArrayList<T> rebuildPrimaryIndex(List<T> loaded) {
+        ArrayList<T> loadedSlots = new ArrayList<>(loaded.size());
+        slotsById = new HashMap<>(Math.max(16, (int) (loaded.size() / 0.75f) + 1));
+        tombstones = 0;
+        for (T record : loaded) {
             String id = idGetter.apply(record);
-            if (id != null) {
-                recordsById.put(id, record);
+            Integer previous = id == null ? null : slotsById.put(id, loadedSlots.size());
+            if (previous != null) {
+                loadedSlots.set(previous, null);
+                tombstones++;
             }
+            loadedSlots.add(record);
         }
+        return loadedSlots;
     }
 
     private void buildIndexes() {
-        for (InMemoryIndex<T> index : indexes.values()) {
-            index.rebuild(records);
+        List<T> live = liveRecords();
+        for (CollectionIndex<T> index : indexes.values()) {
+            index.rebuild(live);
         }
     }
 
-    private void addToIndexes(T record) {
-        indexes.values().forEach(index -> index.add(record));
+    private void upsertInternal(String id, T record) {
+        if (putSlot(id, record)) {
+            updateIndexes(id, record);
+        } else {
+            addToIndexes(record);
+        }
     }
 
-    private void removeFromIndexes(T record) {
-        String id = idGetter.apply(record);
-        if (id != null) {
-            removeFromIndexesById(id);
+    /**
+     * Stores the record in its existing slot or appends a new one.
+     *
+     * @return {@code true} when the id was already present
+     */
+    private boolean putSlot(String id, T record) {
+        Integer slot = slotsById.get(id);
+        if (slot != null) {
+            slots.set(slot, record);
+            return true;
+        }
+        slotsById.put(id, slots.size());
+        slots.add(record);
+        return false;
+    }
+
+    private boolean clearSlot(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return false;
         }
+        slots.set(slot, null);
+        tombstones++;
+        return true;
+    }
+
+    private T recordAt(Integer slot) {
+        return slot == null ? null : slots.get(slot);
+    }
+
+    private List<T> liveRecords() {
+        List<T> live = new ArrayList<>(slots.size() - tombstones);
+        for (T record : slots) {
+            if (record != null) {
+                live.add(record);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Squeezes tombstones out of the slot array once they make up more than half of it, remapping
+     * slot numbers without re-reading record ids.
+     */
+    private void compactSlotsIfNeeded() {
+        if (tombstones < MIN_TOMBSTONES_BEFORE_COMPACTION || tombstones * 2 < slots.size()) {
+            return;
+        }
+
+        int[] remapped = new int[slots.size()];
+        ArrayList<T> compacted = new ArrayList<>(slots.size() - tombstones);
+        for (int slot = 0; slot < slots.size(); slot++) {
+            T record = slots.get(slot);
+            if (record != null) {
+                remapped[slot] = compacted.size();
+                compacted.add(record);
+            }
+        }
+        slotsById.replaceAll((id, slot) -> remapped[slot]);
+        slots = compacted;
+        tombstones = 0;
+    }
+
+    private void addToIndexes(T record) {
+        indexes.values().forEach(index -> index.add(record));
     }
 
     private void updateIndexes(String id, T record) {
@@ -419,14 +768,45 @@ public class FileCollection<T> {
         indexes.values().forEach(index -> index.removeById(id));
     }
 
+    private Sort.Direction pushdownDirection(String sortProperty, Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return null;
+        }
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() == 1 && orders.get(0).getProperty().equals(sortProperty)) {
+            return orders.get(0).getDirection();
+        }
+        return null;
+    }
+
     private InMemoryIndex<T> index(String indexName) {
-        InMemoryIndex<T> index = indexes.get(indexName);
+        if (registeredIndex(indexName) instanceof InMemoryIndex<T> index) {
+            return index;
+        }
+        throw new IllegalArgumentException("File index '" + indexName + "' is not an exact-match index");
+    }
+
+    private SortedIndex<T> sortedIndex(String indexName) {
+        if (registeredIndex(indexName) instanceof SortedIndex<T> index) {
+            return index;
+        }
+        throw new IllegalArgumentException("File index '" + indexName + "' is not a sorted index");
+    }
+
+    private CollectionIndex<T> registeredIndex(String indexName) {
+        CollectionIndex<T> index = indexes.get(indexName);
         if (index == null) {
             throw new IllegalArgumentException("No file index registered with name '" + indexName + "'");
         }
         return index;
     }
 
+    private static String collectionName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
     private void ensureSupportedFormat() {
         if (format != FileFormat.JSON && format != FileFormat.JSONL) {
             throw new IllegalArgumentException(
@@ -453,22 +833,21 @@ public class FileCollection<T> {
             return;
         }
 
-        boolean removedAny = records.removeIf(record -> ids.contains(idGetter.apply(record)));
+        boolean removedAny = false;
+        for (String id : ids) {
+            if (clearSlot(id)) {
+                removeFromIndexesById(id);
+                if (appendLog != null) {
+                    appendLog.appendDelete(id);
+                }
+                removedAny = true;
+            }
+        }
         if (!removedAny) {
             return;
         }
 
-        ids.forEach(recordsById::remove);
-        ids.forEach(this::removeFromIndexesById);
+        compactSlotsIfNeeded();
         flushIfNeeded();
     }
-
-    private int indexOf(String id) {
-        for (int i = 0; i < records.size(); i++) {
-            if (id != null && id.equals(idGetter.apply(records.get(i)))) {
-                return i;
-            }
-        }
-        return -1;
-    }
 }
@@ -1,55 +1,162 @@
 package org.jds.edgar4j.storage.file;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import io.micrometer.core.instrument.Timer;
+
 public final class FilePageSupport {
 
+    public static final String SORT_TIMER = "edgar4j.storage.file.sort";
+
     private FilePageSupport() {
     }
 
     public static <T> Page<T> page(List<T> source, Pageable pageable) {
+        return page(source, pageable, (Timer) null);
+    }
+
+    /**
+     * Sorts and pages {@code source}. When the requested page sits near the front of the result
+     * only the first {@code offset + pageSize} records are ordered (bounded heap) instead of the whole list.
+     */
+    public static <T> Page<T> page(List<T> source, Pageable pageable, Timer sortTimer) {
         if (pageable == null || pageable.isUnpaged()) {
             return new PageImpl<>(List.copyOf(source));
         }
 
-        List<T> sorted = applySort(source, pageable.getSort());
-        int start = Math.toIntExact(Math.min((long) pageable.getPageNumber() * pageable.getPageSize(), sorted.size()));
-        int end = Math.min(start + pageable.getPageSize(), sorted.size());
-        return new PageImpl<>(sorted.subList(start, end), pageable, sorted.size());
+        int start = Math.toIntExact(Math.min(pageable.getOffset(), source.size()));
+        List<T> content = sortedWindow(source, pageable.getSort(), start, pageable.getPageSize(), sortTimer);
+        return new PageImpl<>(content, pageable, source.size());
     }
 
     public static <T> List<T> applySort(List<T> source, Sort sort) {
-        List<T> records = new ArrayList<>(source);
+        return applySort(source, sort, (Timer) null);
+    }
+
+    public static <T> List<T> applySort(List<T> source, Sort sort, Timer sortTimer) {
+        return sortedWindow(source, sort, 0, source.size(), sortTimer);
+    }
+
+    /**
+     * Returns records {@code [offset, offset + limit)} of {@code source} ordered by {@code sort}.
+     * Sort keys are read once per record through compiled {@link PropertyAccessors}; ties keep
+     * their original order and {@code null} values sort last in either direction. Sorting time is
+     * recorded on {@code sortTimer} when the owning bean supplies one.
+     */
+    public static <T> List<T> sortedWindow(List<T> source, Sort sort, int offset, int limit, Timer sortTimer) {
+        int size = source.size();
+        int start = Math.min(Math.max(offset, 0), size);
+        int end = (int) Math.min((long) start + Math.max(limit, 0), size);
         if (sort == null || sort.isUnsorted()) {
-            return records;
+            return new ArrayList<>(source.subList(start, end));
+        }
+        if (start >= end) {
+            return new ArrayList<>();
         }
 
-        Comparator<T> comparator = null;
-        for (Sort.Order order : sort) {
-            Comparator<Comparable> valueComparator = order.isDescending()
-                    ? Comparator.nullsLast(Comparator.reverseOrder())
-                    : Comparator.nullsLast(Comparator.naturalOrder());
-            Comparator<T> nextComparator = Comparator.comparing(
-                    value -> comparableProperty(value, order.getProperty()),
-                    valueComparator);
-            comparator = comparator == null ? nextComparator : comparator.thenComparing(nextComparator);
+        long startedAt = System.nanoTime();
+        try {
+            List<Sort.Order> orders = sort.toList();
+            Comparator<SortEntry<T>> comparator = comparator(orders);
+            List<SortEntry<T>> ordered = end <= size / 4
+                    ? topK(source, orders, comparator, end)
+                    : fullSort(source, orders, comparator);
+
+            List<T> window = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                window.add(ordered.get(i).value());
+            }
+            return window;
+        } finally {
+            if (sortTimer != null) {
+                sortTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
         }
+    }
 
-        if (comparator != null) {
-            records.sort(comparator);
+    static Object readProperty(Object value, String propertyPath) {
+        return PropertyAccessors.read(value, propertyPath);
+    }
+
+    private static <T> List<SortEntry<T>> fullSort(List<T> source, List<Sort.Order> orders, Comparator<SortEntry<T>> comparator) {
+        @SuppressWarnings("unchecked")
+        SortEntry<T>[] entries = new SortEntry[source.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = entry(source.get(i), i, orders);
+        }
+        Arrays.sort(entries, comparator);
+        return Arrays.asList(entries);
+    }
+
+    private static <T> List<SortEntry<T>> topK(
+            List<T> source,
+            List<Sort.Order> orders,
+            Comparator<SortEntry<T>> comparator,
+            int k) {
+        PriorityQueue<SortEntry<T>> heap = new PriorityQueue<>(k, comparator.reversed());
+        for (int i = 0; i < source.size(); i++) {
+            SortEntry<T> candidate = entry(source.get(i), i, orders);
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (comparator.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<SortEntry<T>> ordered = new ArrayList<>(heap);
+        ordered.sort(comparator);
+        return ordered;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static <T> SortEntry<T> entry(T value, int position, List<Sort.Order> orders) {
+        Comparable[] keys = new Comparable[orders.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = comparableProperty(value, orders.get(i).getProperty());
         }
-        return records;
+        return new SortEntry<>(value, keys, position);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Comparator<SortEntry<T>> comparator(List<Sort.Order> orders) {
+        boolean[] descending = new boolean[orders.size()];
+        for (int i = 0; i < descending.length; i++) {
+            descending[i] = orders.get(i).isDescending();
+        }
+
+        return (left, right) -> {
+            for (int i = 0; i < descending.length; i++) {
+                Comparable leftKey = left.keys()[i];
+                Comparable rightKey = right.keys()[i];
+                if (leftKey == rightKey) {
+                    continue;
+                }
+                if (leftKey == null) {
+                    return 1;
+                }
+                if (rightKey == null) {
+                    return -1;
+                }
+                int result = descending[i] ? rightKey.compareTo(leftKey) : leftKey.compareTo(rightKey);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(left.position(), right.position());
+        };
+    }
+
+    @SuppressWarnings("rawtypes")
     private static Comparable comparableProperty(Object value, String propertyPath) {
         Object propertyValue = readProperty(value, propertyPath);
         if (propertyValue == null) {
@@ -61,8 +168,7 @@ public final class FilePageSupport {
         return propertyValue.toString();
     }
 
-    static Object readProperty(Object value, String propertyPath) {
-        BeanWrapperImpl wrapper = new BeanWrapperImpl(value);
-        return wrapper.getPropertyValue(propertyPath);
+    @SuppressWarnings("rawtypes")
+    private record SortEntry<T>(T value, Comparable[] keys, int position) {
     }
 }
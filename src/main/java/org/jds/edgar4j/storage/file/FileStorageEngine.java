@@ -4,6 +4,9 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -11,15 +14,35 @@ import jakarta.annotation.PreDestroy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 public class FileStorageEngine {
 
     private final FileStorageProperties properties;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     private final Map<String, FileCollection<?>> collections = new ConcurrentHashMap<>();
+    private final ExecutorService compactionExecutor;
 
     public FileStorageEngine(FileStorageProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, null);
+    }
+
+    /**
+     * @param meterRegistry registry for per-collection sort timers; {@code null} leaves sorting untimed
+     */
+    public FileStorageEngine(FileStorageProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.properties = properties;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.compactionExecutor = properties.getWriteMode() == FileWriteMode.APPEND_LOG
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "file-collection-compactor");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
     }
 
     @SuppressWarnings("unchecked")
@@ -32,13 +55,37 @@ public class FileStorageEngine {
         return (FileCollection<T>) collections.computeIfAbsent(name, key -> createCollection(key, type, format, idGetter, idSetter));
     }
 
+    /**
+     * Flushes every collection; in append-log mode this checkpoints each log into its snapshot.
+     */
     public void flushAll() {
         collections.values().forEach(FileCollection::flush);
     }
 
     @PreDestroy
     public void flushOnShutdown() {
+        if (compactionExecutor != null) {
+            compactionExecutor.shutdown();
+            try {
+                compactionExecutor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         flushAll();
+        collections.values().forEach(FileCollection::close);
+    }
+
+    /**
+     * Timer for sorts over records of {@code collection}, or {@code null} when no registry is configured.
+     */
+    public Timer sortTimer(String collection) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        return Timer.builder(FilePageSupport.SORT_TIMER)
+                .tag("collection", collection)
+                .register(meterRegistry);
     }
 
     public FileStorageProperties getProperties() {
@@ -74,7 +121,19 @@ public class FileStorageEngine {
                 format,
                 idGetter,
                 idSetter,
-            properties.isIndexOnStartup(),
-                properties.isFlushOnWrite());
+                properties.isIndexOnStartup(),
+                properties.isFlushOnWrite(),
+                appendLogSettings(),
+                sortTimer(name));
+    }
+
+    private FileAppendLogSettings appendLogSettings() {
+        if (properties.getWriteMode() != FileWriteMode.APPEND_LOG) {
+            return null;
+        }
+        return new FileAppendLogSettings(
+                properties.getLogSyncEvery(),
+                properties.getLogCompactionThreshold(),
+                compactionExecutor);
     }
 }
@@ -12,6 +12,9 @@ public class FileStorageProperties {
     private String collectionsPath = "collections";
     private boolean indexOnStartup = true;
     private boolean flushOnWrite = true;
+    private FileWriteMode writeMode = FileWriteMode.SNAPSHOT;
+    private int logSyncEvery = 64;
+    private long logCompactionThreshold = 50_000;
     private Path resolvedBaseDirectory = Paths.get(basePath);
     private Path resolvedCollectionsDirectory = resolvedBaseDirectory.resolve(collectionsPath);
 
@@ -49,6 +52,30 @@ public class FileStorageProperties {
         this.flushOnWrite = flushOnWrite;
     }
 
+    public FileWriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    public void setWriteMode(FileWriteMode writeMode) {
+        this.writeMode = writeMode == null ? FileWriteMode.SNAPSHOT : writeMode;
+    }
+
+    public int getLogSyncEvery() {
+        return logSyncEvery;
+    }
+
+    public void setLogSyncEvery(int logSyncEvery) {
+        this.logSyncEvery = logSyncEvery;
+    }
+
+    public long getLogCompactionThreshold() {
+        return logCompactionThreshold;
+    }
+
+    public void setLogCompactionThreshold(long logCompactionThreshold) {
+        this.logCompactionThreshold = logCompactionThreshold;
+    }
+
     public Path resolveBaseDirectory() {
         return resolvedBaseDirectory;
     }
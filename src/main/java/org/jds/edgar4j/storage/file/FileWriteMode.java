@@ -0,0 +1,12 @@
+package org.jds.edgar4j.storage.file;
+
+public enum FileWriteMode {
+    /**
+     * Every flush rewrites the whole collection file.
+     */
+    SNAPSHOT,
+    /**
+     * Mutations are appended to a per-collection log and periodically compacted into the snapshot.
+     */
+    APPEND_LOG
+}
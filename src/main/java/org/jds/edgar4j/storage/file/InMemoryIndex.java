@@ -1,18 +1,21 @@
 package org.jds.edgar4j.storage.file;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 
-final class InMemoryIndex<T> {
+final class InMemoryIndex<T> implements CollectionIndex<T> {
 
     private final String name;
     private final Function<T, String> idExtractor;
     private final Function<T, Iterable<?>> keyExtractor;
     private final Function<Object, String> keyNormalizer;
-    private final Map<String, LinkedHashMap<String, T>> buckets = new LinkedHashMap<>();
+    private final Map<String, LinkedHashMap<String, T>> buckets = new HashMap<>();
+    private final Map<String, List<String>> keysById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
     InMemoryIndex(
             String name,
@@ -25,54 +28,95 @@ final class InMemoryIndex<T> {
         this.keyNormalizer = keyNormalizer;
     }
 
-    synchronized void rebuild(Iterable<T> records) {
-        buckets.clear();
-        for (T record : records) {
-            addInternal(record);
+    @Override
+    public void rebuild(Iterable<T> records) {
+        lock.writeLock().lock();
+        try {
+            buckets.clear();
+            keysById.clear();
+            for (T record : records) {
+                addInternal(record);
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
-    synchronized void add(T record) {
-        addInternal(record);
+    @Override
+    public void add(T record) {
+        lock.writeLock().lock();
+        try {
+            addInternal(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    synchronized void update(String id, T record) {
+    @Override
+    public void update(String id, T record) {
         if (id == null) {
             return;
         }
 
-        removeByIdInternal(id);
-        addInternal(record);
+        lock.writeLock().lock();
+        try {
+            removeByIdInternal(id);
+            addInternal(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    synchronized void removeById(String id) {
+    @Override
+    public void removeById(String id) {
         if (id == null) {
             return;
         }
 
-        removeByIdInternal(id);
+        lock.writeLock().lock();
+        try {
+            removeByIdInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    synchronized void remove(T record) {
-        String id = idExtractor.apply(record);
-        if (id == null) {
-            return;
+    void remove(T record) {
+        removeById(idExtractor.apply(record));
+    }
+
+    List<T> findAll(Object value) {
+        String bucketKey = normalizeLookupValue(value);
+        if (bucketKey == null) {
+            return List.of();
         }
 
-        removeByIdInternal(id);
+        lock.readLock().lock();
+        try {
+            LinkedHashMap<String, T> bucket = buckets.get(bucketKey);
+            return bucket == null ? List.of() : List.copyOf(bucket.values());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    synchronized List<T> findAll(Object value) {
+    int count(Object value) {
         String bucketKey = normalizeLookupValue(value);
         if (bucketKey == null) {
-            return List.of();
+            return 0;
         }
 
-        LinkedHashMap<String, T> bucket = buckets.get(bucketKey);
-        return bucket == null ? List.of() : List.copyOf(bucket.values());
+        lock.readLock().lock();
+        try {
+            LinkedHashMap<String, T> bucket = buckets.get(bucketKey);
+            return bucket == null ? 0 : bucket.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    String name() {
+    @Override
+    public String name() {
         return name;
     }
 
@@ -82,19 +126,31 @@ final class InMemoryIndex<T> {
             return;
         }
 
-        for (String bucketKey : bucketKeysForRecord(record)) {
+        List<String> keys = bucketKeysForRecord(record);
+        if (keys.isEmpty()) {
+            return;
+        }
+        for (String bucketKey : keys) {
             buckets.computeIfAbsent(bucketKey, ignored -> new LinkedHashMap<>())
                     .put(id, record);
         }
+        keysById.put(id, keys);
     }
 
     private void removeByIdInternal(String id) {
-        for (var iterator = buckets.entrySet().iterator(); iterator.hasNext();) {
-            Entry<String, LinkedHashMap<String, T>> entry = iterator.next();
-            LinkedHashMap<String, T> bucket = entry.getValue();
+        List<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+
+        for (String bucketKey : keys) {
+            LinkedHashMap<String, T> bucket = buckets.get(bucketKey);
+            if (bucket == null) {
+                continue;
+            }
             bucket.remove(id);
             if (bucket.isEmpty()) {
-                iterator.remove();
+                buckets.remove(bucketKey);
             }
         }
     }
@@ -0,0 +1,114 @@
+package org.jds.edgar4j.storage.file;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Reflection-free property reads for in-memory sorting. Each (class, property) pair is compiled once
+ * into a {@link Function} through {@link LambdaMetafactory} (falling back to a plain method handle when
+ * the getter's class cannot be spun into a lambda) and cached, so sorting pays a virtual call per read
+ * instead of a {@code BeanWrapperImpl} per comparison. Supports JavaBean getters, record-style
+ * accessors and dotted paths such as {@code company.cik}.
+ */
+public final class PropertyAccessors {
+
+    private static final Pattern PATH_SEPARATOR = Pattern.compile("\\.");
+    private static final Map<String, String[]> PATHS = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<String, Function<Object, Object>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private PropertyAccessors() {
+    }
+
+    public static Object read(Object source, String propertyPath) {
+        Object current = source;
+        for (String segment : PATHS.computeIfAbsent(propertyPath, PATH_SEPARATOR::split)) {
+            if (current == null) {
+                return null;
+            }
+            current = accessor(current.getClass(), segment).apply(current);
+        }
+        return current;
+    }
+
+    public static Function<Object, Object> accessor(Class<?> type, String property) {
+        return ACCESSORS.get(type).computeIfAbsent(property, name -> compile(type, name));
+    }
+
+    private static Function<Object, Object> compile(Class<?> type, String property) {
+        Method readMethod = findReadMethod(type, property);
+        if (readMethod == null) {
+            throw new IllegalArgumentException(
+                    "No readable property '" + property + "' on " + type.getName());
+        }
+
+        try {
+            return lambda(readMethod);
+        } catch (Throwable lambdaFailure) {
+            return methodHandle(readMethod);
+        }
+    }
+
+    private static Method findReadMethod(Class<?> type, String property) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+        if (descriptor != null && descriptor.getReadMethod() != null) {
+            return descriptor.getReadMethod();
+        }
+        try {
+            Method accessor = type.getMethod(property);
+            return accessor.getReturnType() == void.class ? null : accessor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambda(Method readMethod) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(readMethod.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle getter = lookup.unreflect(readMethod);
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getter,
+                getter.type().wrap());
+        return (Function<Object, Object>) site.getTarget().invoke();
+    }
+
+    private static Function<Object, Object> methodHandle(Method readMethod) {
+        MethodHandle getter;
+        try {
+            readMethod.trySetAccessible();
+            getter = MethodHandles.lookup().unreflect(readMethod)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Property getter is not accessible: " + readMethod, e);
+        }
+
+        return value -> {
+            try {
+                return getter.invokeExact(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read property via " + readMethod, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,236 @@
+package org.jds.edgar4j.storage.file;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ordered secondary index over a single comparable key (dates, numbers, composite keys) that
+ * answers range scans without touching records outside the requested bounds.
+ */
+final class SortedIndex<T> implements CollectionIndex<T> {
+
+    private final String name;
+    private final Function<T, String> idExtractor;
+    private final Function<T, ? extends Comparable<?>> keyExtractor;
+    private final TreeMap<Comparable<Object>, LinkedHashMap<String, T>> entries = new TreeMap<>();
+    private final Map<String, Comparable<Object>> keyById = new HashMap<>();
+    private final LinkedHashMap<String, T> unkeyed = new LinkedHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    SortedIndex(String name, Function<T, String> idExtractor, Function<T, ? extends Comparable<?>> keyExtractor) {
+        this.name = name;
+        this.idExtractor = idExtractor;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void rebuild(Iterable<T> records) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            keyById.clear();
+            unkeyed.clear();
+            for (T record : records) {
+                addInternal(record);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(T record) {
+        lock.writeLock().lock();
+        try {
+            addInternal(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(String id, T record) {
+        if (id == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeByIdInternal(id);
+            addInternal(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeById(String id) {
+        if (id == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeByIdInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns records whose key falls in the given bounds, in ascending key order. A {@code null}
+     * bound leaves that side of the range open.
+     */
+    List<T> findRange(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Comparable<Object>, LinkedHashMap<String, T>> range = range(from, fromInclusive, to, toInclusive);
+            if (range.isEmpty()) {
+                return List.of();
+            }
+
+            List<T> matches = new ArrayList<>();
+            for (LinkedHashMap<String, T> bucket : range.values()) {
+                matches.addAll(bucket.values());
+            }
+            return Collections.unmodifiableList(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Walks the inclusive range in key order and materializes only the requested window. Records
+     * without a key are appended after all keyed records (matching {@code nullsLast} sorting) when
+     * the range is fully open. Without a filter the total is taken from bucket sizes, so entries
+     * past the window are never visited.
+     */
+    Slice<T> scan(Object from, Object to, boolean descending, Predicate<T> filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Comparable<Object>, LinkedHashMap<String, T>> range = range(from, true, to, true);
+            if (descending) {
+                range = range.descendingMap();
+            }
+
+            List<T> content = new ArrayList<>(Math.max(0, Math.min(limit, 256)));
+            long total = 0;
+            for (LinkedHashMap<String, T> bucket : range.values()) {
+                // Ties keep insertion order in both directions, like the stable sort in FilePageSupport.
+                total = collect(bucket.values(), filter, offset, limit, content, total);
+            }
+            if (from == null && to == null) {
+                total = collect(unkeyed.values(), filter, offset, limit, content, total);
+            }
+            return new Slice<>(List.copyOf(content), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} records keyed strictly after {@code after} (from the first key when
+     * {@code null}), in ascending key order. The walk stops as soon as the window is full, so keyset
+     * paging costs the page size rather than the size of the index.
+     */
+    List<T> findAfter(Object after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<T> content = new ArrayList<>(Math.max(0, Math.min(limit, 256)));
+            for (LinkedHashMap<String, T> bucket : range(after, false, null, false).values()) {
+                for (T value : bucket.values()) {
+                    if (content.size() >= limit) {
+                        return List.copyOf(content);
+                    }
+                    content.add(value);
+                }
+            }
+            return List.copyOf(content);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    record Slice<T>(List<T> content, long total) {
+    }
+
+    private long collect(Collection<T> values, Predicate<T> filter, long offset, int limit, List<T> content, long total) {
+        if (filter == null && (content.size() >= limit || total + values.size() <= offset)) {
+            return total + values.size();
+        }
+        for (T value : values) {
+            if (filter != null && !filter.test(value)) {
+                continue;
+            }
+            if (total >= offset && content.size() < limit) {
+                content.add(value);
+            }
+            total++;
+        }
+        return total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private NavigableMap<Comparable<Object>, LinkedHashMap<String, T>> range(
+            Object from,
+            boolean fromInclusive,
+            Object to,
+            boolean toInclusive) {
+        NavigableMap<Comparable<Object>, LinkedHashMap<String, T>> range = entries;
+        if (from != null) {
+            range = range.tailMap((Comparable<Object>) from, fromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap((Comparable<Object>) to, toInclusive);
+        }
+        return range;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addInternal(T record) {
+        String id = idExtractor.apply(record);
+        if (id == null) {
+            return;
+        }
+        Comparable<Object> key = (Comparable<Object>) keyExtractor.apply(record);
+        if (key == null) {
+            unkeyed.put(id, record);
+            return;
+        }
+
+        entries.computeIfAbsent(key, ignored -> new LinkedHashMap<>()).put(id, record);
+        keyById.put(id, key);
+    }
+
+    private void removeByIdInternal(String id) {
+        Comparable<Object> key = keyById.remove(id);
+        if (key == null) {
+            unkeyed.remove(id);
+            return;
+        }
+
+        LinkedHashMap<String, T> bucket = entries.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(id);
+        if (bucket.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+}
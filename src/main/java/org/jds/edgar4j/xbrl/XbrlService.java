@@ -5,6 +5,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jds.edgar4j.storage.DownloadedResourceStore;
+import org.jds.edgar4j.storage.ParsedXbrlInstanceStore;
 import org.jds.edgar4j.xbrl.analysis.MultiPeriodAnalyzer;
 import org.jds.edgar4j.xbrl.model.XbrlFact;
 import org.jds.edgar4j.xbrl.model.XbrlInstance;
@@ -16,6 +17,8 @@ import org.jds.edgar4j.xbrl.standardization.ConceptStandardizer;
 import org.jds.edgar4j.xbrl.statement.StatementReconstructor;
 import org.jds.edgar4j.xbrl.taxonomy.TaxonomyResolver;
 import org.jds.edgar4j.xbrl.validation.CalculationValidator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
@@ -23,11 +26,17 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +67,7 @@ public class XbrlService {
     private final StreamingXbrlParser streamingParser;
     private final WebClient.Builder webClientBuilder;
     private final DownloadedResourceStore downloadedResourceStore;
+    private final ParsedXbrlInstanceStore parsedInstanceStore;
     private final Cache<String, Mono<XbrlInstance>> parsedUrlCache = Caffeine.newBuilder()
             .maximumSize(64)
             .expireAfterWrite(Duration.ofMinutes(30))
@@ -105,7 +115,7 @@ public class XbrlService {
         return loadUrlBytesWithPersistentCache(url, 50 * 1024 * 1024)
                 .timeout(Duration.ofMinutes(2))
                 .flatMap(content -> {
-                    XbrlInstance instance = parse(content, url);
+                    XbrlInstance instance = parseWithPersistentCache(content, url);
                     if (instance == null) {
                         return Mono.error(new IllegalStateException("No XBRL instance parsed from " + url));
                     }
@@ -117,13 +127,15 @@ public class XbrlService {
 
     /**
      * Parse XBRL package from URL.
+     * The archive is streamed into the download cache and parsed from disk, so it is never held in memory.
      */
     public Mono<XbrlPackageHandler.PackageResult> parsePackageFromUrl(String url) {
         log.info("Fetching XBRL package from: {}", url);
-        return loadUrlBytesWithPersistentCache(url, 100 * 1024 * 1024)
+        return loadUrlFileWithPersistentCache(url, 100L * 1024 * 1024)
                 .timeout(Duration.ofMinutes(5))
-                .flatMap(content -> {
-                    XbrlPackageHandler.PackageResult result = packageHandler.parsePackage(content, url);
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(path -> {
+                    XbrlPackageHandler.PackageResult result = packageHandler.parsePackage(path, url);
                     if (result == null) {
                         return Mono.error(new IllegalStateException("No XBRL package parsed from " + url));
                     }
@@ -218,12 +230,7 @@ public class XbrlService {
      * Search facts by partial concept name.
      */
     public List<XbrlFact> searchFacts(XbrlInstance instance, String searchTerm) {
-        String lowerSearch = searchTerm.toLowerCase();
-        return instance.getFacts().stream()
-                .filter(f -> f.getConceptLocalName().toLowerCase().contains(lowerSearch)
-                        || (f.getConceptPrefix() != null &&
-                        f.getConceptPrefix().toLowerCase().contains(lowerSearch)))
-                .collect(Collectors.toList());
+        return instance.getFactIndex().search(searchTerm);
     }
 
     /**
@@ -340,6 +347,26 @@ public class XbrlService {
     public void clearCaches() {
         taxonomyResolver.clearCaches();
         parsedUrlCache.invalidateAll();
+        parsedInstanceStore.clear();
+    }
+
+    /**
+     * Parse {@code content} unless an instance parsed from the same bytes by the current parser version
+     * is stored for {@code url}. Only successful parses are stored.
+     */
+    private XbrlInstance parseWithPersistentCache(byte[] content, String url) {
+        byte[] sourceHash = parsedInstanceStore.sourceHash(content);
+        Optional<XbrlInstance> stored = parsedInstanceStore.read(url, sourceHash);
+        if (stored.isPresent()) {
+            log.debug("Using stored parsed XBRL for {}", url);
+            return stored.get();
+        }
+
+        XbrlInstance instance = parse(content, url);
+        if (instance != null && instance.getParseResult() != null && instance.getParseResult().isSuccess()) {
+            parsedInstanceStore.write(url, sourceHash, instance);
+        }
+        return instance;
     }
 
     private String normalizeUrl(String url) {
@@ -372,6 +399,66 @@ public class XbrlService {
                 });
     }
 
+    private Mono<Path> loadUrlFileWithPersistentCache(String url, long maxBytes) {
+        Path path = downloadedResourceStore.resolvePath("xbrl", url);
+        return Mono.fromCallable(() -> Files.exists(path) && Files.size(path) > 0)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    if (cached) {
+                        log.debug("Using cached XBRL source for {}", url);
+                        return Mono.just(path);
+                    }
+
+                    // A temp file per download, so concurrent fetches of one URL never share a partial file
+                    return Mono.fromCallable(() -> {
+                                Files.createDirectories(path.getParent());
+                                return Files.createTempFile(path.getParent(), path.getFileName().toString(), ".part");
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(partial -> DataBufferUtils.write(
+                                            fetchBounded(url, maxBytes),
+                                            partial,
+                                            StandardOpenOption.WRITE,
+                                            StandardOpenOption.TRUNCATE_EXISTING)
+                                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                    .then(Mono.fromCallable(() -> {
+                                                Files.move(partial, path,
+                                                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                                                log.debug("Cached XBRL source for {} at {}", url, path);
+                                                return path;
+                                            })
+                                            .subscribeOn(Schedulers.boundedElastic()))
+                                    // Also runs on cancellation (e.g. the caller's timeout); a no-op once moved
+                                    .doFinally(signal -> deleteQuietly(partial)));
+                });
+    }
+
+    private Flux<DataBuffer> fetchBounded(String url, long maxBytes) {
+        AtomicLong totalBytes = new AtomicLong();
+        return webClientBuilder.build()
+                .get()
+                .uri(url)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .handle((buffer, sink) -> {
+                    if (totalBytes.addAndGet(buffer.readableByteCount()) > maxBytes) {
+                        DataBufferUtils.release(buffer);
+                        sink.error(new IllegalStateException(
+                                "XBRL source " + url + " exceeds " + maxBytes + " bytes"));
+                        return;
+                    }
+                    sink.next(buffer);
+                });
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete partial download {}: {}", path, e.getMessage());
+        }
+    }
+
     /**
      * Check if content is a ZIP file.
      */
@@ -0,0 +1,155 @@
+package org.jds.edgar4j.xbrl.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup tables over the facts of one {@link XbrlInstance}, built in a single pass.
+ * Concept, context and period lookups return the facts in document order.
+ *
+ * The index is a snapshot: {@link XbrlInstance#getFactIndex()} rebuilds it when the fact list
+ * or context map has been replaced or resized since it was built.
+ */
+public final class XbrlFactIndex {
+
+    private final List<XbrlFact> facts;
+    private final int factCount;
+    private final Map<String, XbrlContext> contexts;
+    private final int contextCount;
+
+    private final Map<String, List<XbrlFact>> byConcept;
+    private final Map<String, List<XbrlFact>> byQName;
+    private final Map<String, List<XbrlFact>> byContext;
+    private final Map<XbrlContext.XbrlPeriod, List<XbrlFact>> byPeriod;
+    private final Map<String, String> lowerCaseConcepts;
+
+    private XbrlFactIndex(List<XbrlFact> facts, Map<String, XbrlContext> contexts) {
+        this.facts = facts;
+        this.factCount = facts.size();
+        this.contexts = contexts;
+        this.contextCount = contexts.size();
+
+        Map<String, List<XbrlFact>> concepts = new LinkedHashMap<>();
+        Map<String, List<XbrlFact>> qNames = new HashMap<>();
+        Map<String, List<XbrlFact>> contextFacts = new LinkedHashMap<>();
+        Map<XbrlContext.XbrlPeriod, List<XbrlFact>> periodFacts = new LinkedHashMap<>();
+
+        for (XbrlFact fact : facts) {
+            String localName = fact.getConceptLocalName();
+            if (localName != null) {
+                concepts.computeIfAbsent(localName, k -> new ArrayList<>()).add(fact);
+                qNames.computeIfAbsent(qName(fact.getConceptNamespace(), localName), k -> new ArrayList<>()).add(fact);
+            }
+
+            String contextRef = fact.getContextRef();
+            if (contextRef != null) {
+                contextFacts.computeIfAbsent(contextRef, k -> new ArrayList<>()).add(fact);
+                XbrlContext context = contexts.get(contextRef);
+                if (context != null && context.getPeriod() != null) {
+                    periodFacts.computeIfAbsent(context.getPeriod(), k -> new ArrayList<>()).add(fact);
+                }
+            }
+        }
+
+        Map<String, String> lowerCase = new LinkedHashMap<>();
+        for (String concept : concepts.keySet()) {
+            lowerCase.put(concept, concept.toLowerCase(Locale.ROOT));
+        }
+
+        this.byConcept = freeze(concepts);
+        this.byQName = freeze(qNames);
+        this.byContext = freeze(contextFacts);
+        this.byPeriod = freeze(periodFacts);
+        this.lowerCaseConcepts = Collections.unmodifiableMap(lowerCase);
+    }
+
+    static XbrlFactIndex build(List<XbrlFact> facts, Map<String, XbrlContext> contexts) {
+        return new XbrlFactIndex(
+                facts != null ? facts : List.of(),
+                contexts != null ? contexts : Map.of());
+    }
+
+    boolean isCurrent(List<XbrlFact> currentFacts, Map<String, XbrlContext> currentContexts) {
+        return currentFacts == facts && currentFacts.size() == factCount
+                && currentContexts == contexts && currentContexts.size() == contextCount;
+    }
+
+    /**
+     * Facts grouped by concept local name, in order of first appearance.
+     */
+    public Map<String, List<XbrlFact>> getFactsByConcept() {
+        return byConcept;
+    }
+
+    public List<XbrlFact> getFactsByConcept(String conceptName) {
+        return byConcept.getOrDefault(conceptName, List.of());
+    }
+
+    public List<XbrlFact> getFactsByQName(String namespace, String localName) {
+        return byQName.getOrDefault(qName(namespace, localName), List.of());
+    }
+
+    /**
+     * Facts grouped by context id, in order of first appearance.
+     */
+    public Map<String, List<XbrlFact>> getFactsByContext() {
+        return byContext;
+    }
+
+    public List<XbrlFact> getFactsByContext(String contextId) {
+        return byContext.getOrDefault(contextId, List.of());
+    }
+
+    /**
+     * Facts grouped by the period of their context; facts whose context is missing are not indexed.
+     */
+    public Map<XbrlContext.XbrlPeriod, List<XbrlFact>> getFactsByPeriod() {
+        return byPeriod;
+    }
+
+    public List<XbrlFact> getFactsByPeriod(XbrlContext.XbrlPeriod period) {
+        return byPeriod.getOrDefault(period, List.of());
+    }
+
+    /**
+     * Facts whose concept local name or prefix contains {@code searchTerm}, ignoring case.
+     * Local names are matched once per distinct concept; results are grouped by concept.
+     */
+    public List<XbrlFact> search(String searchTerm) {
+        String lowerSearch = searchTerm.toLowerCase(Locale.ROOT);
+        Map<String, Boolean> prefixMatches = new HashMap<>();
+        List<XbrlFact> matches = new ArrayList<>();
+
+        for (Map.Entry<String, String> concept : lowerCaseConcepts.entrySet()) {
+            List<XbrlFact> conceptFacts = byConcept.get(concept.getKey());
+            if (concept.getValue().contains(lowerSearch)) {
+                matches.addAll(conceptFacts);
+                continue;
+            }
+            for (XbrlFact fact : conceptFacts) {
+                String prefix = fact.getConceptPrefix();
+                if (prefix != null && prefixMatches.computeIfAbsent(prefix,
+                        p -> p.toLowerCase(Locale.ROOT).contains(lowerSearch))) {
+                    matches.add(fact);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String qName(String namespace, String localName) {
+        return namespace == null ? localName : "{" + namespace + "}" + localName;
+    }
+
+    private static <K> Map<K, List<XbrlFact>> freeze(Map<K, List<XbrlFact>> grouped) {
+        for (Map.Entry<K, List<XbrlFact>> entry : grouped.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(grouped);
+    }
+}
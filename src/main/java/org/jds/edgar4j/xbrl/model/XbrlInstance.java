@@ -1,13 +1,20 @@
 package org.jds.edgar4j.xbrl.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a parsed XBRL instance document.
@@ -51,32 +58,53 @@ public class XbrlInstance {
     private String entityIdentifier;
     private String entityScheme;
 
+    // Lookup tables over facts, built on first use (initialized final, so not part of the builder)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient AtomicReference<XbrlFactIndex> factIndex = new AtomicReference<>();
+
+    /**
+     * Get the concept/context/period index over this instance's facts.
+     * Built once and reused until the fact list or contexts change.
+     */
+    @JsonIgnore
+    public XbrlFactIndex getFactIndex() {
+        XbrlFactIndex index = factIndex.get();
+        if (index == null || !index.isCurrent(facts, contexts)) {
+            index = XbrlFactIndex.build(facts, contexts);
+            factIndex.set(index);
+        }
+        return index;
+    }
+
     /**
      * Get facts by concept name (local name without namespace).
      */
     public List<XbrlFact> getFactsByConceptName(String conceptName) {
-        return facts.stream()
-                .filter(f -> f.getConceptLocalName().equals(conceptName))
-                .toList();
+        return getFactIndex().getFactsByConcept(conceptName);
     }
 
     /**
      * Get facts by namespace and local name.
      */
     public List<XbrlFact> getFactsByQName(String namespace, String localName) {
-        return facts.stream()
-                .filter(f -> f.getConceptNamespace().equals(namespace)
-                        && f.getConceptLocalName().equals(localName))
-                .toList();
+        return getFactIndex().getFactsByQName(namespace, localName);
     }
 
     /**
      * Get facts for a specific context.
      */
     public List<XbrlFact> getFactsByContextId(String contextId) {
-        return facts.stream()
-                .filter(f -> contextId.equals(f.getContextRef()))
-                .toList();
+        return getFactIndex().getFactsByContext(contextId);
+    }
+
+    /**
+     * Get facts whose context has exactly this period (equal type and dates, not overlapping ones).
+     */
+    public List<XbrlFact> getFactsByPeriod(XbrlContext.XbrlPeriod period) {
+        return getFactIndex().getFactsByPeriod(period);
     }
 
     /**
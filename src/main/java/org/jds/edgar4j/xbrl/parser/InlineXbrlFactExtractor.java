@@ -30,7 +30,6 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class InlineXbrlFactExtractor {
 
-    private final NamespaceResolver namespaceResolver;
     private final TaxonomyResolver taxonomyResolver;
     private final ValueTransformer valueTransformer;
 
@@ -63,9 +62,9 @@ public class InlineXbrlFactExtractor {
     );
 
     /**
-     * Extract all facts from an iXBRL document.
+     * Extract all facts from an iXBRL document, resolving concept prefixes against that document's namespaces.
      */
-    public List<XbrlFact> extractFacts(Document document, ParseResult result) {
+    public List<XbrlFact> extractFacts(Document document, NamespaceResolver namespaces, ParseResult result) {
         List<XbrlFact> facts = new ArrayList<>();
 
         // Build continuation map for resolving continued facts
@@ -87,7 +86,7 @@ public class InlineXbrlFactExtractor {
 
             try {
                 List<XbrlFact> extractedFacts = extractFactRecursively(
-                        element, continuationMap, processedElements, result, 0
+                        element, namespaces, continuationMap, processedElements, result, 0
                 );
                 facts.addAll(extractedFacts);
                 result.setSuccessfullyParsedFacts(
@@ -111,6 +110,7 @@ public class InlineXbrlFactExtractor {
      */
     private List<XbrlFact> extractFactRecursively(
             Element element,
+            NamespaceResolver namespaces,
             Map<String, List<Element>> continuationMap,
             Set<Element> processedElements,
             ParseResult result,
@@ -132,7 +132,7 @@ public class InlineXbrlFactExtractor {
         for (Element nested : nestedFacts) {
             if (!processedElements.contains(nested)) {
                 List<XbrlFact> nestedExtracted = extractFactRecursively(
-                        nested, continuationMap, processedElements, result, depth + 1
+                        nested, namespaces, continuationMap, processedElements, result, depth + 1
                 );
                 facts.addAll(nestedExtracted);
                 result.setNestedFactsExtracted(
@@ -142,7 +142,7 @@ public class InlineXbrlFactExtractor {
         }
 
         // Now extract the fact from this element
-        XbrlFact fact = extractSingleFact(element, continuationMap);
+        XbrlFact fact = extractSingleFact(element, namespaces, continuationMap);
         if (fact != null) {
             fact.setNested(depth > 0);
             facts.add(fact);
@@ -154,7 +154,9 @@ public class InlineXbrlFactExtractor {
     /**
      * Extract a single fact from an iXBRL element.
      */
-    private XbrlFact extractSingleFact(Element element, Map<String, List<Element>> continuationMap) {
+    private XbrlFact extractSingleFact(Element element,
+                                       NamespaceResolver namespaces,
+                                       Map<String, List<Element>> continuationMap) {
         String tagName = element.tagName().toLowerCase();
         boolean isNumeric = isNumericElement(tagName);
 
@@ -165,7 +167,7 @@ public class InlineXbrlFactExtractor {
         }
 
         // Parse the QName
-        NamespaceResolver.QNameParts qname = namespaceResolver.parseQName(name);
+        NamespaceResolver.QNameParts qname = namespaces.parseQName(name);
         if (qname == null) {
             return null;
         }
@@ -0,0 +1,687 @@
+package org.jds.edgar4j.xbrl.parser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jds.edgar4j.xbrl.model.XbrlContext;
+import org.jds.edgar4j.xbrl.model.XbrlFact;
+import org.jds.edgar4j.xbrl.model.XbrlUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Single-pass StAX reader for Inline XBRL (XHTML) documents.
+ *
+ * Facts are emitted as soon as their element (and any ix:continuation chain) closes, so memory is
+ * bounded by the context and unit tables plus the text of facts still open or waiting for a
+ * continuation. Handles:
+ * - ix:nonFraction / ix:fraction with scale, sign and format
+ * - ix:nonNumeric with ix:continuation stitching and ix:exclude
+ * - contexts and units in ix:header / ix:resources, and facts in ix:hidden
+ */
+@Slf4j
+class InlineXbrlStreamReader {
+
+    private static final String XSI_NAMESPACE = XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+
+    // Block-level tags whose boundaries separate words in text values
+    private static final Set<String> BLOCK_ELEMENTS = Set.of(
+            "p", "div", "br", "tr", "td", "th", "li", "h1", "h2", "h3", "h4", "h5", "h6", "table"
+    );
+
+    private final XMLInputFactory xmlInputFactory;
+    private final ValueTransformer valueTransformer;
+
+    InlineXbrlStreamReader(XMLInputFactory xmlInputFactory, ValueTransformer valueTransformer) {
+        this.xmlInputFactory = xmlInputFactory;
+        this.valueTransformer = valueTransformer;
+    }
+
+    /**
+     * Parse an iXBRL document, passing each fact to {@code factConsumer}.
+     */
+    StreamingXbrlParser.StreamingParseResult parse(InputStream inputStream,
+                                                   Consumer<XbrlFact> factConsumer,
+                                                   Consumer<StreamingXbrlParser.ParseProgress> progressConsumer) {
+        StreamingXbrlParser.StreamingParseResult result = new StreamingXbrlParser.StreamingParseResult();
+        ReaderState state = new ReaderState(factConsumer, progressConsumer);
+
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            while (reader.hasNext()) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> startElement(reader, state);
+                    case XMLStreamConstants.END_ELEMENT -> endElement(reader, state);
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                            state.appendText(reader.getText());
+                    default -> {
+                        // Comments, processing instructions and the like carry no fact content
+                    }
+                }
+            }
+            state.flushUnresolvedContinuations();
+        } catch (XMLStreamException e) {
+            log.error("Inline XBRL stream parsing error: {}", e.getMessage());
+            result.setError(e.getMessage());
+        } finally {
+            closeQuietly(reader);
+        }
+
+        result.setFactCount(state.factCount);
+        result.setErrorCount(state.errorCount);
+        result.setContextCount(state.contexts.size());
+        result.setUnitCount(state.units.size());
+        result.setParseTimeMs(System.currentTimeMillis() - state.startTime);
+        return result;
+    }
+
+    private void startElement(XMLStreamReader reader, ReaderState state) throws XMLStreamException {
+        String localName = reader.getLocalName();
+
+        if (isInlineElement(reader)) {
+            switch (localName) {
+                case "nonFraction", "nonNumeric", "fraction" -> {
+                    state.openFacts.push(openFact(reader, localName, state));
+                    return;
+                }
+                case "continuation" -> {
+                    String id = reader.getAttributeValue(null, "id");
+                    state.openContinuations.push(new OpenContinuation(
+                            id, reader.getAttributeValue(null, "continuedAt")));
+                    return;
+                }
+                case "exclude" -> {
+                    state.excludeDepth++;
+                    return;
+                }
+                default -> {
+                    return;
+                }
+            }
+        }
+
+        if ("context".equals(localName) && isXbrliElement(reader)) {
+            try {
+                XbrlContext context = parseContext(reader, state.namespaces);
+                if (context != null) {
+                    state.contexts.put(context.getId(), context);
+                }
+            } catch (RuntimeException e) {
+                state.errorCount++;
+                log.trace("Failed to parse inline context: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if ("unit".equals(localName) && isXbrliElement(reader)) {
+            try {
+                XbrlUnit unit = parseUnit(reader, state.namespaces);
+                if (unit != null) {
+                    state.units.put(unit.getId(), unit);
+                }
+            } catch (RuntimeException e) {
+                state.errorCount++;
+                log.trace("Failed to parse inline unit: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (BLOCK_ELEMENTS.contains(localName.toLowerCase(Locale.ROOT))) {
+            state.appendBreak();
+        }
+    }
+
+    private void endElement(XMLStreamReader reader, ReaderState state) {
+        if (!isInlineElement(reader)) {
+            if (BLOCK_ELEMENTS.contains(reader.getLocalName().toLowerCase(Locale.ROOT))) {
+                state.appendBreak();
+            }
+            return;
+        }
+
+        switch (reader.getLocalName()) {
+            case "nonFraction", "nonNumeric", "fraction" -> {
+                OpenFact open = state.openFacts.pop();
+                try {
+                    state.complete(open);
+                } catch (RuntimeException e) {
+                    state.errorCount++;
+                    log.trace("Failed to build inline fact {}: {}", open.name, e.getMessage());
+                }
+            }
+            case "numerator", "denominator" -> {
+                OpenFact fraction = state.openFacts.peek();
+                if (fraction != null && fraction.fraction) {
+                    String text = fraction.text.toString().trim();
+                    if ("numerator".equals(reader.getLocalName())) {
+                        fraction.numerator = text;
+                    } else {
+                        fraction.denominator = text;
+                    }
+                    fraction.text.setLength(0);
+                }
+            }
+            case "continuation" -> state.completeContinuation(state.openContinuations.pop());
+            case "exclude" -> state.excludeDepth = Math.max(0, state.excludeDepth - 1);
+            default -> {
+                // ix:header, ix:hidden, ix:resources and ix:references only group other elements
+            }
+        }
+    }
+
+    private OpenFact openFact(XMLStreamReader reader, String localName, ReaderState state) {
+        OpenFact fact = new OpenFact();
+        fact.sourceElement = reader.getPrefix() == null || reader.getPrefix().isEmpty()
+                ? localName
+                : reader.getPrefix() + ":" + localName;
+        fact.numeric = !"nonNumeric".equals(localName);
+        fact.fraction = "fraction".equals(localName);
+        fact.nested = !state.openFacts.isEmpty();
+        fact.lineNumber = reader.getLocation() != null ? reader.getLocation().getLineNumber() : 0;
+        fact.name = reader.getAttributeValue(null, "name");
+        fact.contextRef = reader.getAttributeValue(null, "contextRef");
+        fact.unitRef = reader.getAttributeValue(null, "unitRef");
+        fact.decimals = reader.getAttributeValue(null, "decimals");
+        fact.precision = reader.getAttributeValue(null, "precision");
+        fact.scale = reader.getAttributeValue(null, "scale");
+        fact.sign = reader.getAttributeValue(null, "sign");
+        fact.format = reader.getAttributeValue(null, "format");
+        fact.continuedAt = reader.getAttributeValue(null, "continuedAt");
+        fact.footnoteRefs = reader.getAttributeValue(null, "footnoteRefs");
+        String nil = reader.getAttributeValue(XSI_NAMESPACE, "nil");
+        fact.nil = "true".equalsIgnoreCase(nil) || "1".equals(nil);
+
+        if (fact.name != null) {
+            int colon = fact.name.indexOf(':');
+            if (colon > 0) {
+                fact.prefix = state.namespaces.intern(fact.name.substring(0, colon));
+                fact.localName = state.namespaces.intern(fact.name.substring(colon + 1));
+                fact.namespace = state.namespaces.intern(resolvePrefix(reader, fact.prefix, state.namespaces));
+            } else {
+                fact.localName = state.namespaces.intern(fact.name);
+                fact.namespace = state.namespaces.intern(resolvePrefix(reader, "", state.namespaces));
+            }
+        }
+        return fact;
+    }
+
+    private XbrlFact buildFact(OpenFact open, String rawValue) {
+        XbrlFact.XbrlFactBuilder builder = XbrlFact.builder()
+                .conceptNamespace(open.namespace)
+                .conceptLocalName(open.localName)
+                .conceptPrefix(open.prefix)
+                .contextRef(open.contextRef)
+                .rawValue(rawValue)
+                .sourceElement(open.sourceElement)
+                .sourceLineNumber(open.lineNumber)
+                .isNested(open.nested)
+                .isNil(open.nil);
+
+        if (open.footnoteRefs != null && !open.footnoteRefs.isBlank()) {
+            builder.footnoteRefs(open.footnoteRefs.trim().split("\\s+"));
+        }
+
+        if (!open.numeric) {
+            builder.stringValue(rawValue);
+            builder.factType(XbrlFact.FactType.STRING);
+            return builder.build();
+        }
+
+        builder.unitRef(open.unitRef);
+        builder.decimals(parseInteger(open.decimals));
+        builder.precision(parseInteger(open.precision));
+        if (open.scale != null && !open.scale.isBlank()) {
+            try {
+                builder.scale(new BigDecimal(open.scale.trim()));
+            } catch (NumberFormatException e) {
+                // Ignore invalid scale
+            }
+        }
+        if (open.sign != null && !open.sign.isEmpty()) {
+            builder.sign(open.sign);
+        }
+        if (open.format != null && !open.format.isEmpty()) {
+            builder.format(open.format);
+        }
+
+        if (!open.nil) {
+            builder.numericValue(open.fraction
+                    ? fractionValue(open.numerator, open.denominator, open.format)
+                    : valueTransformer.transformToNumber(rawValue, open.format));
+        }
+        builder.factType(XbrlFact.FactType.DECIMAL);
+        return builder.build();
+    }
+
+    private BigDecimal fractionValue(String numerator, String denominator, String format) {
+        BigDecimal top = valueTransformer.transformToNumber(numerator, format);
+        BigDecimal bottom = valueTransformer.transformToNumber(denominator, format);
+        if (top == null || bottom == null || bottom.signum() == 0) {
+            return null;
+        }
+        return top.divide(bottom, MathContext.DECIMAL64);
+    }
+
+    private XbrlContext parseContext(XMLStreamReader reader, NamespaceResolver namespaces) throws XMLStreamException {
+        String id = reader.getAttributeValue(null, "id");
+        if (id == null) {
+            return null;
+        }
+
+        XbrlContext.XbrlContextBuilder builder = XbrlContext.builder().id(id);
+        XbrlContext.XbrlPeriod.XbrlPeriodBuilder period = XbrlContext.XbrlPeriod.builder();
+        List<XbrlContext.XbrlDimension> dimensions = new ArrayList<>();
+
+        int depth = 1;
+        String dimension = null;
+        boolean inTypedMember = false;
+        StringBuilder text = new StringBuilder();
+
+        while (reader.hasNext() && depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (inTypedMember) {
+                    // The typed value is the text of the member's child element
+                    continue;
+                }
+                String current = reader.getLocalName();
+                text.setLength(0);
+                if ("identifier".equals(current)) {
+                    builder.entityScheme(reader.getAttributeValue(null, "scheme"));
+                } else if ("explicitMember".equals(current)) {
+                    dimension = reader.getAttributeValue(null, "dimension");
+                } else if ("typedMember".equals(current)) {
+                    dimension = reader.getAttributeValue(null, "dimension");
+                    inTypedMember = true;
+                } else if ("forever".equals(current)) {
+                    period.isForever(true);
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                if (inTypedMember && !"typedMember".equals(reader.getLocalName())) {
+                    continue;
+                }
+                String value = text.toString().trim();
+                switch (reader.getLocalName()) {
+                    case "identifier" -> builder.entityIdentifier(value);
+                    case "instant" -> period.instant(parseDate(value));
+                    case "startDate" -> period.startDate(parseDate(value));
+                    case "endDate" -> period.endDate(parseDate(value));
+                    case "explicitMember" -> {
+                        XbrlContext.XbrlDimension explicit = explicitDimension(reader, dimension, value, namespaces);
+                        if (explicit != null) {
+                            dimensions.add(explicit);
+                        }
+                        dimension = null;
+                    }
+                    case "typedMember" -> {
+                        NamespaceResolver.QNameParts axis = parseQName(reader, dimension, namespaces);
+                        if (axis != null) {
+                            dimensions.add(XbrlContext.XbrlDimension.builder()
+                                    .axisNamespace(axis.namespaceUri())
+                                    .axisLocalName(axis.localName())
+                                    .isTyped(true)
+                                    .typedValue(value)
+                                    .build());
+                        }
+                        dimension = null;
+                        inTypedMember = false;
+                    }
+                    default -> {
+                        // Container elements need no handling
+                    }
+                }
+                text.setLength(0);
+            }
+        }
+
+        XbrlContext context = builder.period(period.build()).build();
+        context.getDimensions().addAll(dimensions);
+        return context;
+    }
+
+    private XbrlContext.XbrlDimension explicitDimension(XMLStreamReader reader, String dimension, String member,
+                                                        NamespaceResolver namespaces) {
+        NamespaceResolver.QNameParts axis = parseQName(reader, dimension, namespaces);
+        NamespaceResolver.QNameParts value = parseQName(reader, member, namespaces);
+        if (axis == null || value == null) {
+            return null;
+        }
+        return XbrlContext.XbrlDimension.builder()
+                .axisNamespace(axis.namespaceUri())
+                .axisLocalName(axis.localName())
+                .memberNamespace(value.namespaceUri())
+                .memberLocalName(value.localName())
+                .isTyped(false)
+                .build();
+    }
+
+    private XbrlUnit parseUnit(XMLStreamReader reader, NamespaceResolver namespaces) throws XMLStreamException {
+        String id = reader.getAttributeValue(null, "id");
+        if (id == null) {
+            return null;
+        }
+
+        List<String> numerator = new ArrayList<>();
+        List<String> denominator = new ArrayList<>();
+        List<String> current = numerator;
+        boolean divide = false;
+        StringBuilder text = new StringBuilder();
+        NamespaceResolver.QNameParts lastMeasure = null;
+
+        int depth = 1;
+        while (reader.hasNext() && depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                text.setLength(0);
+                switch (reader.getLocalName()) {
+                    case "divide" -> divide = true;
+                    case "unitDenominator" -> current = denominator;
+                    case "unitNumerator" -> current = numerator;
+                    default -> {
+                        // measure text is collected on END_ELEMENT
+                    }
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                if ("measure".equals(reader.getLocalName())) {
+                    String measure = text.toString().trim();
+                    current.add(measure);
+                    lastMeasure = parseQName(reader, measure, namespaces);
+                }
+                text.setLength(0);
+            }
+        }
+
+        XbrlUnit.XbrlUnitBuilder builder = XbrlUnit.builder().id(id);
+        if (divide) {
+            return builder.type(XbrlUnit.UnitType.DIVIDE)
+                    .numeratorMeasures(numerator)
+                    .denominatorMeasures(denominator)
+                    .build();
+        }
+        if (numerator.size() > 1) {
+            return builder.type(XbrlUnit.UnitType.MULTIPLY)
+                    .numeratorMeasures(numerator)
+                    .build();
+        }
+        builder.type(XbrlUnit.UnitType.SIMPLE);
+        if (!numerator.isEmpty()) {
+            builder.measure(numerator.get(0));
+            if (lastMeasure != null) {
+                builder.measureNamespace(lastMeasure.namespaceUri());
+                builder.measureLocalName(lastMeasure.localName());
+            }
+        }
+        return builder.build();
+    }
+
+    private NamespaceResolver.QNameParts parseQName(XMLStreamReader reader, String qname,
+                                                    NamespaceResolver namespaces) {
+        if (qname == null || qname.isBlank()) {
+            return null;
+        }
+        String trimmed = qname.trim();
+        int colon = trimmed.indexOf(':');
+        String prefix = colon > 0 ? trimmed.substring(0, colon) : "";
+        String localName = colon > 0 ? trimmed.substring(colon + 1) : trimmed;
+        return new NamespaceResolver.QNameParts(
+                colon > 0 ? prefix : null,
+                resolvePrefix(reader, prefix, namespaces),
+                localName);
+    }
+
+    /**
+     * Resolve a prefix against the declarations in scope, falling back to well-known namespaces.
+     */
+    private String resolvePrefix(XMLStreamReader reader, String prefix, NamespaceResolver namespaces) {
+        String uri = reader.getNamespaceContext().getNamespaceURI(prefix);
+        if (uri != null && !uri.isEmpty()) {
+            return uri;
+        }
+        return prefix.isEmpty() ? null : namespaces.resolvePrefix(prefix);
+    }
+
+    private boolean isInlineElement(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        if (namespace != null && namespace.toLowerCase(Locale.ROOT).contains("inlinexbrl")
+                && !namespace.contains("/transformation/")) {
+            return true;
+        }
+        return "ix".equals(reader.getPrefix());
+    }
+
+    private boolean isXbrliElement(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return "http://www.xbrl.org/2003/instance".equals(namespace) || "xbrli".equals(reader.getPrefix());
+    }
+
+    private Integer parseInteger(String value) {
+        if (value == null || value.isEmpty() || "INF".equalsIgnoreCase(value)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        String date = value.contains("T") ? value.substring(0, value.indexOf('T')) : value;
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+                // intentionally ignored
+            }
+        }
+    }
+
+    /**
+     * Mutable state of one parse: open elements, pending continuation chains and the context/unit tables.
+     */
+    private final class ReaderState {
+        private final Consumer<XbrlFact> factConsumer;
+        private final Consumer<StreamingXbrlParser.ParseProgress> progressConsumer;
+        private final long startTime = System.currentTimeMillis();
+        private final NamespaceResolver namespaces = new NamespaceResolver();
+
+        private final Map<String, XbrlContext> contexts = new HashMap<>();
+        private final Map<String, XbrlUnit> units = new HashMap<>();
+
+        private final Deque<OpenFact> openFacts = new ArrayDeque<>();
+        private final Deque<OpenContinuation> openContinuations = new ArrayDeque<>();
+
+        // Facts whose text is complete up to a continuation that has not been read yet, keyed by that id
+        private final Map<String, PendingFact> awaitingContinuation = new HashMap<>();
+        // Continuations read before the fact (or previous continuation) that points at them
+        private final Map<String, OpenContinuation> unclaimedContinuations = new HashMap<>();
+
+        private int excludeDepth;
+        private int factCount;
+        private int errorCount;
+
+        private ReaderState(Consumer<XbrlFact> factConsumer,
+                            Consumer<StreamingXbrlParser.ParseProgress> progressConsumer) {
+            this.factConsumer = factConsumer;
+            this.progressConsumer = progressConsumer;
+        }
+
+        private void appendText(String text) {
+            if (excludeDepth > 0 || text == null || text.isEmpty()) {
+                return;
+            }
+            for (OpenFact fact : openFacts) {
+                fact.text.append(text);
+            }
+            for (OpenContinuation continuation : openContinuations) {
+                continuation.text.append(text);
+            }
+        }
+
+        private void appendBreak() {
+            if (excludeDepth > 0) {
+                return;
+            }
+            for (OpenFact fact : openFacts) {
+                if (!fact.numeric) {
+                    appendSeparator(fact.text);
+                }
+            }
+            for (OpenContinuation continuation : openContinuations) {
+                appendSeparator(continuation.text);
+            }
+        }
+
+        private void complete(OpenFact open) {
+            if (open.localName == null) {
+                return;
+            }
+            PendingFact pending = new PendingFact(open, new StringBuilder(open.text));
+            follow(pending, open.continuedAt);
+        }
+
+        private void completeContinuation(OpenContinuation continuation) {
+            if (continuation.id == null) {
+                return;
+            }
+            PendingFact pending = awaitingContinuation.remove(continuation.id);
+            if (pending == null) {
+                unclaimedContinuations.put(continuation.id, continuation);
+                return;
+            }
+            pending.text.append(continuation.text);
+            follow(pending, continuation.continuedAt);
+        }
+
+        /**
+         * Walk the continuation chain from {@code continuationId} as far as it has been read, then either
+         * emit the fact or park it until the next continuation arrives.
+         */
+        private void follow(PendingFact pending, String continuationId) {
+            Set<String> visited = new HashSet<>();
+            String next = continuationId;
+            while (next != null && !next.isEmpty() && visited.add(next)) {
+                OpenContinuation continuation = unclaimedContinuations.remove(next);
+                if (continuation == null) {
+                    awaitingContinuation.put(next, pending);
+                    return;
+                }
+                pending.text.append(continuation.text);
+                next = continuation.continuedAt;
+            }
+            emit(pending);
+        }
+
+        private void flushUnresolvedContinuations() {
+            for (Map.Entry<String, PendingFact> entry : awaitingContinuation.entrySet()) {
+                log.debug("Continuation {} for fact {} not found", entry.getKey(), entry.getValue().open.name);
+                emit(entry.getValue());
+            }
+            awaitingContinuation.clear();
+            unclaimedContinuations.clear();
+        }
+
+        private void emit(PendingFact pending) {
+            XbrlFact fact = buildFact(pending.open, normalizeWhitespace(pending.text));
+            factConsumer.accept(fact);
+            factCount++;
+            if (progressConsumer != null && factCount % 1000 == 0) {
+                progressConsumer.accept(new StreamingXbrlParser.ParseProgress(
+                        factCount, errorCount, System.currentTimeMillis() - startTime));
+            }
+        }
+    }
+
+    private static void appendSeparator(StringBuilder text) {
+        if (!text.isEmpty() && !Character.isWhitespace(text.charAt(text.length() - 1))) {
+            text.append(' ');
+        }
+    }
+
+    private static String normalizeWhitespace(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean whitespace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == '\u00A0') {
+                whitespace = true;
+                continue;
+            }
+            if (whitespace && !normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+            whitespace = false;
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    private static final class OpenFact {
+        private final StringBuilder text = new StringBuilder();
+        private String name;
+        private String prefix;
+        private String localName;
+        private String namespace;
+        private String contextRef;
+        private String unitRef;
+        private String decimals;
+        private String precision;
+        private String scale;
+        private String sign;
+        private String format;
+        private String continuedAt;
+        private String footnoteRefs;
+        private String sourceElement;
+        private String numerator;
+        private String denominator;
+        private boolean numeric;
+        private boolean fraction;
+        private boolean nested;
+        private boolean nil;
+        private int lineNumber;
+    }
+
+    private static final class OpenContinuation {
+        private final String id;
+        private final String continuedAt;
+        private final StringBuilder text = new StringBuilder();
+
+        private OpenContinuation(String id, String continuedAt) {
+            this.id = id;
+            this.continuedAt = continuedAt;
+        }
+    }
+
+    private record PendingFact(OpenFact open, StringBuilder text) {
+    }
+}
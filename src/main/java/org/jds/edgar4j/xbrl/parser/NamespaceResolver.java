@@ -1,7 +1,6 @@
 package org.jds.edgar4j.xbrl.parser;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,9 +13,13 @@ import java.util.regex.Pattern;
  * - Dynamic namespace discovery from document
  * - Fallback to common namespace URIs
  * - Prefix normalization
+ *
+ * One resolver is built per parsed document from the namespaces declared in it, so parses running
+ * concurrently never see each other's prefixes. The declared namespaces are fixed at construction;
+ * only the fallback counter and the name table behind {@link #intern(String)} change while the
+ * document is parsed.
  */
 @Slf4j
-@Component
 public class NamespaceResolver {
 
     // Well-known XBRL namespace URIs
@@ -139,34 +142,34 @@ public class NamespaceResolver {
     }
 
     // Document-specific namespace mappings
-    private final Map<String, String> documentNamespaces = new ConcurrentHashMap<>();
+    private final Map<String, String> documentNamespaces;
+
+    // One String per distinct prefix/local name seen in the document, shared by its facts
+    private final Map<String, String> names = new HashMap<>();
 
     // Statistics
     private int fallbacksUsed = 0;
 
     /**
-     * Register a namespace discovered in the document.
+     * Resolver with no document namespaces; prefixes resolve through the known namespaces only.
      */
-    public void registerNamespace(String prefix, String uri) {
-        if (uri == null) {
-            return;
-        }
-        String safePrefix = prefix == null ? "" : prefix;
-        documentNamespaces.put(safePrefix, uri);
-        if (!safePrefix.isEmpty()) {
-            log.trace("Registered namespace: {}={}", safePrefix, uri);
-        } else {
-            log.trace("Registered default namespace: {}", uri);
-        }
+    public NamespaceResolver() {
+        this(Map.of());
     }
 
     /**
-     * Register all namespaces from a map (typically from document root).
+     * Resolver for a document declaring {@code namespaces} (prefix to URI, "" for the default namespace).
      */
-    public void registerNamespaces(Map<String, String> namespaces) {
+    public NamespaceResolver(Map<String, String> namespaces) {
+        Map<String, String> declared = new HashMap<>();
         if (namespaces != null) {
-            namespaces.forEach(this::registerNamespace);
+            namespaces.forEach((prefix, uri) -> {
+                if (uri != null) {
+                    declared.put(prefix == null ? "" : prefix, uri);
+                }
+            });
         }
+        this.documentNamespaces = Map.copyOf(declared);
     }
 
     /**
@@ -244,16 +247,27 @@ public class NamespaceResolver {
         int colonIndex = qname.indexOf(':');
         if (colonIndex < 0) {
             String defaultNamespace = resolvePrefix("");
-            return new QNameParts(null, defaultNamespace, qname);
+            return new QNameParts(null, defaultNamespace, intern(qname));
         }
 
-        String prefix = qname.substring(0, colonIndex);
-        String localName = qname.substring(colonIndex + 1);
+        String prefix = intern(qname.substring(0, colonIndex));
+        String localName = intern(qname.substring(colonIndex + 1));
         String uri = resolvePrefix(prefix);
 
         return new QNameParts(prefix, uri, localName);
     }
 
+    /**
+     * Return the document's shared copy of {@code value}, so facts of the same concept reference one String.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = names.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
     /**
      * Check if a namespace URI represents a company extension taxonomy.
      */
@@ -272,7 +286,7 @@ public class NamespaceResolver {
      * Get all registered document namespaces.
      */
     public Map<String, String> getDocumentNamespaces() {
-        return new HashMap<>(documentNamespaces);
+        return documentNamespaces;
     }
 
     /**
@@ -282,14 +296,6 @@ public class NamespaceResolver {
         return fallbacksUsed;
     }
 
-    /**
-     * Reset resolver state for a new document.
-     */
-    public void reset() {
-        documentNamespaces.clear();
-        fallbacksUsed = 0;
-    }
-
     /**
      * Normalize a namespace prefix.
      */
@@ -10,6 +10,7 @@ import reactor.core.publisher.Mono;
 import javax.xml.stream.*;
 import java.io.*;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
@@ -25,6 +26,8 @@ import java.util.function.Consumer;
  * - Emits facts as they are parsed (reactive streams)
  * - Handles multi-GB filings that would crash other parsers
  * - Supports progress callbacks for long-running parses
+ * - Inline XBRL (XHTML) filings are detected from the first bytes and read in the same
+ *   single pass by {@link InlineXbrlStreamReader}, without building a DOM
  *
  * Use this when:
  * - Processing very large filings (>100MB)
@@ -41,12 +44,18 @@ public class StreamingXbrlParser {
 
     private final XMLInputFactory xmlInputFactory;
 
+    private final InlineXbrlStreamReader inlineReader;
+
+    // Bytes inspected to tell inline XBRL from instance XML; the ix namespace is declared on <html>
+    private static final int FORMAT_SNIFF_BYTES = 4096;
+
     public StreamingXbrlParser() {
         this.valueTransformer = new ValueTransformer();
         this.xmlInputFactory = XMLInputFactory.newInstance();
         xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
         xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        this.inlineReader = new InlineXbrlStreamReader(xmlInputFactory, valueTransformer);
     }
 
     /**
@@ -196,6 +205,14 @@ public class StreamingXbrlParser {
     private StreamingParseResult streamParseWithProgress(InputStream inputStream,
                                                           Consumer<XbrlFact> factConsumer,
                                                           Consumer<ParseProgress> progressConsumer) {
+        BufferedInputStream buffered = inputStream instanceof BufferedInputStream bufferedInput
+                ? bufferedInput
+                : new BufferedInputStream(inputStream);
+        if (isInlineXbrl(buffered)) {
+            return inlineReader.parse(buffered, factConsumer, progressConsumer);
+        }
+        inputStream = buffered;
+
         StreamingParseResult result = new StreamingParseResult();
         long startTime = System.currentTimeMillis();
 
@@ -282,6 +299,22 @@ public class StreamingXbrlParser {
         return result;
     }
 
+    /**
+     * Peek at the head of the stream for the inline XBRL namespace or ix: elements, then rewind.
+     */
+    private boolean isInlineXbrl(BufferedInputStream inputStream) {
+        try {
+            inputStream.mark(FORMAT_SNIFF_BYTES);
+            byte[] head = inputStream.readNBytes(FORMAT_SNIFF_BYTES);
+            inputStream.reset();
+            String lower = new String(head, StandardCharsets.ISO_8859_1).toLowerCase();
+            return lower.contains("inlinexbrl") || lower.contains("<ix:");
+        } catch (IOException e) {
+            log.debug("Could not inspect stream head, assuming instance XML: {}", e.getMessage());
+            return false;
+        }
+    }
+
     private XbrlFact parseFact(XMLStreamReader reader, String elementName) throws XMLStreamException {
         String contextRef = getAttributeValue(reader, "contextRef");
         String unitRef = getAttributeValue(reader, "unitRef");
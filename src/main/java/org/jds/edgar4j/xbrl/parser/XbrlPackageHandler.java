@@ -3,18 +3,27 @@ package org.jds.edgar4j.xbrl.parser;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.jds.edgar4j.xbrl.model.XbrlInstance;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * Handles XBRL filing packages (ZIP files) from SEC.
  * Supports extraction and parsing of multi-document filings.
+ *
+ * Packages are read through {@link ZipFile} random access: entries are classified from the central directory
+ * and a short header sniff, and only the instance documents chosen for parsing are ever read in full.
  */
 @Slf4j
 @Component
@@ -23,6 +32,14 @@ public class XbrlPackageHandler {
 
     private final XbrlParser xbrlParser;
 
+    private final XMLInputFactory manifestInputFactory = createManifestInputFactory();
+
+    // Bytes inspected when deciding whether an unrecognised .xml entry is an instance
+    private static final int INSTANCE_SNIFF_BYTES = 4096;
+
+    private static final String FILING_SUMMARY = "filingsummary.xml";
+    private static final String REPORT_PACKAGE_MANIFEST = "meta-inf/reportpackage.json";
+
     // Common file patterns
     private static final List<String> INSTANCE_PATTERNS = Arrays.asList(
             ".*_htm\\.xml$",           // SEC inline XBRL
@@ -40,71 +57,105 @@ public class XbrlPackageHandler {
     );
 
     /**
-     * Parse an XBRL package (ZIP file) and return all instances.
+     * Parse an XBRL package (ZIP file) held in memory and return all instances.
+     * The archive is spilled to a temporary file so it can be read with random access;
+     * callers that already have the package on disk should use {@link #parsePackage(Path, String)}.
      */
     public PackageResult parsePackage(byte[] zipContent, String packageUri) {
+        Path spill = null;
+        try {
+            spill = Files.createTempFile("edgar4j-xbrl-package-", ".zip");
+            Files.write(spill, zipContent);
+            return parsePackage(spill, packageUri);
+        } catch (IOException e) {
+            log.error("Failed to spool XBRL package {}: {}", packageUri, e.getMessage());
+            return failedResult(packageUri, e);
+        } finally {
+            deleteQuietly(spill);
+        }
+    }
+
+    /**
+     * Parse an XBRL package (ZIP file) from disk and return all instances.
+     * Instance documents are located from the package manifest (FilingSummary.xml or a report package
+     * reports/ folder) when one is present, otherwise from file names and a header sniff of each entry.
+     */
+    public PackageResult parsePackage(Path zipFile, String packageUri) {
         PackageResult result = new PackageResult();
         result.setPackageUri(packageUri);
 
-        Map<String, byte[]> files = extractZip(zipContent);
-        result.setTotalFiles(files.size());
-
-        // Categorize files
-        List<String> instanceFiles = new ArrayList<>();
-        List<String> linkbaseFiles = new ArrayList<>();
-        List<String> schemaFiles = new ArrayList<>();
-        List<String> otherFiles = new ArrayList<>();
-
-        for (String filename : files.keySet()) {
-            String lower = filename.toLowerCase();
-            if (lower.endsWith("_cal.xml") || lower.endsWith("_def.xml")
-                    || lower.endsWith("_lab.xml") || lower.endsWith("_pre.xml")) {
-                linkbaseFiles.add(filename);
-            } else if (lower.endsWith(".xsd")) {
-                schemaFiles.add(filename);
-            } else if (isInstanceFile(filename, files.get(filename))) {
-                instanceFiles.add(filename);
+        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
+            List<String> files = listEntries(zip);
+            result.setTotalFiles(files.size());
+
+            // Categorize files
+            List<String> linkbaseFiles = new ArrayList<>();
+            List<String> schemaFiles = new ArrayList<>();
+            List<String> otherFiles = new ArrayList<>();
+
+            for (String filename : files) {
+                String lower = filename.toLowerCase();
+                if (isLinkbaseName(lower)) {
+                    linkbaseFiles.add(filename);
+                } else if (lower.endsWith(".xsd")) {
+                    schemaFiles.add(filename);
+                } else {
+                    otherFiles.add(filename);
+                }
+            }
+
+            List<String> instanceFiles = findManifestInstances(zip, files);
+            if (instanceFiles.isEmpty()) {
+                for (String filename : otherFiles) {
+                    if (isInstanceFile(zip, filename)) {
+                        instanceFiles.add(filename);
+                    }
+                }
             } else {
-                otherFiles.add(filename);
+                log.debug("Using manifest instances {} for package {}", instanceFiles, packageUri);
             }
-        }
 
-        result.setInstanceFiles(instanceFiles);
-        result.setLinkbaseFiles(linkbaseFiles);
-        result.setSchemaFiles(schemaFiles);
+            result.setInstanceFiles(instanceFiles);
+            result.setLinkbaseFiles(linkbaseFiles);
+            result.setSchemaFiles(schemaFiles);
 
-        // Parse instance documents
-        for (String instanceFile : instanceFiles) {
-            try {
-                byte[] content = files.get(instanceFile);
-                String contentType = detectContentType(instanceFile);
+            // Parse instance documents
+            for (String instanceFile : instanceFiles) {
+                try {
+                    byte[] content = readEntry(zip, instanceFile);
+                    String contentType = detectContentType(instanceFile);
 
-                XbrlInstance instance = xbrlParser.parse(content, instanceFile, contentType);
-                result.getInstances().put(instanceFile, instance);
+                    XbrlInstance instance = xbrlParser.parse(content, instanceFile, contentType);
+                    result.getInstances().put(instanceFile, instance);
 
-            } catch (Exception e) {
-                log.warn("Failed to parse instance file {}: {}", instanceFile, e.getMessage());
-                result.getErrors().put(instanceFile, e.getMessage());
+                } catch (Exception e) {
+                    log.warn("Failed to parse instance file {}: {}", instanceFile, e.getMessage());
+                    result.getErrors().put(instanceFile, e.getMessage());
+                }
             }
-        }
 
-        // If no instances found, try parsing HTML files
-        if (result.getInstances().isEmpty()) {
-            for (String filename : files.keySet()) {
-                if (isInlineFile(filename)) {
-                    try {
-                        byte[] content = files.get(filename);
-                        XbrlInstance instance = xbrlParser.parse(content, filename, "text/html");
-
-                        if (instance != null && !instance.getFacts().isEmpty()) {
-                            result.getInstances().put(filename, instance);
-                            break;  // Usually only need primary document
+            // If no instances found, try parsing HTML files
+            if (result.getInstances().isEmpty()) {
+                for (String filename : otherFiles) {
+                    if (isInlineFile(filename)) {
+                        try {
+                            byte[] content = readEntry(zip, filename);
+                            XbrlInstance instance = xbrlParser.parse(content, filename, "text/html");
+
+                            if (instance != null && !instance.getFacts().isEmpty()) {
+                                result.getInstances().put(filename, instance);
+                                break;  // Usually only need primary document
+                            }
+                        } catch (Exception e) {
+                            log.trace("File {} is not iXBRL: {}", filename, e.getMessage());
                         }
-                    } catch (Exception e) {
-                        log.trace("File {} is not iXBRL: {}", filename, e.getMessage());
                     }
                 }
             }
+
+        } catch (IOException e) {
+            log.error("Failed to read ZIP {}: {}", zipFile, e.getMessage());
+            result.getErrors().put(String.valueOf(packageUri), e.getMessage());
         }
 
         return result;
@@ -119,49 +170,137 @@ public class XbrlPackageHandler {
     }
 
     /**
-     * Extract files from a ZIP archive.
+     * List file entries from the ZIP central directory without reading their content.
      */
-    private Map<String, byte[]> extractZip(byte[] zipContent) {
-        Map<String, byte[]> files = new LinkedHashMap<>();
-
-        try (ZipArchiveInputStream zis = new ZipArchiveInputStream(
-                new ByteArrayInputStream(zipContent))) {
-
-            ZipArchiveEntry entry;
-            while ((entry = zis.getNextZipEntry()) != null) {
-                if (entry.isDirectory()) continue;
-
-                String name = entry.getName();
-                // Skip hidden files and directories
-                if (name.startsWith(".") || name.contains("/.")) continue;
-
-                // Read file content
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                byte[] buffer = new byte[8192];
-                int len;
-                while ((len = zis.read(buffer)) > 0) {
-                    baos.write(buffer, 0, len);
+    private List<String> listEntries(ZipFile zip) {
+        List<String> names = new ArrayList<>();
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (entry.isDirectory()) continue;
+
+            String name = entry.getName();
+            // Skip hidden files and directories
+            if (name.startsWith(".") || name.contains("/.")) continue;
+
+            names.add(name);
+        }
+        return names;
+    }
+
+    private byte[] readEntry(ZipFile zip, String name) throws IOException {
+        try (InputStream in = zip.getInputStream(zip.getEntry(name))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private byte[] readEntryHeader(ZipFile zip, String name) throws IOException {
+        try (InputStream in = zip.getInputStream(zip.getEntry(name))) {
+            return in.readNBytes(INSTANCE_SNIFF_BYTES);
+        }
+    }
+
+    /**
+     * Locate instance documents from the package manifest, if the package carries one.
+     * Returns an empty list when there is no manifest or it names nothing present in the archive.
+     */
+    private List<String> findManifestInstances(ZipFile zip, List<String> files) {
+        Map<String, String> byBaseName = new LinkedHashMap<>();
+        for (String filename : files) {
+            byBaseName.putIfAbsent(baseName(filename.toLowerCase()), filename);
+        }
+
+        List<String> instances = new ArrayList<>();
+        String filingSummary = byBaseName.get(FILING_SUMMARY);
+        if (filingSummary != null) {
+            for (String document : readFilingSummaryDocuments(zip, filingSummary)) {
+                String entry = byBaseName.get(baseName(document.toLowerCase()));
+                if (entry != null) {
+                    String instance = preferExtractedInstance(entry, byBaseName);
+                    if (!instances.contains(instance)) {
+                        instances.add(instance);
+                    }
                 }
+            }
+        }
 
-                files.put(name, baos.toByteArray());
+        if (instances.isEmpty() && files.stream().anyMatch(f -> f.toLowerCase().endsWith(REPORT_PACKAGE_MANIFEST))) {
+            for (String filename : files) {
+                if (isReportPackageInstance(filename.toLowerCase())) {
+                    instances.add(filename);
+                }
             }
+        }
 
-        } catch (IOException e) {
-            log.error("Failed to extract ZIP: {}", e.getMessage());
+        return instances;
+    }
+
+    /**
+     * Read the primary XBRL documents from FilingSummary.xml: the InputFiles entries that carry a doctype.
+     */
+    private List<String> readFilingSummaryDocuments(ZipFile zip, String filingSummary) {
+        List<String> documents = new ArrayList<>();
+        XMLStreamReader reader = null;
+        try (InputStream in = zip.getInputStream(zip.getEntry(filingSummary))) {
+            reader = manifestInputFactory.createXMLStreamReader(in);
+            boolean inInputFiles = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("InputFiles".equals(name)) {
+                        inInputFiles = true;
+                    } else if (inInputFiles && "File".equals(name)
+                            && reader.getAttributeValue(null, "doctype") != null) {
+                        String document = reader.getElementText().trim();
+                        if (!document.isEmpty()) {
+                            documents.add(document);
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "InputFiles".equals(reader.getLocalName())) {
+                    break;
+                }
+            }
+        } catch (IOException | XMLStreamException e) {
+            log.debug("Ignoring unreadable manifest {}: {}", filingSummary, e.getMessage());
+        } finally {
+            closeQuietly(reader);
+        }
+        return documents;
+    }
+
+    /**
+     * SEC packages ship the instance extracted from an inline document as {@code <name>_htm.xml};
+     * parsing that plain instance is cheaper than re-reading the inline HTML.
+     */
+    private String preferExtractedInstance(String entry, Map<String, String> byBaseName) {
+        String lower = baseName(entry.toLowerCase());
+        int dot = lower.lastIndexOf('.');
+        if (dot > 0 && (lower.endsWith(".htm") || lower.endsWith(".html"))) {
+            String extracted = byBaseName.get(lower.substring(0, dot) + "_htm.xml");
+            if (extracted != null) {
+                return extracted;
+            }
         }
+        return entry;
+    }
 
-        return files;
+    private boolean isReportPackageInstance(String lower) {
+        if (!lower.startsWith("reports/") && !lower.contains("/reports/")) {
+            return false;
+        }
+        return lower.endsWith(".xbrl") || lower.endsWith(".xhtml")
+                || lower.endsWith(".html") || lower.endsWith(".htm");
     }
 
     /**
-     * Check if a file is an XBRL instance document.
+     * Check if a file is an XBRL instance document, reading at most a short header of the entry.
      */
-    private boolean isInstanceFile(String filename, byte[] content) {
+    private boolean isInstanceFile(ZipFile zip, String filename) {
         String lower = filename.toLowerCase();
 
         // Skip linkbases
-        if (lower.endsWith("_cal.xml") || lower.endsWith("_def.xml")
-                || lower.endsWith("_lab.xml") || lower.endsWith("_pre.xml")) {
+        if (isLinkbaseName(lower)) {
             return false;
         }
 
@@ -174,26 +313,39 @@ public class XbrlPackageHandler {
         if (lower.matches(".*-\\d{8}\\.xml")) return true;  // Traditional
         if (lower.endsWith("_ins.xml") || lower.endsWith("_xbrl.xml")) return true;
         if (lower.endsWith(".xml") && !lower.endsWith(".xsd")) {
-            return contentLooksLikeInstance(content);
+            try {
+                return contentLooksLikeInstance(readEntryHeader(zip, filename));
+            } catch (IOException e) {
+                log.debug("Could not inspect {}: {}", filename, e.getMessage());
+                return false;
+            }
         }
 
         return false;
     }
 
+    private boolean isLinkbaseName(String lower) {
+        return lower.endsWith("_cal.xml") || lower.endsWith("_def.xml")
+                || lower.endsWith("_lab.xml") || lower.endsWith("_pre.xml");
+    }
+
     private boolean isNonInstanceName(String lower) {
-        if (lower.endsWith("filingsummary.xml")) {
+        if (lower.endsWith(FILING_SUMMARY)) {
             return true;
         }
-        int lastSlash = Math.max(lower.lastIndexOf('/'), lower.lastIndexOf('\\'));
-        String baseName = lastSlash >= 0 ? lower.substring(lastSlash + 1) : lower;
-        return baseName.matches("r\\d+\\.xml");
+        return baseName(lower).matches("r\\d+\\.xml");
+    }
+
+    private String baseName(String path) {
+        int lastSlash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return lastSlash >= 0 ? path.substring(lastSlash + 1) : path;
     }
 
     private boolean contentLooksLikeInstance(byte[] content) {
         if (content == null || content.length == 0) {
             return false;
         }
-        int length = Math.min(content.length, 4096);
+        int length = Math.min(content.length, INSTANCE_SNIFF_BYTES);
         String header = new String(content, 0, length, StandardCharsets.US_ASCII).toLowerCase();
 
         if (header.contains("<xbrl") || header.contains("xbrli:xbrl")
@@ -233,6 +385,43 @@ public class XbrlPackageHandler {
         return "application/octet-stream";
     }
 
+    private PackageResult failedResult(String packageUri, Exception e) {
+        PackageResult result = new PackageResult();
+        result.setPackageUri(packageUri);
+        result.getErrors().put(String.valueOf(packageUri), e.getMessage());
+        return result;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete temporary package {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            log.trace("Failed to close manifest reader: {}", e.getMessage());
+        }
+    }
+
+    private static XMLInputFactory createManifestInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
     /**
      * Result of parsing an XBRL package.
      */
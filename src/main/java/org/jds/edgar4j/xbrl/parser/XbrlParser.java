@@ -14,6 +14,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main XBRL parser that handles both traditional XBRL and inline XBRL documents.
@@ -24,14 +30,22 @@ import java.util.*;
  * - Error recovery parsing
  * - Encoding detection
  * - Multi-format support
+ *
+ * The parser holds no per-document state: everything a parse discovers (namespaces, statistics) lives
+ * in a {@link ParseContext} created for that invocation, so one instance can parse many documents at once.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class XbrlParser {
 
+    /**
+     * Version of the instances this parser produces. Bump it whenever a change alters the facts, contexts
+     * or units extracted from the same document, so persisted parse results are rebuilt.
+     */
+    public static final int OUTPUT_VERSION = 1;
+
     private final ErrorRecoveryParser errorRecoveryParser;
-    private final NamespaceResolver namespaceResolver;
     private final TaxonomyResolver taxonomyResolver;
     private final InlineXbrlFactExtractor inlineFactExtractor;
     private final ValueTransformer valueTransformer;
@@ -42,9 +56,6 @@ public class XbrlParser {
     public XbrlInstance parse(byte[] content, String uri, String contentType) {
         long startTime = System.currentTimeMillis();
 
-        // Reset namespace resolver for new document
-        namespaceResolver.reset();
-
         ParseResult result = new ParseResult();
         XbrlInstance.XbrlInstanceBuilder instanceBuilder = XbrlInstance.builder()
                 .documentUri(uri)
@@ -65,19 +76,21 @@ public class XbrlParser {
             instanceBuilder.format(format);
 
             // Extract namespace declarations from root
-            extractNamespaces(doc, instanceBuilder);
+            Map<String, String> namespaces = extractNamespaces(doc);
+            instanceBuilder.namespaces(namespaces);
+            ParseContext context = new ParseContext(new NamespaceResolver(namespaces), result);
 
             // Extract schema and linkbase references
             extractReferences(doc, instanceBuilder);
 
             // Parse based on format
             if (format == XbrlInstance.XbrlFormat.INLINE_XBRL) {
-                parseInlineXbrl(doc, instanceBuilder, result);
+                parseInlineXbrl(doc, instanceBuilder, context);
             } else {
-                parseTraditionalXbrl(doc, instanceBuilder, result);
+                parseTraditionalXbrl(doc, instanceBuilder, context);
             }
 
-            result.setNamespaceRecoveries(namespaceResolver.getFallbacksUsed());
+            result.setNamespaceRecoveries(context.namespaces().getFallbacksUsed());
 
         } catch (Exception e) {
             log.error("Failed to parse XBRL document: {}", uri, e);
@@ -92,23 +105,70 @@ public class XbrlParser {
         return instance;
     }
 
+    /**
+     * Parse many documents with one worker per processor. Results are returned in source order.
+     */
+    public List<XbrlInstance> parseAll(List<ParseSource> sources) {
+        return parseAll(sources, 0);
+    }
+
+    /**
+     * Parse many documents on up to {@code parallelism} threads (one per processor when not positive).
+     * Results are returned in source order; a document that fails to parse yields an instance whose
+     * {@link ParseResult} carries the error, as with {@link #parse}.
+     */
+    public List<XbrlInstance> parseAll(List<ParseSource> sources, int parallelism) {
+        if (sources == null || sources.isEmpty()) {
+            return List.of();
+        }
+        int threads = Math.min(sources.size(),
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        if (threads == 1) {
+            return sources.stream()
+                    .map(source -> parse(source.content(), source.uri(), source.contentType()))
+                    .toList();
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, parserThreadFactory());
+        try {
+            List<Future<XbrlInstance>> futures = new ArrayList<>(sources.size());
+            for (ParseSource source : sources) {
+                futures.add(workers.submit(() -> parse(source.content(), source.uri(), source.contentType())));
+            }
+            List<XbrlInstance> instances = new ArrayList<>(sources.size());
+            for (Future<XbrlInstance> future : futures) {
+                instances.add(future.get());
+            }
+            return instances;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing " + sources.size() + " XBRL documents", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse XBRL documents", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
     /**
      * Parse inline XBRL document.
      */
     private void parseInlineXbrl(Document doc, XbrlInstance.XbrlInstanceBuilder builder,
-                                  ParseResult result) {
+                                  ParseContext context) {
+        ParseResult result = context.result();
+
         // Extract contexts (may be in header or hidden div)
-        Map<String, XbrlContext> contexts = extractContexts(doc);
+        Map<String, XbrlContext> contexts = extractContexts(doc, context.namespaces());
         builder.contexts(contexts);
         result.setTotalContextsFound(contexts.size());
 
         // Extract units
-        Map<String, XbrlUnit> units = extractUnits(doc);
+        Map<String, XbrlUnit> units = extractUnits(doc, context.namespaces());
         builder.units(units);
         result.setTotalUnitsFound(units.size());
 
         // Extract facts using specialized inline extractor
-        List<XbrlFact> facts = inlineFactExtractor.extractFacts(doc, result);
+        List<XbrlFact> facts = inlineFactExtractor.extractFacts(doc, context.namespaces(), result);
         builder.facts(facts);
 
         // Extract entity info
@@ -119,7 +179,9 @@ public class XbrlParser {
      * Parse traditional XBRL XML document.
      */
     private void parseTraditionalXbrl(Document doc, XbrlInstance.XbrlInstanceBuilder builder,
-                                       ParseResult result) {
+                                       ParseContext context) {
+        ParseResult result = context.result();
+
         // Find the xbrl root element
         Element xbrlRoot = findXbrlRoot(doc);
         if (xbrlRoot == null) {
@@ -128,17 +190,17 @@ public class XbrlParser {
         }
 
         // Extract contexts
-        Map<String, XbrlContext> contexts = extractContextsFromXbrl(xbrlRoot);
+        Map<String, XbrlContext> contexts = extractContextsFromXbrl(xbrlRoot, context.namespaces());
         builder.contexts(contexts);
         result.setTotalContextsFound(contexts.size());
 
         // Extract units
-        Map<String, XbrlUnit> units = extractUnitsFromXbrl(xbrlRoot);
+        Map<String, XbrlUnit> units = extractUnitsFromXbrl(xbrlRoot, context.namespaces());
         builder.units(units);
         result.setTotalUnitsFound(units.size());
 
         // Extract facts
-        List<XbrlFact> facts = extractFactsFromXbrl(xbrlRoot, result);
+        List<XbrlFact> facts = extractFactsFromXbrl(xbrlRoot, context);
         builder.facts(facts);
 
         // Extract entity info
@@ -148,7 +210,7 @@ public class XbrlParser {
     /**
      * Extract namespace declarations from document.
      */
-    private void extractNamespaces(Document doc, XbrlInstance.XbrlInstanceBuilder builder) {
+    private Map<String, String> extractNamespaces(Document doc) {
         Element root = doc.body();
         if (root == null) {
             root = doc.getElementsByTag("html").first();
@@ -165,10 +227,8 @@ public class XbrlParser {
                 if (key.startsWith("xmlns:")) {
                     String prefix = key.substring(6);
                     namespaces.put(prefix, attr.getValue());
-                    namespaceResolver.registerNamespace(prefix, attr.getValue());
                 } else if (key.equals("xmlns")) {
                     namespaces.put("", attr.getValue());
-                    namespaceResolver.registerNamespace("", attr.getValue());
                 }
             }
         }
@@ -181,15 +241,13 @@ public class XbrlParser {
                 if (key.startsWith("xmlns:")) {
                     String prefix = key.substring(6);
                     namespaces.put(prefix, attr.getValue());
-                    namespaceResolver.registerNamespace(prefix, attr.getValue());
                 } else if (key.equals("xmlns")) {
                     namespaces.put("", attr.getValue());
-                    namespaceResolver.registerNamespace("", attr.getValue());
                 }
             }
         }
 
-        builder.namespaces(namespaces);
+        return namespaces;
     }
 
     /**
@@ -234,7 +292,7 @@ public class XbrlParser {
     /**
      * Extract contexts from iXBRL document.
      */
-    private Map<String, XbrlContext> extractContexts(Document doc) {
+    private Map<String, XbrlContext> extractContexts(Document doc, NamespaceResolver namespaces) {
         Map<String, XbrlContext> contexts = new HashMap<>();
 
         // iXBRL contexts can be in hidden div or ix:header
@@ -244,7 +302,7 @@ public class XbrlParser {
 
         for (Element elem : contextElements) {
             try {
-                XbrlContext context = parseContext(elem);
+                XbrlContext context = parseContext(elem, namespaces);
                 if (context != null && context.getId() != null) {
                     contexts.put(context.getId(), context);
                 }
@@ -259,13 +317,13 @@ public class XbrlParser {
     /**
      * Extract contexts from traditional XBRL.
      */
-    private Map<String, XbrlContext> extractContextsFromXbrl(Element xbrlRoot) {
+    private Map<String, XbrlContext> extractContextsFromXbrl(Element xbrlRoot, NamespaceResolver namespaces) {
         Map<String, XbrlContext> contexts = new HashMap<>();
 
         Elements contextElements = xbrlRoot.select("context, xbrli\\:context");
         for (Element elem : contextElements) {
             try {
-                XbrlContext context = parseContext(elem);
+                XbrlContext context = parseContext(elem, namespaces);
                 if (context != null && context.getId() != null) {
                     contexts.put(context.getId(), context);
                 }
@@ -280,7 +338,7 @@ public class XbrlParser {
     /**
      * Parse a single context element.
      */
-    private XbrlContext parseContext(Element elem) {
+    private XbrlContext parseContext(Element elem, NamespaceResolver namespaces) {
         String id = elem.attr("id");
         if (id.isEmpty()) return null;
 
@@ -298,7 +356,7 @@ public class XbrlParser {
             // Parse segment dimensions
             Element segment = entity.selectFirst("segment, xbrli\\:segment");
             if (segment != null) {
-                List<XbrlContext.XbrlDimension> dimensions = parseDimensions(segment);
+                List<XbrlContext.XbrlDimension> dimensions = parseDimensions(segment, namespaces);
                 builder.dimensions(dimensions);
             }
         }
@@ -312,7 +370,7 @@ public class XbrlParser {
         // Parse scenario dimensions
         Element scenario = elem.selectFirst("scenario, xbrli\\:scenario");
         if (scenario != null) {
-            List<XbrlContext.XbrlDimension> dimensions = parseDimensions(scenario);
+            List<XbrlContext.XbrlDimension> dimensions = parseDimensions(scenario, namespaces);
             XbrlContext context = builder.build();
             context.getDimensions().addAll(dimensions);
             return context;
@@ -355,7 +413,7 @@ public class XbrlParser {
     /**
      * Parse dimensions from segment or scenario.
      */
-    private List<XbrlContext.XbrlDimension> parseDimensions(Element container) {
+    private List<XbrlContext.XbrlDimension> parseDimensions(Element container, NamespaceResolver namespaces) {
         List<XbrlContext.XbrlDimension> dimensions = new ArrayList<>();
 
         // Explicit dimensions
@@ -366,8 +424,8 @@ public class XbrlParser {
             String dimension = explicit.attr("dimension");
             String member = explicit.text();
 
-            NamespaceResolver.QNameParts dimParts = namespaceResolver.parseQName(dimension);
-            NamespaceResolver.QNameParts memParts = namespaceResolver.parseQName(member);
+            NamespaceResolver.QNameParts dimParts = namespaces.parseQName(dimension);
+            NamespaceResolver.QNameParts memParts = namespaces.parseQName(member);
 
             if (dimParts != null && memParts != null) {
                 dimensions.add(XbrlContext.XbrlDimension.builder()
@@ -386,7 +444,7 @@ public class XbrlParser {
         );
         for (Element typed : typeds) {
             String dimension = typed.attr("dimension");
-            NamespaceResolver.QNameParts dimParts = namespaceResolver.parseQName(dimension);
+            NamespaceResolver.QNameParts dimParts = namespaces.parseQName(dimension);
 
             if (dimParts != null) {
                 dimensions.add(XbrlContext.XbrlDimension.builder()
@@ -404,7 +462,7 @@ public class XbrlParser {
     /**
      * Extract units from iXBRL document.
      */
-    private Map<String, XbrlUnit> extractUnits(Document doc) {
+    private Map<String, XbrlUnit> extractUnits(Document doc, NamespaceResolver namespaces) {
         Map<String, XbrlUnit> units = new HashMap<>();
 
         Elements unitElements = doc.select(
@@ -413,7 +471,7 @@ public class XbrlParser {
 
         for (Element elem : unitElements) {
             try {
-                XbrlUnit unit = parseUnit(elem);
+                XbrlUnit unit = parseUnit(elem, namespaces);
                 if (unit != null && unit.getId() != null) {
                     units.put(unit.getId(), unit);
                 }
@@ -428,13 +486,13 @@ public class XbrlParser {
     /**
      * Extract units from traditional XBRL.
      */
-    private Map<String, XbrlUnit> extractUnitsFromXbrl(Element xbrlRoot) {
+    private Map<String, XbrlUnit> extractUnitsFromXbrl(Element xbrlRoot, NamespaceResolver namespaces) {
         Map<String, XbrlUnit> units = new HashMap<>();
 
         Elements unitElements = xbrlRoot.select("unit, xbrli\\:unit");
         for (Element elem : unitElements) {
             try {
-                XbrlUnit unit = parseUnit(elem);
+                XbrlUnit unit = parseUnit(elem, namespaces);
                 if (unit != null && unit.getId() != null) {
                     units.put(unit.getId(), unit);
                 }
@@ -449,7 +507,7 @@ public class XbrlParser {
     /**
      * Parse a single unit element.
      */
-    private XbrlUnit parseUnit(Element elem) {
+    private XbrlUnit parseUnit(Element elem, NamespaceResolver namespaces) {
         String id = elem.attr("id");
         if (id.isEmpty()) return null;
 
@@ -484,7 +542,7 @@ public class XbrlParser {
             String measure = measures.first().text();
             builder.measure(measure);
 
-            NamespaceResolver.QNameParts parts = namespaceResolver.parseQName(measure);
+            NamespaceResolver.QNameParts parts = namespaces.parseQName(measure);
             if (parts != null) {
                 builder.measureNamespace(parts.namespaceUri());
                 builder.measureLocalName(parts.localName());
@@ -512,7 +570,8 @@ public class XbrlParser {
     /**
      * Extract facts from traditional XBRL.
      */
-    private List<XbrlFact> extractFactsFromXbrl(Element xbrlRoot, ParseResult result) {
+    private List<XbrlFact> extractFactsFromXbrl(Element xbrlRoot, ParseContext context) {
+        ParseResult result = context.result();
         List<XbrlFact> facts = new ArrayList<>();
 
         // Get all direct children that are not context, unit, or schema elements
@@ -522,14 +581,14 @@ public class XbrlParser {
         );
 
         Set<Element> visited = Collections.newSetFromMap(new IdentityHashMap<>());
-        extractFactCandidates(xbrlRoot.children(), excludedTags, facts, result, visited);
+        extractFactCandidates(xbrlRoot.children(), excludedTags, facts, context, visited);
 
         if (facts.isEmpty()) {
             Elements candidates = xbrlRoot.getElementsByAttribute("contextRef");
             if (candidates.isEmpty()) {
                 candidates = xbrlRoot.getElementsByAttribute("contextref");
             }
-            extractFactCandidates(candidates, excludedTags, facts, result, visited);
+            extractFactCandidates(candidates, excludedTags, facts, context, visited);
         }
 
         result.setTotalFactsFound(facts.size() + result.getSkippedFacts());
@@ -539,8 +598,9 @@ public class XbrlParser {
     private void extractFactCandidates(Iterable<Element> elements,
                                        Set<String> excludedTags,
                                        List<XbrlFact> facts,
-                                       ParseResult result,
+                                       ParseContext context,
                                        Set<Element> visited) {
+        ParseResult result = context.result();
         for (Element element : elements) {
             if (!visited.add(element)) {
                 continue;
@@ -551,7 +611,7 @@ public class XbrlParser {
             }
 
             try {
-                XbrlFact fact = parseXbrlFact(element);
+                XbrlFact fact = parseXbrlFact(element, context.namespaces());
                 if (fact != null) {
                     facts.add(fact);
                     result.setSuccessfullyParsedFacts(
@@ -568,9 +628,9 @@ public class XbrlParser {
     /**
      * Parse a traditional XBRL fact element.
      */
-    private XbrlFact parseXbrlFact(Element elem) {
+    private XbrlFact parseXbrlFact(Element elem, NamespaceResolver namespaces) {
         String tagName = elem.tagName();
-        NamespaceResolver.QNameParts qname = namespaceResolver.parseQName(tagName);
+        NamespaceResolver.QNameParts qname = namespaces.parseQName(tagName);
 
         XbrlFact.XbrlFactBuilder builder = XbrlFact.builder()
                 .conceptPrefix(qname != null ? qname.prefix() : null)
@@ -692,4 +752,25 @@ public class XbrlParser {
                 return XbrlInstance.XbrlFormat.UNKNOWN;
         }
     }
+
+    private static ThreadFactory parserThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "edgar4j-xbrl-parser-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One document to parse: its bytes, the URI it was loaded from, and its content type if known.
+     */
+    public record ParseSource(byte[] content, String uri, String contentType) {
+    }
+
+    /**
+     * State owned by a single {@link #parse} call.
+     */
+    private record ParseContext(NamespaceResolver namespaces, ParseResult result) {
+    }
 }
@@ -14,7 +14,6 @@ import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Extracts SEC-specific metadata from XBRL filings.
@@ -93,9 +92,8 @@ public class SecFilingExtractor {
     public SecFilingMetadata extract(XbrlInstance instance) {
         SecFilingMetadata.SecFilingMetadataBuilder builder = SecFilingMetadata.builder();
 
-        // Build fact lookup by concept
-        Map<String, List<XbrlFact>> factsByConcept = instance.getFacts().stream()
-                .collect(Collectors.groupingBy(XbrlFact::getConceptLocalName));
+        // Fact lookup by concept
+        Map<String, List<XbrlFact>> factsByConcept = instance.getFactIndex().getFactsByConcept();
 
         // Extract entity information
         builder.entityName(extractFirstValue(factsByConcept, ENTITY_NAME_CONCEPTS));
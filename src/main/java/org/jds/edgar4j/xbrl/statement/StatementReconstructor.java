@@ -216,9 +216,8 @@ public class StatementReconstructor {
             return builder.build();
         }
 
-        // Group facts by concept
-        Map<String, List<XbrlFact>> factsByConcept = instance.getFacts().stream()
-                .collect(Collectors.groupingBy(XbrlFact::getConceptLocalName));
+        // Facts grouped by concept
+        Map<String, List<XbrlFact>> factsByConcept = instance.getFactIndex().getFactsByConcept();
 
         // Build line items in standard order
         List<LineItem> lineItems = new ArrayList<>();
@@ -465,8 +464,7 @@ public class StatementReconstructor {
     }
 
     private String extractEntityName(XbrlInstance instance) {
-        return instance.getFacts().stream()
-                .filter(f -> f.getConceptLocalName().equals("EntityRegistrantName"))
+        return instance.getFactsByConceptName("EntityRegistrantName").stream()
                 .findFirst()
                 .map(XbrlFact::getStringValue)
                 .orElse(null);
@@ -477,8 +475,7 @@ public class StatementReconstructor {
     }
 
     private String extractFiscalYearEnd(XbrlInstance instance) {
-        return instance.getFacts().stream()
-                .filter(f -> f.getConceptLocalName().equals("CurrentFiscalYearEndDate"))
+        return instance.getFactsByConceptName("CurrentFiscalYearEndDate").stream()
                 .findFirst()
                 .map(XbrlFact::getStringValue)
                 .orElse(null);
@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.jds.edgar4j.integration.SecRateLimiter;
 import org.jds.edgar4j.xbrl.model.XbrlFact;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -23,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TaxonomyResolver {
 
     private final WebClient webClient;
+    private final SecRateLimiter secRateLimiter;
 
     // Cache for taxonomy schemas (schema URL -> TaxonomySchema)
     private final Cache<String, TaxonomySchema> schemaCache;
@@ -45,7 +47,8 @@ public class TaxonomyResolver {
             "http://xbrl.sec.gov/"
     );
 
-    public TaxonomyResolver(WebClient.Builder webClientBuilder) {
+    public TaxonomyResolver(WebClient.Builder webClientBuilder, SecRateLimiter secRateLimiter) {
+        this.secRateLimiter = secRateLimiter;
         this.webClient = webClientBuilder
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
@@ -114,10 +117,11 @@ public class TaxonomyResolver {
         String resolvedUrl = resolveSchemaUrl(schemaUrl);
         log.debug("Loading taxonomy schema: {}", resolvedUrl);
 
-        return webClient.get()
-                .uri(resolvedUrl)
-                .retrieve()
-                .bodyToMono(String.class)
+        return awaitSecPermit(resolvedUrl)
+                .then(webClient.get()
+                        .uri(resolvedUrl)
+                        .retrieve()
+                        .bodyToMono(String.class))
                 .timeout(Duration.ofSeconds(30))
                 .map(content -> parseSchema(resolvedUrl, content))
                 .doOnNext(schema -> schemaCache.put(schemaUrl, schema))
@@ -125,6 +129,17 @@ public class TaxonomyResolver {
                 .onErrorResume(e -> Mono.empty());
     }
 
+    /**
+     * Taxonomies hosted by the SEC count against the SEC request budget; FASB hosts do not.
+     */
+    private Mono<Void> awaitSecPermit(String url) {
+        String host = SecRateLimiter.hostOf(url);
+        if (!host.endsWith("sec.gov")) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> secRateLimiter.acquireAsync(host, SecRateLimiter.Priority.BACKFILL));
+    }
+
     /**
      * Resolve relative schema URL to absolute.
      */
@@ -85,10 +85,8 @@ public class CalculationValidator {
     public ValidationResult validate(XbrlInstance instance) {
         ValidationResult result = new ValidationResult();
 
-        // Group facts by context for validation
-        Map<String, List<XbrlFact>> factsByContext = instance.getFacts().stream()
-                .filter(f -> f.getContextRef() != null)
-                .collect(Collectors.groupingBy(XbrlFact::getContextRef));
+        // Facts grouped by context for validation
+        Map<String, List<XbrlFact>> factsByContext = instance.getFactIndex().getFactsByContext();
 
         // Validate each context
         for (Map.Entry<String, List<XbrlFact>> entry : factsByContext.entrySet()) {
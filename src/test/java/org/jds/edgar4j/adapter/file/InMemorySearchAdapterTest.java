@@ -1,13 +1,17 @@
 package org.jds.edgar4j.adapter.file;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.jds.edgar4j.model.CompanyTicker;
 import org.jds.edgar4j.model.Filling;
@@ -17,6 +21,8 @@ import org.jds.edgar4j.port.CompanyTickerDataPort;
 import org.jds.edgar4j.port.FilingSearchPort;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.port.TickerDataPort;
+import org.jds.edgar4j.repository.FillingRepository.CikFilingCount;
+import org.jds.edgar4j.search.FilingSearchSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,7 +57,7 @@ class InMemorySearchAdapterTest {
     void searchShouldResolveTickerSymbolsToCiks() throws ParseException {
         when(tickerDataPort.findByCode("ACME")).thenReturn(java.util.Optional.of(Ticker.builder().cik("0001234567").build()));
         when(companyTickerDataPort.findByTickerIgnoreCase("acme")).thenReturn(java.util.Optional.empty());
-        when(fillingDataPort.findAll()).thenReturn(List.of(
+        stubFilings(List.of(
                 filing("1", "Older Filing", "0001234567", "8-K", "2024-01-01"),
                 filing("2", "Newest Filing", "0001234567", "10-K", "2024-02-01"),
                 filing("3", "Different Company", "0009999999", "10-K", "2024-03-01")));
@@ -67,7 +73,7 @@ class InMemorySearchAdapterTest {
     @Test
     @DisplayName("search should combine free text, form type, and date filters")
     void searchShouldApplyStructuredFilters() throws ParseException {
-        when(fillingDataPort.findAll()).thenReturn(List.of(
+        stubFilings(List.of(
                 filing("1", "Acme Corporation", "0001234567", "10-K", "2024-01-15", "annual report"),
                 filing("2", "Acme Corporation", "0001234567", "8-K", "2024-01-20", "current report"),
                 filing("3", "Other Co", "0005555555", "10-K", "2024-01-15", "annual report")));
@@ -88,32 +94,102 @@ class InMemorySearchAdapterTest {
     }
 
     @Test
-    @DisplayName("suggest should return prefix-matching values without duplicates")
-    void suggestShouldReturnDistinctPrefixMatches() throws ParseException {
-        when(fillingDataPort.findAll()).thenReturn(List.of(
-                filing("1", "Acme Corporation", "0001234567", "10-K", "2024-01-15"),
-                filing("2", "Acme Corporation", "0001234567", "8-K", "2024-01-20"),
-                filing("3", "Acuity Holdings", "0005555555", "10-Q", "2024-01-25")));
+    @DisplayName("suggest should return prefix-matching values ranked by filing count")
+    void suggestShouldReturnPrefixMatchesByPopularity() {
+        when(fillingDataPort.countFilingsByCik()).thenReturn(List.of(
+                new FilingCount("0001234567", "Acme Corporation", 2L),
+                new FilingCount("0005555555", "Acuity Holdings", 1L)));
 
         List<String> suggestions = inMemorySearchAdapter.suggest("Ac", 5);
 
-        assertThat(suggestions).containsExactly("Acuity Holdings", "Acme Corporation");
+        assertThat(suggestions).containsExactly("Acme Corporation", "Acuity Holdings");
     }
 
     @Test
-    @DisplayName("suggest should use latest filings first when the prefix is blank")
-    void suggestShouldPreferLatestFilingsWhenPrefixBlank() throws ParseException {
-        when(fillingDataPort.findAll()).thenReturn(List.of(
-                filing("1", "Older Filing", "0001234567", "10-K", "2024-01-15"),
-                filing("2", "Newest Filing", "0007654321", "8-K", "2024-02-20")));
+    @DisplayName("suggest should rank the most active filers first when the prefix is blank")
+    void suggestShouldPreferMostActiveFilersWhenPrefixBlank() {
+        when(fillingDataPort.countFilingsByCik()).thenReturn(List.of(
+                new FilingCount("0001234567", "Older Filing", 3L),
+                new FilingCount("0007654321", "Newest Filing", 1L)));
 
         List<String> suggestions = inMemorySearchAdapter.suggest(null, 4);
 
         assertThat(suggestions).containsExactly(
-                "Newest Filing",
-                "0007654321",
+                "0001234567",
                 "Older Filing",
-                "0001234567");
+                "0007654321",
+                "Newest Filing");
+    }
+
+    @Test
+    @DisplayName("suggest should include tickers weighted by their company's filings")
+    void suggestShouldIncludeTickers() {
+        when(fillingDataPort.countFilingsByCik()).thenReturn(List.of(
+                new FilingCount("0001234567", "ACME CORP", 4L)));
+        when(companyTickerDataPort.findAll()).thenReturn(List.of(
+                CompanyTicker.builder().cikStr(1234567L).ticker("ACME").title("Acme Corp").build(),
+                CompanyTicker.builder().cikStr(7654321L).ticker("ACMR").title("Acmer Inc").build()));
+
+        List<String> suggestions = inMemorySearchAdapter.suggest("acm", 10);
+
+        assertThat(suggestions).containsExactly("ACME", "Acme Corp", "ACMR", "Acmer Inc");
+    }
+
+    @Test
+    @DisplayName("suggest should match unpadded filing CIKs to tickers and reload counts on rebuild")
+    void suggestShouldNormalizeCiksAndReloadCounts() {
+        when(fillingDataPort.countFilingsByCik())
+                .thenReturn(List.of(new FilingCount("1234567", "ACME CORP", 1L)))
+                .thenReturn(List.of(
+                        new FilingCount("1234567", "ACME CORP", 1L),
+                        new FilingCount("7654321", "ACMER INC", 9L)));
+        when(companyTickerDataPort.findAll()).thenReturn(List.of(
+                CompanyTicker.builder().cikStr(1234567L).ticker("ACME").title("Acme Corp").build(),
+                CompanyTicker.builder().cikStr(7654321L).ticker("ACMR").title("Acmer Inc").build()));
+
+        assertThat(inMemorySearchAdapter.suggest("acm", 2)).containsExactly("ACME", "Acme Corp");
+
+        inMemorySearchAdapter.rebuildIndex();
+
+        assertThat(inMemorySearchAdapter.suggest("acm", 2)).containsExactly("ACMR", "Acmer Inc");
+    }
+
+    @Test
+    @DisplayName("search should rank by BM25 relevance and follow incremental index updates")
+    void searchShouldRankByRelevanceAndFollowIndexUpdates() throws ParseException {
+        List<Filling> filings = new ArrayList<>(List.of(
+                filing("1", "Acme Corporation", "0001234567", "10-K", "2024-03-01", "annual report"),
+                filing("2", "Acme Mining", "0001234568", "10-K", "2024-01-01", "acme acme quarterly")));
+        stubFilings(filings);
+
+        Page<FilingSearchPort.SearchResult> results = inMemorySearchAdapter.search("acme", PageRequest.of(0, 10));
+
+        assertThat(results.getContent()).extracting(FilingSearchPort.SearchResult::id)
+                .containsExactly("2", "1");
+        assertThat(results.getContent().get(0).score()).isGreaterThan(results.getContent().get(1).score());
+
+        Filling added = filing("3", "Acme Holdings", "0001234569", "8-K", "2024-04-01", "merger");
+        filings.add(added);
+        inMemorySearchAdapter.index(FilingSearchSupport.indexDocument(added));
+        inMemorySearchAdapter.removeFromIndex("2");
+
+        Page<FilingSearchPort.SearchResult> updated = inMemorySearchAdapter.search(
+                "acme",
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "fillingDate")));
+
+        assertThat(updated.getTotalElements()).isEqualTo(2);
+        assertThat(updated.getContent()).extracting(FilingSearchPort.SearchResult::id)
+                .containsExactly("3");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFilings(List<Filling> filings) {
+        when(fillingDataPort.findAll()).thenReturn(filings);
+        when(fillingDataPort.findAllById(any())).thenAnswer(invocation -> {
+            Set<String> ids = new HashSet<>();
+            ((Iterable<String>) invocation.getArgument(0)).forEach(ids::add);
+            return filings.stream().filter(filing -> ids.contains(filing.getId())).toList();
+        });
     }
 
     private Filling filing(String id, String company, String cik, String formType, String date) throws ParseException {
@@ -131,4 +207,22 @@ class InMemorySearchAdapterTest {
                 .fillingDate(new SimpleDateFormat("yyyy-MM-dd", Locale.ROOT).parse(date))
                 .build();
     }
+
+    private record FilingCount(String id, String company, Long filingCount) implements CikFilingCount {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getCompany() {
+            return company;
+        }
+
+        @Override
+        public Long getFilingCount() {
+            return filingCount;
+        }
+    }
 }
@@ -5,10 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import org.jds.edgar4j.model.Form13DG;
 import org.jds.edgar4j.model.Form13F;
 import org.jds.edgar4j.model.Form13FHolding;
+import org.jds.edgar4j.model.Form4;
+import org.jds.edgar4j.model.InsiderTransactionFact;
 import org.jds.edgar4j.model.Submissions;
 import org.jds.edgar4j.storage.file.FileStorageEngine;
 import org.jds.edgar4j.storage.file.FileStorageProperties;
@@ -123,6 +126,100 @@ class IndexedFileAdaptersTest {
         assertThat(adapter.findByTickersContaining("beta")).hasSize(1);
     }
 
+    @Test
+    void form4DateRangePagesAreServedFromSortedIndexes() {
+        Form4FileAdapter adapter = new Form4FileAdapter(newStorageEngine());
+
+        adapter.saveAll(List.of(
+                Form4.builder().accessionNumber("f4-1").tradingSymbol("ACME").transactionDate(LocalDate.of(2024, 1, 3)).build(),
+                Form4.builder().accessionNumber("f4-2").tradingSymbol("acme").transactionDate(LocalDate.of(2024, 1, 1)).build(),
+                Form4.builder().accessionNumber("f4-3").tradingSymbol("BETA").transactionDate(LocalDate.of(2024, 1, 2)).build(),
+                Form4.builder().accessionNumber("f4-4").tradingSymbol("ACME").transactionDate(LocalDate.of(2024, 2, 1)).build()));
+
+        var firstPage = adapter.findByTransactionDateBetween(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "transactionDate")));
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).extracting(Form4::getAccessionNumber).containsExactly("f4-1", "f4-3");
+
+        var secondPage = adapter.findByTransactionDateBetween(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "transactionDate")));
+        assertThat(secondPage.getContent()).extracting(Form4::getAccessionNumber).containsExactly("f4-2");
+
+        var symbolPage = adapter.findBySymbolAndDateRange(
+                "Acme",
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31),
+                PageRequest.of(0, 10, Sort.by("transactionDate")));
+        assertThat(symbolPage.getContent()).extracting(Form4::getAccessionNumber).containsExactly("f4-2", "f4-1");
+
+        var unsortedPage = adapter.findBySymbolAndDateRange(
+                "Acme",
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31),
+                PageRequest.of(0, 1));
+        assertThat(unsortedPage.getTotalElements()).isEqualTo(2);
+        assertThat(unsortedPage.getContent()).hasSize(1);
+
+        var sortedByOtherProperty = adapter.findByTransactionDateBetween(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 2, 28),
+                PageRequest.of(0, 10, Sort.by("accessionNumber")));
+        assertThat(sortedByOtherProperty.getContent()).extracting(Form4::getAccessionNumber)
+                .containsExactly("f4-1", "f4-2", "f4-3", "f4-4");
+    }
+
+    @Test
+    void form4KeysetSlicesWalkTheIdIndex() {
+        Form4FileAdapter adapter = new Form4FileAdapter(newStorageEngine());
+        adapter.saveAll(List.of(
+                Form4.builder().id("f4-c").accessionNumber("c").build(),
+                Form4.builder().id("f4-a").accessionNumber("a").build(),
+                Form4.builder().id("f4-b").accessionNumber("b").build()));
+
+        var first = adapter.findByIdGreaterThan("f4-", PageRequest.of(0, 2, Sort.by("id")));
+        assertThat(first.getContent()).extracting(Form4::getId).containsExactly("f4-a", "f4-b");
+        assertThat(first.hasNext()).isTrue();
+
+        var last = adapter.findByIdGreaterThan("f4-b", PageRequest.of(0, 2, Sort.by("id")));
+        assertThat(last.getContent()).extracting(Form4::getId).containsExactly("f4-c");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void insiderTransactionFactsAreRangeScannedBySideAndTicker() {
+        InsiderTransactionFactFileAdapter adapter = new InsiderTransactionFactFileAdapter(newStorageEngine());
+
+        adapter.saveAll(List.of(
+                fact("f4-1", 0, "ACME", "BUY", "P", LocalDate.of(2024, 1, 3)),
+                fact("f4-1", 1, "ACME", "BUY", "A", LocalDate.of(2024, 1, 3)),
+                fact("f4-2", 0, "BETA", "BUY", "P", LocalDate.of(2024, 1, 2)),
+                fact("f4-3", 0, "ACME", "SELL", "S", LocalDate.of(2024, 1, 4)),
+                fact("f4-4", 0, "ACME", "BUY", "P", LocalDate.of(2024, 2, 1))));
+
+        assertThat(adapter.findByAccessionNumber("f4-1")).hasSize(2);
+        assertThat(adapter.findBySideAndDateRange("BUY", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                .extracting(InsiderTransactionFact::getFactKey)
+                .containsExactlyInAnyOrder("f4-1#0", "f4-1#1", "f4-2#0");
+        assertThat(adapter.findByTickerAndSideAndDateRange(
+                "ACME", "BUY", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 28)))
+                .extracting(InsiderTransactionFact::getFactKey)
+                .containsExactlyInAnyOrder("f4-1#0", "f4-1#1", "f4-4#0");
+
+        var purchases = adapter.findBySideAndCodesAndDateRange(
+                "BUY",
+                Set.of("P"),
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 2, 28),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "transactionDate")));
+        assertThat(purchases.getTotalElements()).isEqualTo(3);
+        assertThat(purchases.getContent()).extracting(InsiderTransactionFact::getFactKey)
+                .containsExactly("f4-4#0", "f4-1#0");
+    }
+
     private FileStorageEngine newStorageEngine() {
         FileStorageProperties properties = new FileStorageProperties();
         properties.setBasePath(tempDir.toString());
@@ -134,4 +231,17 @@ class IndexedFileAdaptersTest {
         objectMapper.registerModule(new JavaTimeModule());
         return new FileStorageEngine(properties, objectMapper);
     }
-}
\ No newline at end of file
+
+    private static InsiderTransactionFact fact(
+            String accessionNumber, int transactionIndex, String ticker, String side, String code, LocalDate date) {
+        return InsiderTransactionFact.builder()
+                .factKey(InsiderTransactionFact.factKey(accessionNumber, transactionIndex))
+                .accessionNumber(accessionNumber)
+                .transactionIndex(transactionIndex)
+                .ticker(ticker)
+                .side(side)
+                .transactionCode(code)
+                .transactionDate(date)
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package org.jds.edgar4j.batch.components;
 
+import org.jds.edgar4j.batch.partition.FilingDatePartitioner;
 import org.jds.edgar4j.batch.processor.Form4DocumentProcessor;
 import org.jds.edgar4j.batch.reader.EdgarFilingReader;
 import org.jds.edgar4j.batch.writer.InsiderTransactionWriter;
 import org.jds.edgar4j.exception.Form4DocumentProcessingException;
+import org.jds.edgar4j.exception.SecApiException;
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.model.insider.InsiderTransaction;
 import org.jds.edgar4j.port.InsiderTransactionDataPort;
@@ -15,15 +17,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -98,18 +103,68 @@ class BatchComponentsTest {
         assertNull(item);
     }
 
-    @DisplayName("EdgarFilingReader should handle API errors gracefully")
+    @DisplayName("EdgarFilingReader should fail the read on API errors so the step can be restarted")
     @Test
     void testEdgarFilingReaderApiError() {
-        when(secApiClient.fetchDailyMasterIndex(any(LocalDate.class))).thenThrow(new RuntimeException("API Error"));
+        when(secApiClient.fetchDailyMasterIndex(any(LocalDate.class)))
+            .thenThrow(new SecApiException("SEC API error: 500 INTERNAL_SERVER_ERROR"));
 
         ReflectionTestUtils.setField(edgarFilingReader, "startDate", "2024-01-15");
         ReflectionTestUtils.setField(edgarFilingReader, "endDate", "2024-01-15");
 
-        assertDoesNotThrow(() -> {
-            String item = edgarFilingReader.read();
-            assertNull(item);
-        });
+        assertThrows(SecApiException.class, () -> edgarFilingReader.read());
+
+        ExecutionContext executionContext = new ExecutionContext();
+        edgarFilingReader.update(executionContext);
+        assertFalse(executionContext.containsKey(EdgarFilingReader.CURRENT_DATE_KEY));
+    }
+
+    @DisplayName("EdgarFilingReader should resume from the position saved in the execution context")
+    @Test
+    void testEdgarFilingReaderResumesFromExecutionContext() throws Exception {
+        String accessionNumber1 = "0001234567-24-000001";
+        String accessionNumber2 = "0000789019-24-000002";
+        when(secApiClient.fetchDailyMasterIndex(LocalDate.of(2024, 1, 15)))
+                .thenReturn(Optional.of(createMasterIndex(accessionNumber1, accessionNumber2)));
+
+        ReflectionTestUtils.setField(edgarFilingReader, "startDate", "2024-01-15");
+        ReflectionTestUtils.setField(edgarFilingReader, "endDate", "2024-01-16");
+
+        ExecutionContext executionContext = new ExecutionContext();
+        assertEquals(accessionNumber1, edgarFilingReader.read());
+        edgarFilingReader.update(executionContext);
+
+        assertEquals("2024-01-15", executionContext.getString(EdgarFilingReader.CURRENT_DATE_KEY));
+        assertEquals(1, executionContext.getInt(EdgarFilingReader.OFFSET_KEY));
+        assertEquals(0.25, executionContext.getDouble(EdgarFilingReader.PROGRESS_KEY), 1e-9);
+
+        EdgarFilingReader restarted = new EdgarFilingReader(secApiClient);
+        ReflectionTestUtils.setField(restarted, "startDate", "2024-01-15");
+        ReflectionTestUtils.setField(restarted, "endDate", "2024-01-16");
+        restarted.open(executionContext);
+
+        assertEquals(accessionNumber2, restarted.read());
+        verify(secApiClient, times(2)).fetchDailyMasterIndex(LocalDate.of(2024, 1, 15));
+    }
+
+    @DisplayName("FilingDatePartitioner should split the date range into day or week partitions")
+    @Test
+    void testFilingDatePartitioner() {
+        FilingDatePartitioner partitioner = new FilingDatePartitioner();
+        ReflectionTestUtils.setField(partitioner, "startDate", "2024-01-01");
+        ReflectionTestUtils.setField(partitioner, "endDate", "2024-01-10");
+
+        Map<String, ExecutionContext> daily = partitioner.partition(4);
+
+        ReflectionTestUtils.setField(partitioner, "partitionDays", "7");
+        Map<String, ExecutionContext> weekly = partitioner.partition(4);
+
+        assertEquals(10, daily.size());
+        assertEquals("2024-01-03", daily.get("filings-2024-01-03").getString(FilingDatePartitioner.PARTITION_START));
+        assertEquals("2024-01-03", daily.get("filings-2024-01-03").getString(FilingDatePartitioner.PARTITION_END));
+        assertEquals(2, weekly.size());
+        assertEquals("2024-01-07", weekly.get("filings-2024-01-01").getString(FilingDatePartitioner.PARTITION_END));
+        assertEquals("2024-01-10", weekly.get("filings-2024-01-08").getString(FilingDatePartitioner.PARTITION_END));
     }
 
     @DisplayName("Form4DocumentProcessor should process accession numbers correctly")
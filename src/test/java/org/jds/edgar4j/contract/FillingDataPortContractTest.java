@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.jds.edgar4j.TestFixtures;
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.repository.FillingRepository.CikFilingCount;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +28,23 @@ abstract class FillingDataPortContractTest {
         assertEquals("10-K", port().findByAccessionNumber(filling.getAccessionNumber()).orElseThrow().getFormType().getNumber());
     }
 
+    @Test
+    void findByAccessionNumberIn_returnsOnlyStoredMatches() {
+        port().saveAll(List.of(
+                TestFixtures.createTestFilling("0000320193-24-000001", "0000320193", "10-K", LocalDate.of(2024, 2, 1)),
+                TestFixtures.createTestFilling("0000320193-24-000002", "0000320193", "8-K", LocalDate.of(2024, 2, 2)),
+                TestFixtures.createTestFilling("0000789019-24-000001", "0000789019", "8-K", LocalDate.of(2024, 2, 3))));
+
+        List<String> accessionNumbers = port().findByAccessionNumberIn(List.of("0000320193-24-000002", "0000789019-24-000001", "missing"))
+                .stream()
+                .map(Filling::getAccessionNumber)
+                .sorted()
+                .toList();
+
+        assertEquals(List.of("0000320193-24-000002", "0000789019-24-000001"), accessionNumbers);
+        assertTrue(port().findByAccessionNumberIn(List.of()).isEmpty());
+    }
+
     @Test
     void findByCik_supportsPagination() {
         for (int index = 0; index < 6; index++) {
@@ -132,4 +152,23 @@ abstract class FillingDataPortContractTest {
         assertEquals(1, page.getTotalElements());
         assertTrue(page.getContent().get(0).isXBRL());
     }
+
+    @Test
+    void countFilingsByCik_groupsWithLatestCompanyName() {
+        Filling older = TestFixtures.createTestFilling("0000320193-24-000001", "0000320193", "10-K", LocalDate.of(2024, 1, 5));
+        older.setCompany("Apple Computer Inc.");
+        Filling newer = TestFixtures.createTestFilling("0000320193-24-000002", "0000320193", "8-K", LocalDate.of(2024, 2, 5));
+        newer.setCompany("Apple Inc.");
+        Filling other = TestFixtures.createTestFilling("0000789019-24-000001", "0000789019", "8-K", LocalDate.of(2024, 2, 2));
+        other.setCompany("Microsoft Corp.");
+        port().saveAll(List.of(older, newer, other));
+
+        Map<String, CikFilingCount> counts = port().countFilingsByCik().stream()
+                .collect(Collectors.toMap(CikFilingCount::getId, count -> count));
+
+        assertEquals(2, counts.size());
+        assertEquals(2L, counts.get("0000320193").getFilingCount());
+        assertEquals("Apple Inc.", counts.get("0000320193").getCompany());
+        assertEquals(1L, counts.get("0000789019").getFilingCount());
+    }
 }
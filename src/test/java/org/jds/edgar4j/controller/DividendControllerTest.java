@@ -3,6 +3,7 @@ package org.jds.edgar4j.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import org.jds.edgar4j.dto.response.ApiResponse;
@@ -19,6 +20,7 @@ import org.jds.edgar4j.dto.request.DividendScreenRequest;
 import org.jds.edgar4j.dto.response.DividendScreenResponse;
 import org.jds.edgar4j.dto.response.DividendSyncStatusResponse;
 import org.jds.edgar4j.model.DividendAnalysisSnapshot;
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.service.DividendAnalysisService;
 import org.jds.edgar4j.service.DividendQualityService;
 import org.jds.edgar4j.service.DividendReconciliationService;
@@ -375,4 +377,39 @@ class DividendControllerTest {
         assertEquals(true, response.getBody().isSuccess());
         assertSame(evidence, response.getBody().getData());
     }
+
+    @Test
+    @DisplayName("startSyncRun should accept a new run with the default message")
+    void startSyncRunShouldAcceptNewRun() {
+        when(dividendSyncService.startTrackedSync(0, false, 8)).thenAnswer(invocation -> DividendSyncRun.builder()
+                .id("run-new")
+                .startedAt(java.time.Instant.now())
+                .build());
+
+        ResponseEntity<ApiResponse<DividendSyncRun>> response = dividendController.startSyncRun(0, false, 8);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("run-new", response.getBody().getData().getId());
+        assertEquals("Success", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("startSyncRun should say the requested settings were not applied when an existing run continues")
+    void startSyncRunShouldFlagIgnoredSettingsForExistingRun() {
+        DividendSyncRun existing = DividendSyncRun.builder()
+                .id("run-old")
+                .startedAt(java.time.Instant.parse("2026-01-01T00:00:00Z"))
+                .concurrency(4)
+                .build();
+        when(dividendSyncService.startTrackedSync(50, true, 12)).thenReturn(existing);
+
+        ResponseEntity<ApiResponse<DividendSyncRun>> response = dividendController.startSyncRun(50, true, 12);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertSame(existing, response.getBody().getData());
+        assertTrue(response.getBody().getMessage().contains("run-old"));
+        assertTrue(response.getBody().getMessage().contains("not applied"));
+    }
 }
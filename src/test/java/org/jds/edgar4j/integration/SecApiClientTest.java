@@ -1,6 +1,8 @@
 package org.jds.edgar4j.integration;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,13 +10,20 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.jds.edgar4j.service.SettingsService;
 import org.jds.edgar4j.storage.DownloadedResourceStore;
@@ -22,6 +31,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -29,6 +39,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class SecApiClientTest {
 
@@ -38,6 +50,9 @@ class SecApiClientTest {
     @Mock
     private DownloadedResourceStore downloadedResourceStore;
 
+    @TempDir
+    private Path tempDir;
+
     private HttpServer server;
 
     @AfterEach
@@ -69,7 +84,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -99,7 +114,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -128,7 +143,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -151,7 +166,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -179,7 +194,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -214,7 +229,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -250,7 +265,7 @@ class SecApiClientTest {
 
         SecApiClient client = new SecApiClient(
                 config,
-                new SecRateLimiter(1000),
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
                 settingsService,
                 downloadedResourceStore);
 
@@ -263,6 +278,122 @@ class SecApiClientTest {
         assertEquals("{\"frame\":\"CY2023Q4I\"}", response);
     }
 
+    @Test
+    @DisplayName("downloadBulkSubmissionsArchive should resume an interrupted transfer and revalidate with the ETag")
+    void downloadBulkSubmissionsArchiveShouldResumeAndRevalidate() throws Exception {
+        byte[] archive = zipArchive(4_096);
+        AtomicInteger fullResponses = new AtomicInteger();
+        AtomicInteger rangeResponses = new AtomicInteger();
+        AtomicInteger notModifiedResponses = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/bulk/submissions.zip", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else if (range != null && "\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-Range"))) {
+                rangeResponses.incrementAndGet();
+                int offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                exchange.getResponseHeaders().add(
+                        "Content-Range", "bytes " + offset + "-" + (archive.length - 1) + "/" + archive.length);
+                exchange.sendResponseHeaders(206, archive.length - offset);
+                exchange.getResponseBody().write(archive, offset, archive.length - offset);
+                exchange.close();
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.sendResponseHeaders(200, archive.length);
+                exchange.getResponseBody().write(archive, 0, archive.length / 2);
+                exchange.getResponseBody().flush();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        SecApiConfig config = new SecApiConfig();
+        ReflectionTestUtils.setField(config, "bulkSubmissionsFileUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/bulk/submissions.zip");
+        when(settingsService.getUserAgent()).thenReturn("My Company sec-ops@mycompany.com");
+
+        SecApiClient client = new SecApiClient(
+                config,
+                new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry()),
+                settingsService,
+                downloadedResourceStore);
+        Path target = tempDir.resolve("submissions.zip");
+
+        assertEquals(target, client.downloadBulkSubmissionsArchive(target));
+        assertArrayEquals(archive, Files.readAllBytes(target));
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, rangeResponses.get());
+        assertFalse(Files.exists(tempDir.resolve("submissions.zip.part")));
+        assertTrue(Files.readString(tempDir.resolve("submissions.zip.sha256")).endsWith("  submissions.zip" + System.lineSeparator()));
+
+        assertEquals(target, client.downloadBulkSubmissionsArchive(target));
+        assertEquals(1, notModifiedResponses.get());
+        assertArrayEquals(archive, Files.readAllBytes(target));
+        verify(downloadedResourceStore, never()).writeText(anyString(), anyString(), anyString(), any(Charset.class));
+    }
+
+    @Test
+    @DisplayName("downloadBulkSubmissionsArchive should wait for Retry-After when the SEC throttles")
+    void downloadBulkSubmissionsArchiveShouldHonorRetryAfter() throws Exception {
+        byte[] archive = zipArchive(1_024);
+        AtomicInteger requests = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/bulk/submissions.zip", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                writeResponse(exchange, 429, "slow down");
+                return;
+            }
+            exchange.sendResponseHeaders(200, archive.length);
+            exchange.getResponseBody().write(archive);
+            exchange.close();
+        });
+        server.start();
+
+        SecApiConfig config = new SecApiConfig();
+        ReflectionTestUtils.setField(config, "bulkSubmissionsFileUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/bulk/submissions.zip");
+        when(settingsService.getUserAgent()).thenReturn("My Company sec-ops@mycompany.com");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        SecApiClient client = new SecApiClient(
+                config,
+                new SecRequestScheduler(new SecRateLimiter(1000), meterRegistry),
+                settingsService,
+                downloadedResourceStore);
+        Path target = tempDir.resolve("submissions.zip");
+
+        assertEquals(target, client.downloadBulkSubmissionsArchive(target));
+        assertArrayEquals(archive, Files.readAllBytes(target));
+        assertEquals(2, requests.get());
+        assertEquals(1, meterRegistry.get("edgar4j.sec.bulk.download").tag("outcome", "downloaded").timer().count());
+    }
+
+    @Test
+    @DisplayName("bulk download retries should back off exponentially and cap Retry-After")
+    void bulkDownloadRetryDelayShouldBackOff() {
+        assertEquals(Duration.ofSeconds(1), BulkArchiveDownloader.retryDelay(new IOException("reset"), 1));
+        assertEquals(Duration.ofSeconds(4), BulkArchiveDownloader.retryDelay(new IOException("reset"), 3));
+        assertEquals(Duration.ofMinutes(5), BulkArchiveDownloader.retryDelay(new IOException("reset"), 30));
+    }
+
+    private byte[] zipArchive(int entrySize) throws IOException {
+        Random random = new Random(42);
+        byte[] content = new byte[entrySize];
+        random.nextBytes(content);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("CIK0000000001.json"));
+            zipOutputStream.write(content);
+            zipOutputStream.closeEntry();
+        }
+        return outputStream.toByteArray();
+    }
+
     private void writeResponse(HttpExchange exchange, int statusCode, String body) throws IOException {
         byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
         exchange.sendResponseHeaders(statusCode, bytes.length);
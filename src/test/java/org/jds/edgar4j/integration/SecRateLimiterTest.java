@@ -1,7 +1,18 @@
 package org.jds.edgar4j.integration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jds.edgar4j.integration.ratelimit.LocalTokenBucketStore;
+import org.jds.edgar4j.integration.ratelimit.TokenBucketStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -19,4 +30,179 @@ class SecRateLimiterTest {
 
         assertTrue(elapsedMillis >= 900L);
     }
+
+    @Test
+    @DisplayName("acquire should allow a burst up to the bucket capacity")
+    void acquireShouldAllowBurstUpToBucketCapacity() throws InterruptedException {
+        SecRateLimiter limiter = new SecRateLimiter(1, 3, 0.6, "", new LocalTokenBucketStore());
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 500L);
+        assertFalse(limiter.tryAcquire(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("queued realtime requests should be served before queued backfill")
+    void queuedRealtimeRequestsShouldBeServedBeforeBackfill() throws Exception {
+        SecRateLimiter limiter = new SecRateLimiter(20, 1, 0.6, "", new LocalTokenBucketStore());
+        limiter.acquire();
+
+        CompletableFuture<Void> backfill = limiter.acquireAsync("data.sec.gov", SecRateLimiter.Priority.BACKFILL);
+        CompletableFuture<Void> realtime = limiter.acquireAsync("efts.sec.gov", SecRateLimiter.Priority.REALTIME);
+
+        realtime.get(1, TimeUnit.SECONDS);
+        assertFalse(backfill.isDone());
+        backfill.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("hosts with their own budget should not wait on the shared SEC bucket")
+    void hostsWithTheirOwnBudgetShouldNotWaitOnTheSharedBucket() throws Exception {
+        SecRateLimiter limiter = new SecRateLimiter(1, 1, 0.6, "efts.sec.gov=5/2", new LocalTokenBucketStore());
+        limiter.acquire("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+
+        assertTrue(limiter.acquireAsync("efts.sec.gov", SecRateLimiter.Priority.REALTIME).isDone());
+        assertTrue(limiter.acquireAsync("efts.sec.gov", SecRateLimiter.Priority.REALTIME).isDone());
+        assertFalse(limiter.tryAcquire("data.sec.gov", SecRateLimiter.Priority.NORMAL, 50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("limiters sharing a token store should share one budget")
+    void limitersSharingATokenStoreShouldShareOneBudget() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        LocalTokenBucketStore sharedStore = new LocalTokenBucketStore(clock::get);
+        SecRateLimiter firstNode = new SecRateLimiter(10, 2, 0.6, "", sharedStore);
+        SecRateLimiter secondNode = new SecRateLimiter(10, 2, 0.6, "", sharedStore);
+
+        assertTrue(firstNode.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL).isDone());
+        assertTrue(firstNode.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL).isDone());
+        CompletableFuture<Void> waiting = secondNode.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+        assertFalse(waiting.isDone());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        waiting.get(1, TimeUnit.SECONDS);
+        assertEquals(0, secondNode.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("the default burst should keep every one-second window within the rate")
+    void defaultBurstShouldKeepEveryWindowWithinTheRate() {
+        AtomicLong clock = new AtomicLong();
+        SecRateLimiter limiter = new SecRateLimiter(10, 0, 0.6, "", new LocalTokenBucketStore(clock::get));
+        List<Long> grantedAtMillis = new ArrayList<>();
+
+        for (long millis = 0; millis < 3_000; millis++) {
+            clock.set(TimeUnit.MILLISECONDS.toNanos(millis));
+            while (true) {
+                CompletableFuture<Void> permit = limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+                if (!permit.isDone() && permit.cancel(false)) {
+                    break;
+                }
+                grantedAtMillis.add(millis);
+            }
+        }
+
+        assertTrue(grantedAtMillis.size() >= 25, "granted " + grantedAtMillis.size());
+        for (int first = 0; first < grantedAtMillis.size(); first++) {
+            long windowEnd = grantedAtMillis.get(first) + 1_000;
+            long inWindow = grantedAtMillis.stream()
+                    .filter(at -> at >= windowEnd - 1_000 && at < windowEnd)
+                    .count();
+            assertTrue(inWindow <= 10, inWindow + " requests in the window starting at " + (windowEnd - 1_000) + " ms");
+        }
+    }
+
+    @Test
+    @DisplayName("a token taken for a cancelled waiter should go back to the bucket")
+    void tokensTakenForCancelledWaitersShouldBeRefunded() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        LocalTokenBucketStore local = new LocalTokenBucketStore(clock::get);
+        AtomicReference<CompletableFuture<Void>> cancelOnTake = new AtomicReference<>();
+        TokenBucketStore store = new TokenBucketStore() {
+            @Override
+            public long tryTake(String bucket, double permitsPerSecond, int burst) {
+                long waitNanos = local.tryTake(bucket, permitsPerSecond, burst);
+                CompletableFuture<Void> waiter = cancelOnTake.get();
+                if (waitNanos == 0L && waiter != null) {
+                    waiter.cancel(false);
+                }
+                return waitNanos;
+            }
+
+            @Override
+            public int available(String bucket, double permitsPerSecond, int burst) {
+                return local.available(bucket, permitsPerSecond, burst);
+            }
+
+            @Override
+            public void refund(String bucket, double permitsPerSecond, int burst) {
+                local.refund(bucket, permitsPerSecond, burst);
+            }
+        };
+        SecRateLimiter limiter = new SecRateLimiter(10, 1, 0.6, "", store);
+        assertTrue(limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL).isDone());
+        CompletableFuture<Void> waiting = limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+        assertFalse(waiting.isDone());
+
+        cancelOnTake.set(waiting);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (limiter.getAvailablePermits() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(waiting.isCancelled());
+        assertEquals(1, limiter.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("a failing token store should not leave the queue stuck")
+    void storeFailuresShouldNotStickTheQueue() throws Exception {
+        LocalTokenBucketStore local = new LocalTokenBucketStore();
+        AtomicLong failures = new AtomicLong(1);
+        TokenBucketStore store = new TokenBucketStore() {
+            @Override
+            public long tryTake(String bucket, double permitsPerSecond, int burst) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("store unavailable");
+                }
+                return local.tryTake(bucket, permitsPerSecond, burst);
+            }
+
+            @Override
+            public int available(String bucket, double permitsPerSecond, int burst) {
+                return local.available(bucket, permitsPerSecond, burst);
+            }
+
+            @Override
+            public void refund(String bucket, double permitsPerSecond, int burst) {
+                local.refund(bucket, permitsPerSecond, burst);
+            }
+        };
+        SecRateLimiter limiter = new SecRateLimiter(10, 2, 0.6, "", store);
+
+        CompletableFuture<Void> first = limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+        CompletableFuture<Void> second = limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+
+        first.get(2, TimeUnit.SECONDS);
+        second.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("release should return an unused permit to the bucket")
+    void releaseShouldReturnUnusedPermit() {
+        AtomicLong clock = new AtomicLong();
+        SecRateLimiter limiter = new SecRateLimiter(10, 1, 0.6, "", new LocalTokenBucketStore(clock::get));
+        assertTrue(limiter.acquireAsync("www.sec.gov", SecRateLimiter.Priority.NORMAL).isDone());
+        assertEquals(0, limiter.getAvailablePermits());
+
+        limiter.release("www.sec.gov", SecRateLimiter.Priority.NORMAL);
+
+        assertEquals(1, limiter.getAvailablePermits());
+    }
 }
@@ -0,0 +1,93 @@
+package org.jds.edgar4j.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.edgar4j.exception.SecApiException;
+import org.jds.edgar4j.integration.ratelimit.LocalTokenBucketStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SecRequestSchedulerTest {
+
+    private static final String URL = "https://data.sec.gov/submissions/CIK0000320193.json";
+
+    @Test
+    @DisplayName("concurrent requests for the same URL should share one fetch")
+    void concurrentRequestsForTheSameUrlShouldShareOneFetch() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SecRequestScheduler scheduler = new SecRequestScheduler(new SecRateLimiter(1000), registry);
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger fetches = new AtomicInteger();
+
+        CompletableFuture<String> realtime = scheduler.submit(URL, SecRateLimiter.Priority.REALTIME, url -> {
+            fetches.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> interactive = scheduler.submit(URL, SecRateLimiter.Priority.INTERACTIVE, url -> {
+            fetches.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicate");
+        });
+        response.complete("{\"cik\":\"320193\"}");
+
+        assertEquals("{\"cik\":\"320193\"}", realtime.get(1, TimeUnit.SECONDS));
+        assertEquals("{\"cik\":\"320193\"}", interactive.get(1, TimeUnit.SECONDS));
+        assertEquals(1, fetches.get());
+        assertEquals(0, scheduler.inFlightCount());
+        assertEquals(1.0, registry.get("edgar4j.sec.requests").tag("result", "coalesced").counter().count());
+        assertEquals(1.0, registry.get("edgar4j.sec.requests").tag("result", "fetched").counter().count());
+    }
+
+    @Test
+    @DisplayName("a higher-priority caller should promote a queued fetch")
+    void higherPriorityCallerShouldPromoteQueuedFetch() throws Exception {
+        SecRateLimiter rateLimiter = new SecRateLimiter(1, 1, 0.6, "", new LocalTokenBucketStore());
+        SecRequestScheduler scheduler = new SecRequestScheduler(rateLimiter, new SimpleMeterRegistry());
+        rateLimiter.acquire();
+
+        CompletableFuture<String> backfill = scheduler.submit(
+                "https://www.sec.gov/Archives/edgar/data/320193/index.json",
+                SecRateLimiter.Priority.BACKFILL,
+                url -> CompletableFuture.completedFuture("backfill"));
+        AtomicInteger fetches = new AtomicInteger();
+        CompletableFuture<String> queued = scheduler.submit(URL, SecRateLimiter.Priority.BACKFILL, url -> {
+            fetches.incrementAndGet();
+            return CompletableFuture.completedFuture("submissions");
+        });
+        CompletableFuture<String> promoted = scheduler.submit(URL, SecRateLimiter.Priority.INTERACTIVE, url -> {
+            fetches.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicate");
+        });
+
+        assertEquals("submissions", promoted.get(2, TimeUnit.SECONDS));
+        assertEquals("submissions", queued.get(1, TimeUnit.SECONDS));
+        assertFalse(backfill.isDone());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("a failed fetch should fail every caller and allow a retry")
+    void failedFetchShouldFailEveryCallerAndAllowRetry() throws Exception {
+        SecRequestScheduler scheduler = new SecRequestScheduler(new SecRateLimiter(1000), new SimpleMeterRegistry());
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = scheduler.submit(URL, SecRateLimiter.Priority.NORMAL, url -> response);
+        CompletableFuture<String> second = scheduler.submit(URL, SecRateLimiter.Priority.NORMAL, url -> response);
+        response.completeExceptionally(new SecApiException("Rate limit exceeded. Please try again later."));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof SecApiException);
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals("retried", scheduler.submit(URL, SecRateLimiter.Priority.NORMAL,
+                url -> CompletableFuture.completedFuture("retried")).get(1, TimeUnit.SECONDS));
+    }
+}
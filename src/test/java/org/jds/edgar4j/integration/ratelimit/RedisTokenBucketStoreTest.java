@@ -0,0 +1,112 @@
+package org.jds.edgar4j.integration.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs the token bucket Lua script against a real Redis server.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenBucketStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisTokenBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = new RedisTokenBucketStore(redisTemplate, new FailingStore());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("tryTake should hand out the burst and then report the wait until the next token")
+    void tryTakeShouldHandOutBurstThenReportWait() {
+        assertEquals(0L, store.tryTake("sec", 10, 2));
+        assertEquals(0L, store.tryTake("sec", 10, 2));
+
+        long waitNanos = store.tryTake("sec", 10, 2);
+
+        assertTrue(waitNanos > 0L && waitNanos <= TimeUnit.MILLISECONDS.toNanos(100), "wait " + waitNanos);
+        assertEquals(0, store.available("sec", 10, 2));
+    }
+
+    @Test
+    @DisplayName("refund should return a token without exceeding the burst")
+    void refundShouldReturnTokenUpToBurst() {
+        assertEquals(0L, store.tryTake("sec", 1, 1));
+        assertTrue(store.tryTake("sec", 1, 1) > 0L);
+
+        store.refund("sec", 1, 1);
+        store.refund("sec", 1, 1);
+
+        assertEquals(1, store.available("sec", 1, 1));
+        assertEquals(0L, store.tryTake("sec", 1, 1));
+        assertTrue(store.tryTake("sec", 1, 1) > 0L);
+    }
+
+    @Test
+    @DisplayName("bucket state should live under the shared key prefix with an expiry")
+    void bucketStateShouldBeSharedAndExpire() {
+        RedisTokenBucketStore otherNode = new RedisTokenBucketStore(redisTemplate, new FailingStore());
+
+        assertEquals(0L, store.tryTake("efts.sec.gov", 5, 1));
+        assertTrue(otherNode.tryTake("efts.sec.gov", 5, 1) > 0L);
+
+        Long ttl = redisTemplate.getExpire(RedisTokenBucketStore.KEY_PREFIX + "efts.sec.gov", TimeUnit.MILLISECONDS);
+        assertTrue(ttl != null && ttl > 0L && ttl <= 1_200L, "ttl " + ttl);
+    }
+
+    /**
+     * Fails the test if the store falls back, which would mean the script never ran.
+     */
+    private static final class FailingStore implements TokenBucketStore {
+
+        @Override
+        public long tryTake(String bucket, double permitsPerSecond, int burst) {
+            throw new AssertionError("Redis script did not run");
+        }
+
+        @Override
+        public int available(String bucket, double permitsPerSecond, int burst) {
+            throw new AssertionError("Redis script did not run");
+        }
+
+        @Override
+        public void refund(String bucket, double permitsPerSecond, int burst) {
+            throw new AssertionError("Redis script did not run");
+        }
+    }
+}
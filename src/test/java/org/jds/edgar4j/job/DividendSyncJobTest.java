@@ -20,7 +20,7 @@ class DividendSyncJobTest {
     @Test
     @DisplayName("syncTrackedCompanies should skip execution when the job is disabled")
     void syncTrackedCompaniesShouldSkipWhenDisabled() {
-        DividendSyncJob job = new DividendSyncJob(dividendSyncService, false, 25, false);
+        DividendSyncJob job = new DividendSyncJob(dividendSyncService, false, 25, false, 8);
 
         job.syncTrackedCompanies();
 
@@ -31,11 +31,11 @@ class DividendSyncJobTest {
     @Test
     @DisplayName("syncTrackedCompanies should invoke the sync service when enabled")
     void syncTrackedCompaniesShouldInvokeSyncServiceWhenEnabled() {
-        DividendSyncJob job = new DividendSyncJob(dividendSyncService, true, 12, true);
+        DividendSyncJob job = new DividendSyncJob(dividendSyncService, true, 12, true, 4);
 
         job.syncTrackedCompanies();
 
-        verify(dividendSyncService).syncTrackedCompanies(12, true);
+        verify(dividendSyncService).runTrackedSync(12, true, 4);
         assertFalse(job.isRunning());
     }
 }
@@ -12,10 +12,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jds.edgar4j.integration.SecAccessDiagnostics;
 import org.jds.edgar4j.integration.SecApiClient;
@@ -32,6 +36,7 @@ import org.jds.edgar4j.model.Form8K;
 import org.jds.edgar4j.model.FormType;
 import org.jds.edgar4j.port.AppSettingsDataPort;
 import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.properties.StorageProperties;
 import org.jds.edgar4j.service.DownloadSubmissionsService;
 import org.jds.edgar4j.service.Form13DGService;
 import org.jds.edgar4j.service.Form13FService;
@@ -44,11 +49,14 @@ import org.jds.edgar4j.service.Form8KService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class RealtimeFilingSyncJobTest {
 
@@ -88,6 +96,9 @@ class RealtimeFilingSyncJobTest {
     @Mock
     private Form20FService form20FService;
 
+    @TempDir
+    Path stateDirectory;
+
     @Test
     @DisplayName("syncRecentFilings should skip execution when realtime sync is disabled")
     void syncRecentFilingsShouldSkipWhenDisabled() {
@@ -208,6 +219,60 @@ class RealtimeFilingSyncJobTest {
         assertEquals(1, job.getLastSyncTotalScanned());
     }
 
+    @Test
+    @DisplayName("syncRecentFilings should download hits concurrently instead of one after another")
+    void syncRecentFilingsShouldDownloadHitsConcurrently() {
+        String firstAccession = "0000320193-24-000001";
+        String secondAccession = "0000789019-24-000002";
+        when(appSettingsRepository.findById("default")).thenReturn(Optional.of(
+                AppSettings.builder()
+                        .realtimeSyncEnabled(Boolean.TRUE)
+                        .realtimeSyncForms("4")
+                        .realtimeSyncMaxPages(1)
+                        .realtimeSyncPageSize(50)
+                        .build()));
+        when(secApiClient.fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(0), eq(50)))
+                .thenReturn("""
+                        {"hits":{"total":{"value":2,"relation":"eq"},"hits":[
+                          {"_id":"000032019324000001","_source":{"form_type":"4","entity_id":["320193"]}},
+                          {"_id":"000078901924000002","_source":{"form_type":"4","entity_id":["789019"]}}
+                        ]}}
+                        """);
+        for (String accession : List.of(firstAccession, secondAccession)) {
+            when(fillingRepository.findByAccessionNumber(accession)).thenReturn(Optional.of(
+                    Filling.builder()
+                            .accessionNumber(accession)
+                            .formType(FormType.builder().number("4").build())
+                            .primaryDocument("doc4.xml")
+                            .build()));
+            when(form4Service.existsByAccessionNumber(accession)).thenReturn(false);
+        }
+        CountDownLatch bothDownloading = new CountDownLatch(2);
+        when(form4Service.downloadAndParseForm4(any(), any(), eq("doc4.xml"))).thenAnswer(invocation -> {
+            bothDownloading.countDown();
+            String accession = invocation.getArgument(1);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return bothDownloading.await(5, TimeUnit.SECONDS)
+                            ? Form4.builder().accessionNumber(accession).build()
+                            : null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            });
+        });
+        when(form4Service.save(any(Form4.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RealtimeFilingSyncJob job = createJob();
+
+        job.syncRecentFilings();
+
+        verify(form4Service, times(2)).save(any(Form4.class));
+        assertEquals(2, job.getLastSyncNewCount());
+        assertFalse(job.isRunning());
+    }
+
     @Test
     @DisplayName("syncRecentFilings should skip duplicate or already-ingested accessions")
     void syncRecentFilingsShouldSkipDuplicateOrExistingAccessions() {
@@ -244,6 +309,61 @@ class RealtimeFilingSyncJobTest {
         assertEquals(2, job.getLastSyncTotalScanned());
     }
 
+    @Test
+    @DisplayName("syncRecentFilings should skip filings processed by an earlier run and stop paging behind the cursor")
+    void syncRecentFilingsShouldSkipFilingsProcessedByAnEarlierRun() {
+        String newer = "0000320193-24-000001";
+        String older = "0000320193-24-000002";
+        when(appSettingsRepository.findById("default")).thenReturn(Optional.of(
+                AppSettings.builder()
+                        .realtimeSyncEnabled(Boolean.TRUE)
+                        .realtimeSyncForms("4")
+                        .realtimeSyncMaxPages(3)
+                        .realtimeSyncPageSize(1)
+                        .build()));
+        when(secApiClient.fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(0), eq(1)))
+                .thenReturn("""
+                        {"hits":{"total":{"value":2,"relation":"eq"},"hits":[
+                          {"_id":"000032019324000001","_source":{"form_type":"4","file_date":"2024-03-12","entity_id":["320193"]}}
+                        ]}}
+                        """);
+        when(secApiClient.fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(1), eq(1)))
+                .thenReturn("""
+                        {"hits":{"total":{"value":2,"relation":"eq"},"hits":[
+                          {"_id":"000032019324000002","_source":{"form_type":"4","file_date":"2024-03-10","entity_id":["320193"]}}
+                        ]}}
+                        """);
+        when(secApiClient.fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(2), eq(1)))
+                .thenReturn("{\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":[]}}");
+        for (String accessionNumber : List.of(newer, older)) {
+            when(fillingRepository.findByAccessionNumber(accessionNumber)).thenReturn(Optional.of(
+                    Filling.builder()
+                            .accessionNumber(accessionNumber)
+                            .cik("0000320193")
+                            .formType(FormType.builder().number("4").build())
+                            .primaryDocument("doc4.xml")
+                            .build()));
+            when(form4Service.downloadAndParseForm4("0000320193", accessionNumber, "doc4.xml"))
+                    .thenReturn(CompletableFuture.completedFuture(
+                            Form4.builder().accessionNumber(accessionNumber).build()));
+        }
+        when(form4Service.save(any(Form4.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        createJob().syncRecentFilings();
+        RealtimeFilingSyncJob restarted = createJob();
+        restarted.syncRecentFilings();
+
+        // Page 0 is on the cursor date, so paging continues; page 1 is entirely older and ends it.
+        verify(secApiClient, times(2)).fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(0), eq(1));
+        verify(secApiClient, times(2)).fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(1), eq(1));
+        verify(secApiClient, times(1)).fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(2), eq(1));
+        verify(fillingRepository, times(1)).findByAccessionNumber(newer);
+        verify(fillingRepository, times(1)).findByAccessionNumber(older);
+        verify(form4Service, times(2)).save(any(Form4.class));
+        assertEquals(0, restarted.getLastSyncNewCount());
+        assertEquals(2, restarted.getLastSyncTotalScanned());
+    }
+
     @Test
     @DisplayName("syncRecentFilings should use an hour-based start date instead of rounding the lookback to full days")
     void syncRecentFilingsShouldUseHourBasedStartDate() {
@@ -276,6 +396,31 @@ class RealtimeFilingSyncJobTest {
         assertEquals(0, job.getLastSyncTotalScanned());
     }
 
+    @Test
+    @DisplayName("syncRecentFilings should catch up from the day the last completed run started")
+    void syncRecentFilingsShouldCatchUpFromLastCompletedRun() {
+        when(appSettingsRepository.findById("default")).thenReturn(Optional.of(
+                AppSettings.builder()
+                        .realtimeSyncEnabled(Boolean.TRUE)
+                        .realtimeSyncForms("4")
+                        .realtimeSyncLookbackHours(1)
+                        .realtimeSyncMaxPages(1)
+                        .realtimeSyncPageSize(10)
+                        .build()));
+        when(secApiClient.fetchEftsSearch(eq("4"), any(LocalDate.class), any(LocalDate.class), eq(0), eq(10)))
+                .thenReturn("{\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"hits\":[]}}");
+        RealtimeFilingSyncJob first = spy(createJob());
+        doReturn(LocalDateTime.of(2026, 3, 12, 15, 30)).when(first).currentDateTime();
+        first.syncRecentFilings();
+
+        RealtimeFilingSyncJob restarted = spy(createJob());
+        doReturn(LocalDateTime.of(2026, 3, 14, 9, 0)).when(restarted).currentDateTime();
+        restarted.syncRecentFilings();
+
+        verify(secApiClient).fetchEftsSearch("4", LocalDate.of(2026, 3, 12), LocalDate.of(2026, 3, 12), 0, 10);
+        verify(secApiClient).fetchEftsSearch("4", LocalDate.of(2026, 3, 12), LocalDate.of(2026, 3, 14), 0, 10);
+    }
+
     @Test
     @DisplayName("syncRecentFilings should enter cooldown after an SEC automation block")
     void syncRecentFilingsShouldEnterCooldownAfterSecAutomationBlock() {
@@ -315,6 +460,8 @@ class RealtimeFilingSyncJobTest {
                 form13FService,
                 form20FService,
                                 new ObjectMapper(),
+                                storageProperties(),
+                                new SimpleMeterRegistry(),
                                 true,
                                 "4",
                                 1,
@@ -322,4 +469,10 @@ class RealtimeFilingSyncJobTest {
                                 100,
                                 10);
     }
+
+    private StorageProperties storageProperties() {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setRealtimeSyncStatePath(stateDirectory.toString());
+        return storageProperties;
+    }
 }
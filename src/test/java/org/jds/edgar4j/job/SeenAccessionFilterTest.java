@@ -0,0 +1,78 @@
+package org.jds.edgar4j.job;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeenAccessionFilterTest {
+
+    @Test
+    @DisplayName("added accessions should always be reported as seen")
+    void addedAccessionsShouldAlwaysBeReportedAsSeen() {
+        SeenAccessionFilter filter = new SeenAccessionFilter(10_000, 1.0e-6);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(accession(i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(accession(i)));
+        }
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(accession(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives <= 2);
+    }
+
+    @Test
+    @DisplayName("a full generation should be kept for one more generation and then dropped")
+    void fullGenerationShouldBeKeptForOneMoreGenerationThenDropped() {
+        SeenAccessionFilter filter = new SeenAccessionFilter(2, 1.0e-6);
+        filter.add(accession(1));
+        filter.add(accession(2));
+        filter.add(accession(3));
+        filter.add(accession(4));
+
+        assertTrue(filter.mightContain(accession(1)));
+        assertTrue(filter.mightContain(accession(4)));
+
+        filter.add(accession(5));
+
+        assertFalse(filter.mightContain(accession(1)));
+        assertTrue(filter.mightContain(accession(3)));
+        assertTrue(filter.mightContain(accession(5)));
+    }
+
+    @Test
+    @DisplayName("a written filter should read back with the same contents")
+    void writtenFilterShouldReadBackWithTheSameContents() throws IOException {
+        SeenAccessionFilter filter = new SeenAccessionFilter(1_000, 1.0e-6);
+        filter.add("0000320193-24-000001");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            filter.writeTo(output);
+        }
+
+        SeenAccessionFilter restored = new SeenAccessionFilter(1_000, 1.0e-6);
+        SeenAccessionFilter resized = new SeenAccessionFilter(2_000, 1.0e-6);
+
+        assertTrue(restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertTrue(restored.mightContain("0000320193-24-000001"));
+        assertFalse(resized.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertFalse(resized.mightContain("0000320193-24-000001"));
+    }
+
+    private static String accession(int sequence) {
+        return String.format("0000320193-24-%06d", sequence);
+    }
+}
@@ -0,0 +1,184 @@
+package org.jds.edgar4j.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InvertedFilingIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("search should intersect terms, expand prefixes and apply doc-value filters")
+    void searchShouldIntersectTermsAndApplyFilters() {
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        index.index(document("1", "0000000001", "10-K", "2024-01-15", "Acme Corporation annual report"));
+        index.index(document("2", "0000000001", "8-K", "2024-02-15", "Acme Corporation current report"));
+        index.index(document("3", "0000000002", "10-K", "2024-03-15", "Other annual report"));
+
+        assertThat(ids(index.search(query(List.of("acme", "report")), InvertedFilingIndex.Order.DATE_DESC, 0, 10)))
+                .containsExactly("2", "1");
+        assertThat(ids(index.search(query(List.of("annu")), InvertedFilingIndex.Order.DATE_ASC, 0, 10)))
+                .containsExactly("1", "3");
+        assertThat(ids(index.search(
+                new InvertedFilingIndex.Query(List.of("report"), Set.of("10-k"), Set.of("0000000002"), null, null),
+                InvertedFilingIndex.Order.RELEVANCE,
+                0,
+                10)))
+                .containsExactly("3");
+        assertThat(ids(index.search(
+                new InvertedFilingIndex.Query(List.of(), Set.of(), Set.of(), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 28)),
+                InvertedFilingIndex.Order.DATE_DESC,
+                0,
+                10)))
+                .containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("search should page through a bounded window and report the full match count")
+    void searchShouldPageWithTotalCount() {
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        for (int i = 1; i <= 50; i++) {
+            index.index(document(String.valueOf(i), "0000000001", "4", LocalDate.of(2024, 1, 1).plusDays(i).toString(), "insider trade"));
+        }
+
+        InvertedFilingIndex.Hits hits = index.search(query(List.of("insider")), InvertedFilingIndex.Order.DATE_DESC, 10, 5);
+
+        assertThat(hits.total()).isEqualTo(50);
+        assertThat(ids(hits)).containsExactly("40", "39", "38", "37", "36");
+    }
+
+    @Test
+    @DisplayName("updates should replace previous postings and survive compaction")
+    void updatesShouldReplacePreviousPostings() {
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1_000; i++) {
+                index.index(document("doc-" + i, "0000000001", "10-Q", "2024-01-01", "round" + round + " quarterly"));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1_000);
+        assertThat(index.search(query(List.of("round0")), InvertedFilingIndex.Order.RELEVANCE, 0, 10).total()).isZero();
+        assertThat(index.search(query(List.of("round2")), InvertedFilingIndex.Order.RELEVANCE, 0, 10).total()).isEqualTo(1_000);
+
+        index.remove("doc-7");
+
+        assertThat(index.search(query(List.of("quarterly")), InvertedFilingIndex.Order.RELEVANCE, 0, 10).total()).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("save and load should round-trip postings and doc-values")
+    void saveAndLoadShouldRoundTrip() {
+        Path file = tempDir.resolve("search").resolve("fillings.idx");
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        index.index(document("1", "0000000001", "10-K", "2024-01-15", "Acme annual report"));
+        index.index(document("2", "0000000002", "8-K", "2024-02-15", "Beta current report"));
+        index.index(document("3", "0000000003", "8-K", "2024-03-15", "Gamma current report"));
+        index.remove("3");
+        index.save(file);
+
+        InvertedFilingIndex restored = new InvertedFilingIndex();
+
+        assertThat(restored.load(file)).isTrue();
+        assertThat(restored.isDirty()).isFalse();
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(ids(restored.search(query(List.of("report")), InvertedFilingIndex.Order.DATE_DESC, 0, 10)))
+                .containsExactly("2", "1");
+        assertThat(ids(restored.search(
+                new InvertedFilingIndex.Query(List.of(), Set.of("10-K"), Set.of(), null, null),
+                InvertedFilingIndex.Order.DATE_DESC,
+                0,
+                10)))
+                .containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("prefix terms should match every token they prefix")
+    void prefixTermsShouldNotCapExpansions() {
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        for (int i = 0; i < 300; i++) {
+            index.index(document(String.valueOf(i), "0000000001", "8-K", "2024-01-01", "inc" + i + " filler"));
+        }
+
+        assertThat(index.search(query(List.of("inc")), InvertedFilingIndex.Order.RELEVANCE, 0, 10).total()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("relevance should ignore tombstoned documents when weighting terms")
+    void relevanceShouldIgnoreTombstones() {
+        InvertedFilingIndex fresh = new InvertedFilingIndex();
+        InvertedFilingIndex tombstoned = new InvertedFilingIndex();
+        for (int i = 1; i <= 8; i++) {
+            fresh.index(document(String.valueOf(i), "0000000001", "8-K", "2024-01-01", "filler text"));
+            tombstoned.index(document(String.valueOf(i), "0000000001", "8-K", "2024-01-01", "filler text"));
+        }
+        fresh.index(document("9", "0000000001", "8-K", "2024-01-01", "rare text"));
+        tombstoned.index(document("9", "0000000001", "8-K", "2024-01-01", "rare text"));
+        tombstoned.index(document("10", "0000000001", "8-K", "2024-01-01", "rare text"));
+        tombstoned.remove("10");
+
+        double expected = fresh.search(query(List.of("rare")), InvertedFilingIndex.Order.RELEVANCE, 0, 1).hits().get(0).score();
+        double actual = tombstoned.search(query(List.of("rare")), InvertedFilingIndex.Order.RELEVANCE, 0, 1).hits().get(0).score();
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("fingerprint should follow document content and survive save and load")
+    void fingerprintShouldTrackContent() {
+        Path file = tempDir.resolve("fingerprint.idx");
+        FilingIndexDocument original = document("1", "0000000001", "10-K", "2024-01-15", "Acme annual report");
+        FilingIndexDocument amended = document("1", "0000000001", "10-K", "2024-01-15", "Acme amended report");
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        index.index(original);
+        index.index(document("2", "0000000002", "8-K", "2024-02-15", "Beta current report"));
+        long before = index.fingerprint();
+
+        index.index(amended);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.fingerprint()).isNotEqualTo(before)
+                .isEqualTo(InvertedFilingIndex.documentHash(amended)
+                        + InvertedFilingIndex.documentHash(document("2", "0000000002", "8-K", "2024-02-15", "Beta current report")));
+
+        index.save(file);
+        InvertedFilingIndex restored = new InvertedFilingIndex();
+
+        assertThat(restored.load(file)).isTrue();
+        assertThat(restored.fingerprint()).isEqualTo(index.fingerprint());
+    }
+
+    @Test
+    @DisplayName("load should reject missing or foreign files")
+    void loadShouldRejectMissingOrForeignFiles() throws Exception {
+        InvertedFilingIndex index = new InvertedFilingIndex();
+        Path foreign = tempDir.resolve("foreign.idx");
+        Files.writeString(foreign, "not an index");
+
+        assertThat(index.load(tempDir.resolve("missing.idx"))).isFalse();
+        assertThat(index.load(foreign)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    private InvertedFilingIndex.Query query(List<String> terms) {
+        return new InvertedFilingIndex.Query(terms, Set.of(), Set.of(), null, null);
+    }
+
+    private List<String> ids(InvertedFilingIndex.Hits hits) {
+        return hits.hits().stream().map(InvertedFilingIndex.Hit::id).toList();
+    }
+
+    private FilingIndexDocument document(String id, String cik, String formType, String date, String content) {
+        return new FilingIndexDocument(id, cik, formType, LocalDate.parse(date), content.toLowerCase());
+    }
+}
@@ -0,0 +1,80 @@
+package org.jds.edgar4j.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixSuggesterTest {
+
+    @Test
+    @DisplayName("suggest should rank by weight, then shorter keys, then alphabetically")
+    void suggestShouldRankByWeight() {
+        PrefixSuggester suggester = PrefixSuggester.builder()
+                .add("Apple Inc.", 50)
+                .add("Applied Materials", 50)
+                .add("AAPL", 50)
+                .add("Apollo Global", 80)
+                .add("Microsoft", 100)
+                .build();
+
+        assertThat(suggester.suggest("ap", 10)).containsExactly("Apollo Global", "Apple Inc.", "Applied Materials");
+        assertThat(suggester.suggest("A", 2)).containsExactly("Apollo Global", "AAPL");
+        assertThat(suggester.suggest("zz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("builder should merge values that normalize to the same key")
+    void builderShouldMergeNormalizedDuplicates() {
+        PrefixSuggester suggester = PrefixSuggester.builder()
+                .add("APPLE  INC", 3)
+                .add("Apple Inc", 7)
+                .add("apple inc", 1)
+                .build();
+
+        assertThat(suggester.size()).isEqualTo(1);
+        assertThat(suggester.suggest("apple i", 5)).containsExactly("Apple Inc");
+    }
+
+    @Test
+    @DisplayName("cached heavy-node results should match a brute-force ranking")
+    void cachedResultsShouldMatchBruteForce() {
+        Random random = new Random(42);
+        PrefixSuggester.Builder builder = PrefixSuggester.builder();
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String value = "c" + Integer.toString(random.nextInt(200_000), 36) + " holdings";
+            long weight = random.nextInt(1_000);
+            builder.add(value, weight);
+            entries.removeIf(entry -> entry.key().equals(value) && entry.weight() < weight);
+            if (entries.stream().noneMatch(entry -> entry.key().equals(value))) {
+                entries.add(new Entry(value, weight));
+            }
+        }
+        PrefixSuggester suggester = builder.build();
+
+        for (String prefix : List.of("", "c", "c1", "c2", "ca", "c1a")) {
+            for (int limit : List.of(5, 16, 40)) {
+                List<String> expected = entries.stream()
+                        .filter(entry -> entry.key().startsWith(prefix))
+                        .sorted(Comparator.comparingLong(Entry::weight).reversed()
+                                .thenComparingInt(entry -> entry.key().length())
+                                .thenComparing(Entry::key))
+                        .limit(limit)
+                        .map(Entry::key)
+                        .toList();
+
+                assertThat(suggester.suggest(prefix, limit)).as("prefix '%s' limit %d", prefix, limit)
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private record Entry(String key, long weight) {
+    }
+}
@@ -0,0 +1,112 @@
+package org.jds.edgar4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.jds.edgar4j.TestFixtures;
+import org.jds.edgar4j.model.Form4;
+import org.jds.edgar4j.model.InsiderTransactionFact;
+import org.jds.edgar4j.port.Form4DataPort;
+import org.jds.edgar4j.port.InsiderTransactionFactDataPort;
+import org.jds.edgar4j.storage.BackfillProgressStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class InsiderTransactionFactIndexerTest {
+
+    private static final String BACKFILL = "insider-transaction-facts";
+
+    @Mock
+    private InsiderTransactionFactDataPort factRepository;
+
+    @Mock
+    private Form4DataPort form4Repository;
+
+    @Mock
+    private BackfillProgressStore backfillProgressStore;
+
+    private InsiderTransactionFactIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new InsiderTransactionFactIndexer(factRepository, form4Repository, backfillProgressStore);
+    }
+
+    @Test
+    @DisplayName("backfill should resume after the recorded cursor, record each page and mark completion")
+    void backfillShouldResumeAfterCursorAndMarkCompletion() {
+        Form4 second = TestFixtures.createTestForm4("0000320193-24-000002", "AAPL");
+        Form4 third = TestFixtures.createTestForm4("0000320193-24-000003", "AAPL");
+        when(backfillProgressStore.isComplete(BACKFILL)).thenReturn(false);
+        when(backfillProgressStore.read(BACKFILL)).thenReturn(Optional.of("form4-0000320193-24-000001"));
+        when(form4Repository.findByIdGreaterThan(any(String.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(second, third), PageRequest.of(0, 500), false));
+        when(factRepository.findByAccessionNumber(any())).thenReturn(List.of());
+
+        assertEquals(2, indexer.backfill());
+
+        verify(form4Repository).findByIdGreaterThan(any(String.class), any(Pageable.class));
+        verify(form4Repository, never()).findAll(any(Pageable.class));
+        InOrder progress = inOrder(backfillProgressStore);
+        progress.verify(backfillProgressStore).write(BACKFILL, third.getId());
+        progress.verify(backfillProgressStore).markComplete(BACKFILL);
+    }
+
+    @Test
+    @DisplayName("backfill should skip work once completed")
+    void backfillShouldSkipOnceCompleted() {
+        when(backfillProgressStore.isComplete(BACKFILL)).thenReturn(true);
+
+        assertEquals(0, indexer.backfill());
+
+        verify(form4Repository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("backfill should reuse the row a concurrent save inserted instead of aborting on the unique key")
+    @SuppressWarnings("unchecked")
+    void backfillShouldRetryOnDuplicateFactKey() {
+        Form4 form4 = TestFixtures.createTestForm4("0000320193-24-000001", "AAPL");
+        InsiderTransactionFact concurrent = InsiderTransactionFactIndexer.toFacts(form4, Instant.EPOCH).getFirst();
+        concurrent.setId("fact-1");
+        when(backfillProgressStore.isComplete(BACKFILL)).thenReturn(false);
+        when(backfillProgressStore.read(BACKFILL)).thenReturn(Optional.empty());
+        when(form4Repository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(form4), PageRequest.of(0, 500), 1));
+        when(factRepository.findByAccessionNumber(form4.getAccessionNumber()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(concurrent));
+        when(factRepository.saveAll(anyList()))
+                .thenThrow(new DuplicateKeyException("factKey"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(1, indexer.backfill());
+
+        ArgumentCaptor<List<InsiderTransactionFact>> saved = ArgumentCaptor.forClass(List.class);
+        verify(factRepository, times(2)).saveAll(saved.capture());
+        assertEquals("fact-1", saved.getAllValues().get(1).getFirst().getId());
+        verify(backfillProgressStore).markComplete(BACKFILL);
+    }
+}
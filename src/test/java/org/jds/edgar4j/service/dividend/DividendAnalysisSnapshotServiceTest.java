@@ -6,17 +6,23 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jds.edgar4j.dto.response.DividendOverviewResponse;
 import org.jds.edgar4j.model.DividendAnalysisSnapshot;
 import org.jds.edgar4j.port.DividendAnalysisSnapshotDataPort;
+import org.jds.edgar4j.storage.DividendMetricsColumnStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class DividendAnalysisSnapshotServiceTest {
@@ -43,7 +49,7 @@ class DividendAnalysisSnapshotServiceTest {
                 .company(company("123", "ACME"))
                 .build();
 
-        DividendAnalysisSnapshot snapshot = snapshotService.saveOverview(overview);
+        DividendAnalysisSnapshot snapshot = snapshotService.saveOverview(overview, null);
 
         assertThat(snapshot.getId()).isEqualTo("0000000123");
         assertThat(snapshot.getCik()).isEqualTo("0000000123");
@@ -56,6 +62,40 @@ class DividendAnalysisSnapshotServiceTest {
         assertThat(snapshot.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("screenMetrics should load stored metric rows once and include rows saved afterwards")
+    void screenMetricsShouldLoadStoredRowsAndTrackSaves() {
+        DividendAnalysisSnapshot stored = DividendAnalysisSnapshot.builder()
+                .id("0000000456")
+                .cik("0000000456")
+                .ticker("KO")
+                .overview(DividendOverviewResponse.builder()
+                        .company(company("456", "KO"))
+                        .build())
+                .screenMetrics(Map.of("dividend_yield", 0.03d))
+                .metricsComputedAt(Instant.parse("2026-05-01T00:00:00Z"))
+                .build();
+        when(snapshotDataPort.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(stored)));
+        DividendMetricsColumnStore.Query query = new DividendMetricsColumnStore.Query(
+                List.of(), null, Set.of(), Set.of(), List.of(), "dividend_yield", true, 0, 10);
+
+        assertThat(snapshotService.screenMetrics(query))
+                .hasValueSatisfying(result -> assertThat(result.matched()).isEqualTo(1));
+
+        when(snapshotDataPort.findByCik("0000000123")).thenReturn(Optional.empty());
+        when(snapshotDataPort.findByTickerIgnoreCase("ACME")).thenReturn(Optional.empty());
+        DividendAnalysisSnapshot saved = snapshotService.saveOverview(
+                DividendOverviewResponse.builder().company(company("123", "ACME")).build(),
+                Map.of("dividend_yield", 0.05d));
+
+        assertThat(saved.getScreenMetrics()).containsEntry("dividend_yield", 0.05d);
+        assertThat(saved.getMetricsComputedAt()).isEqualTo(saved.getLastComputedAt());
+        assertThat(snapshotService.screenMetrics(query))
+                .hasValueSatisfying(result -> assertThat(result.rows())
+                        .extracting(row -> row.company().getTicker())
+                        .containsExactly("ACME", "KO"));
+    }
+
     @Test
     @DisplayName("getSnapshot should resolve persisted snapshots by ticker")
     void getSnapshotShouldResolveByTicker() {
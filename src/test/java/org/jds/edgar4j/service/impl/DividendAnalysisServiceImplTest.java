@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -32,6 +34,7 @@ import org.jds.edgar4j.integration.SecApiConfig;
 import org.jds.edgar4j.integration.SecResponseParser;
 import org.jds.edgar4j.integration.model.SecCompanyFactsResponse;
 import org.jds.edgar4j.model.CompanyMarketData;
+import org.jds.edgar4j.model.DividendAnalysisSnapshot;
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.model.FormType;
 import org.jds.edgar4j.port.DividendAnalysisSnapshotDataPort;
@@ -59,6 +62,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import reactor.core.publisher.Mono;
 
@@ -708,6 +712,8 @@ class DividendAnalysisServiceImplTest {
                 .sharesOutstanding(1_000L)
                 .build());
 
+        when(dividendAnalysisSnapshotDataPort.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
         DividendScreenRequest request = DividendScreenRequest.builder()
                 .tickersOrCiks(List.of("AAPL", "MSFT"))
                 .filters(DividendScreenRequest.DividendScreenFilters.builder()
@@ -737,6 +743,43 @@ class DividendAnalysisServiceImplTest {
         assertTrue(response.getWarnings().isEmpty());
     }
 
+    @Test
+    @DisplayName("screen should serve stored metric rows, flag stale rows and analyze identifiers without a row live")
+    void screenShouldServeStoredMetricRows() {
+        Instant fresh = Instant.now().minusSeconds(3_600);
+        Instant stale = Instant.now().minus(DividendScreeningService.SNAPSHOT_STALE_AFTER).minusSeconds(3_600);
+        when(dividendAnalysisSnapshotDataPort.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                metricsSnapshot("0000320193", "AAPL", "Apple Inc.", 0.20d, fresh),
+                metricsSnapshot("0000789019", "MSFT", "Microsoft Corp.", 0.70d, fresh),
+                metricsSnapshot("0000021344", "KO", "Coca-Cola Co", 0.45d, stale))));
+
+        DividendScreenRequest request = DividendScreenRequest.builder()
+                .tickersOrCiks(List.of("AAPL", "MSFT", "KO", "PEP"))
+                .filters(DividendScreenRequest.DividendScreenFilters.builder()
+                        .metrics(Map.of("fcf_payout", DividendScreenRequest.MetricRange.builder().max(50d).build()))
+                        .build())
+                .metrics(List.of("fcf_payout"))
+                .sort("fcf_payout")
+                .direction("DESC")
+                .build();
+
+        DividendScreenResponse response = dividendAnalysisService.screen(request);
+
+        assertEquals(4, response.getCandidatesEvaluated());
+        assertEquals(2, response.getResults().getContent().size());
+        DividendScreenResponse.ScreenResult first = response.getResults().getContent().get(0);
+        assertEquals("KO", first.getCompany().getTicker());
+        assertEquals(0.45d, first.getValues().get("fcf_payout"), 0.000001d);
+        assertEquals(stale, first.getAsOf());
+        assertTrue(first.getStale());
+        assertEquals("AAPL", response.getResults().getContent().get(1).getCompany().getTicker());
+        assertFalse(response.getResults().getContent().get(1).getStale());
+        assertEquals(1, response.getWarnings().size());
+        assertTrue(response.getWarnings().get(0).startsWith("Could not analyze PEP"));
+        verify(companyService).getCompanyByTicker("PEP");
+        verify(companyService, never()).getCompanyByTicker("AAPL");
+    }
+
     @Test
     @DisplayName("getEvidence should return filing highlights and a cleaned text preview")
     void getEvidenceShouldReturnFilingHighlightsAndCleanedText() {
@@ -851,4 +894,29 @@ class DividendAnalysisServiceImplTest {
         }
         return values;
     }
+
+    private DividendAnalysisSnapshot metricsSnapshot(
+            String cik,
+            String ticker,
+            String name,
+            double fcfPayout,
+            Instant computedAt) {
+        return DividendAnalysisSnapshot.builder()
+                .id(cik)
+                .cik(cik)
+                .ticker(ticker)
+                .overview(DividendOverviewResponse.builder()
+                        .company(DividendOverviewResponse.CompanySummary.builder()
+                                .cik(cik)
+                                .ticker(ticker)
+                                .name(name)
+                                .build())
+                        .viability(DividendOverviewResponse.ViabilitySummary.builder()
+                                .rating(DividendOverviewResponse.DividendRating.SAFE)
+                                .build())
+                        .build())
+                .screenMetrics(Map.of("fcf_payout", fcfPayout))
+                .metricsComputedAt(computedAt)
+                .build();
+    }
 }
@@ -17,9 +17,11 @@ import java.util.Optional;
 import org.jds.edgar4j.dto.response.CompanyResponse;
 import org.jds.edgar4j.dto.response.DividendOverviewResponse;
 import org.jds.edgar4j.dto.response.DividendSyncStatusResponse;
+import org.jds.edgar4j.model.DividendSyncRun;
 import org.jds.edgar4j.model.DividendSyncState;
 import org.jds.edgar4j.model.Filling;
 import org.jds.edgar4j.model.FormType;
+import org.jds.edgar4j.port.DividendSyncRunDataPort;
 import org.jds.edgar4j.port.DividendSyncStateDataPort;
 import org.jds.edgar4j.port.FillingDataPort;
 import org.jds.edgar4j.service.CompanyMarketDataService;
@@ -36,6 +38,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DividendSyncServiceImplTest {
@@ -64,6 +67,9 @@ class DividendSyncServiceImplTest {
     @Mock
     private CompanyFactsIngestionService companyFactsIngestionService;
 
+    @Mock
+    private DividendSyncRunDataPort dividendSyncRunRepository;
+
     private DividendSyncServiceImpl dividendSyncService;
 
     @BeforeEach
@@ -76,7 +82,8 @@ class DividendSyncServiceImplTest {
                 companyMarketDataService,
                 dividendAnalysisService,
                 sp500Service,
-                companyFactsIngestionService);
+                companyFactsIngestionService,
+                dividendSyncRunRepository);
     }
 
     @Test
@@ -354,4 +361,75 @@ class DividendSyncServiceImplTest {
         verify(sp500Service, never()).getAllTickers();
         verify(companyService).getCompanyByTicker("BAD");
     }
+
+    @Test
+    @DisplayName("runTrackedSync should record per-company outcomes and resume an interrupted run")
+    void runTrackedSyncShouldRecordOutcomesAndResumeInterruptedRun() {
+        CompanyResponse company = CompanyResponse.builder()
+                .cik("0000320193")
+                .ticker("AAPL")
+                .name("Apple Inc.")
+                .build();
+        DividendSyncRun interrupted = DividendSyncRun.builder()
+                .id("run-1")
+                .status(DividendSyncRun.RunStatus.RUNNING)
+                .concurrency(2)
+                .identifiers(new java.util.ArrayList<>(List.of("AAPL", "BAD", "MSFT")))
+                .results(new java.util.ArrayList<>(List.of(DividendSyncRun.CompanyResult.builder()
+                        .identifier("MSFT")
+                        .outcome(DividendSyncRun.Outcome.SUCCEEDED)
+                        .build())))
+                .totalCompanies(3)
+                .completedCompanies(1)
+                .succeededCompanies(1)
+                .startedAt(Instant.parse("2026-05-01T00:00:00Z"))
+                .build();
+
+        when(dividendSyncRunRepository.findFirstByStatusOrderByStartedAtDesc(DividendSyncRun.RunStatus.RUNNING))
+                .thenReturn(Optional.of(interrupted));
+        when(dividendSyncRunRepository.save(any(DividendSyncRun.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(companyService.getCompanyByTicker("AAPL")).thenReturn(Optional.of(company));
+        when(companyService.getCompanyByTicker("BAD")).thenReturn(Optional.empty());
+        when(dividendSyncStateRepository.findByCik("0000320193")).thenReturn(Optional.empty());
+        when(dividendSyncStateRepository.save(any(DividendSyncState.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(fillingRepository.findByCik(eq("0000320193"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(companyFactsIngestionService.ingest("0000320193"))
+                .thenReturn(new CompanyFactsIngestionService.IngestionResult("0000320193", 0, 0, 0));
+
+        DividendSyncRun run = dividendSyncService.runTrackedSync(10, false, 4);
+
+        assertEquals("run-1", run.getId());
+        assertEquals(DividendSyncRun.RunStatus.COMPLETED, run.getStatus());
+        assertEquals(1, run.getResumeCount());
+        assertEquals(3, run.getCompletedCompanies());
+        assertEquals(2, run.getSucceededCompanies());
+        assertEquals(1, run.getFailedCompanies());
+        assertTrue(run.getResults().stream().anyMatch(result -> "BAD".equals(result.getIdentifier())
+                && result.getOutcome() == DividendSyncRun.Outcome.FAILED
+                && result.getErrorMessage() != null));
+        assertTrue(run.getResults().stream().anyMatch(result -> "AAPL".equals(result.getIdentifier())
+                && result.getOutcome() == DividendSyncRun.Outcome.SUCCEEDED
+                && "0000320193".equals(result.getCik())
+                && result.getStartedAt() != null));
+        verify(companyService, never()).getCompanyByTicker("MSFT");
+        verify(dividendSyncStateRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("runTrackedSync should cap a new run's concurrency at the configured maximum")
+    void runTrackedSyncShouldCapConcurrency() {
+        ReflectionTestUtils.setField(dividendSyncService, "maxSyncConcurrency", 3);
+        when(dividendSyncStateRepository.findAll()).thenReturn(List.of());
+        when(sp500Service.getAllTickers()).thenReturn(List.of());
+        when(dividendSyncRunRepository.save(any(DividendSyncRun.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        DividendSyncRun run = dividendSyncService.runTrackedSync(0, false, 50);
+
+        assertEquals(3, run.getConcurrency());
+        assertEquals(DividendSyncRun.RunStatus.COMPLETED, run.getStatus());
+    }
 }
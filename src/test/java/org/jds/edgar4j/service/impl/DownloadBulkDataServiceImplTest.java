@@ -1,15 +1,20 @@
 package org.jds.edgar4j.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -23,11 +28,13 @@ import org.jds.edgar4j.port.SubmissionsDataPort;
 import org.jds.edgar4j.properties.Edgar4JProperties;
 import org.jds.edgar4j.properties.StorageProperties;
 import org.jds.edgar4j.service.DownloadBulkDataService.BulkDownloadResult;
+import org.jds.edgar4j.service.xbrl.CompanyFactsIngestionService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class DownloadBulkDataServiceImplTest {
@@ -47,6 +54,9 @@ class DownloadBulkDataServiceImplTest {
     @Mock
     private FillingDataPort fillingRepository;
 
+    @Mock
+    private CompanyFactsIngestionService companyFactsIngestionService;
+
     @Test
     void downloadBulkSubmissionsArchiveImportsJsonEntries() throws Exception {
         byte[] zipBytes = zip("CIK0000000001.json", "{\"cik\":\"1\"}");
@@ -54,12 +64,12 @@ class DownloadBulkDataServiceImplTest {
         Submissions submissions = Submissions.builder().cik("1").name("Example Inc").build();
         Filling filling = Filling.builder().accessionNumber("0000000001-24-000001").build();
 
-        when(secApiClient.fetchBulkSubmissionsArchive()).thenReturn(zipBytes);
-        when(responseParser.parseSubmissionResponse("{\"cik\":\"1\"}")).thenReturn(response);
+        when(secApiClient.downloadBulkSubmissionsArchive(any(Path.class))).thenAnswer(writeArchive(zipBytes));
+        when(responseParser.parseSubmissionResponse(any(InputStream.class))).thenReturn(response);
         when(responseParser.toSubmissions(response)).thenReturn(submissions);
         when(responseParser.toFillings(response)).thenReturn(List.of(filling));
-        when(submissionsRepository.findByCik("1")).thenReturn(Optional.empty());
-        when(fillingRepository.findByAccessionNumber("0000000001-24-000001")).thenReturn(Optional.empty());
+        when(submissionsRepository.findByCikIn(List.of("1"))).thenReturn(List.of());
+        when(fillingRepository.findByAccessionNumberIn(List.of("0000000001-24-000001"))).thenReturn(List.of());
 
         BulkDownloadResult result = service().downloadBulkSubmissionsArchive();
 
@@ -71,10 +81,59 @@ class DownloadBulkDataServiceImplTest {
         assertThat(tempDir.resolve("submissions.zip")).exists();
     }
 
+    @Test
+    void downloadBulkSubmissionsArchiveResumesAfterCheckpointAndAlignsExistingIds() throws Exception {
+        byte[] zipBytes = zip(
+                "CIK0000000001.json", "{\"cik\":\"1\"}",
+                "CIK0000000002.json", "{\"cik\":\"2\"}");
+        Files.writeString(tempDir.resolve("submissions.zip.import"), "v2:sha256:abc123\n1\n");
+        SecSubmissionResponse response = new SecSubmissionResponse();
+        Submissions submissions = Submissions.builder().cik("2").name("Second Inc").build();
+        Filling filling = Filling.builder().accessionNumber("0000000002-24-000001").build();
+        Filling stored = Filling.builder().id("stored-filing").accessionNumber("0000000002-24-000001").build();
+
+        when(secApiClient.downloadBulkSubmissionsArchive(any(Path.class)))
+                .thenAnswer(writeArchive(zipBytes, "abc123  submissions.zip\n"));
+        when(responseParser.parseSubmissionResponse(any(InputStream.class))).thenReturn(response);
+        when(responseParser.toSubmissions(response)).thenReturn(submissions);
+        when(responseParser.toFillings(response)).thenReturn(List.of(filling));
+        when(submissionsRepository.findByCikIn(List.of("2")))
+                .thenReturn(List.of(Submissions.builder().id("stored-submission").cik("2").build()));
+        when(fillingRepository.findByAccessionNumberIn(List.of("0000000002-24-000001"))).thenReturn(List.of(stored));
+
+        BulkDownloadResult result = service().downloadBulkSubmissionsArchive();
+
+        assertThat(result.filesDownloaded()).isEqualTo(1);
+        verify(responseParser, times(1)).parseSubmissionResponse(any(InputStream.class));
+        assertThat(submissions.getId()).isEqualTo("stored-submission");
+        assertThat(filling.getId()).isEqualTo("stored-filing");
+        assertThat(tempDir.resolve("submissions.zip.import")).doesNotExist();
+    }
+
+    @Test
+    void downloadBulkSubmissionsArchiveImportsOverflowPagesAsFilings() throws Exception {
+        byte[] zipBytes = zip("CIK0000000001-submissions-001.json", "{\"accessionNumber\":[]}");
+        SecSubmissionResponse.Recent page = new SecSubmissionResponse.Recent();
+        Filling filling = Filling.builder().cik("1").accessionNumber("0000000001-09-000001").build();
+
+        when(secApiClient.downloadBulkSubmissionsArchive(any(Path.class))).thenAnswer(writeArchive(zipBytes));
+        when(responseParser.parseSubmissionFilesPage(any(InputStream.class))).thenReturn(page);
+        when(responseParser.toFillings(page, "1", null)).thenReturn(List.of(filling));
+        when(fillingRepository.findByAccessionNumberIn(List.of("0000000001-09-000001"))).thenReturn(List.of());
+
+        BulkDownloadResult result = service().downloadBulkSubmissionsArchive();
+
+        assertThat(result.filesDownloaded()).isEqualTo(1);
+        verify(fillingRepository).saveAll(List.of(filling));
+        verify(submissionsRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void downloadBulkCompanyFactsArchiveStoresArchive() throws Exception {
         byte[] zipBytes = zip("CIK0000000001.json", "{\"facts\":{}}");
-        when(secApiClient.fetchBulkCompanyFactsArchive()).thenReturn(zipBytes);
+        when(secApiClient.downloadBulkCompanyFactsArchive(any(Path.class))).thenAnswer(writeArchive(zipBytes));
+        when(companyFactsIngestionService.ingestArchive(tempDir.resolve("companyfacts.zip"), 0))
+                .thenReturn(new CompanyFactsIngestionService.BulkIngestionResult(1, 1, 1, 0, List.of(), Map.of()));
 
         BulkDownloadResult result = service().downloadBulkCompanyFactsArchive();
 
@@ -93,15 +152,30 @@ class DownloadBulkDataServiceImplTest {
                 submissionsRepository,
                 fillingRepository,
                 new Edgar4JProperties(),
-                storageProperties);
+                storageProperties,
+                companyFactsIngestionService);
+    }
+
+    private Answer<Path> writeArchive(byte[] bytes) {
+        return invocation -> Files.write(invocation.getArgument(0, Path.class), bytes);
+    }
+
+    private Answer<Path> writeArchive(byte[] bytes, String sha256Sidecar) {
+        return invocation -> {
+            Path target = invocation.getArgument(0, Path.class);
+            Files.writeString(target.resolveSibling(target.getFileName() + ".sha256"), sha256Sidecar);
+            return Files.write(target, bytes);
+        };
     }
 
-    private byte[] zip(String name, String content) throws Exception {
+    private byte[] zip(String... namesAndContents) throws Exception {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
-            zipOutputStream.putNextEntry(new ZipEntry(name));
-            zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
-            zipOutputStream.closeEntry();
+            for (int index = 0; index < namesAndContents.length; index += 2) {
+                zipOutputStream.putNextEntry(new ZipEntry(namesAndContents[index]));
+                zipOutputStream.write(namesAndContents[index + 1].getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
         }
         return outputStream.toByteArray();
     }
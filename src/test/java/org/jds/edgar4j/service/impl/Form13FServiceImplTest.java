@@ -0,0 +1,191 @@
+package org.jds.edgar4j.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.jds.edgar4j.integration.Form13FParser;
+import org.jds.edgar4j.integration.SecApiClient;
+import org.jds.edgar4j.model.Form13F;
+import org.jds.edgar4j.model.Form13FHolding;
+import org.jds.edgar4j.model.Form13FPositionChange;
+import org.jds.edgar4j.model.Form13FPositionChange.ChangeType;
+import org.jds.edgar4j.port.Form13FDataPort;
+import org.jds.edgar4j.port.Form13FPositionChangeDataPort;
+import org.jds.edgar4j.repository.Form13FRepository.HoldingSummary;
+import org.jds.edgar4j.service.DataMigrationService.CollectionImportedEvent;
+import org.jds.edgar4j.service.Form13FService.InstitutionalFlow;
+import org.jds.edgar4j.storage.BackfillProgressStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class Form13FServiceImplTest {
+
+    private static final LocalDate Q1 = LocalDate.of(2024, 3, 31);
+    private static final LocalDate Q2 = LocalDate.of(2024, 6, 30);
+
+    @Mock
+    private Form13FDataPort form13FRepository;
+
+    @Mock
+    private Form13FParser form13FParser;
+
+    @Mock
+    private SecApiClient secApiClient;
+
+    @Mock
+    private Form13FPositionChangeDataPort positionChangeRepository;
+
+    @Mock
+    private BackfillProgressStore backfillProgressStore;
+
+    private Form13FServiceImpl form13FService;
+
+    @BeforeEach
+    void setUp() {
+        form13FService = new Form13FServiceImpl(
+                form13FRepository, form13FParser, secApiClient, positionChangeRepository, backfillProgressStore);
+    }
+
+    @Test
+    @DisplayName("save should record position changes against the filer's previous period")
+    @SuppressWarnings("unchecked")
+    void saveShouldRecordPositionChangesAgainstPreviousPeriod() {
+        Form13F previous = filing("1", "0000000001-24-000001", Q1,
+                holding("037833100", 100, 1_000),
+                holding("594918104", 50, 500),
+                holding("02079K305", 10, 100));
+        Form13F current = filing("2", "0000000001-24-000002", Q2,
+                holding("037833100", 150, 1_800),
+                holding("594918104", 20, 250),
+                holding("88160R101", 5, 60));
+        when(form13FRepository.findByAccessionNumber(current.getAccessionNumber())).thenReturn(Optional.empty());
+        when(form13FRepository.save(current)).thenReturn(current);
+        when(form13FRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(previous, current)));
+        when(positionChangeRepository.findByCikAndReportPeriod("0000000001", Q2)).thenReturn(List.of());
+
+        form13FService.save(current);
+
+        ArgumentCaptor<List<Form13FPositionChange>> saved = ArgumentCaptor.forClass(List.class);
+        verify(positionChangeRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Form13FPositionChange::getCusip, Form13FPositionChange::getChangeType,
+                        Form13FPositionChange::getPreviousReportPeriod)
+                .containsExactly(
+                        tuple("037833100", ChangeType.INCREASED, Q1),
+                        tuple("594918104", ChangeType.DECREASED, Q1),
+                        tuple("88160R101", ChangeType.NEW, Q1),
+                        tuple("02079K305", ChangeType.CLOSED, Q1));
+    }
+
+    @Test
+    @DisplayName("backfillPositionChanges should diff each filer's stored periods once and mark the backfill complete")
+    @SuppressWarnings("unchecked")
+    void backfillPositionChangesShouldDiffStoredPeriodsOnce() {
+        Form13F previous = filing("1", "0000000001-24-000001", Q1, holding("037833100", 100, 1_000));
+        Form13F current = filing("2", "0000000001-24-000002", Q2, holding("037833100", 150, 1_800));
+        when(backfillProgressStore.isComplete("form13f-position-changes")).thenReturn(false, true);
+        when(form13FRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(previous, current)));
+        when(positionChangeRepository.findByCikAndReportPeriod("0000000001", Q2)).thenReturn(List.of());
+
+        assertThat(form13FService.backfillPositionChanges()).isEqualTo(1);
+        assertThat(form13FService.backfillPositionChanges()).isZero();
+
+        ArgumentCaptor<List<Form13FPositionChange>> saved = ArgumentCaptor.forClass(List.class);
+        verify(positionChangeRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Form13FPositionChange::getCusip, Form13FPositionChange::getChangeType)
+                .containsExactly(tuple("037833100", ChangeType.INCREASED));
+        verify(backfillProgressStore).markComplete("form13f-position-changes");
+    }
+
+    @Test
+    @DisplayName("an import into the form13f collection should make the holdings store reload from the data port")
+    void importShouldReloadHoldingsStore() {
+        Form13F before = filing("1", "0000000001-24-000001", Q1, holding("037833100", 100, 1_000));
+        Form13F imported = filing("1", "0000000001-24-000001", Q1, holding("037833100", 300, 3_000));
+        when(form13FRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(before)))
+                .thenReturn(new PageImpl<>(List.of(imported)));
+
+        assertThat(form13FService.getTopHoldings(Q1, 10))
+                .extracting(HoldingSummary::getTotalShares).containsExactly(100L);
+
+        form13FService.onCollectionImported(new CollectionImportedEvent("form4"));
+        assertThat(form13FService.getTopHoldings(Q1, 10))
+                .extracting(HoldingSummary::getTotalShares).containsExactly(100L);
+
+        form13FService.onCollectionImported(new CollectionImportedEvent("form13f"));
+        assertThat(form13FService.getTopHoldings(Q1, 10))
+                .extracting(HoldingSummary::getTotalShares).containsExactly(300L);
+        verify(form13FRepository, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getInstitutionalFlowHistory should net recorded changes per quarter, latest first")
+    void getInstitutionalFlowHistoryShouldNetChangesPerQuarter() {
+        when(positionChangeRepository.findByCusip("037833100")).thenReturn(List.of(
+                change(Q1, ChangeType.NEW, null, 100L, null, 1_000L),
+                change(Q2, ChangeType.INCREASED, 100L, 150L, 1_000L, 1_800L),
+                change(Q2, ChangeType.CLOSED, 40L, null, 400L, null)));
+
+        List<InstitutionalFlow> flows = form13FService.getInstitutionalFlowHistory("037833100");
+
+        assertThat(flows).extracting(InstitutionalFlow::reportPeriod).containsExactly(Q2, Q1);
+        InstitutionalFlow latest = flows.get(0);
+        assertThat(latest.increasedPositions()).isEqualTo(1);
+        assertThat(latest.closedPositions()).isEqualTo(1);
+        assertThat(latest.sharesBought()).isEqualTo(50);
+        assertThat(latest.sharesSold()).isEqualTo(40);
+        assertThat(latest.netShareChange()).isEqualTo(10);
+        assertThat(latest.netValueChange()).isEqualTo(400);
+    }
+
+    private static Form13F filing(String id, String accessionNumber, LocalDate period, Form13FHolding... holdings) {
+        return Form13F.builder()
+                .id(id)
+                .accessionNumber(accessionNumber)
+                .cik("0000000001")
+                .filerName("Example Capital")
+                .reportPeriod(period)
+                .holdings(List.of(holdings))
+                .build();
+    }
+
+    private static Form13FHolding holding(String cusip, long shares, long value) {
+        return Form13FHolding.builder()
+                .cusip(cusip)
+                .nameOfIssuer("Issuer " + cusip)
+                .sharesOrPrincipalAmount(shares)
+                .value(value)
+                .build();
+    }
+
+    private static Form13FPositionChange change(LocalDate period, ChangeType changeType,
+            Long sharesBefore, Long sharesAfter, Long valueBefore, Long valueAfter) {
+        return Form13FPositionChange.builder()
+                .cusip("037833100")
+                .reportPeriod(period)
+                .changeType(changeType)
+                .sharesBefore(sharesBefore)
+                .sharesAfter(sharesAfter)
+                .valueBefore(valueBefore)
+                .valueAfter(valueAfter)
+                .build();
+    }
+}
@@ -13,7 +13,6 @@ import org.jds.edgar4j.repository.Form4Repository;
 import org.jds.edgar4j.repository.TickerRepository;
 import org.jds.edgar4j.service.CompanyService;
 import org.jds.edgar4j.service.SettingsService;
-import org.jds.edgar4j.storage.DownloadedResourceStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,9 +44,6 @@ class Form4ServiceImplSecBlockTest {
     @Mock
     private FillingRepository fillingRepository;
 
-    @Mock
-    private DownloadedResourceStore downloadedResourceStore;
-
     @InjectMocks
     private Form4ServiceImpl form4Service;
 
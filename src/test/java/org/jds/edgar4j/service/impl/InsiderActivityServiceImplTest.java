@@ -3,13 +3,17 @@ package org.jds.edgar4j.service.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,13 +24,18 @@ import org.jds.edgar4j.dto.response.PaginatedResponse;
 import org.jds.edgar4j.model.CompanyMarketData;
 import org.jds.edgar4j.model.Form4;
 import org.jds.edgar4j.model.Form4Transaction;
+import org.jds.edgar4j.adapter.file.InsiderTransactionFactFileAdapter;
 import org.jds.edgar4j.port.Form4DataPort;
 import org.jds.edgar4j.service.CompanyMarketDataService;
+import org.jds.edgar4j.service.InsiderTransactionFactIndexer;
 import org.jds.edgar4j.service.Sp500Service;
+import org.jds.edgar4j.storage.file.FileStorageEngine;
+import org.jds.edgar4j.storage.file.FileStorageProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
@@ -43,6 +52,9 @@ class InsiderActivityServiceImplTest {
             BASE_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant(),
             ZoneId.systemDefault());
 
+    @TempDir
+    Path tempDir;
+
     @Mock
     private Form4DataPort form4Repository;
 
@@ -52,12 +64,16 @@ class InsiderActivityServiceImplTest {
     @Mock
     private Sp500Service sp500Service;
 
+    private InsiderTransactionFactFileAdapter factRepository;
+
     private InsiderActivityServiceImpl service;
 
     @BeforeEach
     void setUp() {
+        factRepository = new InsiderTransactionFactFileAdapter(newStorageEngine());
         service = new InsiderActivityServiceImpl(
                 form4Repository,
+                factRepository,
                 companyMarketDataService,
                 sp500Service,
                 new ObjectMapper().findAndRegisterModules(),
@@ -75,7 +91,7 @@ class InsiderActivityServiceImplTest {
                 createTransaction("S", "D", 10f, 100f, BASE_DATE.minusDays(1)),
                 createTransaction("P", "A", 5f, 80f, BASE_DATE.minusDays(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(form));
+        givenFilings(form);
         when(companyMarketDataService.getStoredMarketData("AAPL")).thenReturn(Optional.of(CompanyMarketData.builder()
                 .ticker("AAPL")
                 .currentPrice(90d)
@@ -106,7 +122,7 @@ class InsiderActivityServiceImplTest {
         Form4 duplicateOwner = createForm4("0004", "MSFT", "Alice Buyer", "0000000001");
         duplicateOwner.setTransactions(List.of(createTransaction("P", "A", 5f, 120f, BASE_DATE.minusMonths(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(first, second, duplicateOwner));
+        givenFilings(first, second, duplicateOwner);
         when(companyMarketDataService.getStoredMarketData("MSFT")).thenReturn(Optional.empty());
 
         PaginatedResponse<InsiderActivityResponse> result = service.screen(InsiderActivityScreenRequest.builder()
@@ -131,7 +147,7 @@ class InsiderActivityServiceImplTest {
                 createTransaction("A", "A", 10f, 50f, BASE_DATE.minusDays(1)),
                 createTransaction("S", "D", 10f, 50f, BASE_DATE.minusDays(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(form));
+        givenFilings(form);
         when(companyMarketDataService.getStoredMarketData("AAPL")).thenReturn(Optional.empty());
 
         PaginatedResponse<InsiderActivityResponse> result = service.screen(InsiderActivityScreenRequest.builder()
@@ -154,7 +170,7 @@ class InsiderActivityServiceImplTest {
         Form4 second = createForm4("0007", "NVDA", "Bob Buyer", "0000000007");
         second.setTransactions(List.of(createTransaction("P", "A", 2_500f, 200f, BASE_DATE.minusDays(9))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(first, second));
+        givenFilings(first, second);
         when(companyMarketDataService.getStoredMarketData("NVDA")).thenReturn(Optional.empty());
 
         PaginatedResponse<InsiderActivityResponse> result = service.screen(InsiderActivityScreenRequest.builder()
@@ -210,7 +226,7 @@ class InsiderActivityServiceImplTest {
         Form4 form = createForm4("0008", "AAPL", "Alice Buyer", "0000000008");
         form.setTransactions(List.of(createTransaction("P", "A", 10f, 100f, BASE_DATE.minusDays(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(form));
+        givenFilings(form);
         when(companyMarketDataService.getStoredMarketData("AAPL")).thenReturn(Optional.empty());
 
         InsiderActivityScreenRequest request = InsiderActivityScreenRequest.builder()
@@ -232,7 +248,7 @@ class InsiderActivityServiceImplTest {
         form.setTransactionValue(99_999f);
         form.setTransactions(List.of(createTransactionWithoutValue("P", "A", 10f, 50f, BASE_DATE.minusDays(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(form));
+        givenFilings(form);
         when(companyMarketDataService.getStoredMarketData("AAPL")).thenReturn(Optional.empty());
 
         PaginatedResponse<InsiderActivityResponse> result = service.screen(InsiderActivityScreenRequest.builder()
@@ -253,7 +269,7 @@ class InsiderActivityServiceImplTest {
         Form4 highValue = createForm4("0011", "HIGH", "High Value", "0000000011");
         highValue.setTransactions(List.of(createTransaction("P", "A", 10f, 100f, BASE_DATE.minusDays(1))));
 
-        when(form4Repository.findRecentTransactions(any(LocalDate.class))).thenReturn(List.of(missingValue, highValue));
+        givenFilings(missingValue, highValue);
         when(companyMarketDataService.getStoredMarketData("MISS")).thenReturn(Optional.empty());
         when(companyMarketDataService.getStoredMarketData("HIGH")).thenReturn(Optional.empty());
 
@@ -270,6 +286,47 @@ class InsiderActivityServiceImplTest {
         assertEquals("MISS", result.getContent().get(1).getTicker());
     }
 
+    @Test
+    @DisplayName("transaction pages only look up market data for the rows they return")
+    void transactionPagesOnlyLookUpMarketDataForReturnedRows() {
+        Form4 small = createForm4("0015", "SMAL", "Small Buyer", "0000000015");
+        small.setTransactions(List.of(createTransaction("P", "A", 10f, 10f, BASE_DATE.minusDays(1))));
+        Form4 large = createForm4("0016", "LARG", "Large Buyer", "0000000016");
+        large.setTransactions(List.of(createTransaction("P", "A", 10f, 1_000f, BASE_DATE.minusDays(1))));
+        Form4 award = createForm4("0017", "AWRD", "Award Holder", "0000000017");
+        award.setTransactions(List.of(createTransaction("A", "A", 10f, 5_000f, BASE_DATE.minusDays(1))));
+
+        givenFilings(small, large, award);
+        when(companyMarketDataService.getStoredMarketData("LARG")).thenReturn(Optional.empty());
+
+        PaginatedResponse<InsiderActivityResponse> result = service.screen(InsiderActivityScreenRequest.builder()
+                .preset("LATEST_PURCHASES")
+                .page(0)
+                .size(1)
+                .build());
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        assertEquals("LARG", result.getContent().get(0).getTicker());
+        verify(companyMarketDataService, never()).getStoredMarketData("SMAL");
+        verify(companyMarketDataService, never()).getStoredMarketData("AWRD");
+    }
+
+    private void givenFilings(Form4... filings) {
+        factRepository.saveAll(Stream.of(filings)
+                .flatMap(form4 -> InsiderTransactionFactIndexer.toFacts(form4, Instant.EPOCH).stream())
+                .toList());
+    }
+
+    private FileStorageEngine newStorageEngine() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setBasePath(tempDir.toString());
+        properties.setCollectionsPath("collections");
+        properties.setIndexOnStartup(true);
+        properties.setFlushOnWrite(true);
+        return new FileStorageEngine(properties, new ObjectMapper().findAndRegisterModules());
+    }
+
     private Form4 createForm4(String accessionNumber, String ticker, String ownerName, String ownerCik) {
         return Form4.builder()
                 .accessionNumber(accessionNumber)
@@ -0,0 +1,95 @@
+package org.jds.edgar4j.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jds.edgar4j.integration.SecResponseParser;
+import org.jds.edgar4j.model.Filling;
+import org.jds.edgar4j.model.Submissions;
+import org.jds.edgar4j.port.FillingDataPort;
+import org.jds.edgar4j.port.SubmissionsDataPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionsArchiveImporterTest {
+
+    private static final String MAIN_ENTRY = """
+            {"cik":"320193","name":"Apple Inc.","filings":{"recent":{
+              "accessionNumber":["0000320193-24-000123"],"form":["10-K"],"filingDate":["2024-11-01"]}}}
+            """;
+
+    private static final String OVERFLOW_PAGE = """
+            {"accessionNumber":["0000320193-01-000001"],"form":["10-K"],"filingDate":["2001-12-21"]}
+            """;
+
+    @Mock
+    private SubmissionsDataPort submissionsDataPort;
+
+    @Mock
+    private FillingDataPort fillingDataPort;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("importArchive should name overflow filings after the main entry and clear the checkpoint on success")
+    @SuppressWarnings("unchecked")
+    void importArchiveShouldFillOverflowCompaniesAndClearCheckpoint() throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("CIK0000320193-submissions-001.json", OVERFLOW_PAGE);
+        entries.put("CIK0000320193.json", MAIN_ENTRY);
+        Path archive = writeZip(entries);
+        when(submissionsDataPort.findByCikIn(any())).thenReturn(List.of(
+                Submissions.builder().cik("320193").companyName("Apple Inc.").build()));
+        when(fillingDataPort.findByAccessionNumberIn(any())).thenReturn(List.of());
+        SubmissionsArchiveImporter importer = new SubmissionsArchiveImporter(
+                new SecResponseParser(new ObjectMapper()), submissionsDataPort, fillingDataPort, 1, 1);
+
+        assertEquals(2, importer.importArchive(archive));
+        assertFalse(Files.exists(archive.resolveSibling(archive.getFileName() + ".import")));
+        assertEquals(2, importer.importArchive(archive));
+
+        ArgumentCaptor<List<Filling>> saved = ArgumentCaptor.forClass(List.class);
+        verify(fillingDataPort, atLeastOnce()).saveAll(saved.capture());
+        assertEquals(4, saved.getAllValues().stream().mapToInt(List::size).sum());
+        saved.getAllValues().stream()
+                .flatMap(List::stream)
+                .forEach(filling -> assertEquals("Apple Inc.", filling.getCompany(), filling.getAccessionNumber()));
+    }
+
+    private Path writeZip(Map<String, String> entries) throws IOException {
+        Path zip = tempDir.resolve("submissions.zip");
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipOutputStream zos = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                zos.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return zip;
+    }
+}
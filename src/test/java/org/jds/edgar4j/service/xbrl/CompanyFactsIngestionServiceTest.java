@@ -5,16 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.jds.edgar4j.integration.SecApiClient;
 import org.jds.edgar4j.integration.SecResponseParser;
@@ -25,6 +33,7 @@ import org.jds.edgar4j.xbrl.standardization.ConceptStandardizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -42,6 +51,9 @@ class CompanyFactsIngestionServiceTest {
 
     private final ConceptStandardizer conceptStandardizer = new ConceptStandardizer();
 
+    @TempDir
+    private Path tempDir;
+
     @Test
     @DisplayName("ingest should flatten companyfacts, standardize concepts, and mark latest amendment current-best")
     void ingestShouldFlattenAndMarkCurrentBest() {
@@ -150,6 +162,50 @@ class CompanyFactsIngestionServiceTest {
         verify(secApiClient, times(1)).fetchCompanyFacts("0000789019");
     }
 
+    @Test
+    @DisplayName("ingestArchive should diff against stored facts and only write new, changed or re-flagged facts")
+    void ingestArchiveShouldWriteOnlyChangedFacts() throws Exception {
+        Map<String, NormalizedXbrlFact> store = new LinkedHashMap<>();
+        List<Integer> writeSizes = new ArrayList<>();
+        when(factDataPort.findByCik("0000320193")).thenAnswer(invocation -> new ArrayList<>(store.values()));
+        when(factDataPort.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<NormalizedXbrlFact> facts = invocation.getArgument(0);
+            int count = 0;
+            for (NormalizedXbrlFact fact : facts) {
+                store.put(fact.getId(), fact);
+                count++;
+            }
+            writeSizes.add(count);
+            return List.of();
+        });
+        when(secResponseParser.parseCompanyFactsResponse(any(InputStream.class))).thenReturn(companyFactsResponse());
+        CompanyFactsIngestionService service = new CompanyFactsIngestionService(
+                secApiClient,
+                secResponseParser,
+                conceptStandardizer,
+                factDataPort);
+        Path archive = tempDir.resolve("companyfacts.zip");
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zipOutputStream.putNextEntry(new ZipEntry("CIK0000320193.json"));
+            zipOutputStream.write("{}".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+
+        CompanyFactsIngestionService.BulkIngestionResult firstRun = service.ingestArchive(archive, 2);
+        CompanyFactsIngestionService.BulkIngestionResult secondRun = service.ingestArchive(archive, 2);
+
+        assertEquals(1, firstRun.succeeded());
+        assertEquals(2, firstRun.results().get(0).inserted());
+        assertEquals(0, secondRun.results().get(0).inserted());
+        assertEquals(0, secondRun.results().get(0).updated());
+        assertEquals(2, secondRun.results().get(0).skipped());
+        assertEquals(List.of(2), writeSizes);
+        assertTrue(store.values().stream()
+                .filter(fact -> "10-K/A".equals(fact.getForm()))
+                .allMatch(NormalizedXbrlFact::isCurrentBest));
+        verify(secApiClient, never()).fetchCompanyFacts(anyString());
+    }
+
     private CompanyFactsIngestionService createService(List<NormalizedXbrlFact> storedFacts) {
         when(factDataPort.findById(anyString())).thenAnswer(invocation -> {
             String id = invocation.getArgument(0);
@@ -0,0 +1,164 @@
+package org.jds.edgar4j.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jds.edgar4j.dto.response.DividendOverviewResponse;
+import org.jds.edgar4j.dto.response.DividendOverviewResponse.DividendRating;
+import org.jds.edgar4j.model.DividendAnalysisSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DividendMetricsColumnStoreTest {
+
+    private static final Instant COMPUTED_AT = Instant.parse("2026-05-01T00:00:00Z");
+
+    @Test
+    @DisplayName("screen should apply rating, sector and metric range filters before paging")
+    void screenShouldFilterByRatingSectorAndMetricRanges() {
+        DividendMetricsColumnStore store = new DividendMetricsColumnStore();
+        store.upsert(snapshot("320193", "AAPL", "Apple Inc.", "Technology", DividendRating.SAFE,
+                Map.of("fcf_payout", 0.20d, "current_ratio", 2.0d)));
+        store.upsert(snapshot("789019", "MSFT", "Microsoft Corp.", "Technology", DividendRating.SAFE,
+                Map.of("fcf_payout", 0.70d, "current_ratio", 1.5d)));
+        store.upsert(snapshot("21344", "KO", "Coca-Cola Co", "Beverages", DividendRating.SAFE,
+                Map.of("fcf_payout", 0.30d, "current_ratio", 1.2d)));
+        store.upsert(snapshot("1", "RISK", "Risky Co", "Technology", DividendRating.AT_RISK,
+                Map.of("fcf_payout", 0.10d, "current_ratio", 3.0d)));
+
+        DividendMetricsColumnStore.Result result = store.screen(new DividendMetricsColumnStore.Query(
+                List.of(),
+                null,
+                Set.of(DividendRating.SAFE),
+                Set.of("technology"),
+                List.of(new DividendMetricsColumnStore.MetricBound("fcf_payout", null, 0.50d),
+                        new DividendMetricsColumnStore.MetricBound("current_ratio", 1.0d, null)),
+                "fcf_payout",
+                false,
+                0,
+                10));
+
+        assertThat(result.evaluated()).isEqualTo(4);
+        assertThat(result.matched()).isEqualTo(1);
+        assertThat(result.rows()).singleElement().satisfies(row -> {
+            assertThat(row.company().getTicker()).isEqualTo("AAPL");
+            assertThat(row.values()).containsEntry("current_ratio", 2.0d);
+            assertThat(row.computedAt()).isEqualTo(COMPUTED_AT);
+        });
+    }
+
+    @Test
+    @DisplayName("screen should sort missing values last in both directions and page the sorted rows")
+    void screenShouldSortMissingValuesLast() {
+        DividendMetricsColumnStore store = new DividendMetricsColumnStore();
+        Map<String, Double> missingYield = new HashMap<>();
+        missingYield.put("dividend_yield", null);
+        store.upsert(snapshot("1", "AAA", "Alpha", null, DividendRating.STABLE, Map.of("dividend_yield", 0.02d)));
+        store.upsert(snapshot("2", "BBB", "Beta", null, DividendRating.STABLE, missingYield));
+        store.upsert(snapshot("3", "CCC", "Gamma", null, DividendRating.STABLE, Map.of("dividend_yield", 0.05d)));
+
+        assertThat(tickers(store.screen(sortedBy("dividend_yield", true, 0, 10))))
+                .containsExactly("CCC", "AAA", "BBB");
+        assertThat(tickers(store.screen(sortedBy("dividend_yield", false, 0, 10))))
+                .containsExactly("AAA", "CCC", "BBB");
+        assertThat(tickers(store.screen(sortedBy("name", true, 1, 1))))
+                .containsExactly("BBB");
+    }
+
+    @Test
+    @DisplayName("upserts should replace a company's row and explicit identifiers should report unknown companies")
+    void upsertShouldReplaceRowsAndReportUnmatchedIdentifiers() {
+        DividendMetricsColumnStore store = new DividendMetricsColumnStore();
+        store.upsert(snapshot("320193", "AAPL", "Apple Inc.", "Technology", DividendRating.WATCH,
+                Map.of("score", 40d)));
+        store.upsert(snapshot("0000320193", "AAPL", "Apple Inc.", "Technology", DividendRating.SAFE,
+                Map.of("score", 85d)));
+        store.upsert(snapshot("21344", "KO", "Coca-Cola Co", "Beverages", DividendRating.SAFE,
+                Map.of("score", 70d)));
+        store.remove("21344");
+
+        DividendMetricsColumnStore.Result result = store.screen(new DividendMetricsColumnStore.Query(
+                List.of("aapl", "21344", "MSFT"),
+                null,
+                Set.of(),
+                Set.of(),
+                List.of(),
+                "score",
+                true,
+                0,
+                10));
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(result.rows()).singleElement().satisfies(row -> {
+            assertThat(row.rating()).isEqualTo(DividendRating.SAFE);
+            assertThat(row.values()).containsEntry("score", 85d);
+        });
+        assertThat(result.unmatchedIdentifiers()).containsExactly("21344", "MSFT");
+    }
+
+    @Test
+    @DisplayName("the table should grow past its initial capacity and match by search term")
+    void tableShouldGrowAndMatchSearchTerms() {
+        DividendMetricsColumnStore store = new DividendMetricsColumnStore();
+        for (int i = 1; i <= 3_000; i++) {
+            store.upsert(snapshot(String.valueOf(i), "T" + i, "Company " + i, "Industrials", DividendRating.STABLE,
+                    Map.of("dividend_yield", i / 10_000d)));
+        }
+
+        DividendMetricsColumnStore.Result result = store.screen(new DividendMetricsColumnStore.Query(
+                List.of(),
+                "company 299",
+                Set.of(),
+                Set.of(),
+                List.of(new DividendMetricsColumnStore.MetricBound("dividend_yield", 0.2995d, null)),
+                "dividend_yield",
+                true,
+                0,
+                3));
+
+        assertThat(result.evaluated()).isEqualTo(3_000);
+        assertThat(result.matched()).isEqualTo(5);
+        assertThat(tickers(result)).containsExactly("T2999", "T2998", "T2997");
+    }
+
+    private static DividendMetricsColumnStore.Query sortedBy(String sortKey, boolean descending, int offset, int limit) {
+        return new DividendMetricsColumnStore.Query(
+                List.of(), null, Set.of(), Set.of(), List.of(), sortKey, descending, offset, limit);
+    }
+
+    private static List<String> tickers(DividendMetricsColumnStore.Result result) {
+        return result.rows().stream().map(row -> row.company().getTicker()).toList();
+    }
+
+    private static DividendAnalysisSnapshot snapshot(
+            String cik,
+            String ticker,
+            String name,
+            String sector,
+            DividendRating rating,
+            Map<String, Double> metrics) {
+        return DividendAnalysisSnapshot.builder()
+                .cik(cik)
+                .ticker(ticker)
+                .overview(DividendOverviewResponse.builder()
+                        .company(DividendOverviewResponse.CompanySummary.builder()
+                                .cik(cik)
+                                .ticker(ticker)
+                                .name(name)
+                                .sector(sector)
+                                .build())
+                        .viability(DividendOverviewResponse.ViabilitySummary.builder()
+                                .rating(rating)
+                                .build())
+                        .warnings(List.of())
+                        .build())
+                .screenMetrics(metrics)
+                .metricsComputedAt(COMPUTED_AT)
+                .build();
+    }
+}
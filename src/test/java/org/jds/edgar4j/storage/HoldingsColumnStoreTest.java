@@ -0,0 +1,168 @@
+package org.jds.edgar4j.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jds.edgar4j.model.Form13F;
+import org.jds.edgar4j.model.Form13FHolding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HoldingsColumnStoreTest {
+
+    private static final LocalDate Q1 = LocalDate.of(2024, 3, 31);
+    private static final LocalDate Q2 = LocalDate.of(2024, 6, 30);
+
+    @Test
+    @DisplayName("ownership should total a CUSIP across filers and rank the largest holders")
+    void ownershipShouldTotalCusipAcrossFilers() {
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        store.index(filing("1", "0000000001-24-000001", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 100, 1_000),
+                holding("037833100", "APPLE INC", 50, 500),
+                holding("594918104", "MICROSOFT CORP", 10, 400)));
+        store.index(filing("2", "0000000002-24-000001", "0000000002", Q1,
+                holding("037833100", "APPLE INC", 300, 3_000)));
+        store.index(filing("3", "0000000003-24-000001", "0000000003", Q2,
+                holding("037833100", "APPLE INC", 999, 9_999)));
+
+        HoldingsColumnStore.Ownership ownership = store.ownership("037833100", Q1, 1);
+
+        assertThat(ownership.issuerName()).isEqualTo("APPLE INC");
+        assertThat(ownership.holderCount()).isEqualTo(2);
+        assertThat(ownership.totalShares()).isEqualTo(450);
+        assertThat(ownership.totalValue()).isEqualTo(4_500);
+        assertThat(ownership.topHolders()).extracting(HoldingsColumnStore.Position::cik)
+                .containsExactly("0000000002");
+        assertThat(store.ownership("037833100", LocalDate.of(2023, 12, 31), 10).holderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("top holdings should rank CUSIPs by the precomputed period totals")
+    void topHoldingsShouldRankByPeriodTotals() {
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        store.index(filing("1", "0000000001-24-000001", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 100, 1_000),
+                holding("594918104", "MICROSOFT CORP", 10, 4_000)));
+        store.index(filing("2", "0000000002-24-000001", "0000000002", Q1,
+                holding("037833100", "APPLE INC", 300, 3_500),
+                holding("02079K305", "ALPHABET INC", 5, 50)));
+
+        assertThat(store.topHoldings(Q1, 2))
+                .extracting(HoldingsColumnStore.CusipTotal::cusip, HoldingsColumnStore.CusipTotal::totalValue,
+                        HoldingsColumnStore.CusipTotal::holderCount)
+                .containsExactly(
+                        tuple("037833100", 4_500L, 2),
+                        tuple("594918104", 4_000L, 1));
+    }
+
+    @Test
+    @DisplayName("re-indexing and removing filings should keep totals and portfolios current")
+    void reindexingAndRemovingShouldKeepTotalsCurrent() {
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        store.index(filing("1", "0000000001-24-000001", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 100, 1_000)));
+        store.index(filing("2", "0000000001-24-000002", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 150, 1_500)));
+        store.index(filing("1", "0000000001-24-000001", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 120, 1_200)));
+
+        assertThat(store.ownership("037833100", Q1, 10).totalShares()).isEqualTo(270);
+        assertThat(store.portfolio("0000000001", Q1))
+                .hasValueSatisfying(portfolio -> assertThat(portfolio.accessionNumber()).isEqualTo("0000000001-24-000002"));
+
+        store.remove("2");
+
+        assertThat(store.ownership("037833100", Q1, 10).totalShares()).isEqualTo(120);
+        assertThat(store.portfolio("0000000001", Q1))
+                .hasValueSatisfying(portfolio -> assertThat(portfolio.positions())
+                        .extracting(HoldingsColumnStore.Position::shares)
+                        .containsExactly(120L));
+        assertThat(store.filingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("adjacent portfolios should skip periods the filer did not report")
+    void adjacentPortfoliosShouldSkipUnreportedPeriods() {
+        LocalDate q4 = LocalDate.of(2023, 12, 31);
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        store.index(filing("1", "0000000001-24-000001", "0000000001", q4,
+                holding("037833100", "APPLE INC", 100, 1_000)));
+        store.index(filing("2", "0000000002-24-000001", "0000000002", Q1,
+                holding("037833100", "APPLE INC", 300, 3_000)));
+        store.index(filing("3", "0000000001-24-000002", "0000000001", Q2,
+                holding("037833100", "APPLE INC", 120, 1_200)));
+
+        assertThat(store.portfolioBefore("0000000001", Q2))
+                .hasValueSatisfying(portfolio -> assertThat(portfolio.reportPeriod()).isEqualTo(q4));
+        assertThat(store.portfolioAfter("0000000001", q4))
+                .hasValueSatisfying(portfolio -> assertThat(portfolio.reportPeriod()).isEqualTo(Q2));
+        assertThat(store.portfolioBefore("0000000001", q4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reportPeriodsByFiler should list each filer's periods once, oldest first")
+    void reportPeriodsByFilerShouldListPeriodsInOrder() {
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        store.index(filing("3", "0000000001-24-000003", "0000000001", Q2,
+                holding("037833100", "APPLE INC", 10, 100)));
+        store.index(filing("1", "0000000001-24-000001", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 10, 100)));
+        store.index(filing("2", "0000000001-24-000002", "0000000001", Q1,
+                holding("037833100", "APPLE INC", 20, 200)));
+        store.index(filing("4", "0000000002-24-000001", "0000000002", Q2,
+                holding("594918104", "MICROSOFT CORP", 5, 50)));
+
+        assertThat(store.reportPeriodsByFiler())
+                .containsEntry("0000000001", List.of(Q1, Q2))
+                .containsEntry("0000000002", List.of(Q2))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("compaction should drop tombstoned rows without changing query results")
+    void compactionShouldPreserveQueryResults() {
+        HoldingsColumnStore store = new HoldingsColumnStore();
+        for (int i = 0; i < 6_000; i++) {
+            store.index(filing("f" + i, "acc-" + i, "cik-" + i, Q1,
+                    holding("037833100", "APPLE INC", 1, i)));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            store.remove("f" + i);
+        }
+
+        HoldingsColumnStore.Ownership ownership = store.ownership("037833100", Q1, 3);
+
+        assertThat(store.positionCount()).isEqualTo(1_000);
+        assertThat(ownership.holderCount()).isEqualTo(1_000);
+        assertThat(ownership.totalShares()).isEqualTo(1_000);
+        assertThat(ownership.topHolders()).extracting(HoldingsColumnStore.Position::filingId)
+                .containsExactly("f5999", "f5998", "f5997");
+        assertThat(store.portfolio("cik-5500", Q1)).isPresent();
+    }
+
+    private static Form13F filing(String id, String accessionNumber, String cik, LocalDate period,
+            Form13FHolding... holdings) {
+        return Form13F.builder()
+                .id(id)
+                .accessionNumber(accessionNumber)
+                .cik(cik)
+                .filerName("Filer " + cik)
+                .reportPeriod(period)
+                .holdings(new ArrayList<>(List.of(holdings)))
+                .build();
+    }
+
+    private static Form13FHolding holding(String cusip, String issuerName, long shares, long value) {
+        return Form13FHolding.builder()
+                .cusip(cusip)
+                .nameOfIssuer(issuerName)
+                .sharesOrPrincipalAmount(shares)
+                .value(value)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package org.jds.edgar4j.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.jds.edgar4j.properties.StorageProperties;
+import org.jds.edgar4j.xbrl.model.XbrlContext;
+import org.jds.edgar4j.xbrl.model.XbrlFact;
+import org.jds.edgar4j.xbrl.model.XbrlInstance;
+import org.jds.edgar4j.xbrl.model.XbrlUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParsedXbrlInstanceStoreTest {
+
+    private static final String URL = "https://www.sec.gov/Archives/edgar/data/320193/aapl-20240928.htm";
+
+    @TempDir
+    Path tempDir;
+
+    private StorageProperties properties;
+    private ParsedXbrlInstanceStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StorageProperties();
+        properties.setDownloadCachePath(tempDir.toString());
+        store = new ParsedXbrlInstanceStore(properties);
+    }
+
+    @Test
+    @DisplayName("read should return the stored instance for the same source bytes")
+    void readShouldRoundTripStoredInstance() {
+        byte[] hash = store.sourceHash("<html>filing</html>".getBytes(StandardCharsets.UTF_8));
+        store.write(URL, hash, instance());
+
+        XbrlInstance restored = store.read(URL, hash).orElseThrow();
+
+        assertThat(restored.getDocumentUri()).isEqualTo(URL);
+        assertThat(restored.getFormat()).isEqualTo(XbrlInstance.XbrlFormat.INLINE_XBRL);
+        assertThat(restored.getNamespaces()).containsEntry("us-gaap", "http://fasb.org/us-gaap/2024");
+
+        XbrlContext context = restored.getContexts().get("FY2024");
+        assertThat(context.getPeriod().getStartDate()).isEqualTo(LocalDate.of(2023, 10, 1));
+        assertThat(context.getPeriod().getEndDate()).isEqualTo(LocalDate.of(2024, 9, 28));
+        assertThat(context.getDimensions()).extracting(XbrlContext.XbrlDimension::getMemberLocalName)
+                .containsExactly("IPhoneMember");
+
+        assertThat(restored.getUnits().get("USD").getMeasure()).isEqualTo("iso4217:USD");
+
+        assertThat(restored.getFacts()).hasSize(2);
+        XbrlFact revenue = restored.getFacts().get(0);
+        assertThat(revenue.getConceptLocalName()).isEqualTo("Revenues");
+        assertThat(revenue.getNumericValue()).isEqualByComparingTo("391035");
+        assertThat(revenue.getScale()).isEqualByComparingTo("6");
+        assertThat(revenue.getDecimals()).isEqualTo(-6);
+        assertThat(revenue.getPrecision()).isNull();
+        assertThat(revenue.getFactType()).isEqualTo(XbrlFact.FactType.MONETARY);
+        assertThat(restored.getFacts().get(1).getStringValue()).isEqualTo("10-K");
+        assertThat(restored.getParseResult().getSuccessfullyParsedFacts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("read should miss and drop the file when the source bytes changed")
+    void readShouldMissWhenSourceChanged() {
+        byte[] original = store.sourceHash("<html>v1</html>".getBytes(StandardCharsets.UTF_8));
+        byte[] amended = store.sourceHash("<html>v2</html>".getBytes(StandardCharsets.UTF_8));
+        store.write(URL, original, instance());
+
+        assertThat(store.read(URL, amended)).isEmpty();
+        assertThat(Files.exists(store.resolvePath(URL))).isFalse();
+    }
+
+    @Test
+    @DisplayName("read should miss when the stored file is corrupt")
+    void readShouldMissWhenFileCorrupt() throws Exception {
+        byte[] hash = store.sourceHash("<html>filing</html>".getBytes(StandardCharsets.UTF_8));
+        store.write(URL, hash, instance());
+        Path path = store.resolvePath(URL);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThat(store.read(URL, hash)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("prune should drop expired files and then the least recently used ones over the size bound")
+    void pruneShouldEnforceAgeAndSizeBounds() throws Exception {
+        byte[] hash = store.sourceHash("<html>filing</html>".getBytes(StandardCharsets.UTF_8));
+        String stale = URL + "?stale";
+        String older = URL + "?older";
+        String newer = URL + "?newer";
+        store.write(stale, hash, instance());
+        store.write(older, hash, instance());
+        store.write(newer, hash, instance());
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(store.resolvePath(stale), FileTime.from(now.minus(Duration.ofDays(120))));
+        Files.setLastModifiedTime(store.resolvePath(older), FileTime.from(now.minus(Duration.ofHours(2))));
+        Files.setLastModifiedTime(store.resolvePath(newer), FileTime.from(now.minus(Duration.ofHours(1))));
+        properties.setParsedXbrlMaxAge(Duration.ofDays(90));
+        properties.setParsedXbrlMaxBytes(Files.size(store.resolvePath(newer)));
+
+        store.prune();
+
+        assertThat(Files.exists(store.resolvePath(stale))).isFalse();
+        assertThat(Files.exists(store.resolvePath(older))).isFalse();
+        assertThat(store.read(newer, hash)).isPresent();
+    }
+
+    private XbrlInstance instance() {
+        XbrlContext context = XbrlContext.builder()
+                .id("FY2024")
+                .entityIdentifier("0000320193")
+                .entityScheme("http://www.sec.gov/CIK")
+                .period(XbrlContext.XbrlPeriod.builder()
+                        .startDate(LocalDate.of(2023, 10, 1))
+                        .endDate(LocalDate.of(2024, 9, 28))
+                        .build())
+                .dimensions(new ArrayList<>(List.of(XbrlContext.XbrlDimension.builder()
+                        .axisNamespace("http://fasb.org/srt/2024")
+                        .axisLocalName("ProductOrServiceAxis")
+                        .memberNamespace("http://www.apple.com/20240928")
+                        .memberLocalName("IPhoneMember")
+                        .build())))
+                .build();
+        XbrlUnit unit = XbrlUnit.builder()
+                .id("USD")
+                .type(XbrlUnit.UnitType.SIMPLE)
+                .measure("iso4217:USD")
+                .measureLocalName("USD")
+                .build();
+        XbrlFact revenue = XbrlFact.builder()
+                .conceptNamespace("http://fasb.org/us-gaap/2024")
+                .conceptLocalName("Revenues")
+                .conceptPrefix("us-gaap")
+                .contextRef("FY2024")
+                .unitRef("USD")
+                .rawValue("391,035")
+                .numericValue(new BigDecimal("391035"))
+                .scale(new BigDecimal("6"))
+                .decimals(-6)
+                .factType(XbrlFact.FactType.MONETARY)
+                .build();
+        XbrlFact documentType = XbrlFact.builder()
+                .conceptNamespace("http://xbrl.sec.gov/dei/2024")
+                .conceptLocalName("DocumentType")
+                .conceptPrefix("dei")
+                .contextRef("FY2024")
+                .rawValue("10-K")
+                .stringValue("10-K")
+                .factType(XbrlFact.FactType.STRING)
+                .build();
+
+        XbrlInstance instance = XbrlInstance.builder()
+                .documentUri(URL)
+                .format(XbrlInstance.XbrlFormat.INLINE_XBRL)
+                .parseTime(LocalDateTime.of(2024, 11, 1, 12, 0))
+                .contexts(Map.of("FY2024", context))
+                .units(Map.of("USD", unit))
+                .facts(List.of(revenue, documentType))
+                .namespaces(Map.of("us-gaap", "http://fasb.org/us-gaap/2024"))
+                .entityIdentifier("0000320193")
+                .build();
+        instance.getParseResult().setSuccessfullyParsedFacts(2);
+        return instance;
+    }
+}
@@ -0,0 +1,119 @@
+package org.jds.edgar4j.storage.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class FileCollectionAppendLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mutationsAreAppendedAndReplayedWithoutRewritingSnapshot() throws Exception {
+        Path filePath = tempDir.resolve("records.jsonl");
+        FileCollection<TestRecord> writer = newCollection(filePath, 1_000);
+
+        writer.saveAll(List.of(new TestRecord("1", "a"), new TestRecord("2", "b")));
+        writer.save(new TestRecord("1", "a2"));
+        writer.deleteById("2");
+        writer.close();
+
+        assertThat(Files.exists(filePath)).isFalse();
+        assertThat(Files.readAllLines(tempDir.resolve("records.jsonl.log"))).hasSize(4);
+
+        FileCollection<TestRecord> reader = newCollection(filePath, 1_000);
+        reader.registerIndex("value", TestRecord::getValue);
+
+        assertThat(reader.findAll()).extracting(TestRecord::getValue).containsExactly("a2");
+        assertThat(reader.findById("2")).isEmpty();
+        assertThat(reader.findIndexedFirst("value", "a2")).isPresent();
+    }
+
+    @Test
+    void compactionFoldsLogIntoSnapshotOnceThresholdIsReached() throws Exception {
+        Path filePath = tempDir.resolve("compacted.jsonl");
+        FileCollection<TestRecord> collection = newCollection(filePath, 3);
+
+        collection.save(new TestRecord("1", "a"));
+        collection.save(new TestRecord("2", "b"));
+        collection.save(new TestRecord("3", "c"));
+
+        assertThat(Files.readAllLines(filePath)).hasSize(3);
+        assertThat(Files.exists(tempDir.resolve("compacted.jsonl.log.sealed"))).isFalse();
+
+        collection.save(new TestRecord("4", "d"));
+        collection.close();
+
+        FileCollection<TestRecord> reloaded = newCollection(filePath, 3);
+        assertThat(reloaded.findAll()).extracting(TestRecord::getId).containsExactly("1", "2", "3", "4");
+    }
+
+    @Test
+    void interruptedCompactionIsCompletedOnStartup() throws Exception {
+        Path filePath = tempDir.resolve("interrupted.jsonl");
+        FileCollection<TestRecord> collection = newCollection(filePath, 1_000);
+        collection.save(new TestRecord("1", "a"));
+        collection.close();
+
+        Files.move(tempDir.resolve("interrupted.jsonl.log"), tempDir.resolve("interrupted.jsonl.log.sealed"));
+        Files.writeString(tempDir.resolve("interrupted.jsonl.log"),
+                "{\"op\":\"UPSERT\",\"id\":\"2\",\"record\":{\"id\":\"2\",\"value\":\"b\"}}\n{\"op\":\"UPS");
+
+        FileCollection<TestRecord> reloaded = newCollection(filePath, 1_000);
+
+        assertThat(reloaded.findAll()).extracting(TestRecord::getId).containsExactly("1", "2");
+        assertThat(Files.exists(tempDir.resolve("interrupted.jsonl.log.sealed"))).isFalse();
+        assertThat(Files.readAllLines(filePath)).hasSize(2);
+    }
+
+    private FileCollection<TestRecord> newCollection(Path filePath, long compactionThreshold) {
+        return new FileCollection<>(
+                filePath,
+                TestRecord.class,
+                new ObjectMapper(),
+                FileFormat.JSONL,
+                TestRecord::getId,
+                TestRecord::setId,
+                true,
+                true,
+                new FileAppendLogSettings(2, compactionThreshold, Runnable::run));
+    }
+
+    static class TestRecord {
+
+        private String id;
+        private String value;
+
+        TestRecord() {
+        }
+
+        TestRecord(String id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -90,6 +90,43 @@ class FileCollectionIndexTest {
         assertThat(reader.findIndexedFirst("ticker", "xyz")).get().extracting(TestRecord::getCik).isEqualTo("4004");
     }
 
+    @Test
+    void sortedIndexesAnswerRangeScansAndFollowUpdates() {
+        FileCollection<TestRecord> collection = newCollection(tempDir.resolve("records-range.json"), true);
+        collection.registerSortedIndex("cik", TestRecord::getCik);
+
+        TestRecord first = collection.save(new TestRecord(null, "1003", "C"));
+        TestRecord second = collection.save(new TestRecord(null, "1001", "A"));
+        TestRecord third = collection.save(new TestRecord(null, "1002", "B"));
+        collection.save(new TestRecord(null, null, "NOKEY"));
+
+        assertThat(collection.findAllInRange("cik", "1001", "1002")).containsExactly(second, third);
+        assertThat(collection.findAllInRange("cik", "1001", false, null, false)).containsExactly(third, first);
+
+        third.setCik("0999");
+        collection.save(third);
+        collection.deleteById(second.getId());
+
+        assertThat(collection.findAllInRange("cik", null, null)).containsExactly(third, first);
+        assertThat(collection.findAllInRange("cik", "1000", "1002")).isEmpty();
+    }
+
+    @Test
+    void highCardinalityIndexUpdatesOnlyTouchTheRecordsOwnBuckets() {
+        FileCollection<TestRecord> collection = newCollection(tempDir.resolve("records-cardinality.json"), true);
+        collection.registerIndex("cik", TestRecord::getCik);
+
+        for (int i = 0; i < 5_000; i++) {
+            collection.save(new TestRecord("id-" + i, "cik-" + i, "T" + i));
+        }
+        TestRecord moved = new TestRecord("id-42", "cik-moved", "T42");
+        collection.save(moved);
+
+        assertThat(collection.countIndexed("cik", "cik-42")).isZero();
+        assertThat(collection.findAllIndexed("cik", "cik-moved")).containsExactly(moved);
+        assertThat(collection.countIndexed("cik", "cik-43")).isEqualTo(1);
+    }
+
     private FileCollection<TestRecord> newCollection(Path filePath, boolean indexOnStartup) {
         return new FileCollection<>(
                 filePath,
@@ -0,0 +1,112 @@
+package org.jds.edgar4j.storage.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class FileCollectionPrimaryKeyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void upsertCostDoesNotGrowWithCollectionSize() {
+        assertThat(idReadsPerUpsert(10_000)).isEqualTo(idReadsPerUpsert(200_000));
+    }
+
+    @Test
+    void deletesLeaveLookupsAndOrderingIntactAcrossSlotCompaction() {
+        FileCollection<TestRecord> collection = newCollection(new AtomicLong());
+        collection.saveAll(IntStream.range(0, 3_000)
+                .mapToObj(i -> new TestRecord("id-" + i, "v" + i))
+                .toList());
+
+        collection.deleteAllById(IntStream.range(0, 3_000)
+                .filter(i -> i % 3 != 0)
+                .mapToObj(i -> "id-" + i)
+                .toList());
+        collection.save(new TestRecord("id-3", "updated"));
+        collection.save(new TestRecord("id-new", "appended"));
+
+        assertThat(collection.count()).isEqualTo(1_001);
+        assertThat(collection.findById("id-1")).isEmpty();
+        assertThat(collection.findById("id-3")).get().extracting(TestRecord::getValue).isEqualTo("updated");
+        assertThat(collection.findAll()).first().extracting(TestRecord::getId).isEqualTo("id-0");
+        assertThat(collection.findAll()).last().extracting(TestRecord::getId).isEqualTo("id-new");
+        assertThat(collection.findAllByIds(List.of("id-2999", "id-1", "id-6")))
+                .extracting(TestRecord::getId)
+                .containsExactly("id-2999", "id-6");
+    }
+
+    private long idReadsPerUpsert(int size) {
+        AtomicLong idReads = new AtomicLong();
+        FileCollection<TestRecord> collection = newCollection(idReads);
+        List<TestRecord> seed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            seed.add(new TestRecord("id-" + i, "v"));
+        }
+        collection.saveAll(seed);
+
+        idReads.set(0);
+        for (int i = 0; i < 100; i++) {
+            collection.save(new TestRecord("id-" + (i * (size / 100)), "updated"));
+        }
+        collection.deleteById("id-0");
+        collection.findAllByIds(List.of("id-1", "id-2"));
+        return idReads.get();
+    }
+
+    private FileCollection<TestRecord> newCollection(AtomicLong idReads) {
+        return new FileCollection<>(
+                tempDir.resolve("records-" + System.nanoTime() + ".jsonl"),
+                TestRecord.class,
+                new ObjectMapper(),
+                FileFormat.JSONL,
+                record -> {
+                    idReads.incrementAndGet();
+                    return record.getId();
+                },
+                TestRecord::setId,
+                true,
+                false);
+    }
+
+    static class TestRecord {
+
+        private String id;
+        private String value;
+
+        TestRecord() {
+        }
+
+        TestRecord(String id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
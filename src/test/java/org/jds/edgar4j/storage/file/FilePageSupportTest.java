@@ -0,0 +1,123 @@
+package org.jds.edgar4j.storage.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FilePageSupportTest {
+
+    @Test
+    void pageWindowMatchesFullStableSortForEveryPage() {
+        Random random = new Random(42);
+        List<Holder> source = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Integer rank = random.nextInt(20) == 0 ? null : random.nextInt(50);
+            source.add(new Holder("h-" + i, rank, new Nested("group-" + random.nextInt(5))));
+        }
+        Sort sort = Sort.by(Sort.Order.asc("nested.group"), Sort.Order.desc("rank"));
+
+        List<Holder> fullySorted = FilePageSupport.applySort(source, sort);
+        for (int page = 0; page < 10; page++) {
+            Page<Holder> result = FilePageSupport.page(source, PageRequest.of(page, 25, sort));
+            assertThat(result.getContent()).containsExactlyElementsOf(fullySorted.subList(page * 25, page * 25 + 25));
+            assertThat(result.getTotalElements()).isEqualTo(1_000);
+        }
+    }
+
+    @Test
+    void nullsSortLastInBothDirectionsAndTiesKeepInsertionOrder() {
+        List<Holder> source = List.of(
+                new Holder("a", null, null),
+                new Holder("b", 2, null),
+                new Holder("c", 1, null),
+                new Holder("d", 2, null));
+
+        assertThat(FilePageSupport.applySort(source, Sort.by(Sort.Direction.DESC, "rank")))
+                .extracting(Holder::getName)
+                .containsExactly("b", "d", "c", "a");
+        assertThat(FilePageSupport.applySort(source, Sort.by(Sort.Direction.ASC, "rank")))
+                .extracting(Holder::getName)
+                .containsExactly("c", "b", "d", "a");
+    }
+
+    @Test
+    void recordAccessorsAreReadable() {
+        List<Point> source = List.of(new Point("late", 3.0d), new Point("early", 1.5d));
+
+        assertThat(FilePageSupport.applySort(source, Sort.by("score")))
+                .extracting(Point::label)
+                .containsExactly("early", "late");
+    }
+
+    @Test
+    void unknownPropertiesAreRejected() {
+        List<Holder> source = List.of(new Holder("a", 1, null), new Holder("b", 2, null));
+
+        assertThatThrownBy(() -> FilePageSupport.applySort(source, Sort.by("missing")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sortTimeIsRecordedOnTheSuppliedTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer timer = Timer.builder(FilePageSupport.SORT_TIMER).tag("collection", "holders").register(registry);
+        List<Holder> source = List.of(new Holder("a", 2, null), new Holder("b", 1, null));
+
+        FilePageSupport.applySort(source, Sort.by("rank"), timer);
+
+        assertThat(registry.get(FilePageSupport.SORT_TIMER).tag("collection", "holders").timer().count())
+                .isEqualTo(1);
+    }
+
+    record Point(String label, double score) {
+    }
+
+    static class Holder {
+
+        private final String name;
+        private final Integer rank;
+        private final Nested nested;
+
+        Holder(String name, Integer rank, Nested nested) {
+            this.name = name;
+            this.rank = rank;
+            this.nested = nested;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getRank() {
+            return rank;
+        }
+
+        public Nested getNested() {
+            return nested;
+        }
+    }
+
+    static class Nested {
+
+        private final String group;
+
+        Nested(String group) {
+            this.group = group;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jds.edgar4j.xbrl;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import org.jds.edgar4j.storage.DownloadedResourceStore;
+import org.jds.edgar4j.storage.ParsedXbrlInstanceStore;
 import org.jds.edgar4j.xbrl.analysis.MultiPeriodAnalyzer;
 import org.jds.edgar4j.xbrl.model.XbrlInstance;
 import org.jds.edgar4j.xbrl.parser.StreamingXbrlParser;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,12 +28,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +48,11 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class XbrlServiceTest {
 
+    private static final byte[] PACKAGE_BYTES = {0x50, 0x4B, 0x03, 0x04, 1, 2, 3, 4, 5, 6, 7, 8};
+
+    @TempDir
+    Path tempDir;
+
     @Mock
     private XbrlParser xbrlParser;
 
@@ -73,6 +83,9 @@ class XbrlServiceTest {
     @Mock
     private DownloadedResourceStore downloadedResourceStore;
 
+    @Mock
+    private ParsedXbrlInstanceStore parsedInstanceStore;
+
     private HttpServer server;
     private XbrlService xbrlService;
 
@@ -80,6 +93,7 @@ class XbrlServiceTest {
     void setUp() throws IOException {
         server = HttpServer.create(new InetSocketAddress(0), 0);
         server.createContext("/sample-xbrl.xml", this::handleSampleXbrlRequest);
+        server.createContext("/filing-xbrl.zip", this::handlePackageRequest);
         server.start();
 
         xbrlService = new XbrlService(
@@ -93,7 +107,8 @@ class XbrlServiceTest {
                 secFilingExtractor,
                 streamingParser,
                 WebClient.builder(),
-                downloadedResourceStore
+                downloadedResourceStore,
+                parsedInstanceStore
         );
     }
 
@@ -134,6 +149,30 @@ class XbrlServiceTest {
                 new String(parserInputCaptor.getValue(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    @DisplayName("parsePackageFromUrl streams the archive into the download cache and parses it from disk")
+    void parsePackageFromUrlStreamsArchiveToCacheFile() throws IOException {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/filing-xbrl.zip";
+        Path cachePath = tempDir.resolve("xbrl").resolve("filing-xbrl.zip");
+        XbrlPackageHandler.PackageResult expected = new XbrlPackageHandler.PackageResult();
+
+        when(downloadedResourceStore.resolvePath("xbrl", url)).thenReturn(cachePath);
+        when(packageHandler.parsePackage(cachePath, url)).thenReturn(expected);
+
+        XbrlPackageHandler.PackageResult actual = xbrlService.parsePackageFromUrl(url).block(Duration.ofSeconds(5));
+
+        assertSame(expected, actual);
+        assertArrayEquals(PACKAGE_BYTES, Files.readAllBytes(cachePath));
+        assertFalse(Files.exists(cachePath.resolveSibling("filing-xbrl.zip.part")));
+    }
+
+    private void handlePackageRequest(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/zip");
+        exchange.sendResponseHeaders(200, PACKAGE_BYTES.length);
+        exchange.getResponseBody().write(PACKAGE_BYTES);
+        exchange.close();
+    }
+
     private void handleSampleXbrlRequest(HttpExchange exchange) throws IOException {
         byte[] responseBody = "<xbrl><context id=\"ctx\"/></xbrl>".getBytes(StandardCharsets.UTF_8);
         exchange.getResponseHeaders().add("Content-Type", "application/xml");
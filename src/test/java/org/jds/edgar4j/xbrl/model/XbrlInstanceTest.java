@@ -0,0 +1,112 @@
+package org.jds.edgar4j.xbrl.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class XbrlInstanceTest {
+
+    private static final String US_GAAP = "http://fasb.org/us-gaap/2024";
+
+    @Test
+    @DisplayName("fact lookups should be served from one index built per instance")
+    void lookupsShouldShareOneIndex() {
+        XbrlInstance instance = instance();
+
+        XbrlFactIndex index = instance.getFactIndex();
+
+        assertThat(instance.getFactsByConceptName("Revenues"))
+                .extracting(XbrlFact::getContextRef)
+                .containsExactly("FY2024", "FY2023");
+        assertThat(instance.getFactsByQName(US_GAAP, "Revenues")).hasSize(2);
+        assertThat(instance.getFactsByQName("http://other", "Revenues")).isEmpty();
+        assertThat(instance.getFactsByContextId("FY2024"))
+                .extracting(XbrlFact::getConceptLocalName)
+                .containsExactly("Revenues", "NetIncomeLoss");
+        assertThat(instance.getFactsByPeriod(instance.getContexts().get("FY2023").getPeriod()))
+                .extracting(XbrlFact::getConceptLocalName)
+                .containsExactly("Revenues");
+        assertThat(instance.getFactIndex()).isSameAs(index);
+    }
+
+    @Test
+    @DisplayName("index should not modify the facts it indexes")
+    void indexShouldLeaveFactsUntouched() {
+        XbrlInstance instance = instance();
+        List<String> names = instance.getFacts().stream().map(XbrlFact::getConceptLocalName).toList();
+
+        instance.getFactIndex();
+
+        for (int i = 0; i < names.size(); i++) {
+            assertThat(instance.getFacts().get(i).getConceptLocalName()).isSameAs(names.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("index should be rebuilt when facts are added")
+    void indexShouldRebuildWhenFactsChange() {
+        XbrlInstance instance = instance();
+        XbrlFactIndex before = instance.getFactIndex();
+
+        instance.getFacts().add(fact("Assets", "FY2024", "1000"));
+
+        assertThat(instance.getFactIndex()).isNotSameAs(before);
+        assertThat(instance.getFactsByConceptName("Assets")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("search should match concept names and prefixes ignoring case")
+    void searchShouldMatchConceptsAndPrefixes() {
+        XbrlInstance instance = instance();
+
+        assertThat(instance.getFactIndex().search("income"))
+                .extracting(XbrlFact::getConceptLocalName)
+                .containsExactly("NetIncomeLoss");
+        assertThat(instance.getFactIndex().search("US-GAAP")).hasSize(3);
+    }
+
+    private XbrlInstance instance() {
+        Map<String, XbrlContext> contexts = new HashMap<>();
+        contexts.put("FY2024", context("FY2024", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+        contexts.put("FY2023", context("FY2023", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)));
+
+        List<XbrlFact> facts = new ArrayList<>();
+        facts.add(fact("Revenues", "FY2024", "500"));
+        facts.add(fact("NetIncomeLoss", "FY2024", "50"));
+        facts.add(fact("Revenues", "FY2023", "400"));
+
+        return XbrlInstance.builder()
+                .contexts(contexts)
+                .facts(facts)
+                .build();
+    }
+
+    private XbrlContext context(String id, LocalDate start, LocalDate end) {
+        return XbrlContext.builder()
+                .id(id)
+                .period(XbrlContext.XbrlPeriod.builder()
+                        .startDate(start)
+                        .endDate(end)
+                        .build())
+                .build();
+    }
+
+    private XbrlFact fact(String concept, String contextRef, String value) {
+        return XbrlFact.builder()
+                .conceptNamespace(new String(US_GAAP))
+                .conceptLocalName(new String(concept))
+                .conceptPrefix("us-gaap")
+                .contextRef(contextRef)
+                .unitRef("USD")
+                .numericValue(new BigDecimal(value))
+                .build();
+    }
+}
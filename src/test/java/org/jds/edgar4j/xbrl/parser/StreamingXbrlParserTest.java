@@ -0,0 +1,124 @@
+package org.jds.edgar4j.xbrl.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jds.edgar4j.xbrl.model.XbrlFact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingXbrlParserTest {
+
+    private static final String INLINE_DOCUMENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <html xmlns="http://www.w3.org/1999/xhtml"
+                  xmlns:ix="http://www.xbrl.org/2013/inlineXBRL"
+                  xmlns:ixt="http://www.xbrl.org/inlineXBRL/transformation/2020-02-12"
+                  xmlns:xbrli="http://www.xbrl.org/2003/instance"
+                  xmlns:xbrldi="http://xbrl.org/2006/xbrldi"
+                  xmlns:iso4217="http://www.xbrl.org/2003/iso4217"
+                  xmlns:dei="http://xbrl.sec.gov/dei/2024"
+                  xmlns:us-gaap="http://fasb.org/us-gaap/2024">
+              <body>
+                <div style="display:none">
+                  <ix:header>
+                    <ix:hidden>
+                      <ix:nonNumeric name="dei:DocumentType" contextRef="FY2024">10-K</ix:nonNumeric>
+                    </ix:hidden>
+                    <ix:resources>
+                      <xbrli:context id="FY2024">
+                        <xbrli:entity>
+                          <xbrli:identifier scheme="http://www.sec.gov/CIK">0000320193</xbrli:identifier>
+                        </xbrli:entity>
+                        <xbrli:period>
+                          <xbrli:startDate>2024-01-01</xbrli:startDate>
+                          <xbrli:endDate>2024-12-31</xbrli:endDate>
+                        </xbrli:period>
+                      </xbrli:context>
+                      <xbrli:context id="FY2024_Segment">
+                        <xbrli:entity>
+                          <xbrli:identifier scheme="http://www.sec.gov/CIK">0000320193</xbrli:identifier>
+                          <xbrli:segment>
+                            <xbrldi:explicitMember dimension="us-gaap:StatementBusinessSegmentsAxis">us-gaap:CorporateMember</xbrldi:explicitMember>
+                          </xbrli:segment>
+                        </xbrli:entity>
+                        <xbrli:period>
+                          <xbrli:instant>2024-12-31</xbrli:instant>
+                        </xbrli:period>
+                      </xbrli:context>
+                      <xbrli:unit id="USD">
+                        <xbrli:measure>iso4217:USD</xbrli:measure>
+                      </xbrli:unit>
+                    </ix:resources>
+                  </ix:header>
+                </div>
+                <p>Revenue was $<ix:nonFraction name="us-gaap:Revenues" contextRef="FY2024" unitRef="USD"
+                    decimals="-6" scale="6" format="ixt:num-dot-decimal">1,234.5</ix:nonFraction> million.</p>
+                <p>Net loss of <ix:nonFraction name="us-gaap:NetIncomeLoss" contextRef="FY2024_Segment" unitRef="USD"
+                    decimals="0" sign="-">42</ix:nonFraction>.</p>
+                <ix:nonNumeric name="us-gaap:RiskFactorsTextBlock" contextRef="FY2024" continuedAt="c1">
+                  <p>First part<ix:exclude> page 3 </ix:exclude></p>
+                </ix:nonNumeric>
+                <p>Unrelated text</p>
+                <ix:continuation id="c1" continuedAt="c2"><p>second part</p></ix:continuation>
+                <ix:continuation id="c2"><p>third part</p></ix:continuation>
+              </body>
+            </html>
+            """;
+
+    private final StreamingXbrlParser parser = new StreamingXbrlParser();
+
+    @Test
+    @DisplayName("parseWithCallback should stream inline XBRL facts with scale, sign and continuations")
+    void parseWithCallbackShouldStreamInlineXbrlFacts() {
+        List<XbrlFact> facts = new ArrayList<>();
+
+        StreamingXbrlParser.StreamingParseResult result = parser.parseWithCallback(
+                new ByteArrayInputStream(INLINE_DOCUMENT.getBytes(StandardCharsets.UTF_8)), facts::add);
+
+        assertTrue(result.isSuccess(), result.getError());
+        assertEquals(4, result.getFactCount());
+        assertEquals(2, result.getContextCount());
+        assertEquals(1, result.getUnitCount());
+
+        Map<String, XbrlFact> byConcept = facts.stream()
+                .collect(Collectors.toMap(XbrlFact::getConceptLocalName, Function.identity()));
+
+        XbrlFact revenue = byConcept.get("Revenues");
+        assertEquals("http://fasb.org/us-gaap/2024", revenue.getConceptNamespace());
+        assertEquals("USD", revenue.getUnitRef());
+        assertEquals(0, new BigDecimal("1234.5").compareTo(revenue.getNumericValue()));
+        assertEquals(0, new BigDecimal("1234500000").compareTo(revenue.getNormalizedValue()));
+
+        XbrlFact netLoss = byConcept.get("NetIncomeLoss");
+        assertEquals("FY2024_Segment", netLoss.getContextRef());
+        assertEquals(0, new BigDecimal("-42").compareTo(netLoss.getNormalizedValue()));
+
+        assertEquals("10-K", byConcept.get("DocumentType").getStringValue());
+
+        XbrlFact riskFactors = byConcept.get("RiskFactorsTextBlock");
+        assertEquals("First part second part third part", riskFactors.getStringValue());
+        assertNull(riskFactors.getUnitRef());
+    }
+
+    @Test
+    @DisplayName("parseAsStream should emit the same inline XBRL facts as parseWithCallback")
+    void parseAsStreamShouldEmitInlineXbrlFacts() {
+        List<XbrlFact> facts = parser.parseAsStream(
+                        new ByteArrayInputStream(INLINE_DOCUMENT.getBytes(StandardCharsets.UTF_8)))
+                .collectList()
+                .block();
+
+        assertEquals(4, facts.size());
+    }
+}
@@ -0,0 +1,141 @@
+package org.jds.edgar4j.xbrl.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jds.edgar4j.xbrl.model.XbrlInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class XbrlPackageHandlerTest {
+
+    private static final String INSTANCE_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xbrli:xbrl xmlns:xbrli="http://www.xbrl.org/2003/instance"></xbrli:xbrl>
+            """;
+
+    private static final String FILING_SUMMARY = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <FilingSummary>
+              <InputFiles>
+                <File>aapl-20240928.xsd</File>
+                <File>aapl-20240928_cal.xml</File>
+                <File doctype="10-K" original="aapl-20240928.htm">aapl-20240928.htm</File>
+              </InputFiles>
+            </FilingSummary>
+            """;
+
+    @Mock
+    private XbrlParser xbrlParser;
+
+    @TempDir
+    Path tempDir;
+
+    private XbrlPackageHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new XbrlPackageHandler(xbrlParser);
+    }
+
+    @Test
+    @DisplayName("parsePackage should take the instance named by FilingSummary.xml and read only that entry")
+    void parsePackageShouldUseFilingSummaryManifest() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("FilingSummary.xml", FILING_SUMMARY);
+        entries.put("aapl-20240928.htm", "<html><body>inline</body></html>");
+        entries.put("aapl-20240928_htm.xml", INSTANCE_XML);
+        entries.put("aapl-20240928_cal.xml", "<linkbase/>");
+        entries.put("aapl-20240928.xsd", "<schema/>");
+        entries.put("other-20240928.xml", INSTANCE_XML);
+        Path zip = writeZip("filing.zip", entries);
+        XbrlInstance instance = instance("aapl-20240928_htm.xml");
+        when(xbrlParser.parse(any(byte[].class), eq("aapl-20240928_htm.xml"), eq("application/xml")))
+                .thenReturn(instance);
+
+        XbrlPackageHandler.PackageResult result = handler.parsePackage(zip, "https://www.sec.gov/filing.zip");
+
+        assertEquals(6, result.getTotalFiles());
+        assertEquals(List.of("aapl-20240928_htm.xml"), result.getInstanceFiles());
+        assertEquals(List.of("aapl-20240928_cal.xml"), result.getLinkbaseFiles());
+        assertEquals(List.of("aapl-20240928.xsd"), result.getSchemaFiles());
+        assertEquals(instance, result.getPrimaryInstance());
+        verify(xbrlParser, never()).parse(any(byte[].class), eq("other-20240928.xml"), anyString());
+    }
+
+    @Test
+    @DisplayName("parsePackage should fall back to names and header sniffing without a manifest")
+    void parsePackageShouldSniffInstancesWithoutManifest() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("filing/custom.xml", INSTANCE_XML);
+        entries.put("filing/notes.xml", "<notes>not xbrl</notes>");
+        entries.put("filing/R1.xml", INSTANCE_XML);
+        Path zip = writeZip("nomanifest.zip", entries);
+        when(xbrlParser.parse(any(byte[].class), eq("filing/custom.xml"), eq("application/xml")))
+                .thenReturn(instance("filing/custom.xml"));
+
+        XbrlPackageHandler.PackageResult result = handler.parsePackage(zip, "nomanifest.zip");
+
+        assertEquals(List.of("filing/custom.xml"), result.getInstanceFiles());
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(xbrlParser).parse(content.capture(), eq("filing/custom.xml"), eq("application/xml"));
+        assertEquals(INSTANCE_XML, new String(content.getValue(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("parsePackage should accept in-memory archives")
+    void parsePackageShouldAcceptBytes() throws IOException {
+        Path zip = writeZip("bytes.zip", Map.of("acme-20241231.xml", INSTANCE_XML));
+        when(xbrlParser.parse(any(byte[].class), eq("acme-20241231.xml"), eq("application/xml")))
+                .thenReturn(instance("acme-20241231.xml"));
+
+        XbrlPackageHandler.PackageResult result = handler.parsePackage(Files.readAllBytes(zip), "bytes.zip");
+
+        assertEquals(List.of("acme-20241231.xml"), result.getInstanceFiles());
+        assertEquals(1, result.getInstances().size());
+    }
+
+    private Path writeZip(String name, Map<String, String> entries) throws IOException {
+        Path zip = tempDir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipOutputStream zos = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                zos.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return zip;
+    }
+
+    private XbrlInstance instance(String uri) {
+        return XbrlInstance.builder()
+                .documentUri(uri)
+                .parseTime(LocalDateTime.now())
+                .build();
+    }
+}
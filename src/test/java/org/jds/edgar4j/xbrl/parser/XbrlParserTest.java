@@ -0,0 +1,99 @@
+package org.jds.edgar4j.xbrl.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jds.edgar4j.xbrl.model.XbrlFact;
+import org.jds.edgar4j.xbrl.model.XbrlInstance;
+import org.jds.edgar4j.xbrl.taxonomy.TaxonomyResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class XbrlParserTest {
+
+    @Mock
+    private TaxonomyResolver taxonomyResolver;
+
+    private XbrlParser xbrlParser;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(taxonomyResolver.getFactType(any(), any())).thenReturn(XbrlFact.FactType.UNKNOWN);
+        ValueTransformer valueTransformer = new ValueTransformer();
+        xbrlParser = new XbrlParser(
+                new ErrorRecoveryParser(),
+                taxonomyResolver,
+                new InlineXbrlFactExtractor(taxonomyResolver, valueTransformer),
+                valueTransformer);
+    }
+
+    @Test
+    @DisplayName("parseAll should resolve each document's prefixes against its own namespaces")
+    void parseAllShouldKeepNamespacesPerDocument() {
+        List<XbrlParser.ParseSource> sources = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            String namespace = "http://example.com/company-" + i;
+            sources.add(new XbrlParser.ParseSource(instance(namespace), "doc-" + i + ".xml", null));
+        }
+
+        List<XbrlInstance> instances = xbrlParser.parseAll(sources, 8);
+
+        assertEquals(sources.size(), instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            XbrlInstance instance = instances.get(i);
+            assertEquals("doc-" + i + ".xml", instance.getDocumentUri());
+            assertEquals(1, instance.getFacts().size());
+            XbrlFact fact = instance.getFacts().get(0);
+            assertEquals("http://example.com/company-" + i, fact.getConceptNamespace());
+            assertEquals("Revenue", fact.getConceptLocalName());
+        }
+    }
+
+    @Test
+    @DisplayName("parse should share one concept name String across a document's facts")
+    void parseShouldInternConceptNames() {
+        String xml = new String(instance("http://example.com/company"), StandardCharsets.UTF_8).replace(
+                "</xbrli:xbrl>",
+                "  <abc:Revenue contextRef=\"FY2024\" unitRef=\"USD\" decimals=\"-3\">1000</abc:Revenue>\n</xbrli:xbrl>");
+
+        XbrlInstance instance = xbrlParser.parse(xml.getBytes(StandardCharsets.UTF_8), "doc.xml", null);
+
+        assertEquals(2, instance.getFacts().size());
+        XbrlFact first = instance.getFacts().get(0);
+        XbrlFact second = instance.getFacts().get(1);
+        assertSame(first.getConceptLocalName(), second.getConceptLocalName());
+        assertSame(first.getConceptPrefix(), second.getConceptPrefix());
+    }
+
+    private byte[] instance(String namespace) {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <xbrli:xbrl xmlns:xbrli="http://www.xbrl.org/2003/instance" xmlns:abc="%s">
+                  <xbrli:context id="FY2024">
+                    <xbrli:entity>
+                      <xbrli:identifier scheme="http://www.sec.gov/CIK">0000000001</xbrli:identifier>
+                    </xbrli:entity>
+                    <xbrli:period>
+                      <xbrli:instant>2024-12-31</xbrli:instant>
+                    </xbrli:period>
+                  </xbrli:context>
+                  <xbrli:unit id="USD">
+                    <xbrli:measure>iso4217:USD</xbrli:measure>
+                  </xbrli:unit>
+                  <abc:Revenue contextRef="FY2024" unitRef="USD" decimals="0">1000</abc:Revenue>
+                </xbrli:xbrl>
+                """.formatted(namespace);
+        return xml.getBytes(StandardCharsets.UTF_8);
+    }
+}